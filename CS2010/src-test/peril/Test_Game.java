@@ -0,0 +1,82 @@
+package peril;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.junit.Test;
+
+import peril.model.GameState;
+import peril.model.Replay;
+import peril.views.headless.HeadlessGame;
+
+/**
+ * Tests {@link Game}
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.01
+ * @since 2018-03-27
+ *
+ * @see Game
+ *
+ */
+public final class Test_Game {
+
+	/**
+	 * Test that the {@link Replay} of a game played by AIs, once written
+	 * and read back, rebuilds the board the game finished with.
+	 *
+	 * @throws Exception
+	 *             Thrown when the game fails to load or the replay cannot be
+	 *             written.
+	 */
+	@Test
+	public void test_replay() throws Exception {
+
+		final Game game = new Game(new HeadlessGame("Earth", 1, 10, "Easy", "Easy"));
+		game.start();
+
+		final GameController controller = game.getGameController();
+		final Replay recorded = controller.getReplay();
+
+		assertNotNull(recorded);
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		recorded.writeTo(out);
+
+		final GameState live = GameState.capture(controller);
+		final Replay replay = Replay.readFrom(new ByteArrayInputStream(out.toByteArray()), live);
+		final GameState last = replay.seek(replay.getLastRound());
+
+		assertEquals(live.getRound(), last.getRound());
+		assertEquals(live.getCurrentPlayer(), last.getCurrentPlayer());
+
+		// A capture only holds the details of the players that are still playing.
+		for (int player = 1; player <= 2; player++) {
+
+			assertEquals(live.isPlaying(player), last.isPlaying(player));
+
+			if (live.isPlaying(player)) {
+				assertEquals(live.getPoints(player), last.getPoints(player));
+				assertEquals(live.getCountriesRuled(player), last.getCountriesRuled(player));
+			}
+		}
+
+		for (int country = 0; country < live.getNumberOfCountries(); country++) {
+
+			assertEquals(live.getRuler(country), last.getRuler(country));
+
+			for (int tier = 0; tier < live.getNumberOfTiers(); tier++) {
+				assertEquals(live.getNumberOf(country, tier), last.getNumberOf(country, tier));
+			}
+
+			for (int neighbour : live.getNeighbours(country)) {
+				assertEquals(live.getLinkState(country, neighbour), last.getLinkState(country, neighbour));
+				assertEquals(live.getLinkDuration(country, neighbour), last.getLinkDuration(country, neighbour));
+			}
+		}
+	}
+
+}
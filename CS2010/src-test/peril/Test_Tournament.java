@@ -0,0 +1,56 @@
+package peril;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link Tournament}
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.05
+ * @since 2018-03-23
+ *
+ * @see Tournament
+ *
+ */
+public final class Test_Tournament {
+
+	/**
+	 * Test that valid arguments construct a {@link Tournament} with and without
+	 * the maximum number of rounds and the options.
+	 */
+	@Test
+	public void test_fromArguments() {
+		assertNotNull(Tournament.fromArguments(new String[] { "-headless", "Earth", "10", "Hard", "Easy" }));
+		assertNotNull(Tournament.fromArguments(new String[] { "-headless", "Earth", "10:50", "Hard", "Easy" }));
+		assertNotNull(Tournament.fromArguments(
+				new String[] { "-headless", "Earth", "10", "Hard", "Easy", "-csv", "results.csv", "-autosave" }));
+	}
+
+	/**
+	 * Test that a tournament with only one player is rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void test_tooFewPlayers() {
+		Tournament.fromArguments(new String[] { "-headless", "Earth", "10", "Hard" });
+	}
+
+	/**
+	 * Test that an invalid number of games is rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void test_invalidGames() {
+		Tournament.fromArguments(new String[] { "-headless", "Earth", "ten", "Hard", "Easy" });
+	}
+
+	/**
+	 * Test that a tournament without any threads is rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void test_invalidThreads() {
+		new Tournament("Earth", 10, 50, 0, "Hard", "Easy");
+	}
+
+}
@@ -0,0 +1,127 @@
+package peril.ai;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link CandidateHeap}
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.02
+ * @since 2018-03-21
+ *
+ * @see CandidateHeap
+ *
+ */
+public final class Test_CandidateHeap {
+
+	/**
+	 * The {@link CandidateHeap} that will be used for testing.
+	 */
+	private CandidateHeap<String> heap;
+
+	/**
+	 * Create a new {@link CandidateHeap} that keeps three candidates.
+	 *
+	 * @throws Exception
+	 *             Thrown when the heap fails to construct.
+	 */
+	@Before
+	public void setUp() throws Exception {
+		heap = new CandidateHeap<>(3);
+	}
+
+	/**
+	 * Test that only the highest scoring candidates are kept and that they are
+	 * ranked best first.
+	 */
+	@Test
+	public void test_add() {
+
+		heap.add(5, "five");
+		heap.add(1, "one");
+		heap.add(9, "nine");
+		heap.add(-3, "minus three");
+		heap.add(7, "seven");
+
+		// Only the three best are kept but all five were added.
+		assertEquals(3, heap.size());
+		assertEquals(5, heap.getNumberAdded());
+
+		assertEquals("nine", heap.getFirst(0));
+		assertEquals("seven", heap.getFirst(1));
+		assertEquals("five", heap.getFirst(2));
+		assertEquals(5, heap.getScore(2));
+
+		// Adding after ranking must keep the heap valid.
+		heap.add(8, "eight");
+
+		assertEquals("nine", heap.getFirst(0));
+		assertEquals("eight", heap.getFirst(1));
+		assertEquals("seven", heap.getFirst(2));
+	}
+
+	/**
+	 * Test that equal scores are all kept and the last added is ranked highest.
+	 */
+	@Test
+	public void test_ties() {
+
+		heap.add(4, "first", "a");
+		heap.add(4, "second", "b");
+		heap.add(4, "third", "c");
+
+		// A tie with a full heap replaces the first added.
+		assertTrue(heap.accepts(4));
+		heap.add(4, "fourth", "d");
+
+		assertEquals("fourth", heap.getFirst(0));
+		assertEquals("d", heap.getSecond(0));
+		assertEquals("third", heap.getFirst(1));
+		assertEquals("second", heap.getFirst(2));
+		assertEquals(4, heap.getNumberAdded());
+	}
+
+	/**
+	 * Test {@link CandidateHeap#accepts(int)} and {@link CandidateHeap#clear()}.
+	 */
+	@Test
+	public void test_accepts() {
+
+		assertTrue(heap.isEmpty());
+		assertTrue(heap.accepts(Integer.MIN_VALUE));
+
+		heap.add(3, "three");
+		heap.add(2, "two");
+		heap.add(6, "six");
+
+		assertFalse(heap.accepts(1));
+		assertTrue(heap.accepts(3));
+
+		heap.clear();
+
+		assertTrue(heap.isEmpty());
+		assertEquals(0, heap.getNumberAdded());
+		assertTrue(heap.accepts(1));
+	}
+
+	/**
+	 * Test that an empty heap has no best candidate.
+	 */
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void test_emptyRank() {
+		heap.getFirst(0);
+	}
+
+	/**
+	 * Test that a capacity of less than one is rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void test_invalidCapacity() {
+		new CandidateHeap<String>(0);
+	}
+
+}
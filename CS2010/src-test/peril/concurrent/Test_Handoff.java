@@ -0,0 +1,68 @@
+package peril.concurrent;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link Handoff}
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.01
+ * @since 2018-03-27
+ *
+ * @see Handoff
+ *
+ */
+public final class Test_Handoff {
+
+	/**
+	 * Test that only the newest value is taken and that it is only taken once.
+	 */
+	@Test
+	public void test_take() {
+
+		final Handoff<String> handoff = new Handoff<>();
+
+		assertNull(handoff.take());
+
+		handoff.publish("first");
+		handoff.publish("second");
+
+		assertEquals("second", handoff.take());
+		assertNull(handoff.take());
+	}
+
+	/**
+	 * Test that values published by another thread are taken.
+	 *
+	 * @throws Exception
+	 *             Thrown if the producer thread is interrupted.
+	 */
+	@Test
+	public void test_threads() throws Exception {
+
+		final Handoff<Integer> handoff = new Handoff<>();
+
+		final Thread producer = new Thread(() -> {
+			for (int value = 1; value <= 1000; value++) {
+				handoff.publish(value);
+			}
+		});
+
+		producer.start();
+		producer.join();
+
+		assertEquals(1000, (int) handoff.take());
+	}
+
+	/**
+	 * Test that a <code>null</code> value is rejected.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void test_publishNull() {
+		new Handoff<String>().publish(null);
+	}
+
+}
@@ -0,0 +1,116 @@
+package peril.concurrent;
+
+import static org.junit.Assert.*;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link Simulation}
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.01
+ * @since 2018-03-27
+ *
+ * @see Simulation
+ *
+ */
+public final class Test_Simulation {
+
+	/**
+	 * Test that the commands are performed in order on the simulation thread and
+	 * that {@link Simulation#await()} waits for all of them.
+	 */
+	@Test
+	public void test_submit() {
+
+		final Simulation<Integer> simulation = new Simulation<>("Test");
+		final List<Integer> performed = new LinkedList<>();
+		final List<Boolean> threads = new LinkedList<>();
+
+		for (int command = 1; command <= 100; command++) {
+			simulation.submit(new Action<Integer>(command, value -> {
+				threads.add(simulation.isSimulationThread());
+				performed.add(value);
+			}));
+		}
+
+		simulation.await();
+
+		assertFalse(simulation.isSimulationThread());
+		assertEquals(100, performed.size());
+
+		for (int index = 0; index < performed.size(); index++) {
+			assertEquals(index + 1, (int) performed.get(index));
+			assertTrue(threads.get(index));
+		}
+	}
+
+	/**
+	 * Test that the newest frame published by a command is taken once.
+	 */
+	@Test
+	public void test_publish() {
+
+		final Simulation<Integer> simulation = new Simulation<>("Test");
+
+		assertNull(simulation.take());
+
+		for (int command = 1; command <= 10; command++) {
+			simulation.submit(new Action<Integer>(command, simulation::publish));
+		}
+
+		simulation.await();
+
+		assertEquals(10, (int) simulation.take());
+		assertNull(simulation.take());
+	}
+
+	/**
+	 * Test that {@link Simulation#await()} returns immediately inside a command.
+	 */
+	@Test
+	public void test_awaitInCommand() {
+
+		final Simulation<Boolean> simulation = new Simulation<>("Test");
+
+		simulation.submit(new Action<Simulation<Boolean>>(simulation, current -> {
+			current.await();
+			current.publish(true);
+		}));
+
+		simulation.await();
+
+		assertEquals(Boolean.TRUE, simulation.take());
+	}
+
+	/**
+	 * Test that a command that throws does not stop the commands after it.
+	 */
+	@Test
+	public void test_exception() {
+
+		final Simulation<String> simulation = new Simulation<>("Test");
+
+		simulation.submit(new Action<String>("first", value -> {
+			throw new IllegalStateException("Expected by the test.");
+		}));
+		simulation.submit(new Action<String>("second", simulation::publish));
+
+		simulation.await();
+
+		assertEquals("second", simulation.take());
+	}
+
+	/**
+	 * Test that a <code>null</code> command is rejected.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void test_submitNull() {
+		new Simulation<String>("Test").submit(null);
+	}
+
+}
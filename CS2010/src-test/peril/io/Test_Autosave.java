@@ -0,0 +1,347 @@
+package peril.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import peril.GameController;
+import peril.ai.AI;
+import peril.helpers.UnitHelper;
+import peril.model.ModelColor;
+import peril.model.ModelPlayer;
+import peril.model.board.ModelBoard;
+import peril.model.board.ModelContinent;
+import peril.model.board.ModelCountry;
+import peril.model.board.ModelHazard;
+import peril.model.board.ModelUnit;
+import peril.model.board.links.ModelLink;
+import peril.model.board.links.ModelLinkState;
+import peril.model.states.Reinforce;
+import peril.views.View;
+
+/**
+ * Tests {@link Autosave}
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.03
+ * @since 2018-03-27
+ *
+ * @see Autosave
+ *
+ */
+public final class Test_Autosave {
+
+	/**
+	 * The directory the autosaves are written to.
+	 */
+	private File directory;
+
+	/**
+	 * The {@link UnitHelper} that holds the units of the test board.
+	 */
+	private UnitHelper units;
+
+	/**
+	 * The country named "first", which is ruled by the first player.
+	 */
+	private ModelCountry first;
+
+	/**
+	 * The country named "second", which is ruled by the second player.
+	 */
+	private ModelCountry second;
+
+	/**
+	 * The players that are playing.
+	 */
+	private List<ModelPlayer> playing;
+
+	/**
+	 * The players that have lost.
+	 */
+	private List<ModelPlayer> losers;
+
+	/**
+	 * The {@link GameController} of the test game.
+	 */
+	private GameController game;
+
+	/**
+	 * Creates a board of two linked countries that are ruled by different players
+	 * and a {@link GameController} that only provides what {@link Autosave}
+	 * uses.
+	 *
+	 * @throws IOException
+	 *             Thrown if the directory cannot be created.
+	 */
+	@Before
+	public void setUp() throws IOException {
+
+		directory = Files.createTempDirectory("autosaves").toFile();
+
+		units = new UnitHelper();
+		units.addUnit(new ModelUnit("soldier", 1, "soldier.png"));
+		units.addUnit(new ModelUnit("tank", 5, "tank.png"));
+
+		first = new ModelCountry("first", new ModelColor(0, 0, 1), units);
+		second = new ModelCountry("second", new ModelColor(0, 0, 2), units);
+
+		first.addNeighbour(second, new ModelLink(ModelLinkState.OPEN));
+		second.addNeighbour(first, new ModelLink(ModelLinkState.OPEN));
+
+		final ModelPlayer one = new ModelPlayer(1, AI.USER, units);
+		final ModelPlayer two = new ModelPlayer(2, AI.USER, units);
+
+		playing = new LinkedList<>(Arrays.asList(one, two));
+		losers = new LinkedList<>();
+
+		first.setRuler(one);
+		first.getArmy().setStrength(6);
+		second.setRuler(two);
+		second.getArmy().setStrength(2);
+
+		final ModelContinent continent = new ModelContinent(ModelHazard.TORNADO, "continent");
+		continent.addCountry(first);
+		continent.addCountry(second);
+
+		final Set<ModelContinent> continents = new HashSet<>();
+		continents.add(continent);
+
+		final ModelBoard board = new ModelBoard("test");
+		board.setContinents(continents);
+
+		final Reinforce reinforce = new Reinforce(null);
+
+		final View view = (View) Proxy.newProxyInstance(View.class.getClassLoader(), new Class<?>[] { View.class },
+				(proxy, method, args) -> 0);
+
+		game = (GameController) Proxy.newProxyInstance(GameController.class.getClassLoader(),
+				new Class<?>[] { GameController.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+					case "getModelBoard":
+						return board;
+					case "getUnitHelper":
+						return units;
+					case "getCurrentState":
+						return reinforce;
+					case "getCurrentModelPlayer":
+						return playing.get(0);
+					case "getRoundNumber":
+						return 3;
+					case "getView":
+						return view;
+					case "getChallenges":
+						return new LinkedList<>();
+					case "forEachModelPlayer":
+						forEach(playing, args[0]);
+						return null;
+					case "forEachLoser":
+						forEach(losers, args[0]);
+						return null;
+					default:
+						throw new UnsupportedOperationException("Autosave should not require " + method.getName());
+					}
+				});
+	}
+
+	/**
+	 * Deletes the test directory.
+	 *
+	 * @throws IOException
+	 *             Thrown if the directory cannot be deleted.
+	 */
+	@After
+	public void tearDown() throws IOException {
+		SaveQueue.deleteAll(directory.getPath());
+	}
+
+	/**
+	 * Test that a turn that is saved as a delta is restored with the changes of
+	 * every turn since the checkpoint, including a player that has lost, and that
+	 * the delta is smaller than the checkpoint.
+	 *
+	 * @throws IOException
+	 *             Thrown if a turn cannot be restored.
+	 */
+	@Test
+	public void test_restore() throws IOException {
+
+		final Autosave autosave = new Autosave(directory.getPath(), 10, 50, null);
+
+		autosave.turnEnded(game);
+
+		// The first player takes the second country.
+		first.getArmy().setStrength(1);
+		second.setRuler(playing.get(0));
+		second.getArmy().setStrength(5);
+		first.getLinkTo(second).setState(ModelLinkState.BLOCKADE, 2);
+		losers.add(playing.remove(1));
+
+		autosave.turnEnded(game);
+
+		second.getArmy().setStrength(6);
+
+		autosave.turnEnded(game);
+
+		final String gameDirectory = autosave.getGameDirectory();
+
+		assertEquals(2, Autosave.getLatestTurn(gameDirectory));
+		assertTrue(new File(gameDirectory, "1.delta").length() < new File(gameDirectory, "0.sav").length());
+
+		final String[][] lines = Autosave.restore(gameDirectory, 2);
+
+		assertArrayEquals(new String[] { "Player", "1", AI.USER.name, "0", "0", "0", "0", "true", "0" }, lines[2]);
+		assertEquals("false", lines[3][7]);
+
+		assertEquals("soldier:1", get(lines, "Country", "first")[3]);
+		assertEquals("soldier:6", get(lines, "Country", "second")[3]);
+		assertEquals("1", get(lines, "Country", "second")[6]);
+
+		assertArrayEquals(new String[] { "Link", "first", "second", ModelLinkState.OPEN.name,
+				ModelLinkState.BLOCKADE.name, "2" }, get(lines, "Link", "first"));
+		assertArrayEquals(new String[] { "Link", "second", "first", ModelLinkState.OPEN.name,
+				ModelLinkState.OPEN.name, "0" }, get(lines, "Link", "second"));
+	}
+
+	/**
+	 * Test that the turns that are older than the retention are deleted once no
+	 * remaining turn depends on them.
+	 *
+	 * @throws IOException
+	 *             Thrown if a turn cannot be restored.
+	 */
+	@Test
+	public void test_retention() throws IOException {
+
+		final Autosave autosave = new Autosave(directory.getPath(), 2, 3, null);
+
+		for (int turn = 0; turn < 6; turn++) {
+			first.getArmy().setStrength(turn + 1);
+			autosave.turnEnded(game);
+		}
+
+		final String previous = autosave.getGameDirectory();
+
+		// Turns 3 to 5 are kept so turn 2 is kept as the checkpoint of turn 3.
+		assertEquals(new HashSet<>(Arrays.asList("2.sav", "3.delta", "4.sav", "5.delta", SaveIndex.FILE_NAME)),
+				new HashSet<>(Arrays.asList(new File(previous).list())));
+
+		// The index of the game describes the turns that are kept.
+		final SaveIndex index = SaveIndex.read(previous);
+
+		for (String file : new String[] { "2.sav", "3.delta", "4.sav", "5.delta" }) {
+			assertNotNull(index.get(file));
+		}
+
+		assertNull(index.get("1.delta"));
+
+		for (int turn = 3; turn < 6; turn++) {
+			final String[][] lines = Autosave.restore(previous, turn);
+			assertEquals("soldier:" + (turn + 1), get(lines, "Country", "first")[3]);
+		}
+
+		try {
+			Autosave.restore(previous, 1);
+			fail("Turn 1 should have been deleted.");
+		} catch (IOException e) {
+			// Expected
+		}
+
+		// A new game is autosaved beside the previous game, which can still be
+		// recovered.
+		autosave.reset();
+		autosave.turnEnded(game);
+
+		assertEquals(new File(autosave.getGameDirectory()), new File(Autosave.getLatestGame(directory.getPath())));
+		assertEquals(2, new File(autosave.getGameDirectory()).list().length);
+		assertEquals(5, Autosave.getLatestTurn(previous));
+	}
+
+	/**
+	 * Test that the autosaves of the games that are no longer kept, and the turns
+	 * that are older than the retention, are deleted by the {@link SaveQueue}
+	 * after they have been written.
+	 *
+	 * @throws IOException
+	 *             Thrown if a turn cannot be restored.
+	 */
+	@Test
+	public void test_games() throws IOException {
+
+		final SaveQueue queue = new SaveQueue();
+		final Autosave autosave = new Autosave(directory.getPath(), 1, 1, queue);
+
+		for (int number = 0; number <= Autosave.KEPT_GAMES; number++) {
+
+			autosave.reset();
+
+			for (int turn = 0; turn < 3; turn++) {
+				first.getArmy().setStrength(number + 1);
+				autosave.turnEnded(game);
+			}
+		}
+
+		queue.shutdown();
+
+		assertEquals(Autosave.KEPT_GAMES, directory.list().length);
+		assertFalse(new File(directory, "game0").exists());
+
+		final String latest = Autosave.getLatestGame(directory.getPath());
+
+		assertEquals(new HashSet<>(Arrays.asList("2.sav", SaveIndex.FILE_NAME)),
+				new HashSet<>(Arrays.asList(new File(latest).list())));
+		assertEquals("soldier:" + (Autosave.KEPT_GAMES + 1),
+				get(Autosave.restore(latest, 2), "Country", "first")[3]);
+	}
+
+	/**
+	 * Retrieves the details of the first line of a type whose second detail is a
+	 * specified name.
+	 *
+	 * @param lines
+	 *            The details of every line.
+	 * @param type
+	 *            The type of the line.
+	 * @param name
+	 *            The name.
+	 * @return The details of the line.
+	 */
+	private static String[] get(String[][] lines, String type, String name) {
+
+		for (String[] details : lines) {
+			if (details[0].equals(type) && details[1].equals(name)) {
+				return details;
+			}
+		}
+
+		throw new AssertionError("There is no " + type + " named " + name);
+	}
+
+	/**
+	 * Performs a {@link Consumer} on each {@link ModelPlayer} in a list.
+	 *
+	 * @param players
+	 *            The {@link ModelPlayer}s.
+	 * @param task
+	 *            The {@link Consumer} of the {@link ModelPlayer}s.
+	 */
+	@SuppressWarnings("unchecked")
+	private static void forEach(List<ModelPlayer> players, Object task) {
+		players.forEach((Consumer<ModelPlayer>) task);
+	}
+
+}
@@ -0,0 +1,264 @@
+package peril.io;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import peril.ai.AI;
+import peril.helpers.UnitHelper;
+import peril.model.ModelColor;
+import peril.model.ModelPlayer;
+import peril.model.board.ModelContinent;
+import peril.model.board.ModelCountry;
+import peril.model.board.ModelHazard;
+import peril.model.board.ModelUnit;
+import peril.model.board.links.ModelLink;
+import peril.model.board.links.ModelLinkState;
+
+/**
+ * Tests {@link BinarySave}
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.02
+ * @since 2018-03-27
+ *
+ * @see BinarySave
+ *
+ */
+public final class Test_BinarySave {
+
+	/**
+	 * The {@link UnitHelper} that holds the units of the test board.
+	 */
+	private UnitHelper units;
+
+	/**
+	 * The first {@link ModelCountry} on the board.
+	 */
+	private ModelCountry first;
+
+	/**
+	 * The second {@link ModelCountry} on the board.
+	 */
+	private ModelCountry second;
+
+	/**
+	 * The {@link ModelContinent} of both countries.
+	 */
+	private ModelContinent continent;
+
+	/**
+	 * The {@link ModelPlayer} that rules the first {@link ModelCountry}.
+	 */
+	private ModelPlayer player;
+
+	/**
+	 * Creates a board of two linked countries where one is ruled by a player and
+	 * blockades the other.
+	 */
+	@Before
+	public void setUp() {
+
+		units = new UnitHelper();
+		units.addUnit(new ModelUnit("soldier", 1, "soldier.png"));
+		units.addUnit(new ModelUnit("tank", 5, "tank.png"));
+
+		first = new ModelCountry("first", new ModelColor(7, 0, 255), units);
+		second = new ModelCountry("second", new ModelColor(120, 45, 3), units);
+
+		first.addNeighbour(second, new ModelLink(ModelLinkState.OPEN));
+		second.addNeighbour(first, new ModelLink(ModelLinkState.OPEN));
+		second.getLinkTo(first).setState(ModelLinkState.BLOCKADE, 3);
+
+		player = new ModelPlayer(1, AI.USER, units);
+		player.setPoints(12);
+
+		first.setRuler(player);
+		first.getArmy().setStrength(7);
+		second.getArmy().setStrength(1);
+
+		continent = new ModelContinent(ModelHazard.TORNADO, "continent");
+		continent.addCountry(first);
+		continent.addCountry(second);
+	}
+
+	/**
+	 * Test that a save that is written and read back gives the details of the
+	 * lines of the equivalent text save, with one line per direction of each
+	 * link.
+	 *
+	 * @throws IOException
+	 *             Thrown if the save cannot be written or read.
+	 */
+	@Test
+	public void test_writeAndRead() throws IOException {
+
+		final BinarySave save = new BinarySave();
+
+		units.forEach(unit -> save.addUnit(unit));
+		save.addPlayer(player, true);
+		save.addState("Reinforce", 1, 4);
+		save.addCountry(first, -3, 250);
+		save.addCountry(second, 0, 0);
+		save.addContinent(continent);
+		save.addLink(first, second, first.getLinkTo(second));
+		save.addLink(second, first, second.getLinkTo(first));
+
+		final String[][] lines = read(save);
+
+		assertEquals(9, lines.length);
+
+		assertArrayEquals(new String[] { "Unit", "soldier", "1", "soldier.png" }, lines[0]);
+		assertArrayEquals(new String[] { "Unit", "tank", "5", "tank.png" }, lines[1]);
+		assertArrayEquals(new String[] { "Player", "1", AI.USER.name, "0", "0", "0", "0", "true", "12" }, lines[2]);
+		assertArrayEquals(new String[] { "State", "Reinforce", "1", "4" }, lines[3]);
+
+		assertEquals("first", lines[4][1]);
+		assertEquals("007000255", lines[4][2]);
+		assertEquals("-3", lines[4][4]);
+		assertEquals("250", lines[4][5]);
+		assertEquals("1", lines[4][6]);
+
+		assertEquals("120045003", lines[5][2]);
+		assertEquals("soldier:1", lines[5][3]);
+		assertEquals("-", lines[5][6]);
+
+		assertArrayEquals(new String[] { "Continent", "continent", ModelHazard.TORNADO.toString(), "first-second" },
+				lines[6]);
+
+		assertArrayEquals(new String[] { "Link", "first", "second", ModelLinkState.OPEN.name,
+				ModelLinkState.OPEN.name, "0" }, lines[7]);
+		assertArrayEquals(new String[] { "Link", "second", "first", ModelLinkState.OPEN.name,
+				ModelLinkState.BLOCKADE.name, "3" }, lines[8]);
+	}
+
+	/**
+	 * Test that the army of a country is read back with the same number of each
+	 * unit.
+	 *
+	 * @throws IOException
+	 *             Thrown if the save cannot be written or read.
+	 */
+	@Test
+	public void test_army() throws IOException {
+
+		final BinarySave save = new BinarySave();
+
+		units.forEach(unit -> save.addUnit(unit));
+		save.addCountry(first, 0, 0);
+
+		final String army = read(save)[2][3];
+
+		int strength = 0;
+
+		for (String pair : army.split("-")) {
+			final String[] elements = pair.split(":");
+			strength += units.get(elements[0]).strength * Integer.parseInt(elements[1]);
+		}
+
+		assertEquals(first.getArmy().getStrength(), strength);
+	}
+
+	/**
+	 * Test that the numbers of a save are read back as numbers and the other
+	 * details as strings.
+	 *
+	 * @throws IOException
+	 *             Thrown if the save cannot be written or read.
+	 */
+	@Test
+	public void test_records() throws IOException {
+
+		final BinarySave save = new BinarySave();
+
+		units.forEach(unit -> save.addUnit(unit));
+		save.addCountry(first, -3, 250);
+		save.addCountry(second, 0, 0);
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		save.writeTo(out);
+
+		final BinarySave.Records records = BinarySave.read(new ByteArrayInputStream(out.toByteArray()));
+
+		assertEquals(4, records.size());
+
+		assertTrue(records.isNumber(1, 2));
+		assertEquals(5, records.getInt(1, 2));
+		assertFalse(records.isNumber(1, 1));
+		assertTrue(records.isDetail(1, 1, "tank"));
+
+		assertEquals(-3, records.getInt(2, 4));
+		assertEquals(250, records.getInt(2, 5));
+		assertTrue(records.isDetail(2, 5, "250"));
+		assertEquals(1, records.getInt(2, 6));
+
+		assertFalse(records.isNumber(3, 6));
+		assertTrue(records.isDetail(3, 6, "-"));
+		assertEquals("soldier:1", records.getString(3, 3));
+	}
+
+	/**
+	 * Test that variable length integers are read back as they were written and
+	 * that small values take one byte.
+	 *
+	 * @throws IOException
+	 *             Thrown if the values cannot be written or read.
+	 */
+	@Test
+	public void test_varint() throws IOException {
+
+		final int[] values = { 0, 1, 127, 128, 300, 16384, Integer.MAX_VALUE, -1, Integer.MIN_VALUE };
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+
+		BinarySave.writeVarint(out, 127);
+		assertEquals(1, bytes.size());
+
+		for (int value : values) {
+			BinarySave.writeVarint(out, value);
+		}
+
+		final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+
+		assertEquals(127, BinarySave.readVarint(in));
+
+		for (int value : values) {
+			assertEquals(value, BinarySave.readVarint(in));
+		}
+	}
+
+	/**
+	 * Test that a file that is not a binary save is rejected.
+	 */
+	@Test(expected = IOException.class)
+	public void test_notBinary() throws IOException {
+		BinarySave.read(new ByteArrayInputStream("Unit,soldier,1,soldier.png".getBytes()));
+	}
+
+	/**
+	 * Writes a {@link BinarySave} and reads it back.
+	 *
+	 * @param save
+	 *            {@link BinarySave}
+	 * @return The details of every line.
+	 * @throws IOException
+	 *             Thrown if the save cannot be written or read.
+	 */
+	private String[][] read(BinarySave save) throws IOException {
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		save.writeTo(out);
+
+		return BinarySave.read(new ByteArrayInputStream(out.toByteArray())).getLines();
+	}
+
+}
@@ -0,0 +1,156 @@
+package peril.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link SaveIndex}
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.02
+ * @since 2018-03-27
+ *
+ * @see SaveIndex
+ *
+ */
+public final class Test_SaveIndex {
+
+	/**
+	 * The directory of the test saves.
+	 */
+	private File directory;
+
+	/**
+	 * Creates the directory of the test saves.
+	 *
+	 * @throws IOException
+	 *             Thrown if the directory cannot be created.
+	 */
+	@Before
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("saves").toFile();
+	}
+
+	/**
+	 * Deletes the test saves.
+	 */
+	@After
+	public void tearDown() {
+
+		for (File file : directory.listFiles()) {
+			file.delete();
+		}
+
+		directory.delete();
+	}
+
+	/**
+	 * Test that the saves that are indexed are read back with their details and
+	 * that updating one save keeps the others.
+	 *
+	 * @throws IOException
+	 *             Thrown if a save cannot be written.
+	 */
+	@Test
+	public void test_update() throws IOException {
+
+		assertNull(SaveIndex.read(directory.getPath()).get("save1.sav"));
+
+		save("save1.sav", 100);
+		SaveIndex.update(directory.getPath(), "save1.sav", 4, 2, 3, 1000L);
+
+		save("save2.sav", 50);
+		SaveIndex.update(directory.getPath(), "save2.sav", 7, 1, 2, 2000L);
+
+		final SaveIndex index = SaveIndex.read(directory.getPath());
+
+		final SaveIndex.Entry first = index.get("save1.sav");
+
+		assertEquals(4, first.round);
+		assertEquals(2, first.player);
+		assertEquals(3, first.players);
+		assertEquals(1000L, first.timestamp);
+		assertEquals(100L, first.size);
+
+		assertEquals(7, index.get("save2.sav").round);
+		assertNull(index.get("save3.sav"));
+	}
+
+	/**
+	 * Test that a save that has changed since it was indexed and an index that is
+	 * damaged are not used.
+	 *
+	 * @throws IOException
+	 *             Thrown if a save cannot be written.
+	 */
+	@Test
+	public void test_invalid() throws IOException {
+
+		save("save1.sav", 100);
+		SaveIndex.update(directory.getPath(), "save1.sav", 4, 2, 3, 1000L);
+
+		save("save1.sav", 101);
+		assertNull(SaveIndex.read(directory.getPath()).get("save1.sav"));
+
+		new File(directory, "save1.sav").delete();
+		assertNull(SaveIndex.read(directory.getPath()).get("save1.sav"));
+
+		save("save1.sav", 100);
+		assertNotNull(SaveIndex.read(directory.getPath()).get("save1.sav"));
+
+		final File file = new File(directory, SaveIndex.FILE_NAME);
+		final byte[] bytes = Files.readAllBytes(file.toPath());
+		Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length - 4));
+
+		assertNull(SaveIndex.read(directory.getPath()).get("save1.sav"));
+	}
+
+	/**
+	 * Test that the entry of a save that has been deleted is dropped when the
+	 * index is next rewritten, so a new save of the same size is not mistaken for
+	 * it.
+	 *
+	 * @throws IOException
+	 *             Thrown if a save cannot be written.
+	 */
+	@Test
+	public void test_deleted() throws IOException {
+
+		save("0.sav", 100);
+		SaveIndex.update(directory.getPath(), "0.sav", 1, 1, 2, 1000L);
+
+		new File(directory, "0.sav").delete();
+
+		save("1.delta", 10);
+		SaveIndex.update(directory.getPath(), "1.delta", 1, 2, 2, 2000L);
+
+		save("0.sav", 100);
+
+		assertNull(SaveIndex.read(directory.getPath()).get("0.sav"));
+		assertEquals(2, SaveIndex.read(directory.getPath()).get("1.delta").player);
+	}
+
+	/**
+	 * Writes a save of a specified size.
+	 *
+	 * @param filename
+	 *            The name of the save's file.
+	 * @param size
+	 *            The number of bytes in the save.
+	 * @throws IOException
+	 *             Thrown if the save cannot be written.
+	 */
+	private void save(String filename, int size) throws IOException {
+		Files.write(new File(directory, filename).toPath(), new byte[size]);
+	}
+
+}
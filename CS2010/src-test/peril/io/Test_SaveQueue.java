@@ -0,0 +1,201 @@
+package peril.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link SaveQueue}
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.03
+ * @since 2018-03-27
+ *
+ * @see SaveQueue
+ *
+ */
+public final class Test_SaveQueue {
+
+	/**
+	 * The directory the test saves are written to.
+	 */
+	private Path directory;
+
+	/**
+	 * The path to the test save.
+	 */
+	private String path;
+
+	/**
+	 * The {@link SaveQueue} that will be used for testing.
+	 */
+	private SaveQueue queue;
+
+	/**
+	 * Creates an empty directory for the test save.
+	 *
+	 * @throws IOException
+	 *             Thrown if the directory cannot be created.
+	 */
+	@Before
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("saves");
+		path = directory.resolve("save1.sav").toString();
+		queue = new SaveQueue();
+	}
+
+	/**
+	 * Deletes the test directory.
+	 */
+	@After
+	public void tearDown() {
+
+		queue.shutdown();
+
+		for (File file : directory.toFile().listFiles()) {
+			file.delete();
+		}
+
+		directory.toFile().delete();
+	}
+
+	/**
+	 * Test that a save that fails part way through leaves the previous save intact
+	 * and no temporary file behind.
+	 *
+	 * @throws IOException
+	 *             Thrown if the first save cannot be written.
+	 */
+	@Test
+	public void test_writeAtomically() throws IOException {
+
+		SaveQueue.writeAtomically(path, out -> out.write(new byte[] { 1, 2, 3 }));
+
+		try {
+			SaveQueue.writeAtomically(path, out -> {
+				out.write(9);
+				throw new IOException("Crash");
+			});
+			fail("The failed save should throw.");
+		} catch (IOException e) {
+			// Expected
+		}
+
+		assertArrayEquals(new byte[] { 1, 2, 3 }, Files.readAllBytes(directory.resolve("save1.sav")));
+		assertEquals(1, directory.toFile().listFiles().length);
+	}
+
+	/**
+	 * Test that saves requested while an earlier save is being written are
+	 * coalesced into one write of the newest save and that every request is told
+	 * when it has been written.
+	 *
+	 * @throws InterruptedException
+	 *             Thrown if the test is interrupted while waiting.
+	 * @throws IOException
+	 *             Thrown if the save cannot be read.
+	 */
+	@Test
+	public void test_coalesce() throws InterruptedException, IOException {
+
+		final CountDownLatch writing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CountDownLatch completed = new CountDownLatch(4);
+		final AtomicInteger saved = new AtomicInteger();
+
+		// The first save blocks the save thread until it is released.
+		queue.submit(path, out -> {
+			writing.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				throw new IOException(e);
+			}
+			out.write(1);
+		}, result -> {
+			if (result) {
+				saved.incrementAndGet();
+			}
+			completed.countDown();
+		});
+
+		assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+		for (int value = 2; value <= 4; value++) {
+			final int content = value;
+			queue.submit(path, out -> out.write(content), result -> {
+				if (result) {
+					saved.incrementAndGet();
+				}
+				completed.countDown();
+			});
+		}
+
+		release.countDown();
+
+		assertTrue(completed.await(5, TimeUnit.SECONDS));
+		assertEquals(4, saved.get());
+		assertEquals(2, queue.getNumberWritten());
+		assertArrayEquals(new byte[] { 4 }, Files.readAllBytes(directory.resolve("save1.sav")));
+	}
+
+	/**
+	 * Test that a file that is deleted while a save to it is waiting is not
+	 * written by that save, and that the save is told it was not written.
+	 *
+	 * @throws InterruptedException
+	 *             Thrown if the test is interrupted while waiting.
+	 * @throws IOException
+	 *             Thrown if the blocking save cannot be written.
+	 */
+	@Test
+	public void test_delete() throws InterruptedException, IOException {
+
+		final CountDownLatch writing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CountDownLatch completed = new CountDownLatch(1);
+		final AtomicInteger saved = new AtomicInteger(-1);
+
+		SaveQueue.writeAtomically(path, out -> out.write(1));
+
+		// A save to another file blocks the save thread until it is released.
+		queue.submit(directory.resolve("save2.sav").toString(), out -> {
+			writing.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				throw new IOException(e);
+			}
+		}, null);
+
+		assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+		queue.submit(path, out -> out.write(2), result -> {
+			saved.set(result ? 1 : 0);
+			completed.countDown();
+		});
+
+		queue.delete(path);
+		release.countDown();
+
+		assertTrue(completed.await(5, TimeUnit.SECONDS));
+
+		queue.shutdown();
+
+		assertEquals(0, saved.get());
+		assertFalse(new File(path).exists());
+		assertEquals(1, queue.getNumberWritten());
+	}
+
+}
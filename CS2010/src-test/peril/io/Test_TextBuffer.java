@@ -0,0 +1,125 @@
+package peril.io;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.Charset;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link TextBuffer}
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.01
+ * @since 2018-03-27
+ *
+ * @see TextBuffer
+ *
+ */
+public final class Test_TextBuffer {
+
+	/**
+	 * Test that the lines are separated in the same way as a
+	 * {@link java.util.Scanner}, keeping blank lines except those at the end.
+	 */
+	@Test
+	public void test_lines() {
+
+		final TextBuffer text = create("first\r\n\nsecond\rthird\n  \r\n\n");
+
+		assertEquals(4, text.getNumberOfLines());
+		assertEquals("first", text.getLine(0));
+		assertEquals("", text.getLine(1));
+		assertEquals("second", text.getLine(2));
+		assertEquals("third", text.getLine(3));
+
+		assertEquals(0, create(" \r\n ").getNumberOfLines());
+	}
+
+	/**
+	 * Test that the fields of a line are the same as those returned by
+	 * {@link String#split(String)}.
+	 */
+	@Test
+	public void test_select() {
+
+		final String[] lines = { "Country,Peru,001002003,soldier:3-tank:1,-1,2,-", "a,,b,,", "", ",", "single" };
+
+		final TextBuffer text = create(String.join("\n", lines));
+
+		for (int line = 0; line < lines.length; line++) {
+
+			final String[] expected = lines[line].split(",");
+
+			assertEquals(expected.length, text.select(line, ','));
+
+			for (int field = 0; field < expected.length; field++) {
+				assertEquals(expected[field], text.getString(field));
+			}
+		}
+	}
+
+	/**
+	 * Test that fields are parsed and compared in place.
+	 */
+	@Test
+	public void test_fields() {
+
+		final TextBuffer text = create("Country,Peru,001202255,soldier:3-tank:12,-14,+2,-");
+
+		text.select(0, ',');
+
+		assertTrue(text.isField(0, "Country"));
+		assertFalse(text.isField(0, "Count"));
+		assertFalse(text.isField(1, "Perv"));
+
+		assertEquals(1, text.getInt(2, 0, 3));
+		assertEquals(202, text.getInt(2, 3, 6));
+		assertEquals(255, text.getInt(2, 6, 9));
+		assertEquals(-14, text.getInt(4));
+		assertEquals(2, text.getInt(5));
+
+		assertEquals(9, text.indexOf(3, '-', 0));
+		assertEquals(14, text.indexOf(3, ':', 10));
+		assertEquals(-1, text.indexOf(3, '-', 10));
+		assertTrue(text.isField(3, 10, 14, "tank"));
+		assertEquals(12, text.getInt(3, 15, 17));
+		assertEquals("tank", text.getString(3, 10, 14));
+	}
+
+	/**
+	 * Test that invalid integers are rejected in the same way as
+	 * {@link Integer#parseInt(String)}.
+	 */
+	@Test
+	public void test_invalidInt() {
+
+		final TextBuffer text = create("1a,,-,2147483648,-2147483648");
+
+		text.select(0, ',');
+
+		for (int field = 0; field < 4; field++) {
+			try {
+				text.getInt(field);
+				fail("Field " + field + " is not a valid integer.");
+			} catch (NumberFormatException e) {
+				// Expected
+			}
+		}
+
+		assertEquals(Integer.MIN_VALUE, text.getInt(4));
+	}
+
+	/**
+	 * Creates a {@link TextBuffer} of some text.
+	 *
+	 * @param text
+	 *            The text.
+	 * @return {@link TextBuffer}
+	 */
+	private static TextBuffer create(String text) {
+		return new TextBuffer(text.getBytes(Charset.defaultCharset()));
+	}
+
+}
@@ -0,0 +1,183 @@
+package peril.model;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link EventLog}
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.01
+ * @since 2018-03-25
+ *
+ * @see EventLog
+ *
+ */
+public final class Test_EventLog {
+
+	/**
+	 * The {@link EventLog} that is being tested.
+	 */
+	private EventLog log;
+
+	/**
+	 * Sets up a new empty {@link EventLog}.
+	 */
+	@Before
+	public void setUp() {
+		log = new EventLog();
+		log.reset(42);
+	}
+
+	/**
+	 * Test that each type of event is read back with the values it was recorded
+	 * with.
+	 */
+	@Test
+	public void test_readEvents() {
+
+		log.reinforce(3, 0);
+		log.attack(3, 7, new Integer[] { 6, 4, 1 }, new Integer[] { 5, 2 }, new int[] { 2, 1, 0 },
+				new int[] { 1, 0, 0 }, true);
+		log.fortify(3, 300, 1);
+		log.tradeUp(7, 0);
+		log.blockade(7, 3, 3);
+		log.hazard(3, new int[] { 0, 0, 1 });
+		log.turn(2);
+		log.round(1000);
+
+		assertEquals(8, log.getNumberOfEvents());
+		assertEquals(42, log.getSeed());
+
+		final EventLog.Reader reader = log.read(0);
+
+		assertEvent(reader, EventLog.REINFORCE, 3, 0);
+		assertEvent(reader, EventLog.ATTACK, 3, 7, 3, 6, 4, 1, 2, 5, 2, 3, 2, 1, 0, 1, 0, 0, 1);
+		assertEvent(reader, EventLog.FORTIFY, 3, 300, 1);
+		assertEvent(reader, EventLog.TRADE_UP, 7, 0);
+		assertEvent(reader, EventLog.BLOCKADE, 7, 3, 3);
+		assertEvent(reader, EventLog.HAZARD, 3, 3, 0, 0, 1);
+		assertEvent(reader, EventLog.TURN, 2);
+		assertEvent(reader, EventLog.ROUND, 1000);
+
+		assertFalse(reader.hasNext());
+	}
+
+	/**
+	 * Test that small values only take one byte.
+	 */
+	@Test
+	public void test_compact() {
+
+		log.fortify(1, 2, 0);
+		assertEquals(4, log.size());
+
+		log.fortify(128, 2, 0);
+		assertEquals(9, log.size());
+	}
+
+	/**
+	 * Test that a {@link EventLog.Reader} can start part way through the log.
+	 */
+	@Test
+	public void test_readFromPosition() {
+
+		log.reinforce(1, 0);
+		final int position = log.size();
+		log.turn(2);
+
+		final EventLog.Reader reader = log.read(position);
+
+		assertEvent(reader, EventLog.TURN, 2);
+		assertFalse(reader.hasNext());
+	}
+
+	/**
+	 * Test that the log grows past its initial capacity.
+	 */
+	@Test
+	public void test_growth() {
+
+		for (int index = 0; index < 10000; index++) {
+			log.reinforce(index, 0);
+		}
+
+		final EventLog.Reader reader = log.read(0);
+
+		for (int index = 0; index < 10000; index++) {
+			assertEvent(reader, EventLog.REINFORCE, index, 0);
+		}
+
+		assertFalse(reader.hasNext());
+	}
+
+	/**
+	 * Test that a log that is written to a stream is read back the same.
+	 *
+	 * @throws IOException
+	 *             Thrown if the log cannot be written or read.
+	 */
+	@Test
+	public void test_writeAndRead() throws IOException {
+
+		log.blockade(4, 5, 3);
+		log.round(2);
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		log.writeTo(out);
+
+		final EventLog copy = EventLog.readFrom(new ByteArrayInputStream(out.toByteArray()));
+
+		assertEquals(42, copy.getSeed());
+		assertEquals(2, copy.getNumberOfEvents());
+		assertEquals(log.size(), copy.size());
+
+		final EventLog.Reader reader = copy.read(0);
+
+		assertEvent(reader, EventLog.BLOCKADE, 4, 5, 3);
+		assertEvent(reader, EventLog.ROUND, 2);
+	}
+
+	/**
+	 * Test that resetting the log removes all its events.
+	 */
+	@Test
+	public void test_reset() {
+
+		log.turn(1);
+		log.reset(7);
+
+		assertEquals(0, log.size());
+		assertEquals(0, log.getNumberOfEvents());
+		assertEquals(7, log.getSeed());
+		assertFalse(log.read(0).hasNext());
+	}
+
+	/**
+	 * Asserts that the next event of a {@link EventLog.Reader} is of the specified
+	 * type and has the specified values.
+	 *
+	 * @param reader
+	 *            {@link EventLog.Reader}
+	 * @param type
+	 *            The type of the event.
+	 * @param values
+	 *            The values of the event.
+	 */
+	private void assertEvent(EventLog.Reader reader, int type, int... values) {
+
+		assertEquals(type, reader.next());
+
+		for (int value : values) {
+			assertEquals(value, reader.readInt());
+		}
+	}
+
+}
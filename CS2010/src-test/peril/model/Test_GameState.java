@@ -0,0 +1,232 @@
+package peril.model;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import peril.ai.AI;
+import peril.helpers.UnitHelper;
+import peril.model.board.ModelBoard;
+import peril.model.board.ModelContinent;
+import peril.model.board.ModelCountry;
+import peril.model.board.ModelHazard;
+import peril.model.board.ModelUnit;
+import peril.model.board.links.ModelLink;
+import peril.model.board.links.ModelLinkState;
+
+/**
+ * Tests {@link GameState}
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.02
+ * @since 2018-03-24
+ *
+ * @see GameState
+ *
+ */
+public final class Test_GameState {
+
+	/**
+	 * The {@link UnitHelper} that holds the units of the test game.
+	 */
+	private UnitHelper units;
+
+	/**
+	 * The {@link ModelBoard} of the test game.
+	 */
+	private ModelBoard board;
+
+	/**
+	 * The {@link ModelPlayer}s of the test game.
+	 */
+	private ModelPlayer[] players;
+
+	/**
+	 * The {@link GameState} captured from the test game.
+	 */
+	private GameState state;
+
+	/**
+	 * Creates a board of two linked countries that are ruled by different players
+	 * and captures it.
+	 *
+	 * @throws Exception
+	 *             Thrown when the test game fails to construct.
+	 */
+	@Before
+	public void setUp() throws Exception {
+
+		units = new UnitHelper();
+		units.addUnit(new ModelUnit("soldier", 1, "soldier"));
+		units.addUnit(new ModelUnit("tank", 5, "tank"));
+
+		final ModelCountry first = new ModelCountry("first", new ModelColor(0, 0, 1), units);
+		final ModelCountry second = new ModelCountry("second", new ModelColor(0, 0, 2), units);
+
+		first.addNeighbour(second, new ModelLink(ModelLinkState.OPEN));
+		second.addNeighbour(first, new ModelLink(ModelLinkState.OPEN));
+		first.getLinkTo(second).setState(ModelLinkState.BLOCKADE, 2);
+
+		players = new ModelPlayer[] { new ModelPlayer(1, AI.USER, units), new ModelPlayer(2, AI.USER, units) };
+		players[0].setPoints(7);
+
+		first.setRuler(players[0]);
+		second.setRuler(players[1]);
+		players[0].setCountriesRuled(1);
+		players[1].setCountriesRuled(1);
+
+		// Eleven strength made up of a soldier and two tanks.
+		first.getArmy().setStrength(1);
+		first.getArmy().add(units.getStrongest());
+		first.getArmy().add(units.getStrongest());
+		second.getArmy().setStrength(3);
+
+		final ModelContinent continent = new ModelContinent(ModelHazard.TORNADO, "continent");
+		continent.addCountry(first);
+		continent.addCountry(second);
+
+		final Set<ModelContinent> continents = new HashSet<>();
+		continents.add(continent);
+
+		board = new ModelBoard("test");
+		board.setContinents(continents);
+
+		state = GameState.capture(board, units, Arrays.asList(players), players[1], 4);
+	}
+
+	/**
+	 * Test that the captured {@link GameState} matches the game.
+	 */
+	@Test
+	public void test_capture() {
+
+		assertEquals(2, state.getNumberOfCountries());
+		assertEquals(2, state.getNumberOfTiers());
+		assertEquals(4, state.getRound());
+		assertEquals(2, state.getCurrentPlayer());
+
+		// The countries are indexed by name.
+		assertEquals(1, state.getRuler(0));
+		assertEquals(11, state.getStrength(0));
+		assertEquals(2, state.getNumberOf(0, 1));
+		assertEquals(3, state.getStrength(1));
+
+		assertEquals(ModelLinkState.BLOCKADE, state.getLinkState(0, 1));
+		assertEquals(ModelLinkState.OPEN, state.getDefaultLinkState(0, 1));
+		assertEquals(2, state.getLinkDuration(0, 1));
+		assertEquals(ModelLinkState.OPEN, state.getLinkState(1, 0));
+
+		assertEquals(7, state.getPoints(1));
+		assertTrue(state.isPlaying(2));
+		assertFalse(state.isPlaying(3));
+	}
+
+	/**
+	 * Test that changing a fork affects neither the original state nor the game.
+	 */
+	@Test
+	public void test_fork() {
+
+		final GameState fork = state.fork();
+
+		fork.setRuler(1, 1);
+		fork.setNumberOf(0, 0, 10);
+		fork.setPoints(1, 0);
+		fork.setLinkState(0, 1, ModelLinkState.OPEN, 0);
+		fork.setRound(5);
+
+		assertEquals(1, fork.getRuler(1));
+		assertEquals(20, fork.getStrength(0));
+
+		assertEquals(2, state.getRuler(1));
+		assertEquals(11, state.getStrength(0));
+		assertEquals(7, state.getPoints(1));
+		assertEquals(ModelLinkState.BLOCKADE, state.getLinkState(0, 1));
+		assertEquals(4, state.getRound());
+
+		assertEquals(players[1], board.getCountry(1).getRuler());
+		assertEquals(11, board.getCountry(0).getArmy().getStrength());
+	}
+
+	/**
+	 * Test that applying events changes the state in the same way as the game.
+	 */
+	@Test
+	public void test_apply() {
+
+		final EventLog log = new EventLog();
+
+		log.reinforce(1, 0);
+		log.blockade(1, 0, 3);
+		log.attack(0, 1, new Integer[] { 6 }, new Integer[] { 1 }, new int[] { 1, 2 }, new int[] { 0, 0 }, true);
+		log.round(5);
+
+		final EventLog.Reader reader = log.read(0);
+
+		while (reader.hasNext()) {
+			state.apply(reader.next(), reader);
+		}
+
+		assertEquals(11, state.getStrength(0));
+		assertEquals(0, state.getStrength(1));
+
+		assertEquals(1, state.getRuler(1));
+		assertEquals(2, state.getCountriesRuled(1));
+		assertFalse(state.isPlaying(2));
+
+		// The blockade is paid for by the current player.
+		assertEquals(-10, state.getPoints(2));
+		assertEquals(7 + 2, state.getPoints(1));
+
+		// Both blockades elapse a round.
+		assertEquals(1, state.getLinkDuration(0, 1));
+		assertEquals(2, state.getLinkDuration(1, 0));
+		assertEquals(5, state.getRound());
+	}
+
+	/**
+	 * Test that a state that is written and read back is the same, and that it can
+	 * be restored onto the board.
+	 *
+	 * @throws IOException
+	 *             Thrown if the state cannot be written or read.
+	 */
+	@Test
+	public void test_writeReadRestore() throws IOException {
+
+		final GameState changed = state.fork();
+		changed.setRuler(1, 1);
+		changed.setNumberOf(1, 1, 4);
+		changed.setLinkState(0, 1, ModelLinkState.OPEN, 0);
+		changed.setRound(9);
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		changed.writeTo(new DataOutputStream(bytes));
+
+		final GameState read = state.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		assertEquals(1, read.getRuler(1));
+		assertEquals(23, read.getStrength(1));
+		assertEquals(ModelLinkState.OPEN, read.getLinkState(0, 1));
+		assertEquals(9, read.getRound());
+		assertEquals(7, read.getPoints(1));
+
+		read.restore(board, new ModelPlayer[] { null, players[0], players[1] });
+
+		assertEquals(players[0], board.getCountry(1).getRuler());
+		assertEquals(23, board.getCountry(1).getArmy().getStrength());
+		assertEquals(ModelLinkState.OPEN, board.getCountry(0).getLinkTo(board.getCountry(1)).getState());
+	}
+
+}
@@ -0,0 +1,226 @@
+package peril.model;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import peril.ai.AI;
+import peril.helpers.UnitHelper;
+import peril.model.board.ModelBoard;
+import peril.model.board.ModelContinent;
+import peril.model.board.ModelCountry;
+import peril.model.board.ModelHazard;
+import peril.model.board.ModelUnit;
+import peril.model.board.links.ModelLink;
+import peril.model.board.links.ModelLinkState;
+
+/**
+ * Tests {@link Replay}
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.01
+ * @since 2018-03-25
+ *
+ * @see Replay
+ *
+ */
+public final class Test_Replay {
+
+	/**
+	 * The number of rounds in the recorded game.
+	 */
+	private static final int ROUNDS = 35;
+
+	/**
+	 * The {@link GameState} at the start of the recorded game.
+	 */
+	private GameState start;
+
+	/**
+	 * The {@link EventLog} of the recorded game.
+	 */
+	private EventLog log;
+
+	/**
+	 * The {@link Replay} of the recorded game.
+	 */
+	private Replay replay;
+
+	/**
+	 * Records a game on a board of two linked countries where each player
+	 * reinforces their country every turn and the first player blockades the
+	 * second every seventh round.
+	 */
+	@Before
+	public void setUp() {
+
+		final UnitHelper units = new UnitHelper();
+		units.addUnit(new ModelUnit("soldier", 1, "soldier"));
+		units.addUnit(new ModelUnit("tank", 5, "tank"));
+
+		final ModelCountry first = new ModelCountry("first", new ModelColor(0, 0, 1), units);
+		final ModelCountry second = new ModelCountry("second", new ModelColor(0, 0, 2), units);
+
+		first.addNeighbour(second, new ModelLink(ModelLinkState.OPEN));
+		second.addNeighbour(first, new ModelLink(ModelLinkState.OPEN));
+
+		final ModelPlayer[] players = new ModelPlayer[] { new ModelPlayer(1, AI.USER, units),
+				new ModelPlayer(2, AI.USER, units) };
+
+		first.setRuler(players[0]);
+		second.setRuler(players[1]);
+
+		final ModelContinent continent = new ModelContinent(ModelHazard.TORNADO, "continent");
+		continent.addCountry(first);
+		continent.addCountry(second);
+
+		final Set<ModelContinent> continents = new HashSet<>();
+		continents.add(continent);
+
+		final ModelBoard board = new ModelBoard("test");
+		board.setContinents(continents);
+
+		start = GameState.capture(board, units, Arrays.asList(players), players[0], 0);
+
+		log = new EventLog();
+		log.reset(1);
+
+		for (int round = 1; round <= ROUNDS; round++) {
+
+			log.turn(1);
+			log.reinforce(0, 0);
+
+			if (round % 7 == 0) {
+				log.blockade(1, 0, 3);
+			}
+
+			log.turn(2);
+			log.reinforce(1, round % 2);
+			log.round(round);
+		}
+
+		replay = new Replay(start, log, 0);
+	}
+
+	/**
+	 * Test that the rounds of the {@link Replay} match the recorded game and that
+	 * it has a keyframe every {@link Replay#KEYFRAME_INTERVAL} rounds.
+	 */
+	@Test
+	public void test_rounds() {
+
+		assertEquals(0, replay.getFirstRound());
+		assertEquals(ROUNDS, replay.getLastRound());
+		assertEquals(1 + ROUNDS / Replay.KEYFRAME_INTERVAL, replay.getNumberOfKeyframes());
+	}
+
+	/**
+	 * Test that seeking to every round gives the same state as applying every
+	 * event from the start, in both directions.
+	 */
+	@Test
+	public void test_seek() {
+
+		for (int round = ROUNDS; round >= 0; round--) {
+			assertSameState(replayTo(round), replay.seek(round));
+		}
+
+		for (int round = 0; round <= ROUNDS; round++) {
+			assertSameState(replayTo(round), replay.seek(round));
+		}
+	}
+
+	/**
+	 * Test that seeking outside the recorded game is clamped to its rounds.
+	 */
+	@Test
+	public void test_seekOutside() {
+		assertSameState(replayTo(0), replay.seek(-5));
+		assertSameState(replayTo(ROUNDS), replay.seek(ROUNDS + 100));
+	}
+
+	/**
+	 * Test that a {@link Replay} that is written and read back seeks the same.
+	 *
+	 * @throws IOException
+	 *             Thrown if the {@link Replay} cannot be written or read.
+	 */
+	@Test
+	public void test_writeAndRead() throws IOException {
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		replay.writeTo(out);
+
+		final Replay copy = Replay.readFrom(new ByteArrayInputStream(out.toByteArray()), start);
+
+		assertEquals(ROUNDS, copy.getLastRound());
+		assertSameState(replay.seek(23), copy.seek(23));
+	}
+
+	/**
+	 * Applies every event from the start of the recorded game up to the end of a
+	 * round.
+	 *
+	 * @param round
+	 *            The round.
+	 * @return {@link GameState}
+	 */
+	private GameState replayTo(int round) {
+
+		final GameState state = start.fork();
+		final EventLog.Reader reader = log.read(0);
+
+		while (reader.hasNext()) {
+
+			final int type = reader.next();
+
+			if (type == EventLog.ROUND && state.getRound() == round) {
+				break;
+			}
+
+			state.apply(type, reader);
+		}
+
+		return state;
+	}
+
+	/**
+	 * Asserts that two {@link GameState}s of the test board are the same.
+	 *
+	 * @param expected
+	 *            The expected {@link GameState}.
+	 * @param actual
+	 *            The actual {@link GameState}.
+	 */
+	private void assertSameState(GameState expected, GameState actual) {
+
+		assertEquals(expected.getRound(), actual.getRound());
+		assertEquals(expected.getCurrentPlayer(), actual.getCurrentPlayer());
+		assertEquals(expected.getPoints(1), actual.getPoints(1));
+
+		for (int country = 0; country < expected.getNumberOfCountries(); country++) {
+
+			assertEquals(expected.getRuler(country), actual.getRuler(country));
+
+			for (int tier = 0; tier < expected.getNumberOfTiers(); tier++) {
+				assertEquals(expected.getNumberOf(country, tier), actual.getNumberOf(country, tier));
+			}
+
+			for (int neighbour : expected.getNeighbours(country)) {
+				assertEquals(expected.getLinkState(country, neighbour), actual.getLinkState(country, neighbour));
+				assertEquals(expected.getLinkDuration(country, neighbour),
+						actual.getLinkDuration(country, neighbour));
+			}
+		}
+	}
+
+}
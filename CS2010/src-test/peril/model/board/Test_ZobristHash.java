@@ -0,0 +1,154 @@
+package peril.model.board;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import peril.ai.AI;
+import peril.helpers.UnitHelper;
+import peril.model.ModelColor;
+import peril.model.ModelPlayer;
+import peril.model.board.links.ModelLink;
+import peril.model.board.links.ModelLinkState;
+
+/**
+ * Tests {@link ZobristHash}
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.01
+ * @since 2018-03-26
+ *
+ * @see ZobristHash
+ *
+ */
+public final class Test_ZobristHash {
+
+	/**
+	 * The {@link UnitHelper} that holds the units of the test board.
+	 */
+	private UnitHelper units;
+
+	/**
+	 * The {@link ModelBoard} that is hashed.
+	 */
+	private ModelBoard board;
+
+	/**
+	 * The first {@link ModelCountry} on the board.
+	 */
+	private ModelCountry first;
+
+	/**
+	 * The second {@link ModelCountry} on the board.
+	 */
+	private ModelCountry second;
+
+	/**
+	 * The {@link ModelPlayer} that rules the first {@link ModelCountry}.
+	 */
+	private ModelPlayer player;
+
+	/**
+	 * Creates a board of two linked countries where one is ruled by a player.
+	 */
+	@Before
+	public void setUp() {
+
+		units = new UnitHelper();
+		units.addUnit(new ModelUnit("soldier", 1, "soldier"));
+		units.addUnit(new ModelUnit("tank", 5, "tank"));
+
+		first = new ModelCountry("first", new ModelColor(0, 0, 1), units);
+		second = new ModelCountry("second", new ModelColor(0, 0, 2), units);
+
+		first.addNeighbour(second, new ModelLink(ModelLinkState.OPEN));
+		second.addNeighbour(first, new ModelLink(ModelLinkState.OPEN));
+
+		player = new ModelPlayer(1, AI.USER, units);
+		first.setRuler(player);
+		first.getArmy().setStrength(3);
+
+		final ModelContinent continent = new ModelContinent(ModelHazard.TORNADO, "continent");
+		continent.addCountry(first);
+		continent.addCountry(second);
+
+		final Set<ModelContinent> continents = new HashSet<>();
+		continents.add(continent);
+
+		board = new ModelBoard("test");
+		board.setContinents(continents);
+	}
+
+	/**
+	 * Test that the hash kept up to date by each change matches the hash computed
+	 * from the whole board.
+	 */
+	@Test
+	public void test_incremental() {
+
+		assertEquals(ZobristHash.compute(board), board.getHash());
+
+		second.setRuler(player);
+		assertEquals(ZobristHash.compute(board), board.getHash());
+
+		first.getArmy().add(units.getStrongest());
+		first.getArmy().remove(units.getWeakest());
+		assertEquals(ZobristHash.compute(board), board.getHash());
+
+		first.getArmy().tradeUnitsUp();
+		second.getArmy().setStrength(7);
+		assertEquals(ZobristHash.compute(board), board.getHash());
+
+		first.getLinkTo(second).setState(ModelLinkState.BLOCKADE, 1);
+		assertEquals(ZobristHash.compute(board), board.getHash());
+
+		first.getLinkTo(second).elapse();
+		second.getArmy().clearUnits();
+		assertEquals(ZobristHash.compute(board), board.getHash());
+	}
+
+	/**
+	 * Test that returning to a position returns to the same hash and that a
+	 * different position has a different hash.
+	 */
+	@Test
+	public void test_transposition() {
+
+		final long start = board.getHash();
+
+		first.getArmy().add(units.getWeakest());
+		final long added = board.getHash();
+
+		first.getArmy().remove(units.getWeakest());
+		assertEquals(start, board.getHash());
+		assertTrue(start != added);
+
+		first.getLinkTo(second).setState(ModelLinkState.BLOCKADE, 3);
+		assertTrue(start != board.getHash());
+
+		// The same blockade in the other direction is a different position.
+		final long blockaded = board.getHash();
+		first.getLinkTo(second).returnToDefault();
+		second.getLinkTo(first).setState(ModelLinkState.BLOCKADE, 3);
+		assertTrue(blockaded != board.getHash());
+
+		second.getLinkTo(first).returnToDefault();
+		assertEquals(start, board.getHash());
+	}
+
+	/**
+	 * Test that the current player and phase change the hash of the game.
+	 */
+	@Test
+	public void test_turn() {
+		assertTrue(ZobristHash.turn(1, 2) != ZobristHash.turn(2, 2));
+		assertTrue(ZobristHash.turn(1, 2) != ZobristHash.turn(1, 3));
+		assertEquals(ZobristHash.turn(1, 2), ZobristHash.turn(1, 2));
+	}
+
+}
@@ -4,6 +4,7 @@ import static org.junit.Assert.*;
 
 import org.junit.Test;
 
+import peril.model.EventLog;
 import peril.model.ModelColor;
 import peril.model.board.ModelCountry;
 import peril.model.board.ModelUnit;
@@ -14,7 +15,7 @@ import peril.model.board.ModelUnit;
  * 
  * @author Joseph_Rolli, Joshua_Eddy
  * 
- * @version 1.01.03
+ * @version 1.01.04
  * @since 2018-03-16
  * 
  * @see ModelLink
@@ -110,4 +111,29 @@ public final class Test_ModelLink {
 
 	}
 
+	/**
+	 * Test that a blockade is recorded in the {@link EventLog} of the link, whoever
+	 * sets it, and that returning to the default state is not.
+	 */
+	@Test
+	public void test_setState_recorded() {
+
+		final ModelLink link = new ModelLink(ModelLinkState.OPEN);
+		final EventLog events = new EventLog();
+
+		link.setHash(null, 4, 7);
+		link.setEventLog(events);
+
+		link.setState(ModelLinkState.BLOCKADE, 2);
+		link.setState(ModelLinkState.OPEN, 1);
+
+		final EventLog.Reader reader = events.read(0);
+
+		assertEquals(EventLog.BLOCKADE, reader.next());
+		assertEquals(4, reader.readInt());
+		assertEquals(7, reader.readInt());
+		assertEquals(2, reader.readInt());
+		assertFalse(reader.hasNext());
+	}
+
 }
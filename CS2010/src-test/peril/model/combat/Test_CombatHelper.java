@@ -3,6 +3,7 @@ package peril.model.combat;
 import static org.junit.Assert.*;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Random;
 import java.util.function.Consumer;
 
 import org.junit.Before;
@@ -12,10 +13,17 @@ import peril.Directory;
 import peril.GameController;
 import peril.ai.AI;
 import peril.ai.AIController;
+import peril.concurrent.ProcessTransfer;
+import peril.concurrent.Simulation;
 import peril.helpers.AIHelper;
+import peril.helpers.PointHelper;
 import peril.helpers.UnitHelper;
+import peril.io.Autosave;
+import peril.model.EventLog;
 import peril.model.ModelColor;
+import peril.model.ModelFrame;
 import peril.model.ModelPlayer;
+import peril.model.Replay;
 import peril.model.board.ModelArmy;
 import peril.model.board.ModelBoard;
 import peril.model.board.ModelCountry;
@@ -35,7 +43,7 @@ import peril.views.View;
  * 
  * @author Joshua_Eddy
  * 
- * @version 1.01.04
+ * @version 1.01.05
  * @since 2018-03-14
  * 
  * @see CombatHelper
@@ -169,6 +177,37 @@ public final class Test_CombatHelper {
 
 	}
 
+	/**
+	 * Test that {@link CombatHelper#fight(ModelCountry, ModelCountry)} fights one
+	 * round between the armies of the countries and returns the survivors to them.
+	 */
+	@Test
+	public void test_fight_countries() {
+
+		combat.clear();
+
+		final CombatRound round = getStandardRound();
+
+		// Return the standard squads so that the countries have their full armies.
+		round.attackerSquad.returnSquadToArmy(round.attacker.getArmy());
+		round.defenderSquad.returnSquadToArmy(round.defender.getArmy());
+
+		combat.fight(round.attacker, round.defender);
+
+		final CombatView view = combat.view;
+
+		assertNotNull(view);
+
+		// One unit is killed for each pair of dice that were compared.
+		final int killed = Math.min(view.attackerDiceRolls.length, view.defenderDiceRolls.length);
+
+		assertEquals(testArmyUnits.size() * 2 - killed,
+				round.attacker.getArmy().getStrength() + round.defender.getArmy().getStrength());
+		assertTrue(round.attacker.getArmy().getStrength() >= 1);
+		assertTrue(round.defender.getArmy().getStrength() >= 1);
+
+	}
+
 	/**
 	 * Checks that the numbers that are in the parameter dice rolls are in
 	 * descending order.
@@ -306,6 +345,51 @@ public final class Test_CombatHelper {
 			throw new UnsupportedOperationException("CombatHelper should not require this method.");
 		}
 
+		@Override
+		public UnitHelper getUnitHelper() {
+			return UnitHelper.getInstance();
+		}
+
+		@Override
+		public PointHelper getPointHelper() {
+			return PointHelper.getInstance();
+		}
+
+		@Override
+		public ProcessTransfer getProcessTransfer() {
+			return ProcessTransfer.getInstane();
+		}
+
+		@Override
+		public EventLog getEventLog() {
+			return new EventLog();
+		}
+
+		@Override
+		public Random getRandom() {
+			return new Random();
+		}
+
+		@Override
+		public void startRecording() {
+			// Not required for testing.
+		}
+
+		@Override
+		public Replay getReplay() {
+			return null;
+		}
+
+		@Override
+		public long getStateHash() {
+			return 0;
+		}
+
+		@Override
+		public void setAutosave(Autosave autosave) {
+			// Not required for testing.
+		}
+
 		@Override
 		public void setHelpMenuPage(int pageId) {
 			throw new UnsupportedOperationException("CombatHelper should not require this method.");
@@ -431,6 +515,16 @@ public final class Test_CombatHelper {
 
 		}
 
+		@Override
+		public void simulateAI(int delta) {
+			throw new UnsupportedOperationException("CombatHelper should not require this method.");
+		}
+
+		@Override
+		public Simulation<ModelFrame> getSimulation() {
+			throw new UnsupportedOperationException("CombatHelper should not require this method.");
+		}
+
 		@Override
 		public ModelState getCurrentState() {
 			throw new UnsupportedOperationException("CombatHelper should not require this method.");
@@ -4,6 +4,7 @@ import static org.junit.Assert.*;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Random;
 import java.util.function.Consumer;
 
 import org.junit.Before;
@@ -14,10 +15,17 @@ import peril.Directory;
 import peril.GameController;
 import peril.ai.AI;
 import peril.ai.AIController;
+import peril.concurrent.ProcessTransfer;
+import peril.concurrent.Simulation;
 import peril.helpers.AIHelper;
+import peril.helpers.PointHelper;
 import peril.helpers.UnitHelper;
+import peril.io.Autosave;
+import peril.model.EventLog;
 import peril.model.ModelColor;
+import peril.model.ModelFrame;
 import peril.model.ModelPlayer;
+import peril.model.Replay;
 import peril.model.board.ModelArmy;
 import peril.model.board.ModelBoard;
 import peril.model.board.ModelCountry;
@@ -383,6 +391,51 @@ public final class Test_Attack {
 			throw new UnsupportedOperationException("Attack should not require this method.");
 		}
 
+		@Override
+		public UnitHelper getUnitHelper() {
+			return UnitHelper.getInstance();
+		}
+
+		@Override
+		public PointHelper getPointHelper() {
+			return PointHelper.getInstance();
+		}
+
+		@Override
+		public ProcessTransfer getProcessTransfer() {
+			return ProcessTransfer.getInstane();
+		}
+
+		@Override
+		public EventLog getEventLog() {
+			return new EventLog();
+		}
+
+		@Override
+		public Random getRandom() {
+			return new Random();
+		}
+
+		@Override
+		public void startRecording() {
+			// Not required for testing.
+		}
+
+		@Override
+		public Replay getReplay() {
+			return null;
+		}
+
+		@Override
+		public long getStateHash() {
+			return 0;
+		}
+
+		@Override
+		public void setAutosave(Autosave autosave) {
+			// Not required for testing.
+		}
+
 		@Override
 		public void setHelpMenuPage(int pageId) {
 			throw new UnsupportedOperationException("Attack should not require this method.");
@@ -503,6 +556,16 @@ public final class Test_Attack {
 			throw new UnsupportedOperationException("Attack should not require this method.");
 		}
 
+		@Override
+		public void simulateAI(int delta) {
+			throw new UnsupportedOperationException("Attack should not require this method.");
+		}
+
+		@Override
+		public Simulation<ModelFrame> getSimulation() {
+			throw new UnsupportedOperationException("Attack should not require this method.");
+		}
+
 		@Override
 		public ModelState getCurrentState() {
 			throw new UnsupportedOperationException("Attack should not require this method.");
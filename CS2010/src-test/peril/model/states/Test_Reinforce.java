@@ -4,6 +4,7 @@ import static org.junit.Assert.*;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Random;
 import java.util.function.Consumer;
 
 import org.junit.Before;
@@ -14,10 +15,17 @@ import peril.Directory;
 import peril.GameController;
 import peril.ai.AI;
 import peril.ai.AIController;
+import peril.concurrent.ProcessTransfer;
+import peril.concurrent.Simulation;
 import peril.helpers.AIHelper;
+import peril.helpers.PointHelper;
 import peril.helpers.UnitHelper;
+import peril.io.Autosave;
+import peril.model.EventLog;
 import peril.model.ModelColor;
+import peril.model.ModelFrame;
 import peril.model.ModelPlayer;
+import peril.model.Replay;
 import peril.model.board.ModelBoard;
 import peril.model.board.ModelCountry;
 import peril.model.board.ModelUnit;
@@ -178,6 +186,51 @@ public class Test_Reinforce {
 			return null;
 		}
 
+		@Override
+		public UnitHelper getUnitHelper() {
+			return UnitHelper.getInstance();
+		}
+
+		@Override
+		public PointHelper getPointHelper() {
+			return PointHelper.getInstance();
+		}
+
+		@Override
+		public ProcessTransfer getProcessTransfer() {
+			return ProcessTransfer.getInstane();
+		}
+
+		@Override
+		public EventLog getEventLog() {
+			return new EventLog();
+		}
+
+		@Override
+		public Random getRandom() {
+			return new Random();
+		}
+
+		@Override
+		public void startRecording() {
+			// Not required for testing.
+		}
+
+		@Override
+		public Replay getReplay() {
+			return null;
+		}
+
+		@Override
+		public long getStateHash() {
+			return 0;
+		}
+
+		@Override
+		public void setAutosave(Autosave autosave) {
+			// Not required for testing.
+		}
+
 		@Override
 		public void setHelpMenuPage(int pageId) {
 			// TODO Auto-generated method stub
@@ -322,6 +375,18 @@ public class Test_Reinforce {
 
 		}
 
+		@Override
+		public void simulateAI(int delta) {
+			// TODO Auto-generated method stub
+
+		}
+
+		@Override
+		public Simulation<ModelFrame> getSimulation() {
+			// TODO Auto-generated method stub
+			return null;
+		}
+
 		@Override
 		public ModelState getCurrentState() {
 			// TODO Auto-generated method stub
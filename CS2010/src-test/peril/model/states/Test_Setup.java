@@ -4,6 +4,7 @@ import static org.junit.Assert.*;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -17,11 +18,18 @@ import peril.GameController;
 import peril.ai.AI;
 import peril.ai.AIController;
 import peril.ai.api.Country;
+import peril.concurrent.ProcessTransfer;
+import peril.concurrent.Simulation;
 import peril.helpers.AIHelper;
 import peril.helpers.PlayerHelper;
+import peril.helpers.PointHelper;
 import peril.helpers.UnitHelper;
+import peril.io.Autosave;
+import peril.model.EventLog;
 import peril.model.ModelColor;
+import peril.model.ModelFrame;
 import peril.model.ModelPlayer;
+import peril.model.Replay;
 import peril.model.board.ModelBoard;
 import peril.model.board.ModelContinent;
 import peril.model.board.ModelCountry;
@@ -218,6 +226,51 @@ public class Test_Setup {
 			throw new UnsupportedOperationException("Setup should not require this method.");
 		}
 
+		@Override
+		public UnitHelper getUnitHelper() {
+			return UnitHelper.getInstance();
+		}
+
+		@Override
+		public PointHelper getPointHelper() {
+			return PointHelper.getInstance();
+		}
+
+		@Override
+		public ProcessTransfer getProcessTransfer() {
+			return ProcessTransfer.getInstane();
+		}
+
+		@Override
+		public EventLog getEventLog() {
+			return new EventLog();
+		}
+
+		@Override
+		public Random getRandom() {
+			return new Random();
+		}
+
+		@Override
+		public void startRecording() {
+			// Not required for testing.
+		}
+
+		@Override
+		public Replay getReplay() {
+			return null;
+		}
+
+		@Override
+		public long getStateHash() {
+			return 0;
+		}
+
+		@Override
+		public void setAutosave(Autosave autosave) {
+			// Not required for testing.
+		}
+
 		@Override
 		public void setHelpMenuPage(int pageId) {
 			throw new UnsupportedOperationException("Setup should not require this method.");
@@ -359,6 +412,16 @@ public class Test_Setup {
 
 		}
 
+		@Override
+		public void simulateAI(int delta) {
+			throw new UnsupportedOperationException("Setup should not require this method.");
+		}
+
+		@Override
+		public Simulation<ModelFrame> getSimulation() {
+			throw new UnsupportedOperationException("Setup should not require this method.");
+		}
+
 		@Override
 		public ModelState getCurrentState() {
 			throw new UnsupportedOperationException("Setup should not require this method.");
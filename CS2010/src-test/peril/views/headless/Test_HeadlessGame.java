@@ -0,0 +1,48 @@
+package peril.views.headless;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link HeadlessGame}
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.03
+ * @since 2018-03-22
+ *
+ * @see HeadlessGame
+ *
+ */
+public final class Test_HeadlessGame {
+
+	/**
+	 * Test that a new {@link HeadlessGame} has not played any games.
+	 */
+	@Test
+	public void test_constructor() {
+
+		final HeadlessGame game = new HeadlessGame("Earth", 10, 50, "Hard", "Easy");
+
+		assertEquals(0, game.getResults().getGames());
+		assertEquals(0, game.getResults().getDraws());
+	}
+
+	/**
+	 * Test that a game with only one player is rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void test_tooFewPlayers() {
+		new HeadlessGame("Earth", 10, 50, "Hard");
+	}
+
+	/**
+	 * Test that an invalid number of games is rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void test_invalidGames() {
+		new HeadlessGame("Earth", 0, 50, "Hard", "Easy");
+	}
+
+}
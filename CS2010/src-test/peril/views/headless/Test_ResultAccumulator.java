@@ -0,0 +1,111 @@
+package peril.views.headless;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import peril.ai.Goat;
+import peril.ai.Monkey;
+import peril.model.ModelPlayer;
+
+/**
+ * Tests {@link ResultAccumulator} and {@link EloRatings}
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.01
+ * @since 2018-03-23
+ *
+ * @see ResultAccumulator
+ * @see EloRatings
+ *
+ */
+public final class Test_ResultAccumulator {
+
+	/**
+	 * The {@link ModelPlayer}s of the test games.
+	 */
+	private ModelPlayer[] players;
+
+	/**
+	 * Create two {@link ModelPlayer}s controlled by different AIs where the first
+	 * has killed three units and taken two countries.
+	 *
+	 * @throws Exception
+	 *             Thrown when the players fail to construct.
+	 */
+	@Before
+	public void setUp() throws Exception {
+
+		players = new ModelPlayer[] { new ModelPlayer(1, new Monkey(null)), new ModelPlayer(2, new Goat(null)) };
+
+		players[0].setUnitsKilled(3);
+		players[0].setCountriesTaken(2);
+	}
+
+	/**
+	 * Test that the totals of each AI and pairing are accumulated and merged.
+	 */
+	@Test
+	public void test_addAndMerge() {
+
+		final ResultAccumulator first = new ResultAccumulator();
+		final ResultAccumulator second = new ResultAccumulator();
+
+		first.add(new GameResult("Earth", 10, players, players[0]));
+		second.add(new GameResult("Earth", 20, players, null));
+
+		first.merge(second);
+
+		assertEquals(2, first.getGames());
+		assertEquals(1, first.getDraws());
+
+		first.forEachAI((name, totals) -> {
+
+			assertEquals(2, totals.getGames());
+			assertEquals(15, totals.getAverageRounds(), 0);
+
+			if (players[0].ai.name.equals(name)) {
+				assertEquals(1, totals.getWins());
+				assertEquals(0.5, totals.getWinRate(), 0);
+				assertEquals(3, totals.getAverageUnitsKilled(), 0);
+				assertEquals(2, totals.getAverageCountriesTaken(), 0);
+			} else {
+				assertEquals(0, totals.getWins());
+				assertEquals(0, totals.getAverageUnitsKilled(), 0);
+			}
+		});
+
+		final int[] pairings = { 0 };
+
+		first.forEachPairing((pairing, totals) -> {
+			pairings[0]++;
+			assertEquals(2, totals.getGames());
+		});
+
+		assertEquals(2, pairings[0]);
+	}
+
+	/**
+	 * Test that the winner of a game gains the rating the loser loses and that a
+	 * draw between equal ratings changes nothing.
+	 */
+	@Test
+	public void test_eloRatings() {
+
+		final EloRatings ratings = new EloRatings();
+
+		ratings.update(new GameResult("Earth", 10, players, null));
+
+		assertEquals(EloRatings.INITIAL_RATING, ratings.getRating(players[0].ai.name), 0.0001);
+		assertEquals(EloRatings.INITIAL_RATING, ratings.getRating(players[1].ai.name), 0.0001);
+
+		ratings.update(new GameResult("Earth", 10, players, players[0]));
+
+		assertTrue(ratings.getRating(players[0].ai.name) > EloRatings.INITIAL_RATING);
+		assertEquals(2 * EloRatings.INITIAL_RATING, ratings.getRating(players[0].ai.name) + ratings.getRating(players[1].ai.name),
+				0.0001);
+	}
+
+}
@@ -0,0 +1,100 @@
+package peril.views.headless;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import peril.ai.Goat;
+import peril.ai.Monkey;
+import peril.model.ModelPlayer;
+
+/**
+ * Tests {@link ResultSink}
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.01
+ * @since 2018-03-27
+ *
+ * @see ResultSink
+ *
+ */
+public final class Test_ResultSink {
+
+	/**
+	 * The {@link ModelPlayer}s of the test games.
+	 */
+	private ModelPlayer[] players;
+
+	/**
+	 * The CSV {@link File} the results are appended to.
+	 */
+	private File file;
+
+	/**
+	 * Create two {@link ModelPlayer}s and an empty CSV file.
+	 *
+	 * @throws Exception
+	 *             Thrown when the players or the file fail to construct.
+	 */
+	@Before
+	public void setUp() throws Exception {
+		players = new ModelPlayer[] { new ModelPlayer(1, new Monkey(null)), new ModelPlayer(2, new Goat(null)) };
+		file = File.createTempFile("results", ".csv");
+	}
+
+	/**
+	 * Delete the CSV file.
+	 */
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	/**
+	 * Test that a second tournament appended to the same file numbers its games
+	 * after the games of the first.
+	 *
+	 * @throws Exception
+	 *             Thrown when the file cannot be written.
+	 */
+	@Test
+	public void test_numbering() throws Exception {
+
+		try (ResultSink sink = ResultSink.toFile(file)) {
+			sink.record(new GameResult("Earth", 10, players, players[0]));
+			sink.record(new GameResult("Earth", 12, players, players[1]));
+		}
+
+		try (ResultSink sink = ResultSink.toFile(file)) {
+			sink.record(new GameResult("Earth", 14, players, null));
+			assertEquals(1, sink.getGames());
+		}
+
+		final List<String> lines = Files.readAllLines(file.toPath());
+
+		assertEquals(ResultSink.HEADER, lines.get(0));
+		assertEquals(7, lines.size());
+		assertTrue(lines.get(1).startsWith("1,"));
+		assertTrue(lines.get(4).startsWith("2,"));
+		assertTrue(lines.get(5).startsWith("3,"));
+		assertTrue(lines.get(6).startsWith("3,"));
+	}
+
+	/**
+	 * Test that fields containing commas and quotes are quoted.
+	 */
+	@Test
+	public void test_quote() {
+		assertEquals("Earth", ResultSink.quote("Earth"));
+		assertEquals("\"Middle, Earth\"", ResultSink.quote("Middle, Earth"));
+		assertEquals("\"The \"\"Big\"\" One\"", ResultSink.quote("The \"Big\" One"));
+	}
+
+}
@@ -0,0 +1,191 @@
+package peril.views.slick.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import peril.io.SaveQueue;
+import peril.views.slick.util.Point;
+import peril.views.slick.util.Region;
+
+/**
+ * Tests {@link MapBundle}
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.01
+ * @since 2018-03-27
+ *
+ * @see MapBundle
+ *
+ */
+public final class Test_MapBundle {
+
+	/**
+	 * The folder of the test map.
+	 */
+	private File directory;
+
+	/**
+	 * The path to the folder of the test map.
+	 */
+	private String mapPath;
+
+	/**
+	 * Creates the files of a test map.
+	 *
+	 * @throws IOException
+	 *             Thrown if the files cannot be created.
+	 */
+	@Before
+	public void setUp() throws IOException {
+
+		directory = Files.createTempDirectory("map").toFile();
+		mapPath = directory.getPath() + File.separator;
+
+		Files.write(new File(directory, "default.txt").toPath(), "Country,first".getBytes());
+		Files.write(new File(directory, "countries.png").toPath(), new byte[] { 1, 2, 3 });
+		Files.write(new File(directory, "normal.png").toPath(), new byte[] { 4, 5, 6 });
+	}
+
+	/**
+	 * Deletes the test map.
+	 */
+	@After
+	public void tearDown() {
+
+		for (File file : directory.listFiles()) {
+			file.delete();
+		}
+
+		directory.delete();
+	}
+
+	/**
+	 * Test that the compiled {@link Region}s are read back with the same pixels
+	 * and bounding boxes, but only for what they were compiled from.
+	 *
+	 * @throws IOException
+	 *             Thrown if the bundle cannot be written.
+	 */
+	@Test
+	public void test_readWrite() throws IOException {
+
+		final Region country = create(new int[][] { { 2, 3 }, { 3, 3 }, { 3, 4 } }, 10, 10);
+		final Region continent = create(new int[][] { { 2, 3 }, { 7, 8 } }, 10, 10);
+
+		final MapBundle compiled = MapBundle.read(mapPath);
+
+		assertTrue(compiled.isEmpty());
+
+		compiled.putCountry("first", 0x010203, country);
+		compiled.putContinent("continent", "first-second", continent);
+
+		assertTrue(compiled.isChanged());
+
+		write(compiled);
+
+		final MapBundle bundle = MapBundle.read(mapPath);
+
+		assertFalse(bundle.isEmpty());
+		assertFalse(bundle.isChanged());
+
+		assertSame(bundle.getCountry("first", 0x010204), null);
+		assertSame(bundle.getContinent("continent", "first"), null);
+		assertSame(bundle.getCountry("second", 0x010203), null);
+
+		assertRegion(country, bundle.getCountry("first", 0x010203));
+		assertRegion(continent, bundle.getContinent("continent", "first-second"));
+	}
+
+	/**
+	 * Test that the bundle is not used once one of the map's files has changed.
+	 *
+	 * @throws IOException
+	 *             Thrown if the bundle cannot be written.
+	 */
+	@Test
+	public void test_changedMap() throws IOException {
+
+		final MapBundle compiled = MapBundle.read(mapPath);
+		compiled.putCountry("first", 0x010203, create(new int[][] { { 1, 1 } }, 4, 4));
+		write(compiled);
+
+		assertFalse(MapBundle.read(mapPath).isEmpty());
+
+		Files.write(new File(directory, "countries.png").toPath(), new byte[] { 1, 2, 4 });
+
+		assertTrue(MapBundle.read(mapPath).isEmpty());
+	}
+
+	/**
+	 * Writes a {@link MapBundle} to its file.
+	 *
+	 * @param bundle
+	 *            {@link MapBundle}
+	 */
+	private void write(MapBundle bundle) {
+
+		final SaveQueue saves = new SaveQueue();
+		bundle.writeLater(saves);
+		saves.shutdown();
+
+		assertEquals(1, saves.getNumberWritten());
+	}
+
+	/**
+	 * Creates a {@link Region} from the valid pixels of a space.
+	 *
+	 * @param pixels
+	 *            The x and y of each valid pixel.
+	 * @param width
+	 *            The width of the space.
+	 * @param height
+	 *            The height of the space.
+	 * @return {@link Region}
+	 */
+	private static Region create(int[][] pixels, int width, int height) {
+
+		final boolean[] object = new boolean[width * height];
+
+		for (int[] pixel : pixels) {
+			object[pixel[0] * height + pixel[1]] = true;
+		}
+
+		return new Region(object, width, height);
+	}
+
+	/**
+	 * Asserts that two {@link Region}s have the same pixels and bounding box.
+	 *
+	 * @param expected
+	 *            The expected {@link Region}.
+	 * @param actual
+	 *            The actual {@link Region}.
+	 */
+	private static void assertRegion(Region expected, Region actual) {
+
+		assertNotNull(actual);
+
+		final Point position = actual.getPosition();
+
+		assertEquals(expected.getPosition().x, position.x);
+		assertEquals(expected.getPosition().y, position.y);
+		assertEquals(expected.getWidth(), actual.getWidth());
+		assertEquals(expected.getHeight(), actual.getHeight());
+
+		for (int x = 0; x < expected.getWidth(); x++) {
+			for (int y = 0; y < expected.getHeight(); y++) {
+				final Point point = new Point(position.x + x, position.y + y);
+				assertEquals(expected.isValid(point), actual.isValid(point));
+			}
+		}
+	}
+
+}
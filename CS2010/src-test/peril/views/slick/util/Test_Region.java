@@ -2,11 +2,16 @@ package peril.views.slick.util;
 
 import static org.junit.Assert.*;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.newdawn.slick.opengl.ImageData;
 
 import peril.views.slick.util.Point;
 import peril.views.slick.util.Region;
@@ -16,7 +21,7 @@ import peril.views.slick.util.Region;
  * 
  * @author Joshua_Eddy
  * 
- * @version 1.01.01
+ * @version 1.01.03
  * @since 2018-03-10
  * 
  * @see Region
@@ -170,4 +175,175 @@ public final class Test_Region {
 
 	}
 
+	/**
+	 * Test that the bits of a {@link Region} are stored row by row with each row
+	 * starting at a new word, and that a {@link Region} can be constructed from
+	 * them.
+	 */
+	@Test
+	public void test_bits() {
+
+		// A 70x2 rectangle needs two words for each row.
+		final Region rectangle = new Region(70, 2, new Point(3, 4));
+		final long[] bits = rectangle.getBits();
+
+		assertEquals(2, Region.getWordsPerRow(70));
+		assertEquals(4, bits.length);
+		assertEquals(-1L, bits[2]);
+		assertEquals(0x3FL, bits[3]);
+
+		final Region copy = new Region(bits.clone(), 70, 2, new Point(3, 4));
+
+		assertTrue(copy.isValid(new Point(72, 5)));
+		assertFalse(copy.isValid(new Point(73, 5)));
+		assertTrue(Region.overlap(rectangle, copy));
+
+		try {
+			new Region(new long[3], 70, 2, new Point(0, 0));
+			fail("The number of words does not match the size of the region.");
+		} catch (IllegalArgumentException e) {
+			// Expected
+		}
+	}
+
+	/**
+	 * Test that {@link Region#segment(ImageData, java.util.Set)} builds the
+	 * {@link Region} of each colour across the stripes of an image, ignoring the
+	 * pixels that are not opaque and the colours that are not in the image.
+	 */
+	@Test
+	public void test_segment() {
+
+		final int red = 0xFF0000;
+		final int blue = 0x0000FF;
+		final int green = 0x00FF00;
+
+		// A 3x140 image whose rows are padded to 4 pixels.
+		final TestImage image = new TestImage(3, 140, 4);
+		image.set(0, 0, red, 0xFF);
+		image.set(1, 1, red, 0xFF);
+		image.set(2, 130, red, 0xFF);
+		image.set(0, 139, red, 0x80);
+		image.set(1, 100, blue, 0xFF);
+
+		final Map<Integer, Region> regions = Region.segment(image, new HashSet<>(Arrays.asList(red, blue, green)));
+
+		assertEquals(2, regions.size());
+		assertFalse(regions.containsKey(green));
+
+		final Region redRegion = regions.get(red);
+
+		assertEquals(0, redRegion.getPosition().x);
+		assertEquals(0, redRegion.getPosition().y);
+		assertEquals(3, redRegion.getWidth());
+		assertEquals(131, redRegion.getHeight());
+		assertTrue(redRegion.isValid(new Point(0, 0)));
+		assertTrue(redRegion.isValid(new Point(1, 1)));
+		assertTrue(redRegion.isValid(new Point(2, 130)));
+		assertFalse(redRegion.isValid(new Point(1, 0)));
+		assertFalse(redRegion.isValid(new Point(0, 139)));
+
+		final Region blueRegion = regions.get(blue);
+
+		assertEquals(1, blueRegion.getPosition().x);
+		assertEquals(100, blueRegion.getPosition().y);
+		assertEquals(1, blueRegion.getWidth());
+		assertEquals(1, blueRegion.getHeight());
+	}
+
+	/**
+	 * An RGBA {@link ImageData} whose pixels are set by the test.
+	 */
+	private static final class TestImage implements ImageData {
+
+		/**
+		 * The width of the image.
+		 */
+		private final int width;
+
+		/**
+		 * The height of the image.
+		 */
+		private final int height;
+
+		/**
+		 * The width of each row of the pixels.
+		 */
+		private final int texWidth;
+
+		/**
+		 * The pixels of the image.
+		 */
+		private final ByteBuffer pixels;
+
+		/**
+		 * Constructs a new transparent {@link TestImage}.
+		 * 
+		 * @param width
+		 *            The width of the image.
+		 * @param height
+		 *            The height of the image.
+		 * @param texWidth
+		 *            The width of each row of the pixels.
+		 */
+		private TestImage(int width, int height, int texWidth) {
+			this.width = width;
+			this.height = height;
+			this.texWidth = texWidth;
+			this.pixels = ByteBuffer.allocate(texWidth * height * 4);
+		}
+
+		/**
+		 * Sets the colour of a pixel.
+		 * 
+		 * @param x
+		 *            The x coordinate of the pixel.
+		 * @param y
+		 *            The y coordinate of the pixel.
+		 * @param rgb
+		 *            The packed RGB value of the colour.
+		 * @param alpha
+		 *            The alpha of the colour.
+		 */
+		private void set(int x, int y, int rgb, int alpha) {
+
+			final int offset = (y * texWidth + x) * 4;
+
+			pixels.put(offset, (byte) (rgb >> 16));
+			pixels.put(offset + 1, (byte) (rgb >> 8));
+			pixels.put(offset + 2, (byte) rgb);
+			pixels.put(offset + 3, (byte) alpha);
+		}
+
+		@Override
+		public int getDepth() {
+			return 32;
+		}
+
+		@Override
+		public int getWidth() {
+			return width;
+		}
+
+		@Override
+		public int getHeight() {
+			return height;
+		}
+
+		@Override
+		public int getTexWidth() {
+			return texWidth;
+		}
+
+		@Override
+		public int getTexHeight() {
+			return height;
+		}
+
+		@Override
+		public ByteBuffer getImageBufferData() {
+			return pixels;
+		}
+	}
+
 }
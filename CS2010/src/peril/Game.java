@@ -1,10 +1,19 @@
 package peril;
 
 import java.io.File;
+import java.util.Random;
 
 import peril.ai.AIController;
+import peril.concurrent.ProcessTransfer;
+import peril.concurrent.Simulation;
 import peril.helpers.*;
+import peril.io.Autosave;
+import peril.io.SaveFile;
+import peril.model.EventLog;
+import peril.model.GameState;
+import peril.model.ModelFrame;
 import peril.model.ModelPlayer;
+import peril.model.Replay;
 import peril.model.board.ModelBoard;
 import peril.model.board.ModelContinent;
 import peril.model.states.Attack;
@@ -20,7 +29,7 @@ import peril.views.slick.SlickGame;
  * 
  * @author Joshua_Eddy, James_Rowntree
  * 
- * @version 1.01.04
+ * @version 1.01.14
  * @since 2018-03-16
  *
  */
@@ -58,6 +67,39 @@ public final class Game {
 	 */
 	public final AIHelper aiHelper;
 
+	/**
+	 * The {@link UnitHelper} that holds the units of this game.
+	 */
+	public final UnitHelper units;
+
+	/**
+	 * The {@link PointHelper} that holds the point rewards and costs of this game.
+	 */
+	public final PointHelper points;
+
+	/**
+	 * The {@link ProcessTransfer} that passes actions between the threads of this
+	 * game.
+	 */
+	public final ProcessTransfer transfer;
+
+	/**
+	 * The {@link Simulation} that processes the AIs of this game away from the
+	 * thread that renders it.
+	 */
+	public final Simulation<ModelFrame> simulation;
+
+	/**
+	 * The {@link Random} that decides every chance in this game.
+	 */
+	public final Random random;
+
+	/**
+	 * The {@link EventLog} that records every action that changes the state of
+	 * this game.
+	 */
+	public final EventLog events;
+
 	/**
 	 * The {@link GameController} that allows the {@link View} to interact with the
 	 * {@link Game}.
@@ -75,20 +117,40 @@ public final class Game {
 	 */
 	private int currentRound;
 
+	/**
+	 * The {@link GameState} when the recording of this {@link Game} started or
+	 * <code>null</code> if it is not being recorded.
+	 */
+	private GameState recordingStart;
+
+	/**
+	 * The position in {@link #events} of the first event after
+	 * {@link #recordingStart}.
+	 */
+	private int recordingPosition;
+
+	/**
+	 * The {@link Autosave} that saves this {@link Game} at the end of every turn
+	 * or <code>null</code> if it is not autosaved.
+	 */
+	private Autosave autosave;
+
 	/**
 	 * Constructs a new {@link Game}.
 	 *
 	 *@param view
 	 *		The current view of the game.
 	 */
-	private Game(View view) {
+	Game(View view) {
 
 		this.view = view;
-		// Holds the path of the peril assets
-		final StringBuilder assetsPath = new StringBuilder(new File(System.getProperty("user.dir")).getPath())
-				.append(File.separatorChar).append("assets");
-
-		this.assets = new DirectoryHelper(assetsPath.toString());
+		this.assets = new DirectoryHelper(getAssetsPath());
+		this.units = new UnitHelper();
+		this.points = new PointHelper();
+		this.transfer = new ProcessTransfer();
+		this.simulation = new Simulation<>("Simulation");
+		this.random = new Random();
+		this.events = new EventLog();
 		this.game = new GameHandler(this);
 		this.ai = new AIHandler(this);
 		this.board = new ModelBoard("NOT ASSIGNED");
@@ -104,6 +166,7 @@ public final class Game {
 
 		// Set the initial round to zero
 		this.currentRound = 0;
+		this.autosave = null;
 
 	}
 
@@ -130,10 +193,39 @@ public final class Game {
 	 * Runs the game.
 	 * 
 	 * @param args
-	 *            Unused.
+	 *            Empty to play the game in a window, the arguments of
+	 *            {@link Tournament#fromArguments(String[])} to play AI games
+	 *            without a display or the arguments of
+	 *            {@link Autosave#recoverFromArguments(String[], Directory)} to
+	 *            recover an autosaved game.
 	 */
 	public static void main(String[] args) {
 
+		// Play a tournament without a window if the headless argument is specified.
+		if (args.length > 0 && Tournament.ARGUMENT.equals(args[0])) {
+
+			try {
+				Tournament.fromArguments(args).start();
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+
+			return;
+		}
+
+		// Recover an autosaved game into a save slot if the recover argument is specified.
+		if (args.length > 0 && Autosave.ARGUMENT.equals(args[0])) {
+
+			try {
+				final SaveFile file = Autosave.recoverFromArguments(args, new DirectoryHelper(getAssetsPath()));
+				System.out.println("Recovered " + args[1] + " into " + file.name);
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+
+			return;
+		}
+
 		// Create the instance of the game.
 		Game peril = new Game(new SlickGame("PERIL"));
 
@@ -141,6 +233,17 @@ public final class Game {
 
 	}
 
+	/**
+	 * Retrieves the path of the peril assets, which are in the directory the game
+	 * is run from.
+	 *
+	 * @return <code>String</code>
+	 */
+	private static String getAssetsPath() {
+		return new StringBuilder(new File(System.getProperty("user.dir")).getPath()).append(File.separatorChar)
+				.append("assets").toString();
+	}
+
 	/**
 	 * Starts the {@link Game}.
 	 */
@@ -202,11 +305,73 @@ public final class Game {
 		}
 	}
 
+	/**
+	 * Seeds the {@link Random} of this {@link Game} and starts a new
+	 * {@link EventLog} so the game that follows can be replayed. The trades and
+	 * blockades made on the board are not recorded until the game starts
+	 * recording, so loading a save does not record them.
+	 * 
+	 * @param seed
+	 *            The seed of the {@link Random}.
+	 */
+	public void reseed(long seed) {
+		random.setSeed(seed);
+		events.reset(seed);
+		board.setEventLog(null);
+		recordingStart = null;
+	}
+
+	/**
+	 * Starts recording this {@link Game} from its current state so that it can be
+	 * replayed.
+	 * 
+	 * @param start
+	 *            The {@link GameState} of this {@link Game} now.
+	 */
+	public void startRecording(GameState start) {
+		recordingStart = start;
+		recordingPosition = events.size();
+		board.setEventLog(events);
+	}
+
+	/**
+	 * Retrieves the {@link Replay} of this {@link Game} from when it started
+	 * recording up to now.
+	 * 
+	 * @return {@link Replay} or <code>null</code> if this {@link Game} is not
+	 *         being recorded.
+	 */
+	public Replay getReplay() {
+		return recordingStart == null ? null : new Replay(recordingStart, events, recordingPosition);
+	}
+
+	/**
+	 * Sets the {@link Autosave} that saves this {@link Game} at the end of every
+	 * turn.
+	 * 
+	 * @param autosave
+	 *            {@link Autosave} or <code>null</code> to stop autosaving.
+	 */
+	public void setAutosave(Autosave autosave) {
+		this.autosave = autosave;
+	}
+
+	/**
+	 * Retrieves the {@link Autosave} of this {@link Game}.
+	 * 
+	 * @return {@link Autosave} or <code>null</code> if this {@link Game} is not
+	 *         autosaved.
+	 */
+	public Autosave getAutosave() {
+		return autosave;
+	}
+
 	/**
 	 * Performs all the tasks that occur at the end of a round.
 	 */
 	public void endRound() {
-		board.endRound();
+		board.endRound(random, events);
 		currentRound++;
+		events.round(currentRound);
 	}
 }
@@ -1,13 +1,23 @@
 package peril;
 
 import java.util.List;
+import java.util.Random;
 import java.util.function.Consumer;
 
 import peril.ai.AIController;
+import peril.concurrent.ProcessTransfer;
+import peril.concurrent.Simulation;
 import peril.helpers.AIHelper;
+import peril.helpers.PointHelper;
+import peril.helpers.UnitHelper;
+import peril.io.Autosave;
+import peril.model.EventLog;
+import peril.model.ModelFrame;
 import peril.model.ModelPlayer;
+import peril.model.Replay;
 import peril.model.board.ModelBoard;
 import peril.model.board.ModelCountry;
+import peril.model.board.ZobristHash;
 import peril.model.states.Attack;
 import peril.model.states.Fortify;
 import peril.model.states.ModelState;
@@ -22,7 +32,7 @@ import peril.views.View;
  * 
  * @author Joshua_Eddy, James_Rowntree
  * 
- * @version 1.01.03
+ * @version 1.01.10
  * @since 2018-02-06
  *
  */
@@ -285,6 +295,17 @@ public interface GameController {
 	 */
 	void processAI(int delta);
 
+	/**
+	 * Submits the next steps of the current AI to the {@link Simulation} so that
+	 * they are processed away from the thread that renders the game. This must be
+	 * called by the render thread, which it makes wait for the previous steps.
+	 * 
+	 * @param delta
+	 *            The amount of milliseconds that have passed since the last time
+	 *            this method was called.
+	 */
+	void simulateAI(int delta);
+
 	/**
 	 * Retrieves the current {@link ModelState} of the game.
 	 * 
@@ -301,4 +322,85 @@ public interface GameController {
 	 */
 	AIHelper getAIs();
 
+	/**
+	 * Retrieves the {@link UnitHelper} that holds the units of this game.
+	 * 
+	 * @return {@link UnitHelper}
+	 */
+	UnitHelper getUnitHelper();
+
+	/**
+	 * Retrieves the {@link PointHelper} that holds the point rewards and costs of
+	 * this game.
+	 * 
+	 * @return {@link PointHelper}
+	 */
+	PointHelper getPointHelper();
+
+	/**
+	 * Retrieves the {@link ProcessTransfer} that passes actions between the
+	 * threads of this game.
+	 * 
+	 * @return {@link ProcessTransfer}
+	 */
+	ProcessTransfer getProcessTransfer();
+
+	/**
+	 * Retrieves the {@link Simulation} that processes the AIs of this game away
+	 * from the thread that renders it.
+	 * 
+	 * @return {@link Simulation}
+	 */
+	Simulation<ModelFrame> getSimulation();
+
+	/**
+	 * Retrieves the {@link EventLog} that records every action that changes the
+	 * state of this game.
+	 * 
+	 * @return {@link EventLog}
+	 */
+	EventLog getEventLog();
+
+	/**
+	 * Retrieves the {@link Random} that decides every chance in this game, which
+	 * is seeded each time the game is reset.
+	 * 
+	 * @return {@link Random}
+	 */
+	Random getRandom();
+
+	/**
+	 * Starts recording the game from its current state. This is called once the
+	 * players are in place, either at the end of the set up or after a save is
+	 * loaded.
+	 */
+	void startRecording();
+
+	/**
+	 * Retrieves the {@link Replay} of the game from when it started recording.
+	 * 
+	 * @return {@link Replay} or <code>null</code> if the game is not being
+	 *         recorded.
+	 */
+	Replay getReplay();
+
+	/**
+	 * Retrieves the {@link ZobristHash} of the board combined with the current
+	 * player and phase. The hash of the board is kept up to date as it changes so
+	 * this does not walk the board.
+	 * 
+	 * @return <code>long</code>
+	 */
+	long getStateHash();
+
+	/**
+	 * Sets the {@link Autosave} that saves the game at the end of every turn. The
+	 * {@link Autosave} starts a new directory from its first turn whenever the
+	 * game is reset.
+	 * 
+	 * @param autosave
+	 *            {@link Autosave} or <code>null</code> to stop autosaving.
+	 */
+	void setAutosave(Autosave autosave);
+
 }
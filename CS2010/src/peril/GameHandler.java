@@ -4,16 +4,27 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.PrintWriter;
 import java.util.List;
+import java.util.Random;
 import java.util.function.Consumer;
 
 import peril.ai.AI;
 import peril.ai.AIController;
+import peril.concurrent.Action;
+import peril.concurrent.ProcessTransfer;
+import peril.concurrent.Simulation;
 import peril.helpers.AIHelper;
 import peril.helpers.ModelStateHelper;
+import peril.helpers.PointHelper;
 import peril.helpers.UnitHelper;
+import peril.io.Autosave;
+import peril.model.EventLog;
+import peril.model.GameState;
+import peril.model.ModelFrame;
 import peril.model.ModelPlayer;
+import peril.model.Replay;
 import peril.model.board.ModelBoard;
 import peril.model.board.ModelCountry;
+import peril.model.board.ZobristHash;
 import peril.model.states.Attack;
 import peril.model.states.Fortify;
 import peril.model.states.ModelState;
@@ -27,7 +38,7 @@ import peril.views.View;
  * 
  * @author Joshua_Eddy
  * 
- * @version 1.01.04
+ * @version 1.01.12
  * @since 2018-03-04
  * 
  * @see GameController
@@ -40,6 +51,19 @@ public final class GameHandler implements GameController {
 	 */
 	private final Game game;
 
+	/**
+	 * The newest {@link ModelFrame} the thread that renders the game has taken from
+	 * the {@link Simulation} or <code>null</code> if the view has already left the
+	 * {@link ModelState} it was published in.
+	 */
+	private ModelFrame frame;
+
+	/**
+	 * Whether the current {@link AI} left the state it was in during its last
+	 * step.
+	 */
+	private boolean left;
+
 	/**
 	 * Constructs a new {@link GameHandler}.
 	 * 
@@ -49,6 +73,8 @@ public final class GameHandler implements GameController {
 	 */
 	public GameHandler(Game game) {
 		this.game = game;
+		this.frame = null;
+		this.left = false;
 	}
 
 	@Override
@@ -72,7 +98,18 @@ public final class GameHandler implements GameController {
 		game.setRoundNumber(0);
 
 		// Remove all the units.
-		UnitHelper.getInstance().clear();
+		game.units.clear();
+
+		// Each game starts out of turbo.
+		game.aiHelper.stopTurbo();
+
+		// Each game is recorded from the start with a new seed.
+		game.reseed(game.random.nextLong());
+
+		// Each game is autosaved from its first turn.
+		if (game.getAutosave() != null) {
+			game.getAutosave().reset();
+		}
 	}
 
 	@Override
@@ -123,6 +160,7 @@ public final class GameHandler implements GameController {
 	@Override
 	public void nextPlayer() {
 		game.players.nextPlayer();
+		game.events.turn(game.players.getCurrent().number);
 	}
 
 	@Override
@@ -201,6 +239,9 @@ public final class GameHandler implements GameController {
 
 	public void confirmSetup() {
 
+		// The game is recorded from the end of the set up.
+		startRecording();
+
 		// Checks the ownership of the continents
 		checkContinentRulership();
 
@@ -219,6 +260,8 @@ public final class GameHandler implements GameController {
 		// Enter the reinforce state
 		game.view.enterReinforce();
 
+		autosave();
+
 		// Call the garbage collector
 		System.gc();
 	}
@@ -234,9 +277,37 @@ public final class GameHandler implements GameController {
 		game.view.addLoser(player);
 	}
 
+	/**
+	 * Performs up to {@link AIHelper#getSteps()} steps of the current {@link AI}.
+	 * Only the first step is given the elapsed time of the frame. The steps stop
+	 * early when the {@link AI} leaves its current state, when there is a winner
+	 * or when they have taken {@link AIHelper#TURBO_BUDGET} milliseconds, as the
+	 * {@link View} only changes state between frames.
+	 */
 	@Override
 	public void processAI(int delta) {
 
+		final int steps = game.aiHelper.getSteps();
+		final long end = System.nanoTime() + AIHelper.TURBO_BUDGET * 1_000_000L;
+
+		left = false;
+
+		boolean again = processAIStep(delta);
+
+		for (int step = 1; again && step < steps && System.nanoTime() < end; step++) {
+			again = processAIStep(0);
+		}
+	}
+
+	/**
+	 * Performs one step of the current {@link AI} in the current state.
+	 * 
+	 * @param delta
+	 *            The time (in milliseconds) that has elapsed since the last step.
+	 * @return Whether the {@link AI} can perform another step in the same state.
+	 */
+	private boolean processAIStep(int delta) {
+
 		if (getCurrentModelPlayer().ai != AI.USER && !game.view.isPaused()) {
 
 			final View view = game.view;
@@ -251,12 +322,16 @@ public final class GameHandler implements GameController {
 
 					if (!current.ai.reinforce(delta)) {
 						view.enterCombat();
+						left = true;
+						return false;
 					}
 
 				} else if (view.isCurrentState(states.attack)) {
 
 					if (!current.ai.attack(delta)) {
 						view.enterFortify();
+						left = true;
+						return false;
 					}
 
 				} else if (view.isCurrentState(states.fortify)) {
@@ -264,8 +339,17 @@ public final class GameHandler implements GameController {
 					if (!current.ai.fortify(delta)) {
 						view.enterReinforce();
 						nextPlayer();
+						autosave();
+						left = true;
+						return false;
 					}
+				} else {
+					return false;
 				}
+
+				// The game is over once there is only one player left.
+				return game.players.numberOfPlayers() > 1;
+
 			} catch (Exception e) {
 
 				game.view.showToolTip("AI Error: " + e.getMessage());
@@ -278,6 +362,61 @@ public final class GameHandler implements GameController {
 			}
 
 		}
+
+		return false;
+	}
+
+	/**
+	 * Submits the steps of the current {@link AI} as a command to the
+	 * {@link Simulation}, once the steps before them have finished. After an
+	 * {@link AI} leaves a state its next steps wait until the {@link View} has
+	 * entered the next state, as the {@link View} only changes state between
+	 * frames.
+	 */
+	@Override
+	public void simulateAI(int delta) {
+
+		final Simulation<ModelFrame> simulation = game.simulation;
+
+		// The model is not changed by both threads at once.
+		simulation.await();
+
+		final ModelFrame latest = simulation.take();
+
+		if (latest != null) {
+			frame = latest;
+		}
+
+		final ModelState state = getCurrentState();
+
+		// Once the view has left the state of the frame, the frame is out of date.
+		if (frame != null && frame.state != state) {
+			frame = null;
+		}
+
+		if (state == null || getCurrentModelPlayer().ai == AI.USER || game.view.isPaused()) {
+			return;
+		} else if (frame != null && frame.left) {
+			return;
+		}
+
+		simulation.submit(new Action<GameHandler>(this, handler -> handler.stepAI(state, delta)));
+	}
+
+	/**
+	 * Performs the steps of the current {@link AI} on the {@link Simulation}
+	 * thread and publishes the {@link ModelFrame} they leave behind.
+	 * 
+	 * @param state
+	 *            The {@link ModelState} the steps are performed in.
+	 * @param delta
+	 *            The time (in milliseconds) that has elapsed since the last steps.
+	 */
+	private void stepAI(ModelState state, int delta) {
+
+		processAI(delta);
+
+		game.simulation.publish(new ModelFrame(state, left));
 	}
 
 	@Override
@@ -315,4 +454,67 @@ public final class GameHandler implements GameController {
 		return game.aiHelper;
 	}
 
+	@Override
+	public UnitHelper getUnitHelper() {
+		return game.units;
+	}
+
+	@Override
+	public PointHelper getPointHelper() {
+		return game.points;
+	}
+
+	@Override
+	public ProcessTransfer getProcessTransfer() {
+		return game.transfer;
+	}
+
+	@Override
+	public Simulation<ModelFrame> getSimulation() {
+		return game.simulation;
+	}
+
+	@Override
+	public EventLog getEventLog() {
+		return game.events;
+	}
+
+	@Override
+	public Random getRandom() {
+		return game.random;
+	}
+
+	@Override
+	public void startRecording() {
+		game.startRecording(GameState.capture(this));
+	}
+
+	@Override
+	public Replay getReplay() {
+		return game.getReplay();
+	}
+
+	@Override
+	public long getStateHash() {
+
+		final ModelPlayer current = game.players.getCurrent();
+		final int phase = game.states.getPhase(getCurrentState());
+
+		return game.board.getHash() ^ ZobristHash.turn(current == null ? 0 : current.number, phase);
+	}
+
+	@Override
+	public void setAutosave(Autosave autosave) {
+		game.setAutosave(autosave);
+	}
+
+	/**
+	 * Saves the turn that has just ended if the game is autosaved.
+	 */
+	private void autosave() {
+		if (game.getAutosave() != null) {
+			game.getAutosave().turnEnded(this);
+		}
+	}
+
 }
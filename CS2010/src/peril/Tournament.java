@@ -0,0 +1,302 @@
+package peril;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import peril.ai.AI;
+import peril.io.Autosave;
+import peril.io.SaveQueue;
+import peril.views.headless.EloRatings;
+import peril.views.headless.HeadlessGame;
+import peril.views.headless.ResultAccumulator;
+import peril.views.headless.ResultSink;
+
+/**
+ * Plays many independent {@link AI} games on one map in parallel across all the
+ * cores of the machine. The games are split into batches and each batch is
+ * played by its own {@link Game} with a {@link HeadlessGame} view. As every
+ * {@link Game} holds its own units, points and process transfer, the batches
+ * share no state. The totals of each batch are kept in its own
+ * {@link ResultAccumulator} and only merged once all the batches are finished,
+ * while every game is passed to one {@link ResultSink} that rates the
+ * {@link AI}s and can stream each game to a CSV file.<br>
+ * <br>
+ * An autosaved {@link Tournament} saves every turn of each batch with an
+ * {@link Autosave} so that a long run that crashes can be recovered.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-23
+ * @version 1.01.10
+ *
+ * @see HeadlessGame
+ *
+ */
+public final class Tournament {
+
+	/**
+	 * The argument that specifies that the game should be headless.
+	 */
+	public static final String ARGUMENT = "-headless";
+
+	/**
+	 * The argument that precedes the CSV file the result of each game is
+	 * appended to.
+	 */
+	public static final String CSV_ARGUMENT = "-csv";
+
+	/**
+	 * The argument that specifies that every turn of the games should be
+	 * autosaved.
+	 */
+	public static final String AUTOSAVE_ARGUMENT = "-autosave";
+
+	/**
+	 * The maximum number of games that one {@link Game} will play. Small batches
+	 * keep all the threads busy until the end of the {@link Tournament}.
+	 */
+	private static final int BATCH_SIZE = 25;
+
+	/**
+	 * The start of the name of the directory each batch is autosaved to, which
+	 * ends with the number of the batch.
+	 */
+	private static final String BATCH_DIRECTORY = "batch";
+
+	/**
+	 * The name of the map that every game will be played on.
+	 */
+	private final String mapName;
+
+	/**
+	 * The names of the {@link AI}s that control each player in order of player
+	 * number.
+	 */
+	private final String[] aiNames;
+
+	/**
+	 * The number of games that will be played.
+	 */
+	private final int numberOfGames;
+
+	/**
+	 * The maximum number of rounds a game will be played for.
+	 */
+	private final int maxRounds;
+
+	/**
+	 * The number of threads the games are played on.
+	 */
+	private final int threads;
+
+	/**
+	 * The CSV file the result of each game is appended to or <code>null</code> if
+	 * the results are not kept.
+	 */
+	private final File resultFile;
+
+	/**
+	 * Whether every turn of the games is autosaved.
+	 */
+	private boolean autosaved;
+
+	/**
+	 * Constructs a new {@link Tournament}.
+	 *
+	 * @param mapName
+	 *            The name of the map that every game will be played on.
+	 * @param numberOfGames
+	 *            The number of games that will be played.
+	 * @param maxRounds
+	 *            The maximum number of rounds a game will be played for.
+	 * @param threads
+	 *            The number of threads the games are played on.
+	 * @param aiNames
+	 *            The names of the {@link AI}s that control each player.
+	 */
+	public Tournament(String mapName, int numberOfGames, int maxRounds, int threads, String... aiNames) {
+		this(mapName, numberOfGames, maxRounds, threads, null, aiNames);
+	}
+
+	/**
+	 * Constructs a new {@link Tournament} that appends the result of each game to
+	 * a CSV file.
+	 *
+	 * @param mapName
+	 *            The name of the map that every game will be played on.
+	 * @param numberOfGames
+	 *            The number of games that will be played.
+	 * @param maxRounds
+	 *            The maximum number of rounds a game will be played for.
+	 * @param threads
+	 *            The number of threads the games are played on.
+	 * @param resultFile
+	 *            The CSV file the result of each game is appended to or
+	 *            <code>null</code>.
+	 * @param aiNames
+	 *            The names of the {@link AI}s that control each player.
+	 */
+	public Tournament(String mapName, int numberOfGames, int maxRounds, int threads, File resultFile,
+			String... aiNames) {
+
+		if (threads < 1) {
+			throw new IllegalArgumentException(threads + " is not a valid number of threads.");
+		}
+
+		// Check the rest of the arguments are valid.
+		new HeadlessGame(mapName, numberOfGames, maxRounds, aiNames);
+
+		this.mapName = mapName;
+		this.numberOfGames = numberOfGames;
+		this.maxRounds = maxRounds;
+		this.threads = threads;
+		this.resultFile = resultFile;
+		this.aiNames = aiNames.clone();
+		this.autosaved = false;
+	}
+
+	/**
+	 * Sets whether every turn of the games of this {@link Tournament} is
+	 * autosaved. Each batch is autosaved into its own directory, named after the
+	 * batch, within the {@link Autosave#DIRECTORY} of the map.
+	 *
+	 * @param autosaved
+	 *            Whether the games are autosaved.
+	 */
+	public void setAutosaved(boolean autosaved) {
+		this.autosaved = autosaved;
+	}
+
+	/**
+	 * Constructs a new {@link Tournament} from the command line arguments of the
+	 * game that uses all the available processors.
+	 *
+	 * @param args
+	 *            <code>-headless map games ai ai [ai] [ai] [-csv file] [-autosave]</code>
+	 *            where the number of games is optionally followed by
+	 *            <code>:maxRounds</code>.
+	 * @return {@link Tournament}
+	 */
+	public static Tournament fromArguments(String[] args) {
+
+		if (args.length < 5 || !ARGUMENT.equals(args[0])) {
+			throw new IllegalArgumentException("Usage: " + ARGUMENT
+					+ " <map> <games>[:<max rounds>] <ai> <ai> [<ai>] [<ai>] [" + CSV_ARGUMENT + " <file>] ["
+					+ AUTOSAVE_ARGUMENT + "]");
+		}
+
+		final String[] games = args[2].split(":");
+
+		final int numberOfGames;
+		final int maxRounds;
+
+		try {
+			numberOfGames = Integer.parseInt(games[0]);
+			maxRounds = games.length > 1 ? Integer.parseInt(games[1]) : HeadlessGame.DEFAULT_MAX_ROUNDS;
+		} catch (Exception e) {
+			throw new IllegalArgumentException(args[2] + " is not a valid number of games.");
+		}
+
+		final List<String> aiNames = new ArrayList<>();
+		File resultFile = null;
+		boolean autosaved = false;
+
+		// The options may follow the AIs.
+		for (int index = 3; index < args.length; index++) {
+			if (CSV_ARGUMENT.equals(args[index]) && index + 1 < args.length) {
+				resultFile = new File(args[++index]);
+			} else if (AUTOSAVE_ARGUMENT.equals(args[index])) {
+				autosaved = true;
+			} else {
+				aiNames.add(args[index]);
+			}
+		}
+
+		final Tournament tournament = new Tournament(args[1], numberOfGames, maxRounds,
+				Runtime.getRuntime().availableProcessors(), resultFile, aiNames.toArray(new String[aiNames.size()]));
+
+		tournament.setAutosaved(autosaved);
+
+		return tournament;
+	}
+
+	/**
+	 * Plays all the games of this {@link Tournament} and then prints the totals
+	 * and rating of each {@link AI}, the totals of each pairing of {@link AI}s and
+	 * the number of games played per second.
+	 *
+	 * @throws IOException
+	 *             Thrown if the CSV file cannot be written.
+	 */
+	public void start() throws IOException {
+
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		final List<Future<HeadlessGame>> batches = new ArrayList<>();
+		final ResultAccumulator results = new ResultAccumulator();
+		final SaveQueue autosaves = autosaved ? new SaveQueue() : null;
+
+		final long start = System.nanoTime();
+
+		try (ResultSink sink = resultFile == null ? new ResultSink(null) : ResultSink.toFile(resultFile)) {
+
+			// Split the games into batches that each have their own game.
+			for (int remaining = numberOfGames; remaining > 0; remaining -= BATCH_SIZE) {
+
+				final HeadlessGame view = new HeadlessGame(mapName, Math.min(remaining, BATCH_SIZE), maxRounds, sink,
+						aiNames);
+
+				view.setAutosave(autosaves, BATCH_DIRECTORY + batches.size());
+
+				// The games already share the cores between them.
+				view.setSearchParallelism(Math.max(1, Runtime.getRuntime().availableProcessors() / threads));
+
+				batches.add(executor.submit(() -> {
+					new Game(view).start();
+					return view;
+				}));
+			}
+
+			executor.shutdown();
+
+			// Merge the results of each batch.
+			for (Future<HeadlessGame> batch : batches) {
+				try {
+					results.merge(batch.get().getResults());
+				} catch (Exception e) {
+					throw new IllegalStateException("A batch of games failed.", e);
+				}
+			}
+
+			// Wait for the last turns to be autosaved.
+			if (autosaves != null) {
+				autosaves.shutdown();
+			}
+
+			final double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+			System.out.println("Played " + results.getGames() + " games on " + mapName + " using " + threads
+					+ " threads in " + String.format("%.2f", seconds) + "s ("
+					+ String.format("%.2f", results.getGames() / seconds) + " games/s), " + results.getDraws()
+					+ " draws");
+
+			final EloRatings ratings = sink.getRatings();
+
+			results.forEachAI((name, totals) -> System.out.println(String.format(
+					"%s: elo %.0f, won %d of %d (%.1f%%), %.1f rounds, %.1f units killed, %.1f countries taken, "
+							+ "%.1f points spent",
+					name, ratings.getRating(name), totals.getWins(), totals.getGames(), totals.getWinRate() * 100,
+					totals.getAverageRounds(), totals.getAverageUnitsKilled(), totals.getAverageCountriesTaken(),
+					totals.getAveragePointsSpent())));
+
+			results.forEachPairing((pairing, totals) -> System.out.println(String.format(
+					"%s: won %d of %d (%.1f%%), %.1f rounds", pairing, totals.getWins(), totals.getGames(),
+					totals.getWinRate() * 100, totals.getAverageRounds())));
+		}
+	}
+
+}
@@ -21,7 +21,7 @@ import peril.ai.api.Player;
  * @author Joshua_Eddy
  * 
  * @since 2018-03-08
- * @version 1.01.02
+ * @version 1.01.06
  * 
  * @see AIController
  *
@@ -55,6 +55,14 @@ public abstract class AI {
 	 */
 	public static final int MAX_SPEED = 100;
 
+	/**
+	 * The speed at which an {@link AI} performs one operation every time it is
+	 * invoked without waiting. The time that has elapsed between invocations is
+	 * ignored and each operation is processed on the invoking thread so that games
+	 * between {@link AI}s are limited only by the speed of the processor.
+	 */
+	public static final int SIMULATION_SPEED = 0;
+
 	/**
 	 * The name of this {@link AI}.
 	 */
@@ -98,9 +106,11 @@ public abstract class AI {
 	private final Function<AIOperation, Boolean> completeFortify;
 
 	/**
-	 * The {@link Executor} that performs the {@link AI} operations.
+	 * The {@link Executor} that performs the {@link AI} operations. This is only
+	 * created when this {@link AI} first performs an operation that is not at
+	 * {@link #SIMULATION_SPEED}.
 	 */
-	private final ExecutorService executor;
+	private ExecutorService executor;
 
 	/**
 	 * The number of milliseconds that this {@link AI} will wait before performing
@@ -110,8 +120,8 @@ public abstract class AI {
 
 	/**
 	 * The number of milliseconds between each action of this {@link AI}. If this is
-	 * zero or lower then the then the {@link AI} will perform its actions at the
-	 * frame rate of the display.
+	 * {@link #SIMULATION_SPEED} then the {@link AI} will perform one action every
+	 * time it is invoked.
 	 */
 	private int speed;
 
@@ -127,8 +137,8 @@ public abstract class AI {
 	 *            The name of this {@link AI}.
 	 * @param defaultSpeed
 	 *            The number of milliseconds between each action of this {@link AI}.
-	 *            If this is zero or lower then the then the {@link AI} will perform
-	 *            its actions at the frame rate of the display.
+	 *            If this is {@link #SIMULATION_SPEED} then the {@link AI} will
+	 *            perform one action every time it is invoked.
 	 * @param api
 	 *            The {@link AIController} that this {@link AI} will use to query
 	 *            the state of the game.
@@ -139,7 +149,7 @@ public abstract class AI {
 		this.api = api;
 		setSpeed(defaultSpeed);
 		this.future = null;
-		this.executor = Executors.newSingleThreadExecutor();
+		this.executor = null;
 
 		// The function that will be called when the reinforce function is completed.
 		this.completeReinforce = result -> {
@@ -222,7 +232,7 @@ public abstract class AI {
 			return false;
 		}
 
-		wait -= delta;
+		elapse(delta);
 		return performOperation(reinforce, completeReinforce);
 	}
 
@@ -237,7 +247,7 @@ public abstract class AI {
 	 */
 	public final boolean attack(int delta) {
 
-		wait -= delta;
+		elapse(delta);
 		return performOperation(attack, completeAttack);
 
 	}
@@ -253,7 +263,7 @@ public abstract class AI {
 	 */
 	public final boolean fortify(int delta) {
 
-		wait -= delta;
+		elapse(delta);
 		return performOperation(fortify, completeFortify);
 
 	}
@@ -262,15 +272,17 @@ public abstract class AI {
 	 * Set the number of milliseconds between each action of this {@link AI}.
 	 * 
 	 * @param speed
-	 *            The new speed of the {@link AI}.
+	 *            The new speed of the {@link AI}. This must be
+	 *            {@link #SIMULATION_SPEED} or at least {@link #MAX_SPEED}.
 	 */
 	public final void setSpeed(int speed) {
-		if (speed < MAX_SPEED) {
-			throw new IllegalArgumentException(
-					speed + " is not a valid speed. The specified speed must be greater than " + MAX_SPEED + ".");
+		if (speed != SIMULATION_SPEED && speed < MAX_SPEED) {
+			throw new IllegalArgumentException(speed + " is not a valid speed. The specified speed must be "
+					+ SIMULATION_SPEED + " or at least " + MAX_SPEED + ".");
 		}
 
 		this.speed = speed;
+		this.wait = Math.min(wait, speed);
 	}
 
 	/**
@@ -282,6 +294,20 @@ public abstract class AI {
 		return speed;
 	}
 
+	/**
+	 * Stops the thread that performs the operations of this {@link AI}. If this
+	 * {@link AI} is used again a new thread will be created when it is required.
+	 */
+	public final void shutdown() {
+
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+
+		future = null;
+	}
+
 	/**
 	 * Perform the reinforce operation using the specified {@link AIController}.
 	 * This operation should be specific to the specialised instance of the
@@ -432,6 +458,14 @@ public abstract class AI {
 
 			}
 
+		}
+		// Perform the operation immediately on this thread.
+		else if (speed == SIMULATION_SPEED) {
+
+			api.clearSelected();
+
+			return onComplete.apply(performNow(operation));
+
 		}
 		// If the AI has waited the time between operations.
 		else if (wait <= 0) {
@@ -439,10 +473,48 @@ public abstract class AI {
 			wait = speed;
 			api.clearSelected();
 
+			// Create the executor the first time it is needed.
+			if (executor == null) {
+				executor = Executors.newSingleThreadExecutor();
+			}
+
 			future = executor.submit(operation);
 
 		}
 
 		return true;
 	}
+
+	/**
+	 * Advances the logical clock of this {@link AI} by the specified time. At
+	 * {@link #SIMULATION_SPEED} the elapsed time is ignored so that the pace of the
+	 * {@link AI} does not depend on how often it is invoked.
+	 * 
+	 * @param delta
+	 *            The time (in milliseconds) that has elapsed since the last time
+	 *            this {@link AI} was invoked.
+	 */
+	private void elapse(int delta) {
+		if (speed != SIMULATION_SPEED) {
+			wait -= delta;
+		}
+	}
+
+	/**
+	 * Performs the specified {@link Callable} operation on the current thread.
+	 * 
+	 * @param operation
+	 *            The {@link Callable} that contains the AIs calculations.
+	 * @return The {@link AIOperation} result of the operation.
+	 */
+	private AIOperation performNow(Callable<AIOperation> operation) {
+
+		try {
+			return operation.call();
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IllegalStateException(name + " failed to perform an operation.", e);
+		}
+	}
 }
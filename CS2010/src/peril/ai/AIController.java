@@ -9,6 +9,7 @@ import peril.ai.api.Country;
 import peril.ai.api.Player;
 import peril.ai.api.Points;
 import peril.ai.api.Unit;
+import peril.model.GameState;
 
 /**
  * The API for all AI interactions with the game. This API is unable to directly
@@ -17,7 +18,7 @@ import peril.ai.api.Unit;
  * 
  * @author Joshua_Eddy
  * 
- * @version 1.01.04
+ * @version 1.01.09
  * @since 2018-02-21
  *
  */
@@ -196,4 +197,67 @@ public interface AIController {
 	 * 
 	 */
 	Board getBoard();
+
+	/**
+	 * Retrieves the {@link Country} with the specified {@link Country#getId()}.
+	 * 
+	 * @param id
+	 *            The id of the {@link Country}.
+	 * @return {@link Country}
+	 */
+	Country getCountry(int id);
+
+	/**
+	 * Retrieves the {@link Army#getStrength()} of every {@link Country} on the
+	 * {@link Board} indexed by {@link Country#getId()}.
+	 * 
+	 * @return A new array of army strengths.
+	 */
+	int[] getArmyStrengths();
+
+	/**
+	 * Retrieves the {@link Player#getNumber()} of the owner of every
+	 * {@link Country} on the {@link Board} indexed by {@link Country#getId()}. A
+	 * {@link Country} that is not ruled has an owner of zero.
+	 * 
+	 * @return A new array of owners.
+	 */
+	int[] getOwners();
+
+	/**
+	 * Retrieves the combined {@link Army#getStrength()} of every neighbour of each
+	 * {@link Country} that is not owned by the owner of that {@link Country},
+	 * indexed by {@link Country#getId()}.
+	 * 
+	 * @return A new array of enemy neighbour strengths.
+	 */
+	int[] getEnemyNeighbourStrengths();
+
+	/**
+	 * Retrieves the offsets of each {@link Country}'s neighbours in
+	 * {@link #getNeighbourIds()}. The ids of the neighbours of the {@link Country}
+	 * with id <code>i</code> are between <code>offsets[i]</code> and
+	 * <code>offsets[i + 1]</code>.
+	 * 
+	 * @return A new array of length {@link Board#getNumberOfCountries()} + 1.
+	 */
+	int[] getNeighbourOffsets();
+
+	/**
+	 * Retrieves the {@link Country#getId()} of the neighbours of every
+	 * {@link Country} on the {@link Board}.
+	 * 
+	 * @return A new array of neighbour ids.
+	 * @see #getNeighbourOffsets()
+	 */
+	int[] getNeighbourIds();
+
+	/**
+	 * Captures the {@link GameState} of the game, which can be forked to look
+	 * ahead without changing the game.
+	 * 
+	 * @return A new {@link GameState}.
+	 */
+	GameState getGameState();
+
 }
@@ -0,0 +1,395 @@
+package peril.ai;
+
+import java.util.Arrays;
+
+/**
+ * A bounded collection of the best scoring candidates that an {@link AI} is
+ * considering for an operation. Only the highest <code>capacity</code>
+ * candidates are kept and candidates with equal scores are all kept, where the
+ * candidate that was added last is ranked higher. This matches keeping the
+ * candidates in a map by their scores, where a later candidate replaces an
+ * earlier one with the same score. The scores are held as
+ * primitives and each candidate holds up to two elements so that collecting
+ * candidates does not allocate.<br>
+ * <br>
+ * Internally this is a min-heap so the worst candidate that is being kept can
+ * be replaced in logarithmic time. Use {@link #accepts(int)} to check whether a
+ * candidate would be kept before calculating anything else about it.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-21
+ * @version 1.01.02
+ *
+ * @param <T>
+ *            The type of the elements of each candidate.
+ *
+ * @see AI
+ */
+public final class CandidateHeap<T> {
+
+	/**
+	 * The scores of the candidates in heap order.
+	 */
+	private final int[] scores;
+
+	/**
+	 * The order in which each candidate was added. This breaks ties between equal
+	 * scores.
+	 */
+	private final long[] order;
+
+	/**
+	 * The first element of each candidate.
+	 */
+	private final Object[] first;
+
+	/**
+	 * The second element of each candidate.
+	 */
+	private final Object[] second;
+
+	/**
+	 * The number of candidates in this {@link CandidateHeap}.
+	 */
+	private int size;
+
+	/**
+	 * The number of candidates that have been added since this
+	 * {@link CandidateHeap} was last cleared.
+	 */
+	private long added;
+
+	/**
+	 * Whether the candidates are currently held best first rather than in heap
+	 * order.
+	 */
+	private boolean isRanked;
+
+	/**
+	 * Constructs a new {@link CandidateHeap}.
+	 *
+	 * @param capacity
+	 *            The maximum number of candidates that will be kept.
+	 */
+	public CandidateHeap(int capacity) {
+
+		if (capacity < 1) {
+			throw new IllegalArgumentException(capacity + " is not a valid capacity. It must be at least 1.");
+		}
+
+		this.scores = new int[capacity];
+		this.order = new long[capacity];
+		this.first = new Object[capacity];
+		this.second = new Object[capacity];
+		this.size = 0;
+		this.added = 0;
+		this.isRanked = false;
+	}
+
+	/**
+	 * Retrieves whether a candidate with the specified score would be kept if it
+	 * was added now.
+	 *
+	 * @param score
+	 *            The score of the candidate.
+	 * @return Whether the candidate would be kept.
+	 */
+	public boolean accepts(int score) {
+
+		if (size < scores.length) {
+			return true;
+		}
+
+		// Equal scores beat the candidates that were added before them.
+		return score >= scores[worst()];
+	}
+
+	/**
+	 * Adds a candidate with one element.
+	 *
+	 * @param score
+	 *            The score of the candidate where higher is better.
+	 * @param element
+	 *            The element of the candidate.
+	 */
+	public void add(int score, T element) {
+		add(score, element, null);
+	}
+
+	/**
+	 * Adds a candidate with two elements.
+	 *
+	 * @param score
+	 *            The score of the candidate where higher is better.
+	 * @param a
+	 *            The first element of the candidate.
+	 * @param b
+	 *            The second element of the candidate.
+	 */
+	public void add(int score, T a, T b) {
+
+		if (!accepts(score)) {
+			added++;
+			return;
+		}
+
+		if (isRanked) {
+			heapify();
+		}
+
+		if (size < scores.length) {
+			set(size, score, added++, a, b);
+			siftUp(size++);
+		} else {
+			set(0, score, added++, a, b);
+			siftDown(0, size);
+		}
+	}
+
+	/**
+	 * Retrieves the number of candidates in this {@link CandidateHeap}.
+	 *
+	 * @return The number of candidates.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Retrieves the number of candidates that have been added since this
+	 * {@link CandidateHeap} was last cleared, including the candidates that were
+	 * not kept.
+	 *
+	 * @return The number of candidates added.
+	 */
+	public long getNumberAdded() {
+		return added;
+	}
+
+	/**
+	 * Retrieves whether this {@link CandidateHeap} contains no candidates.
+	 *
+	 * @return Whether there are no candidates.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Retrieves the score of the candidate at the specified rank.
+	 *
+	 * @param rank
+	 *            The rank of the candidate where 0 is the best.
+	 * @return The score.
+	 */
+	public int getScore(int rank) {
+		return scores[rank(rank)];
+	}
+
+	/**
+	 * Retrieves the first element of the candidate at the specified rank.
+	 *
+	 * @param rank
+	 *            The rank of the candidate where 0 is the best.
+	 * @return The first element.
+	 */
+	@SuppressWarnings("unchecked")
+	public T getFirst(int rank) {
+		return (T) first[rank(rank)];
+	}
+
+	/**
+	 * Retrieves the second element of the candidate at the specified rank.
+	 *
+	 * @param rank
+	 *            The rank of the candidate where 0 is the best.
+	 * @return The second element or <code>null</code> if the candidate only has
+	 *         one element.
+	 */
+	@SuppressWarnings("unchecked")
+	public T getSecond(int rank) {
+		return (T) second[rank(rank)];
+	}
+
+	/**
+	 * Removes all the candidates from this {@link CandidateHeap}.
+	 */
+	public void clear() {
+		Arrays.fill(first, 0, size, null);
+		Arrays.fill(second, 0, size, null);
+		size = 0;
+		added = 0;
+		isRanked = false;
+	}
+
+	/**
+	 * Retrieves the index of the candidate with the specified rank, ranking the
+	 * candidates if they are not already.
+	 *
+	 * @param rank
+	 *            The rank of the candidate where 0 is the best.
+	 * @return The index of the candidate.
+	 */
+	private int rank(int rank) {
+
+		if (rank < 0 || rank >= size) {
+			throw new IndexOutOfBoundsException(rank + " is not a valid rank. There are " + size + " candidates.");
+		}
+
+		// The best candidate can be found without ranking all the candidates.
+		if (rank == 0 && !isRanked) {
+			return best();
+		}
+
+		if (!isRanked) {
+
+			// Heap sort, the worst candidate is moved to the end each time.
+			for (int end = size - 1; end > 0; end--) {
+				swap(0, end);
+				siftDown(0, end);
+			}
+
+			isRanked = true;
+		}
+
+		return rank;
+	}
+
+	/**
+	 * Retrieves the index of the best candidate.
+	 *
+	 * @return The index of the best candidate.
+	 */
+	private int best() {
+
+		int best = 0;
+
+		// The best candidate is always a leaf of the heap.
+		for (int index = size / 2; index < size; index++) {
+			if (isWorse(best, index)) {
+				best = index;
+			}
+		}
+
+		return best;
+	}
+
+	/**
+	 * Retrieves the index of the worst candidate that is being kept.
+	 *
+	 * @return The index of the worst candidate.
+	 */
+	private int worst() {
+		return isRanked ? size - 1 : 0;
+	}
+
+	/**
+	 * Rebuilds the heap order after the candidates have been ranked.
+	 */
+	private void heapify() {
+
+		for (int index = size / 2 - 1; index >= 0; index--) {
+			siftDown(index, size);
+		}
+
+		isRanked = false;
+	}
+
+	/**
+	 * Retrieves whether the candidate at index <code>a</code> is ranked lower
+	 * than the candidate at index <code>b</code>.
+	 *
+	 * @param a
+	 *            The index of a candidate.
+	 * @param b
+	 *            The index of a candidate.
+	 * @return Whether <code>a</code> is worse than <code>b</code>.
+	 */
+	private boolean isWorse(int a, int b) {
+		return scores[a] < scores[b] || (scores[a] == scores[b] && order[a] < order[b]);
+	}
+
+	/**
+	 * Moves the candidate at the specified index up the heap until its parent is
+	 * worse than it.
+	 *
+	 * @param index
+	 *            The index of the candidate.
+	 */
+	private void siftUp(int index) {
+
+		while (index > 0) {
+
+			final int parent = (index - 1) / 2;
+
+			if (!isWorse(index, parent)) {
+				return;
+			}
+
+			swap(index, parent);
+			index = parent;
+		}
+	}
+
+	/**
+	 * Moves the candidate at the specified index down the heap until both its
+	 * children are better than it.
+	 *
+	 * @param index
+	 *            The index of the candidate.
+	 * @param end
+	 *            The index after the last candidate in the heap.
+	 */
+	private void siftDown(int index, int end) {
+
+		while (true) {
+
+			final int left = 2 * index + 1;
+
+			if (left >= end) {
+				return;
+			}
+
+			final int right = left + 1;
+			final int child = right < end && isWorse(right, left) ? right : left;
+
+			if (!isWorse(child, index)) {
+				return;
+			}
+
+			swap(index, child);
+			index = child;
+		}
+	}
+
+	/**
+	 * Sets the candidate at the specified index.
+	 */
+	private void set(int index, int score, long sequence, Object a, Object b) {
+		scores[index] = score;
+		order[index] = sequence;
+		first[index] = a;
+		second[index] = b;
+	}
+
+	/**
+	 * Swaps the candidates at the specified indexes.
+	 *
+	 * @param a
+	 *            The index of a candidate.
+	 * @param b
+	 *            The index of a candidate.
+	 */
+	private void swap(int a, int b) {
+
+		final int score = scores[a];
+		final long added = order[a];
+		final Object firstElement = first[a];
+		final Object secondElement = second[a];
+
+		set(a, scores[b], order[b], first[b], second[b]);
+		set(b, score, added, firstElement, secondElement);
+	}
+
+}
@@ -1,8 +1,5 @@
 package peril.ai;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
 import java.util.Random;
 import java.util.function.Predicate;
 
@@ -15,7 +12,7 @@ import peril.ai.api.Player;
  * 
  * @author Hannah_Miller
  *
- * @version 1.02.01
+ * @version 1.02.04
  * @since 2018-03-12
  */
 public final class Ernie extends AI {
@@ -55,28 +52,23 @@ public final class Ernie extends AI {
 		// the country with the lowest value ie the lowest amount of troops
 		// choose a random amount of troops to give to them
 
-		Map<Integer, Country> countries = new HashMap<>();
+		final CandidateHeap<Country> countries = new CandidateHeap<>(1);
 		Player current = api.getCurrentPlayer();
 
-		int highest = Integer.MIN_VALUE;
-
 		api.forEachCountry(country -> {
 			if (current.equals(country.getOwner())) {
 				int value = rand.nextInt(10);
-				countries.put(value, country);
+				countries.add(value, country);
 			}
 		});
 
-		for (int value : countries.keySet()) {
-			highest = value > highest ? value : highest;
-		}
-		if (highest == Integer.MIN_VALUE) {
+		if (countries.isEmpty()) {
 			throw new IllegalStateException("There are no countries");
 		}
 
 		final AIOperation op = new AIOperation();
 
-		op.select.add(countries.get(highest));
+		op.select.add(countries.getFirst(0));
 		op.processAgain = true;
 
 		return op;
@@ -88,11 +80,9 @@ public final class Ernie extends AI {
 	@Override
 	protected AIOperation processAttack(AIController api) {
 
-		final Map<Integer, Entry> countries = new HashMap<>();
+		final CandidateHeap<Country> countries = new CandidateHeap<>(1);
 		final Player current = api.getCurrentPlayer();
 
-		int highest = Integer.MIN_VALUE;
-
 		api.forEachFriendlyCountry(current, country -> {
 
 			if (country.getArmy().getNumberOfUnits() > 1) {
@@ -108,24 +98,20 @@ public final class Ernie extends AI {
 
 							// Assign a random value to this attack.
 							final int value = rand.nextInt(10);
-							countries.put(value, new Entry(country, neighbour));
+							countries.add(value, country, neighbour);
 
 						});
 			}
 
 		});
 
-		for (int value : countries.keySet()) {
-			highest = value > highest ? value : highest;
-		}
-
 		final AIOperation op = new AIOperation();
 
-		if (highest == Integer.MIN_VALUE) {
+		if (countries.isEmpty()) {
 			op.processAgain = false;
 		} else {
-			op.select.add(countries.get(highest).a);
-			op.select.add(countries.get(highest).b);
+			op.select.add(countries.getFirst(0));
+			op.select.add(countries.getSecond(0));
 			op.processAgain = true;
 		}
 
@@ -140,7 +126,7 @@ public final class Ernie extends AI {
 	@Override
 	protected AIOperation processFortify(AIController api) {
 
-		final Map<Integer, Entry> countries = new HashMap<>();
+		final CandidateHeap<Country> countries = new CandidateHeap<>(1);
 		final Player current = api.getCurrentPlayer();
 
 		// A country is internal if it is ruled by the current player, has no enemy
@@ -162,60 +148,23 @@ public final class Ernie extends AI {
 			// Iterate over all the front line countries that are also connected to i.
 			api.getBoard().getCountries().stream().filter(isFrontline).filter(isConnected).forEach(f -> {
 
-				countries.put(rand.nextInt(10), new Entry(i, f));
+				countries.add(rand.nextInt(10), i, f);
 
 			});
 
 		});
 
-		// The value of the best entry.
-		final Optional<Integer> result = countries.keySet().stream().max(Integer::compareTo);
-
 		final AIOperation op = new AIOperation();
 
-		if (result.isPresent()) {
-
-			final Entry best = countries.get(result.get());
+		// Select the best entry if there is one.
+		if (!countries.isEmpty()) {
 
 			op.processAgain = true;
-			op.select.add(best.a);
-			op.select.add(best.b);
+			op.select.add(countries.getFirst(0));
+			op.select.add(countries.getSecond(0));
 
 		}
 
 		return op;
 	}
-
-	/**
-	 * Borrowed this from Josh.
-	 * 
-	 * @author Hannah_Miller
-	 *
-	 */
-	private final class Entry {
-
-		/**
-		 * {@link Country} a
-		 */
-		public final Country a;
-
-		/**
-		 * {@link Country} b
-		 */
-		public final Country b;
-
-		/**
-		 * Constructs a new {@link Entry}.
-		 * 
-		 * @param a
-		 *            {@link Country} a
-		 * @param b
-		 *            {@link Country} b
-		 */
-		public Entry(Country a, Country b) {
-			this.a = a;
-			this.b = b;
-		}
-
-	}
 }
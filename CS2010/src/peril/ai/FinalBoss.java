@@ -1,9 +1,10 @@
 package peril.ai;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 import peril.ai.api.Army;
@@ -19,7 +20,7 @@ import peril.ai.api.Unit;
  * @author Joshua_Eddy
  * 
  * @since 2018-03-16
- * @version 1.01.03
+ * @version 1.01.06
  * 
  * @see AI
  * @see AIController
@@ -72,7 +73,7 @@ public final class FinalBoss extends AI {
 	public AIOperation processReinforce(AIController api) {
 
 		// The country that this AI will reinforce.
-		final Country country = new ReinforceHandler().getCountry(api);
+		final Country country = new ReinforceHandler().getCountry(api, new Evaluation(api));
 
 		// Define the operation that will be returned
 		final AIOperation op = new AIOperation();
@@ -91,15 +92,15 @@ public final class FinalBoss extends AI {
 	public AIOperation processAttack(AIController api) {
 
 		// The country pair that denotes the attack.
-		final Entry attack = new AttackHandler().getAttack(api);
+		final CandidateHeap<Country> attack = new AttackHandler().getAttack(api, new Evaluation(api));
 		final AIOperation op = new AIOperation();
 
 		// If the attack handler cannot find a valid attack don't process again.
-		if (attack == null) {
+		if (attack.isEmpty()) {
 			op.processAgain = false;
 		} else {
-			op.select.add(attack.a);
-			op.select.add(attack.b);
+			op.select.add(attack.getFirst(0));
+			op.select.add(attack.getSecond(0));
 			op.processAgain = true;
 		}
 		return op;
@@ -114,15 +115,15 @@ public final class FinalBoss extends AI {
 	public AIOperation processFortify(AIController api) {
 
 		// The country pair that denotes the fortify.
-		final Entry fortify = new FortifyHandler().getFortify(api);
+		final CandidateHeap<Country> fortify = new FortifyHandler().getFortify(api);
 		final AIOperation op = new AIOperation();
 
 		// If the fortify handler cannot find a valid fortify don't process again.
-		if (fortify == null) {
+		if (fortify.isEmpty()) {
 			op.processAgain = false;
 		} else {
-			op.select.add(fortify.a);
-			op.select.add(fortify.b);
+			op.select.add(fortify.getFirst(0));
+			op.select.add(fortify.getSecond(0));
 			op.processAgain = true;
 		}
 
@@ -141,8 +142,9 @@ public final class FinalBoss extends AI {
 	 */
 	private static int getMaxOneAttackDamage(Army army) {
 
-		// The units in the army
-		final Set<? extends Unit> units = army.getUnits();
+		// The units in the army, strongest first.
+		final Unit[] units = army.getUnits().toArray(new Unit[0]);
+		Arrays.sort(units, (unit1, unit2) -> Integer.compare(unit2.getStrength(), unit1.getStrength()));
 
 		// The max damage
 		int maxDamage = 0;
@@ -150,15 +152,10 @@ public final class FinalBoss extends AI {
 		// The number of units that can be in a squad.
 		int remainingUnits = 3;
 
-		// Whether the army has units
-		boolean flag = units.isEmpty();
+		// Iterate until there a no more units in the army or the squad is full.
+		for (int index = 0; index < units.length && remainingUnits > 0; index++) {
 
-		// Iterate until there a no more units in the army set or the squad is full.
-		while (!flag && remainingUnits > 0) {
-
-			// The unit with the highest strength.
-			final Unit unit = units.stream()
-					.max((unit1, unit2) -> Integer.compare(unit1.getStrength(), unit2.getStrength())).get();
+			final Unit unit = units[index];
 			final int numberOfUnit = army.getNumberOf(unit);
 
 			// If there is more than one of that unit in the army.
@@ -170,9 +167,6 @@ public final class FinalBoss extends AI {
 				remainingUnits -= toAdd;
 
 			}
-
-			units.remove(unit);
-			flag = units.isEmpty();
 		}
 
 		return maxDamage;
@@ -184,21 +178,19 @@ public final class FinalBoss extends AI {
 	 * 
 	 * @param player
 	 *            The {@link Player} to rate.
-	 * @param api
-	 *            The {@link AIController} that allows the {@link FinalBoss} to
-	 *            query the state of the game.
+	 * @param numberOfCountries
+	 *            The number of {@link Country}s on the {@link Board}.
+	 * @param totalArmyStrength
+	 *            Total strength of all the units in the game combined.
 	 * @return The rating of the {@link Player}.
 	 */
-	private static int playerRating(Player player, AIController api) {
+	private static int playerRating(Player player, int numberOfCountries, int totalArmyStrength) {
 
 		// The rating for the specified player.
 		int rating = 0;
 
 		// Add the percentage of all the countries that this player owns.
-		rating = (player.getCountriesRuled() * api.getBoard().getNumberOfCountries()) / 100;
-
-		// Total strength of all the units in the game combined.
-		int totalArmyStrength = api.getPlayers().stream().mapToInt(p -> p.getTotalArmy().getStrength()).sum();
+		rating = (player.getCountriesRuled() * numberOfCountries) / 100;
 
 		// Add the percentage of the player army strength from the all the units in the
 		// game.
@@ -291,17 +283,29 @@ public final class FinalBoss extends AI {
 	 * @author Joshua_Eddy
 	 * 
 	 * @since 2018-02-27
-	 * @version 1.01.01
+	 * @version 1.01.02
 	 * 
 	 * @see FinalBoss
 	 */
 	private static class ReinforceHandler {
 
+		/**
+		 * The rating of every {@link Country} that was weighted, in the order they
+		 * were weighted.
+		 */
+		private int[] ratings;
+
+		/**
+		 * The number of {@link #ratings} that are in use.
+		 */
+		private int numberOfRatings;
+
 		/**
 		 * Constructs a new {@link ReinforceHandler}.
 		 */
 		public ReinforceHandler() {
-
+			this.ratings = new int[16];
+			this.numberOfRatings = 0;
 		}
 
 		/**
@@ -310,26 +314,21 @@ public final class FinalBoss extends AI {
 		 * @param api
 		 *            The {@link AIController} that this {@link AI} will use to query
 		 *            the state of the game.
+		 * @param evaluation
+		 *            The {@link Evaluation} of the current decision.
 		 * @return The {@link Country} that the {@link FinalBoss} should reinforce.
 		 */
-		public Country getCountry(AIController api) {
+		public Country getCountry(AIController api, Evaluation evaluation) {
 
-			Map<Integer, Country> countries = getReinforceWeightings(api);
-
-			int highest = Integer.MIN_VALUE;
-
-			// Find the highest weight
-			for (int value : countries.keySet()) {
-				highest = value > highest ? value : highest;
-			}
+			final CandidateHeap<Country> countries = getReinforceWeightings(api, evaluation);
 
 			// If there is no weighting the there must be no friendly countries meaning this
 			// AI has been invoked at an invalid time.
-			if (highest == Integer.MIN_VALUE) {
+			if (countries.isEmpty()) {
 				throw new IllegalStateException("There are no countries");
 			}
 
-			final Country country = countries.get(highest);
+			final Country country = countries.getFirst(0);
 
 			final int points = api.getCurrentPlayer().getPoints();
 			final int cost = api.getPoints().getUnitTrade();
@@ -340,7 +339,7 @@ public final class FinalBoss extends AI {
 
 				if (unit != null) {
 
-					final double countriesSize = countries.size();
+					final double countriesSize = getNumberOfDistinctRatings();
 
 					final boolean shouldTrade = points / (cost * countriesSize) >= TRADE_FACTOR;
 
@@ -361,18 +360,20 @@ public final class FinalBoss extends AI {
 		 * @param api
 		 *            The {@link AIController} that this {@link AI} will use to query
 		 *            the state of the game.
+		 * @param evaluation
+		 *            The {@link Evaluation} of the current decision.
 		 * @return weighting
 		 */
-		private Map<Integer, Country> getReinforceWeightings(AIController api) {
+		private CandidateHeap<Country> getReinforceWeightings(AIController api, Evaluation evaluation) {
 
-			final Map<Integer, Country> countries = new HashMap<>();
+			final CandidateHeap<Country> countries = new CandidateHeap<>(1);
 			final Player current = api.getCurrentPlayer();
 
 			// Get the weightings of each country on the board.
 			api.forEachFriendlyCountry(current, country -> {
 
 				// The base value is the maximum damage for one combat attack.
-				final int baseRating = (int) -(UNIT_FACTOR * getMaxOneAttackDamage(country.getArmy()));
+				final int baseRating = (int) -(UNIT_FACTOR * evaluation.getMaxOneAttackDamage(country));
 
 				int rating = baseRating;
 
@@ -383,18 +384,24 @@ public final class FinalBoss extends AI {
 
 					// If the neighbour is an enemy country.
 					if (!current.equals(owner)) {
-						rating += (UNIT_FACTOR * getMaxOneAttackDamage(neighbour.getArmy()));
+						rating += (UNIT_FACTOR * evaluation.getMaxOneAttackDamage(neighbour));
 
 						// Add Player Rating if the country is ruled.
 						if (owner != null) {
-							rating += (PLAYER_FACTOR * playerRating(owner, api));
+							rating += (PLAYER_FACTOR * evaluation.getPlayerRating(owner));
 						}
 					}
 				}
 
 				// If the current country has enemy countries.
 				if (rating != baseRating) {
-					countries.put(rating, country);
+					countries.add(rating, country);
+
+					if (numberOfRatings == ratings.length) {
+						ratings = Arrays.copyOf(ratings, ratings.length * 2);
+					}
+
+					ratings[numberOfRatings++] = rating;
 				}
 
 			});
@@ -402,6 +409,27 @@ public final class FinalBoss extends AI {
 			return countries;
 		}
 
+		/**
+		 * Retrieves the number of distinct {@link #ratings} by sorting them and
+		 * counting each rating that differs from the one before it.
+		 * 
+		 * @return <code>int</code>
+		 */
+		private int getNumberOfDistinctRatings() {
+
+			Arrays.sort(ratings, 0, numberOfRatings);
+
+			int distinct = 0;
+
+			for (int index = 0; index < numberOfRatings; index++) {
+				if (index == 0 || ratings[index] != ratings[index - 1]) {
+					distinct++;
+				}
+			}
+
+			return distinct;
+		}
+
 	}
 
 	/**
@@ -423,24 +451,21 @@ public final class FinalBoss extends AI {
 		}
 
 		/**
-		 * Retrieves the best attack {@link Entry} that can be performed with the
-		 * current state of the game.
+		 * Retrieves the best attack that can be performed with the current state of
+		 * the game.
 		 * 
 		 * @param api
 		 *            The {@link AIController} that allows the {@link FinalBoss} to
 		 *            query the state of the game.
-		 * @return The {@link Entry} attack that should performed.
+		 * @param evaluation
+		 *            The {@link Evaluation} of the current decision.
+		 * @return The attack that should performed, this will be empty if there is no
+		 *         valid attack.
 		 */
-		public Entry getAttack(AIController api) {
-
-			// Retrieves all the possible attacks.
-			final Map<Integer, Entry> attacks = getAttacks(api);
+		public CandidateHeap<Country> getAttack(AIController api, Evaluation evaluation) {
 
-			// The value of the best entry.
-			final Optional<Integer> result = attacks.keySet().stream().max(Integer::compareTo);
-
-			// Only return entry if a result value was found.
-			return result.isPresent() ? attacks.get(result.get()) : null;
+			// Retrieves the best possible attack.
+			return getAttacks(api, evaluation);
 
 		}
 
@@ -450,15 +475,17 @@ public final class FinalBoss extends AI {
 		 * @param api
 		 *            The {@link AIController} that this {@link FinalBoss} will use to
 		 *            query the state of the game.
-		 * @return All the possible attacks and their ratings.
+		 * @param evaluation
+		 *            The {@link Evaluation} of the current decision.
+		 * @return The best possible attack and its rating.
 		 */
-		private Map<Integer, Entry> getAttacks(AIController api) {
+		private CandidateHeap<Country> getAttacks(AIController api, Evaluation evaluation) {
 
-			// All the possible attacks
-			final Map<Integer, Entry> attacks = new HashMap<>();
+			// The best possible attack
+			final CandidateHeap<Country> attacks = new CandidateHeap<>(1);
 
 			// The current player
-			final Player current = api.getCurrentPlayer();
+			final Player current = evaluation.current;
 
 			// For each enemy neighbour of every friendly country.
 			api.getBoard().getCountries().stream()
@@ -476,13 +503,13 @@ public final class FinalBoss extends AI {
 							.forEach(neighbour -> {
 
 								// If the link should be blocked.
-								if (shouldBlockLink(country, neighbour, api)) {
+								if (shouldBlockLink(country, neighbour, api, evaluation)) {
 									api.createBlockade(country, neighbour);
 								}
 
 								// If the country can attack.
 								if (api.hasOpenLinkBetween(country, neighbour)) {
-									attacks.put(getRating(api, country, neighbour), new Entry(country, neighbour));
+									attacks.add(getRating(evaluation, country, neighbour), country, neighbour);
 								}
 
 							}));
@@ -501,13 +528,16 @@ public final class FinalBoss extends AI {
 		 * @param api
 		 *            The {@link AIController} that this {@link FinalBoss} will use to
 		 *            query the state of the game.
+		 * @param evaluation
+		 *            The {@link Evaluation} of the current decision.
 		 * @return Whether or not the link from an enemy neighbour should be blocked
 		 *         according to {@link FinalBoss}.
 		 */
-		private boolean shouldBlockLink(Country country, Country neighbour, AIController api) {
+		private boolean shouldBlockLink(Country country, Country neighbour, AIController api,
+				Evaluation evaluation) {
 
 			// The current player
-			final Player current = api.getCurrentPlayer();
+			final Player current = evaluation.current;
 
 			// The strength of the current country.
 			final int countryStrength = country.getArmy().getStrength();
@@ -522,7 +552,7 @@ public final class FinalBoss extends AI {
 			final boolean isVulnerable = api.hasOpenLinkBetween(neighbour, country);
 
 			// If the player can afford to blockade the link
-			final boolean sufficentPoints = current.getPoints() >= api.getPoints().getBlockade();
+			final boolean sufficentPoints = current.getPoints() >= evaluation.blockadeCost;
 
 			return isOverWhelmed && isVulnerable && sufficentPoints;
 
@@ -536,12 +566,11 @@ public final class FinalBoss extends AI {
 		 *            A friendly {@link Country}.
 		 * @param neighbour
 		 *            A enemy neighbour {@link Country}.
-		 * @param api
-		 *            The {@link AIController} that this {@link FinalBoss} will use to
-		 *            query the state of the game.
+		 * @param evaluation
+		 *            The {@link Evaluation} of the current decision.
 		 * @return The attack rating.
 		 */
-		private int getRating(AIController api, Country country, Country neighbour) {
+		private int getRating(Evaluation evaluation, Country country, Country neighbour) {
 
 			// The owner of the attacking country
 			final Player owner = neighbour.getOwner();
@@ -549,12 +578,12 @@ public final class FinalBoss extends AI {
 			// The rating of the attack.
 			int rating = 0;
 
-			rating += (int) (UNIT_FACTOR * getMaxOneAttackDamage(country.getArmy()));
-			rating -= (int) (UNIT_FACTOR * getMaxOneAttackDamage(neighbour.getArmy()));
+			rating += (int) (UNIT_FACTOR * evaluation.getMaxOneAttackDamage(country));
+			rating -= (int) (UNIT_FACTOR * evaluation.getMaxOneAttackDamage(neighbour));
 
 			// Add Player Rating if the country is ruled.
 			if (owner != null) {
-				rating -= (PLAYER_FACTOR * playerRating(owner, api));
+				rating -= (PLAYER_FACTOR * evaluation.getPlayerRating(owner));
 			}
 
 			return rating;
@@ -580,15 +609,15 @@ public final class FinalBoss extends AI {
 		}
 
 		/**
-		 * Receives the best possible {@link Entry} fortify for {@link FinalBoss} to
-		 * perform.
+		 * Receives the best possible fortify for {@link FinalBoss} to perform.
 		 * 
 		 * @param api
 		 *            The {@link AIController} that this {@link FinalBoss} will use to
 		 *            query the state of the game.
-		 * @return The best possible {@link Entry} fortify.
+		 * @return The best possible fortify, this will be empty if there is no valid
+		 *         fortify.
 		 */
-		public Entry getFortify(AIController api) {
+		public CandidateHeap<Country> getFortify(AIController api) {
 
 			final Set<Country> internal = new HashSet<>();
 			final Map<Country, Integer> frontline = new HashMap<>();
@@ -596,14 +625,8 @@ public final class FinalBoss extends AI {
 			// Define which countries are internal and which are on the front lines.
 			defineFrontline(api, internal, frontline);
 
-			// All the possible fortifications based on the current state of the game.
-			final Map<Integer, Entry> possibleMoves = getFortifies(api, internal, frontline);
-
-			// The value of the best entry.
-			final Optional<Integer> result = possibleMoves.keySet().stream().max(Integer::compareTo);
-
-			// Only return entry if a result value was found.
-			return result.isPresent() ? possibleMoves.get(result.get()) : null;
+			// The best fortification based on the current state of the game.
+			return getFortifies(api, internal, frontline);
 
 		}
 
@@ -618,28 +641,23 @@ public final class FinalBoss extends AI {
 		 *            The {@link Country}s that border NO enemy {@link Country}s
 		 * @param frontline
 		 *            The {@link Country}s that border enemy {@link Country}s
-		 * @return All the possible fortifications based on the current state of the
-		 *         game.
+		 * @return The best fortification based on the current state of the game.
 		 */
-		private Map<Integer, Entry> getFortifies(AIController api, Set<Country> internal,
+		private CandidateHeap<Country> getFortifies(AIController api, Set<Country> internal,
 				Map<Country, Integer> frontline) {
 
-			final Map<Integer, Entry> possibleFortifies = new HashMap<>();
+			final CandidateHeap<Country> possibleFortifies = new CandidateHeap<>(1);
 
 			// Iterate over each internal country.
-			internal.forEach(internalCountry -> frontline.keySet().stream()
-
-					// Filter out all the front line countries the internal cannot fortify.
-					.filter(frontlineCountry -> api.isPathBetween(internalCountry, frontlineCountry))
+			internal.forEach(internalCountry -> frontline.forEach((frontlineCountry, rating) -> {
 
-					// Iterate over each possible fortification.
-					.forEach(frontlineCountry -> {
-
-						final Entry fortify = new Entry(internalCountry, frontlineCountry);
-
-						possibleFortifies.put(frontline.get(frontlineCountry), fortify);
+				// Skip the front line countries that would not be kept or that the internal
+				// cannot fortify.
+				if (possibleFortifies.accepts(rating) && api.isPathBetween(internalCountry, frontlineCountry)) {
+					possibleFortifies.add(rating, internalCountry, frontlineCountry);
+				}
 
-					}));
+			}));
 
 			return possibleFortifies;
 		}
@@ -693,40 +711,93 @@ public final class FinalBoss extends AI {
 	}
 
 	/**
-	 * Holds a pair of {@link Country}s.
+	 * The state of the game that is used to evaluate one decision of the
+	 * {@link FinalBoss}. The values that every candidate of a decision depends on
+	 * are calculated once when this is constructed and the values for each
+	 * {@link Player} and {@link Country} are calculated the first time they are
+	 * requested. This must not be kept between decisions as the game changes
+	 * between them.
 	 * 
 	 * @author Joshua_Eddy
 	 * 
-	 * @since 2018-03-16
-	 * @version 1.01.02
+	 * @since 2018-03-21
+	 * @version 1.01.01
 	 * 
 	 * @see FinalBoss
 	 */
-	private static class Entry {
+	private static final class Evaluation {
+
+		/**
+		 * The current {@link Player}.
+		 */
+		public final Player current;
+
+		/**
+		 * The cost of a blockade in points.
+		 */
+		public final int blockadeCost;
+
+		/**
+		 * The number of {@link Country}s on the {@link Board}.
+		 */
+		private final int numberOfCountries;
 
 		/**
-		 * {@link Country} a
+		 * Total strength of all the units in the game combined.
 		 */
-		public final Country a;
+		private final int totalArmyStrength;
 
 		/**
-		 * {@link Country} b
+		 * The rating of each {@link Player} that has been rated.
 		 */
-		public final Country b;
+		private final Map<Player, Integer> ratings;
 
 		/**
-		 * Constructs a new {@link Entry}.
+		 * The maximum one attack damage of each {@link Country} that has been
+		 * evaluated.
+		 */
+		private final Map<Country, Integer> damages;
+
+		/**
+		 * Constructs a new {@link Evaluation}.
 		 * 
-		 * @param a
-		 *            {@link Country} a
-		 * @param b
-		 *            {@link Country} b
+		 * @param api
+		 *            The {@link AIController} that allows the {@link FinalBoss} to
+		 *            query the state of the game.
 		 */
-		public Entry(Country a, Country b) {
-			this.a = a;
-			this.b = b;
+		public Evaluation(AIController api) {
+			this.current = api.getCurrentPlayer();
+			this.blockadeCost = api.getPoints().getBlockade();
+			this.numberOfCountries = api.getBoard().getNumberOfCountries();
+			this.totalArmyStrength = api.getPlayers().stream().mapToInt(p -> p.getTotalArmy().getStrength()).sum();
+			this.ratings = new IdentityHashMap<>();
+			this.damages = new IdentityHashMap<>();
 		}
 
-	}
+		/**
+		 * Retrieves the rating of the specified {@link Player}.
+		 * 
+		 * @param player
+		 *            The {@link Player} to rate.
+		 * @return The rating of the {@link Player}.
+		 * @see FinalBoss#playerRating(Player, int, int)
+		 */
+		public int getPlayerRating(Player player) {
+			return ratings.computeIfAbsent(player, p -> playerRating(p, numberOfCountries, totalArmyStrength));
+		}
 
+		/**
+		 * Retrieves the maximum amount of damage that the {@link Army} of the
+		 * specified {@link Country} could inflict in one attack.
+		 * 
+		 * @param country
+		 *            The {@link Country}.
+		 * @return The maximum one attack damage.
+		 * @see FinalBoss#getMaxOneAttackDamage(Army)
+		 */
+		public int getMaxOneAttackDamage(Country country) {
+			return damages.computeIfAbsent(country, c -> FinalBoss.getMaxOneAttackDamage(c.getArmy()));
+		}
+
+	}
 }
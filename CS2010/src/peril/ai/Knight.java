@@ -1,7 +1,5 @@
 package peril.ai;
 
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -17,7 +15,7 @@ import peril.ai.api.Player;
  * 
  * @since 2018-03-11
  * 
- * @version 1.01.06
+ * @version 1.01.07
  * 
  * @see AI
  *
@@ -49,23 +47,18 @@ public final class Knight extends AI {
 
 		defineFrontline(api, internal, frontline);
 
-		final Map<Integer, Entry> possibleMoves = getFortifyWeightings(api, internal, frontline);
-
-		final Integer[] weights = possibleMoves.keySet().toArray(new Integer[possibleMoves.keySet().size()]);
-
-		// weights ordered in descending order.
-		Arrays.sort(weights, Collections.reverseOrder());
+		final CandidateHeap<Country> possibleMoves = getFortifyWeightings(api, internal, frontline);
 
 		final AIOperation op = new AIOperation();
 
 		// If there is no weighted pairs.
-		if (weights.length == 0) {
+		if (possibleMoves.isEmpty()) {
 			op.processAgain = false;
 			return op;
 		}
 
-		final Country safe = possibleMoves.get(weights[0]).a;
-		final Country border = possibleMoves.get(weights[0]).b;
+		final Country safe = possibleMoves.getFirst(0);
+		final Country border = possibleMoves.getSecond(0);
 
 		if (!op.select.isEmpty()) {
 			op.select.clear();
@@ -82,21 +75,15 @@ public final class Knight extends AI {
 	@Override
 	protected AIOperation processAttack(AIController api) {
 		// TODO Auto-generated method stub
-		Map<Integer, Entry> countries = getAttackWeightings(api);
-
-		int highest = Integer.MIN_VALUE;
-
-		for (int value : countries.keySet()) {
-			highest = value > highest ? value : highest;
-		}
+		final CandidateHeap<Country> countries = getAttackWeightings(api);
 
 		final AIOperation op = new AIOperation();
 
-		if (highest == Integer.MIN_VALUE) {
+		if (countries.isEmpty()) {
 			op.processAgain = false;
 		} else {
-			op.select.add(countries.get(highest).a);
-			op.select.add(countries.get(highest).b);
+			op.select.add(countries.getFirst(0));
+			op.select.add(countries.getSecond(0));
 			op.processAgain = true;
 		}
 
@@ -107,21 +94,15 @@ public final class Knight extends AI {
 	@Override
 	protected AIOperation processReinforce(AIController api) {
 		// TODO Auto-generated method stub
-		Map<Integer, Country> countries = getReinforceWeightings(api);
+		final CandidateHeap<Country> countries = getReinforceWeightings(api);
 
-		int highest = Integer.MIN_VALUE;
-
-		for (int value : countries.keySet()) {
-			highest = value > highest ? value : highest;
-		}
-
-		if (highest == Integer.MIN_VALUE) {
+		if (countries.isEmpty()) {
 			throw new IllegalStateException("No friendly countries");
 		}
 
 		final AIOperation op = new AIOperation();
 
-		op.select.add(countries.get(highest));
+		op.select.add(countries.getFirst(0));
 		op.processAgain = true;
 
 		return op;
@@ -164,16 +145,16 @@ public final class Knight extends AI {
 		});
 	}
 
-	private Map<Integer, Entry> getFortifyWeightings(AIController api, Set<Country> internal,
+	private CandidateHeap<Country> getFortifyWeightings(AIController api, Set<Country> internal,
 			Map<Country, Integer> frontline) {
 
-		Map<Integer, Entry> possibleMoves = new HashMap<>();
+		final CandidateHeap<Country> possibleMoves = new CandidateHeap<>(1);
 
-		frontline.keySet().forEach(f -> internal.forEach(i -> {
+		frontline.forEach((f, weight) -> internal.forEach(i -> {
 
 			// Check if there is a path between the countries.
-			if (api.isPathBetween(i, f)) {
-				possibleMoves.put(frontline.get(f), new Entry(i, f));
+			if (possibleMoves.accepts(weight) && api.isPathBetween(i, f)) {
+				possibleMoves.add(weight, i, f);
 			}
 
 		}));
@@ -181,9 +162,9 @@ public final class Knight extends AI {
 		return possibleMoves;
 	}
 
-	private Map<Integer, Entry> getAttackWeightings(AIController api) {
+	private CandidateHeap<Country> getAttackWeightings(AIController api) {
 
-		Map<Integer, Entry> countries = new HashMap<>();
+		final CandidateHeap<Country> countries = new CandidateHeap<>(1);
 
 		Player current = api.getCurrentPlayer();
 
@@ -199,7 +180,7 @@ public final class Knight extends AI {
 
 						value -= neighbour.getArmy().getStrength();
 
-						countries.put(value, new Entry(country, neighbour));
+						countries.add(value, country, neighbour);
 					}
 
 				}
@@ -209,9 +190,9 @@ public final class Knight extends AI {
 		return countries;
 	}
 
-	private Map<Integer, Country> getReinforceWeightings(AIController api) {
+	private CandidateHeap<Country> getReinforceWeightings(AIController api) {
 
-		Map<Integer, Country> countries = new HashMap<>();
+		final CandidateHeap<Country> countries = new CandidateHeap<>(1);
 		Player current = api.getCurrentPlayer();
 
 		// Get the weightings of each country on the board.
@@ -233,7 +214,7 @@ public final class Knight extends AI {
 
 				// If the current country has enemy countries.
 				if (value != -country.getArmy().getStrength()) {
-					countries.put(value, country);
+					countries.add(value, country);
 				}
 
 			}
@@ -241,32 +222,4 @@ public final class Knight extends AI {
 
 		return countries;
 	}
-
-	private class Entry {
-
-		/**
-		 * {@link Country} a
-		 */
-		public final Country a;
-
-		/**
-		 * {@link Country} b
-		 */
-		public final Country b;
-
-		/**
-		 * Constructs a new {@link Entry}.
-		 * 
-		 * @param a
-		 *            {@link Country} a
-		 * @param b
-		 *            {@link Country} b
-		 */
-		public Entry(Country a, Country b) {
-			this.a = a;
-			this.b = b;
-		}
-
-	}
-
 }
@@ -14,7 +14,7 @@ import peril.ai.api.Player;
  * 
  * @author Joshua_Eddy
  * 
- * @version 1.01.04
+ * @version 1.01.05
  * @since 2018-03-16
  * 
  * @see AI
@@ -44,18 +44,11 @@ public final class Monkey extends AI {
 	@Override
 	public AIOperation processReinforce(AIController api) {
 
-		Map<Integer, Country> countries = getReinforceWeightings(api);
-
-		int highest = Integer.MIN_VALUE;
-
-		// Find the highest weight
-		for (int value : countries.keySet()) {
-			highest = value > highest ? value : highest;
-		}
+		final CandidateHeap<Country> countries = getReinforceWeightings(api);
 
 		// If there is no weighting the there must be no friendly countries meaning this
 		// AI has been invoked at an invalid time.
-		if (highest == Integer.MIN_VALUE) {
+		if (countries.isEmpty()) {
 			throw new IllegalStateException("There are no countries");
 		}
 
@@ -65,7 +58,7 @@ public final class Monkey extends AI {
 		// api.select(countries.get(highest));
 		// api.reinforce();
 
-		op.select.add(countries.get(highest));
+		op.select.add(countries.getFirst(0));
 		op.processAgain = true;
 
 		return op;
@@ -78,24 +71,18 @@ public final class Monkey extends AI {
 	@Override
 	public AIOperation processAttack(AIController api) {
 
-		Map<Integer, Entry> countries = getAttackWeightings(api);
-
-		int highest = Integer.MIN_VALUE;
-
-		for (int value : countries.keySet()) {
-			highest = value > highest ? value : highest;
-		}
+		final CandidateHeap<Country> countries = getAttackWeightings(api);
 
 		final AIOperation op = new AIOperation();
 
-		if (highest == Integer.MIN_VALUE) {
+		if (countries.isEmpty()) {
 
 			op.processAgain = false;
 
 		} else {
 
-			op.select.add(countries.get(highest).a);
-			op.select.add(countries.get(highest).b);
+			op.select.add(countries.getFirst(0));
+			op.select.add(countries.getSecond(0));
 			op.processAgain = true;
 
 		}
@@ -117,24 +104,18 @@ public final class Monkey extends AI {
 
 		defineFrontline(api, internal, frontline);
 
-		final Map<Integer, Entry> possibleMoves = getFortifyWeightings(api, internal, frontline);
-
-		int highest = Integer.MIN_VALUE;
-
-		for (int value : possibleMoves.keySet()) {
-			highest = value > highest ? value : highest;
-		}
+		final CandidateHeap<Country> possibleMoves = getFortifyWeightings(api, internal, frontline);
 
 		final AIOperation op = new AIOperation();
 
-		if (highest == Integer.MIN_VALUE) {
+		if (possibleMoves.isEmpty()) {
 
 			op.processAgain = false;
 
 		} else {
 
-			op.select.add(possibleMoves.get(highest).a);
-			op.select.add(possibleMoves.get(highest).b);
+			op.select.add(possibleMoves.getFirst(0));
+			op.select.add(possibleMoves.getSecond(0));
 			op.processAgain = true;
 		}
 
@@ -152,18 +133,18 @@ public final class Monkey extends AI {
 	 *            {@link Country}s that border NO enemy {@link Country}s
 	 * @param frontline
 	 *            {@link Country}s that border enemy {@link Country}s
-	 * @return weightings The {@link Map} of weighting to the entry.
+	 * @return weightings The best fortification.
 	 */
-	private Map<Integer, Entry> getFortifyWeightings(AIController api, Set<Country> internal,
+	private CandidateHeap<Country> getFortifyWeightings(AIController api, Set<Country> internal,
 			Map<Country, Integer> frontline) {
 
-		final Map<Integer, Entry> possibleMoves = new HashMap<>();
+		final CandidateHeap<Country> possibleMoves = new CandidateHeap<>(1);
 
-		frontline.keySet().forEach(f -> internal.forEach(i -> {
+		frontline.forEach((f, weight) -> internal.forEach(i -> {
 
 			// If there is a path between the countries.
-			if (api.isPathBetween(i, f)) {
-				possibleMoves.put(frontline.get(f), new Entry(i, f));
+			if (possibleMoves.accepts(weight) && api.isPathBetween(i, f)) {
+				possibleMoves.add(weight, i, f);
 			}
 
 		}));
@@ -233,9 +214,9 @@ public final class Monkey extends AI {
 	 *            the state of the game.
 	 * @return weighting
 	 */
-	private Map<Integer, Country> getReinforceWeightings(AIController api) {
+	private CandidateHeap<Country> getReinforceWeightings(AIController api) {
 
-		Map<Integer, Country> countries = new HashMap<>();
+		final CandidateHeap<Country> countries = new CandidateHeap<>(1);
 		Player current = api.getCurrentPlayer();
 
 		// Get the weightings of each country on the board.
@@ -257,7 +238,7 @@ public final class Monkey extends AI {
 
 				// If the current country has enemy countries.
 				if (value != -country.getArmy().getStrength()) {
-					countries.put(value, country);
+					countries.add(value, country);
 				}
 
 			}
@@ -274,9 +255,9 @@ public final class Monkey extends AI {
 	 *            the state of the game.
 	 * @return weighting
 	 */
-	private Map<Integer, Entry> getAttackWeightings(AIController api) {
+	private CandidateHeap<Country> getAttackWeightings(AIController api) {
 
-		Map<Integer, Entry> countries = new HashMap<>();
+		final CandidateHeap<Country> countries = new CandidateHeap<>(1);
 
 		Player current = api.getCurrentPlayer();
 
@@ -292,7 +273,7 @@ public final class Monkey extends AI {
 
 						value -= neighbour.getArmy().getStrength();
 
-						countries.put(value, new Entry(country, neighbour));
+						countries.add(value, country, neighbour);
 					}
 
 				}
@@ -301,39 +282,4 @@ public final class Monkey extends AI {
 
 		return countries;
 	}
-
-	/**
-	 * Holds a pair of {@link Country}s.
-	 * 
-	 * @author Joshua_Eddy
-	 * 
-	 * @version 1.01.3
-	 * @since 2018-03-16
-	 */
-	private class Entry {
-
-		/**
-		 * {@link Country} a
-		 */
-		public final Country a;
-
-		/**
-		 * {@link Country} b
-		 */
-		public final Country b;
-
-		/**
-		 * Constructs a new {@link Entry}.
-		 * 
-		 * @param a
-		 *            {@link Country} a
-		 * @param b
-		 *            {@link Country} b
-		 */
-		public Entry(Country a, Country b) {
-			this.a = a;
-			this.b = b;
-		}
-
-	}
 }
@@ -0,0 +1,397 @@
+package peril.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A Monte Carlo tree search over the decisions of the current player's turn.
+ * The search is parallelised at the root: each worker grows its own tree from
+ * a copy of the root {@link SearchState} using its own
+ * {@link SplittableRandom} and the visit counts of the root actions are summed
+ * once all the workers have run out of time. This means that the workers never
+ * share mutable state while they search.<br>
+ * <br>
+ * The tree is open loop, the nodes hold the statistics of a sequence of
+ * actions rather than a specific state, as the outcome of an attack is random.
+ * Each iteration expands one node and then plays the game out with the
+ * randomised policy in {@link SearchState#playTurn(int, SplittableRandom)}.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-20
+ * @version 1.01.02
+ *
+ * @see Oracle
+ * @see SearchState
+ *
+ */
+final class MonteCarloSearch {
+
+	/**
+	 * The exploration constant of the upper confidence bound.
+	 */
+	private static final double EXPLORATION = Math.sqrt(2);
+
+	/**
+	 * The maximum number of decisions that the tree will look ahead in the current
+	 * player's turn.
+	 */
+	private static final int MAX_DEPTH = 6;
+
+	/**
+	 * The number of rounds that each play out will simulate after the current
+	 * player's turn.
+	 */
+	private static final int PLAY_OUT_ROUNDS = 2;
+
+	/**
+	 * The {@link SearchState} at the root of the search.
+	 */
+	private final SearchState root;
+
+	/**
+	 * The phase of the turn at the root of the search.
+	 */
+	private final int phase;
+
+	/**
+	 * The actions that can be performed at the root of the search.
+	 */
+	private final int[] actions;
+
+	/**
+	 * The number of workers that search in parallel.
+	 */
+	private final int parallelism;
+
+	/**
+	 * Constructs a new {@link MonteCarloSearch}.
+	 *
+	 * @param root
+	 *            The {@link SearchState} at the root of the search.
+	 * @param phase
+	 *            The phase of the turn at the root of the search.
+	 * @param actions
+	 *            The actions that can be performed at the root of the search.
+	 * @param parallelism
+	 *            The number of workers that search in parallel. A single worker
+	 *            searches on the calling thread.
+	 */
+	MonteCarloSearch(SearchState root, int phase, int[] actions, int parallelism) {
+
+		if (actions.length == 0) {
+			throw new IllegalArgumentException("There must be at least one action to search.");
+		} else if (parallelism < 1) {
+			throw new IllegalArgumentException(parallelism + " is not a valid number of workers.");
+		}
+
+		this.root = root;
+		this.phase = phase;
+		this.actions = actions;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Searches for the best root action until the specified time budget has
+	 * elapsed.
+	 *
+	 * @param budget
+	 *            The number of milliseconds the search may run for.
+	 * @param seed
+	 *            The seed of the random number generators used by the workers.
+	 * @return The index of the best root action.
+	 */
+	int search(long budget, long seed) {
+
+		// There is no decision to make.
+		if (actions.length == 1) {
+			return 0;
+		}
+
+		final long deadline = System.nanoTime() + budget * 1000000L;
+		final SplittableRandom random = new SplittableRandom(seed);
+
+		final List<Worker> tasks = new ArrayList<>();
+		for (int worker = 0; worker < parallelism; worker++) {
+			tasks.add(new Worker(random.split(), deadline));
+		}
+
+		// The visits to each root action summed across all the workers.
+		final long[] visits = new long[actions.length];
+		final double[] values = new double[actions.length];
+
+		for (Worker task : ForkJoinTask.invokeAll(tasks)) {
+			final Node node = task.join();
+			for (int index = 0; index < actions.length; index++) {
+				visits[index] += node.visits[index];
+				values[index] += node.values[index];
+			}
+		}
+
+		// The most visited action is the most robust choice.
+		int best = 0;
+		for (int index = 1; index < actions.length; index++) {
+			if (visits[index] > visits[best]
+					|| (visits[index] == visits[best] && values[index] > values[best])) {
+				best = index;
+			}
+		}
+
+		return best;
+	}
+
+	/**
+	 * Retrieves the phase that follows the specified action in the specified
+	 * phase.
+	 *
+	 * @param state
+	 *            The {@link SearchState} after the action was applied.
+	 * @param phase
+	 *            The phase the action was performed in.
+	 * @param action
+	 *            The action.
+	 * @return The next phase or {@link SearchState#PASS} if the turn is over.
+	 */
+	private static int nextPhase(SearchState state, int phase, int action) {
+
+		if (phase == SearchState.REINFORCE) {
+			return state.getDistributable() > 0 ? SearchState.REINFORCE : SearchState.ATTACK;
+		} else if (SearchState.type(action) != SearchState.PASS) {
+			return phase;
+		} else if (phase == SearchState.ATTACK) {
+			return SearchState.FORTIFY;
+		}
+
+		return SearchState.PASS;
+	}
+
+	/**
+	 * A node of the search tree which holds the statistics of each of its actions.
+	 *
+	 * @author Joshua_Eddy
+	 *
+	 * @since 2018-03-20
+	 * @version 1.01.01
+	 *
+	 * @see MonteCarloSearch
+	 */
+	private static final class Node {
+
+		/**
+		 * The actions that can be performed at this {@link Node}.
+		 */
+		final int[] actions;
+
+		/**
+		 * The children of this {@link Node} in the same order as {@link #actions}.
+		 */
+		final Node[] children;
+
+		/**
+		 * The number of times each action has been visited.
+		 */
+		final int[] visits;
+
+		/**
+		 * The sum of the values of each action.
+		 */
+		final double[] values;
+
+		/**
+		 * The number of times this {@link Node} has been visited.
+		 */
+		int total;
+
+		/**
+		 * Constructs a new {@link Node}.
+		 *
+		 * @param actions
+		 *            The actions that can be performed at this {@link Node}.
+		 */
+		Node(int[] actions) {
+			this.actions = actions;
+			this.children = new Node[actions.length];
+			this.visits = new int[actions.length];
+			this.values = new double[actions.length];
+			this.total = 0;
+		}
+
+		/**
+		 * Selects the action with the highest upper confidence bound, trying each
+		 * action once first.
+		 *
+		 * @return The index of the selected action.
+		 */
+		int select() {
+
+			int best = 0;
+			double bestBound = Double.NEGATIVE_INFINITY;
+
+			final double log = Math.log(Math.max(1, total));
+
+			for (int index = 0; index < actions.length; index++) {
+
+				if (visits[index] == 0) {
+					return index;
+				}
+
+				final double bound = values[index] / visits[index] + EXPLORATION * Math.sqrt(log / visits[index]);
+
+				if (bound > bestBound) {
+					bestBound = bound;
+					best = index;
+				}
+			}
+
+			return best;
+		}
+
+		/**
+		 * Records the value of a play out through the specified action.
+		 *
+		 * @param index
+		 *            The index of the action.
+		 * @param value
+		 *            The value of the play out.
+		 */
+		void update(int index, double value) {
+			total++;
+			visits[index]++;
+			values[index] += value;
+		}
+	}
+
+	/**
+	 * A worker that grows its own search tree until the deadline of the search.
+	 *
+	 * @author Joshua_Eddy
+	 *
+	 * @since 2018-03-20
+	 * @version 1.01.01
+	 *
+	 * @see MonteCarloSearch
+	 */
+	private final class Worker extends RecursiveTask<Node> {
+
+		/**
+		 * The serial version UID.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The {@link SplittableRandom} used only by this {@link Worker}.
+		 */
+		private final SplittableRandom random;
+
+		/**
+		 * The {@link System#nanoTime()} at which this {@link Worker} will stop.
+		 */
+		private final long deadline;
+
+		/**
+		 * Constructs a new {@link Worker}.
+		 *
+		 * @param random
+		 *            The {@link SplittableRandom} used only by this {@link Worker}.
+		 * @param deadline
+		 *            The {@link System#nanoTime()} at which this {@link Worker}
+		 *            will stop.
+		 */
+		Worker(SplittableRandom random, long deadline) {
+			this.random = random;
+			this.deadline = deadline;
+		}
+
+		@Override
+		protected Node compute() {
+
+			final Node tree = new Node(actions);
+			final Node[] path = new Node[MAX_DEPTH];
+			final int[] indexes = new int[MAX_DEPTH];
+			final int[] buffer = new int[root.getMaxActions()];
+
+			// Always complete at least one iteration so every worker contributes.
+			do {
+				iterate(tree, path, indexes, buffer);
+			} while (System.nanoTime() < deadline);
+
+			return tree;
+		}
+
+		/**
+		 * Performs one selection, expansion, play out and back propagation.
+		 *
+		 * @param tree
+		 *            The root {@link Node} of this {@link Worker}'s tree.
+		 * @param path
+		 *            The buffer that holds the {@link Node}s visited.
+		 * @param indexes
+		 *            The buffer that holds the actions taken at each visited
+		 *            {@link Node}.
+		 * @param buffer
+		 *            The buffer that actions are generated into.
+		 */
+		private void iterate(Node tree, Node[] path, int[] indexes, int[] buffer) {
+
+			final SearchState state = root.copy();
+
+			Node node = tree;
+			int current = phase;
+			int depth = 0;
+
+			// Select down the tree until a new node is expanded or the turn ends.
+			while (node != null && depth < MAX_DEPTH) {
+
+				final int index = node.select();
+				final int action = node.actions[index];
+
+				path[depth] = node;
+				indexes[depth] = index;
+				depth++;
+
+				state.apply(action, random);
+				current = nextPhase(state, current, action);
+
+				if (current == SearchState.PASS) {
+					break;
+				}
+
+				final Node child = node.children[index];
+
+				// Expand a new node and then play out from it.
+				if (child == null && depth < MAX_DEPTH) {
+
+					final int size = state.getActions(current, buffer);
+					final int[] childActions = new int[size];
+					System.arraycopy(buffer, 0, childActions, 0, size);
+
+					node.children[index] = new Node(childActions);
+					break;
+				}
+
+				node = child;
+			}
+
+			// Finish the current player's turn then play out the following rounds.
+			if (current == SearchState.PASS) {
+				state.endTurn();
+			} else {
+				state.playTurn(current, random);
+			}
+
+			for (int turn = 0; turn < PLAY_OUT_ROUNDS * state.numberOfPlayers && !state.isOver(); turn++) {
+				state.playTurn(SearchState.REINFORCE, random);
+			}
+
+			final double value = state.evaluate(1);
+
+			for (int step = 0; step < depth; step++) {
+				path[step].update(indexes[step], value);
+			}
+		}
+	}
+
+}
@@ -1,7 +1,5 @@
 package peril.ai;
 
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -16,7 +14,7 @@ import peril.ai.api.Player;
  * @author Adrian_Wong
  *
  * @since 2018-02-20
- * @version 1.01.02
+ * @version 1.01.03
  */
 public final class Noob extends AI {
 
@@ -39,24 +37,16 @@ public final class Noob extends AI {
 	@Override
 	protected AIOperation processReinforce(AIController api) {
 
-		HashMap<Integer, Country> countries = getReinforceWeightings(api);
+		final CandidateHeap<Country> countries = getReinforceWeightings(api);
 
-		int highest = Integer.MIN_VALUE;
-		int lowest = Integer.MAX_VALUE + 1;
-
-		// Find the highest weight
-		for (int value : countries.keySet()) {
-			highest = value > highest ? value : highest;
-		}
-
-		// Find the lowest weight
-		for (int value : countries.keySet()) {
-			lowest = value > lowest ? value : lowest;
+		if (countries.isEmpty()) {
+			throw new IllegalStateException("There are no countries");
 		}
 
 		final AIOperation op = new AIOperation();
 
-		op.select.add(countries.get(lowest));
+		// Select the highest weighted country.
+		op.select.add(countries.getFirst(0));
 		op.processAgain = true;
 
 		return op;
@@ -69,21 +59,15 @@ public final class Noob extends AI {
 	@Override
 	public AIOperation processAttack(AIController api) {
 
-		Map<Integer, Entry> countries = getAttackWeightings(api);
-
-		int highest = Integer.MIN_VALUE;
-
-		for (int value : countries.keySet()) {
-			highest = value > highest ? value : highest;
-		}
+		final CandidateHeap<Country> countries = getAttackWeightings(api);
 
 		final AIOperation op = new AIOperation();
 
-		if (highest == Integer.MIN_VALUE) {
+		if (countries.isEmpty()) {
 			op.processAgain = false;
 		} else {
-			op.select.add(countries.get(highest).a);
-			op.select.add(countries.get(highest).b);
+			op.select.add(countries.getFirst(0));
+			op.select.add(countries.getSecond(0));
 			op.processAgain = true;
 		}
 
@@ -99,23 +83,18 @@ public final class Noob extends AI {
 
 		defineFrontline(api, internal, frontline);
 
-		final Map<Integer, Entry> possibleMoves = getFortifyWeightings(api, internal, frontline);
-
-		final Integer[] weights = possibleMoves.keySet().toArray(new Integer[possibleMoves.keySet().size()]);
-
-		// Sort the weights roles into descending order.
-		Arrays.sort(weights, Collections.reverseOrder());
+		final CandidateHeap<Country> possibleMoves = getFortifyWeightings(api, internal, frontline);
 
 		final AIOperation op = new AIOperation();
 
 		// If there is no weighted pairs.
-		if (weights.length == 0) {
+		if (possibleMoves.isEmpty()) {
 			op.processAgain = false;
 			return op;
 		}
 
-		final Country safe = possibleMoves.get(weights[0]).a;
-		final Country border = possibleMoves.get(weights[0]).b;
+		final Country safe = possibleMoves.getFirst(0);
+		final Country border = possibleMoves.getSecond(0);
 
 		if (!op.select.isEmpty()) {
 			op.select.clear();
@@ -129,16 +108,16 @@ public final class Noob extends AI {
 
 	}
 
-	private Map<Integer, Entry> getFortifyWeightings(AIController api, Set<Country> internal,
+	private CandidateHeap<Country> getFortifyWeightings(AIController api, Set<Country> internal,
 			Map<Country, Integer> frontline) {
 
-		Map<Integer, Entry> possibleMoves = new HashMap<>();
+		final CandidateHeap<Country> possibleMoves = new CandidateHeap<>(1);
 
-		frontline.keySet().forEach(f -> internal.forEach(i -> {
+		frontline.forEach((f, weight) -> internal.forEach(i -> {
 
 			// If there is a path between the countries.
-			if (api.isPathBetween(i, f)) {
-				possibleMoves.put(frontline.get(f), new Entry(i, f));
+			if (possibleMoves.accepts(weight) && api.isPathBetween(i, f)) {
+				possibleMoves.add(weight, i, f);
 			}
 
 		}));
@@ -154,9 +133,9 @@ public final class Noob extends AI {
 	 *            the state of the game.
 	 * @return weighting
 	 */
-	private Map<Integer, Entry> getAttackWeightings(AIController api) {
+	private CandidateHeap<Country> getAttackWeightings(AIController api) {
 
-		Map<Integer, Entry> countries = new HashMap<>();
+		final CandidateHeap<Country> countries = new CandidateHeap<>(1);
 
 		Player current = api.getCurrentPlayer();
 
@@ -172,7 +151,7 @@ public final class Noob extends AI {
 
 						value -= neighbour.getArmy().getStrength();
 
-						countries.put(value, new Entry(country, neighbour));
+						countries.add(value, country, neighbour);
 					}
 
 				}
@@ -182,9 +161,9 @@ public final class Noob extends AI {
 		return countries;
 	}
 
-	private static HashMap<Integer, Country> getReinforceWeightings(AIController api) {
+	private static CandidateHeap<Country> getReinforceWeightings(AIController api) {
 
-		HashMap<Integer, Country> countries = new HashMap<>();
+		final CandidateHeap<Country> countries = new CandidateHeap<>(1);
 		Player current = api.getCurrentPlayer();
 
 		// Get the weightings of each country on the board.
@@ -206,7 +185,7 @@ public final class Noob extends AI {
 
 				// If the current country has enemy countries.
 				if (value != -country.getArmy().getStrength()) {
-					countries.put(value, country);
+					countries.add(value, country);
 				}
 
 			}
@@ -253,38 +232,4 @@ public final class Noob extends AI {
 			}
 		});
 	}
-
-	/**
-	 * Holds a pair of {@link Country}s.
-	 * 
-	 * @author Joshua_Eddy
-	 * 
-	 */
-	public class Entry {
-
-		/**
-		 * {@link Country} a
-		 */
-		public final Country a;
-
-		/**
-		 * {@link Country} b
-		 */
-		public final Country b;
-
-		/**
-		 * Constructs a new {@link Entry}.
-		 * 
-		 * @param a
-		 *            {@link Country} a
-		 * @param b
-		 *            {@link Country} b
-		 */
-		public Entry(Country a, Country b) {
-			this.a = a;
-			this.b = b;
-		}
-
-	}
-
 }
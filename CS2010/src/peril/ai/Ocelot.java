@@ -1,7 +1,5 @@
 package peril.ai;
 
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -16,7 +14,7 @@ import peril.ai.AIController;
  * 
  * @author Joseph_Rolli
  * 
- * @version 1.01.01
+ * @version 1.01.02
  * @since 2018-02-10
  *
  */
@@ -69,24 +67,18 @@ public final class Ocelot extends AI {
 	@Override
 	public AIOperation processAttack(AIController api) {
 
-		Map<Integer, Entry> countries = getAttackWeightings(api);
-
-		int highest = Integer.MIN_VALUE;
-
-		for (int value : countries.keySet()) {
-			highest = value > highest ? value : highest;
-		}
+		final CandidateHeap<Country> countries = getAttackWeightings(api);
 
 		final AIOperation op = new AIOperation();
 
-		if (highest == Integer.MIN_VALUE) {
+		if (countries.isEmpty()) {
 
 			op.processAgain = false;
 
 		} else {
 
-			op.select.add(countries.get(highest).a);
-			op.select.add(countries.get(highest).b);
+			op.select.add(countries.getFirst(0));
+			op.select.add(countries.getSecond(0));
 			op.processAgain = true;
 
 		}
@@ -108,23 +100,18 @@ public final class Ocelot extends AI {
 
 		defineFrontline(api, internal, frontline);
 
-		final Map<Integer, Entry> possibleMoves = getFortifyWeightings(api, internal, frontline);
-
-		final Integer[] weights = possibleMoves.keySet().toArray(new Integer[possibleMoves.keySet().size()]);
-
-		// Sort the weights roles into descending order.
-		Arrays.sort(weights, Collections.reverseOrder());
+		final CandidateHeap<Country> possibleMoves = getFortifyWeightings(api, internal, frontline);
 
 		final AIOperation op = new AIOperation();
 
 		// If there is no weighted pairs.
-		if (weights.length == 0) {
+		if (possibleMoves.isEmpty()) {
 			op.processAgain = false;
 			return op;
 		}
 
-		final Country safe = possibleMoves.get(weights[0]).a;
-		final Country border = possibleMoves.get(weights[0]).b;
+		final Country safe = possibleMoves.getFirst(0);
+		final Country border = possibleMoves.getSecond(0);
 
 		if (!op.select.isEmpty()) {
 			op.select.clear();
@@ -177,9 +164,9 @@ public final class Ocelot extends AI {
 	 *            the state of the game.
 	 * @return weighting
 	 */
-	private Map<Integer, Entry> getAttackWeightings(AIController api) {
+	private CandidateHeap<Country> getAttackWeightings(AIController api) {
 
-		Map<Integer, Entry> countries = new HashMap<>();
+		final CandidateHeap<Country> countries = new CandidateHeap<>(1);
 
 		Player current = api.getCurrentPlayer();
 
@@ -195,7 +182,7 @@ public final class Ocelot extends AI {
 
 						value -= neighbour.getArmy().getStrength();
 
-						countries.put(value, new Entry(country, neighbour));
+						countries.add(value, country, neighbour);
 					}
 
 				}
@@ -217,16 +204,16 @@ public final class Ocelot extends AI {
 	 *            {@link Country}s that border enemy {@link Country}s
 	 * @return weightings
 	 */
-	private Map<Integer, Entry> getFortifyWeightings(AIController api, Set<Country> internal,
+	private CandidateHeap<Country> getFortifyWeightings(AIController api, Set<Country> internal,
 			Map<Country, Integer> frontline) {
 
-		Map<Integer, Entry> possibleMoves = new HashMap<>();
+		final CandidateHeap<Country> possibleMoves = new CandidateHeap<>(1);
 
-		frontline.keySet().forEach(f -> internal.forEach(i -> {
+		frontline.forEach((f, weight) -> internal.forEach(i -> {
 
 			// If there is a path between the countries.
-			if (api.isPathBetween(i, f)) {
-				possibleMoves.put(frontline.get(f), new Entry(i, f));
+			if (possibleMoves.accepts(weight) && api.isPathBetween(i, f)) {
+				possibleMoves.add(weight, i, f);
 			}
 
 		}));
@@ -287,36 +274,4 @@ public final class Ocelot extends AI {
 			}
 		});
 	}
-
-	/**
-	 * Holds a pair of {@link Country}s.
-	 * 
-	 * @author Joshua_Eddy
-	 */
-	private class Entry {
-
-		/**
-		 * {@link Country} a
-		 */
-		public final Country a;
-
-		/**
-		 * {@link Country} b
-		 */
-		public final Country b;
-
-		/**
-		 * Constructs a new {@link Entry}.
-		 * 
-		 * @param a
-		 * 		Country a.
-		 * @param b
-		 * 		Country b.
-		 */
-		public Entry(Country a, Country b) {
-			this.a = a;
-			this.b = b;
-		}
-
-	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,305 @@
+package peril.ai;
+
+import java.util.concurrent.ForkJoinPool;
+
+import peril.ai.api.Country;
+import peril.ai.api.Player;
+
+/**
+ * An {@link AI} that decides each of its operations by performing a
+ * {@link MonteCarloSearch} over a {@link SearchState} captured from the game.
+ * The rollouts of the search are performed in parallel on the common
+ * {@link ForkJoinPool} so the strength of this {@link AI} scales with the
+ * number of spare cores available, unless the caller limits the search with
+ * {@link #setParallelism(int)}.<br>
+ * <br>
+ * The game reinforces and fortifies one unit per operation, so the
+ * {@link Oracle} keeps the country it searched for as its plan and follows it
+ * for the rest of the phase instead of searching again for every unit. A plan
+ * is only followed while it belongs to the current {@link Player} and the game
+ * still accepts it. Attacks are searched before every battle as their outcome
+ * is random.<br>
+ * <br>
+ * The candidate actions at the root of the search are checked against the
+ * {@link AIController} so that the {@link Oracle} only ever selects operations
+ * that the game will accept.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-20
+ * @version 1.01.04
+ *
+ * @see AI
+ * @see MonteCarloSearch
+ * @see SearchState
+ *
+ */
+public final class Oracle extends AI {
+
+	/**
+	 * The name of this {@link AI}.
+	 */
+	private static final String NAME = "Expert";
+
+	/**
+	 * The number of milliseconds that the {@link Oracle} will search for before
+	 * each operation.
+	 */
+	private static final long THINKING_TIME = 80;
+
+	/**
+	 * The number of workers that each search uses.
+	 */
+	private volatile int parallelism;
+
+	/**
+	 * The {@link Player} that the planned reinforcement belongs to or
+	 * <code>null</code> if there is no plan.
+	 */
+	private Player reinforcePlayer;
+
+	/**
+	 * The {@link Country} that the {@link #reinforcePlayer} is reinforcing.
+	 */
+	private Country reinforceTarget;
+
+	/**
+	 * The distributable strength that the {@link #reinforcePlayer} had when the
+	 * {@link #reinforceTarget} was last selected.
+	 */
+	private int reinforceStrength;
+
+	/**
+	 * The {@link Player} that the planned fortification belongs to or
+	 * <code>null</code> if there is no plan.
+	 */
+	private Player fortifyPlayer;
+
+	/**
+	 * The {@link Country} that the {@link #fortifyPlayer} is moving units from.
+	 */
+	private Country fortifySource;
+
+	/**
+	 * The {@link Country} that the {@link #fortifyPlayer} is moving units to.
+	 */
+	private Country fortifyTarget;
+
+	/**
+	 * Constructs a new {@link Oracle}.
+	 *
+	 * @param api
+	 *            The {@link AIController} that allows this {@link Oracle} to
+	 *            interact with the game.
+	 */
+	public Oracle(AIController api) {
+		super(NAME, AI.MAX_SPEED, api);
+		this.parallelism = Math.max(1, ForkJoinPool.getCommonPoolParallelism());
+		this.reinforcePlayer = null;
+		this.fortifyPlayer = null;
+	}
+
+	/**
+	 * Sets the number of workers that each search of this {@link Oracle} uses. A
+	 * single worker searches on the thread the {@link Oracle} is processed on,
+	 * which suits callers that already keep every core busy with their own games.
+	 *
+	 * @param parallelism
+	 *            The number of workers, at least one.
+	 */
+	public void setParallelism(int parallelism) {
+
+		if (parallelism < 1) {
+			throw new IllegalArgumentException(parallelism + " is not a valid number of workers.");
+		}
+
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * This {@link Oracle} will reinforce the front line country that performs best
+	 * in the search until it has no units left to distribute.
+	 */
+	@Override
+	protected AIOperation processReinforce(AIController api) {
+
+		final Player player = api.getCurrentPlayer();
+		final int strength = player.getDistributableArmy().getStrength();
+
+		fortifyPlayer = null;
+
+		// Search again unless the previous unit was placed as planned.
+		if (player != reinforcePlayer || strength >= reinforceStrength || reinforceTarget.getOwner() != player) {
+
+			final SearchState state = SearchState.capture(api);
+			final int action = search(state, SearchState.REINFORCE, getActions(api, state, SearchState.REINFORCE));
+
+			reinforcePlayer = player;
+			reinforceTarget = state.countries[SearchState.source(action)];
+		}
+
+		reinforceStrength = strength;
+
+		final AIOperation op = new AIOperation();
+
+		op.select.add(reinforceTarget);
+		op.processAgain = true;
+
+		return op;
+	}
+
+	/**
+	 * This {@link Oracle} will attack until the search decides that passing is the
+	 * better option.
+	 */
+	@Override
+	protected AIOperation processAttack(AIController api) {
+
+		reinforcePlayer = null;
+		fortifyPlayer = null;
+
+		return toOperation(SearchState.ATTACK, api);
+	}
+
+	/**
+	 * This {@link Oracle} will fortify until the search decides that passing is
+	 * the better option. Once it has chosen a pair of countries it will move every
+	 * spare unit between them.
+	 */
+	@Override
+	protected AIOperation processFortify(AIController api) {
+
+		final Player player = api.getCurrentPlayer();
+
+		reinforcePlayer = null;
+
+		// Continue moving units along the planned path while it is still valid.
+		if (player == fortifyPlayer && fortifySource.getOwner() == player && fortifyTarget.getOwner() == player
+				&& fortifySource.getArmy().getNumberOfUnits() > 1 && api.isPathBetween(fortifySource, fortifyTarget)) {
+
+			final AIOperation op = new AIOperation();
+
+			op.select.add(fortifySource);
+			op.select.add(fortifyTarget);
+			op.processAgain = true;
+
+			return op;
+		}
+
+		fortifyPlayer = null;
+
+		final AIOperation op = toOperation(SearchState.FORTIFY, api);
+
+		if (op.processAgain) {
+			fortifyPlayer = player;
+			fortifySource = op.select.get(0);
+			fortifyTarget = op.select.get(1);
+		}
+
+		return op;
+	}
+
+	/**
+	 * Searches the specified phase and converts the chosen action into an
+	 * {@link AIOperation} that selects a pair of {@link Country}s.
+	 *
+	 * @param phase
+	 *            The phase of the turn.
+	 * @param api
+	 *            The {@link AIController} that allows this {@link Oracle} to
+	 *            query the state of the game.
+	 * @return The {@link AIOperation}.
+	 */
+	private AIOperation toOperation(int phase, AIController api) {
+
+		final SearchState state = SearchState.capture(api);
+		final int action = search(state, phase, getActions(api, state, phase));
+
+		final AIOperation op = new AIOperation();
+
+		// Passing ends the phase.
+		if (SearchState.type(action) == SearchState.PASS) {
+			op.processAgain = false;
+		} else {
+			op.select.add(state.countries[SearchState.source(action)]);
+			op.select.add(state.countries[SearchState.target(action)]);
+			op.processAgain = true;
+		}
+
+		return op;
+	}
+
+	/**
+	 * Performs the search over the specified root actions.
+	 *
+	 * @param state
+	 *            The {@link SearchState} at the root.
+	 * @param phase
+	 *            The phase of the turn.
+	 * @param actions
+	 *            The valid actions at the root.
+	 * @return The chosen action.
+	 */
+	private int search(SearchState state, int phase, int[] actions) {
+
+		if (actions.length == 0) {
+			throw new IllegalStateException("There are no countries");
+		}
+
+		final MonteCarloSearch search = new MonteCarloSearch(state, phase, actions, parallelism);
+
+		return actions[search.search(THINKING_TIME, System.nanoTime())];
+	}
+
+	/**
+	 * Retrieves the actions of the specified phase that the game will accept from
+	 * the current {@link Player}.
+	 *
+	 * @param api
+	 *            The {@link AIController} that allows this {@link Oracle} to
+	 *            query the state of the game.
+	 * @param state
+	 *            The {@link SearchState} captured from the game.
+	 * @param phase
+	 *            The phase of the turn.
+	 * @return The valid actions.
+	 */
+	private static int[] getActions(AIController api, SearchState state, int phase) {
+
+		final int[] buffer = new int[state.getMaxActions()];
+		final int size = state.getActions(phase, buffer);
+
+		int valid = 0;
+
+		for (int index = 0; index < size; index++) {
+
+			final int action = buffer[index];
+			final Country source = state.countries[SearchState.source(action)];
+			final Country target = state.countries[SearchState.target(action)];
+
+			final boolean isValid;
+
+			switch (SearchState.type(action)) {
+			case SearchState.ATTACK:
+				isValid = source.getArmy().getNumberOfUnits() > 1;
+				break;
+			case SearchState.FORTIFY:
+				isValid = source.getArmy().getNumberOfUnits() > 1 && api.isPathBetween(source, target);
+				break;
+			default:
+				isValid = true;
+				break;
+			}
+
+			if (isValid) {
+				buffer[valid++] = action;
+			}
+		}
+
+		final int[] actions = new int[valid];
+		System.arraycopy(buffer, 0, actions, 0, valid);
+
+		return actions;
+	}
+
+}
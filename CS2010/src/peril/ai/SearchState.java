@@ -0,0 +1,735 @@
+package peril.ai;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import peril.ai.api.Country;
+import peril.ai.api.Player;
+import peril.ai.api.Unit;
+import peril.helpers.PlayerHelper;
+import peril.model.GameState;
+
+/**
+ * A compact, copyable model of the game that is used by {@link Oracle} to
+ * simulate the outcome of moves. All the {@link Country}s are mapped to an
+ * index and all the state that changes during a game is held in primitive
+ * arrays so that a {@link SearchState} can be copied in a handful of array
+ * copies.<br>
+ * <br>
+ * The armies are held as a single strength value per {@link Country}. When two
+ * armies fight the damage dealt by each die is the strength of the strongest
+ * {@link Unit} tier that fits in the army which mirrors how
+ * {@link peril.model.board.ModelArmy} generates its units.<br>
+ * <br>
+ * A {@link SearchState} is built from a {@link GameState} so that both read the
+ * board in the same way. It is kept as a separate, coarser model because a
+ * rollout only needs the strength of each army, plays whole moves such as
+ * fortifying every spare unit at once and is copied far more often than a
+ * {@link GameState} is forked.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-20
+ * @version 1.01.03
+ *
+ * @see Oracle
+ * @see MonteCarloSearch
+ *
+ */
+final class SearchState {
+
+	/**
+	 * Denotes that a {@link Country} is not ruled by any {@link Player}.
+	 */
+	static final int NEUTRAL = 0;
+
+	/**
+	 * Passes the current phase onto the next.
+	 */
+	static final int PASS = 0;
+
+	/**
+	 * The type of an action that reinforces a country with one unit.
+	 */
+	static final int REINFORCE = 1;
+
+	/**
+	 * The type of an action that attacks an enemy neighbour until it is conquered
+	 * or the attacker can no longer attack.
+	 */
+	static final int ATTACK = 2;
+
+	/**
+	 * The type of an action that moves all the movable units from one country to
+	 * another friendly country.
+	 */
+	static final int FORTIFY = 3;
+
+	/**
+	 * The maximum number of dice the attacker may roll.
+	 */
+	private static final int ATTACK_DICE = 3;
+
+	/**
+	 * The maximum number of dice the defender may roll.
+	 */
+	private static final int DEFEND_DICE = 2;
+
+	/**
+	 * The {@link Country}s in the order of their index.
+	 */
+	final Country[] countries;
+
+	/**
+	 * The start of each country's neighbours in {@link #adjacent}. The neighbours
+	 * of country <code>c</code> are held between <code>offsets[c]</code> and
+	 * <code>offsets[c + 1]</code>.
+	 */
+	private final int[] offsets;
+
+	/**
+	 * The indexes of the neighbours of every country.
+	 */
+	private final int[] adjacent;
+
+	/**
+	 * Whether a unit can be transfered along each link in {@link #adjacent}.
+	 */
+	private final boolean[] open;
+
+	/**
+	 * The strengths of each {@link Unit} tier in ascending order.
+	 */
+	private final int[] tiers;
+
+	/**
+	 * The number of players in the game.
+	 */
+	final int numberOfPlayers;
+
+	/**
+	 * The player (1 to {@link #numberOfPlayers}) that rules each country or
+	 * {@link #NEUTRAL}.
+	 */
+	private final int[] owner;
+
+	/**
+	 * The army strength at each country.
+	 */
+	private final int[] strength;
+
+	/**
+	 * The number of units that each player has left to distribute.
+	 */
+	private final int[] distributable;
+
+	/**
+	 * The player whose turn it is.
+	 */
+	private int current;
+
+	/**
+	 * Constructs a new {@link SearchState} that shares the topology of the
+	 * specified {@link SearchState} and copies its mutable state.
+	 *
+	 * @param other
+	 *            The {@link SearchState} to copy.
+	 */
+	private SearchState(SearchState other) {
+		this.countries = other.countries;
+		this.offsets = other.offsets;
+		this.adjacent = other.adjacent;
+		this.open = other.open;
+		this.tiers = other.tiers;
+		this.numberOfPlayers = other.numberOfPlayers;
+		this.owner = other.owner.clone();
+		this.strength = other.strength.clone();
+		this.distributable = other.distributable.clone();
+		this.current = other.current;
+	}
+
+	/**
+	 * Constructs a new {@link SearchState} from its components.
+	 */
+	private SearchState(Country[] countries, int[] offsets, int[] adjacent, boolean[] open, int[] tiers,
+			int numberOfPlayers, int[] owner, int[] strength, int[] distributable) {
+		this.countries = countries;
+		this.offsets = offsets;
+		this.adjacent = adjacent;
+		this.open = open;
+		this.tiers = tiers;
+		this.numberOfPlayers = numberOfPlayers;
+		this.owner = owner;
+		this.strength = strength;
+		this.distributable = distributable;
+		this.current = 1;
+	}
+
+	/**
+	 * Captures the current state of the game from the {@link GameState} of the
+	 * specified {@link AIController}. The current {@link Player} is always player
+	 * 1 in the resulting {@link SearchState} and the other players follow in the
+	 * order they take their turns.
+	 *
+	 * @param api
+	 *            The {@link AIController} used to query the game.
+	 * @return The captured {@link SearchState}.
+	 */
+	static SearchState capture(AIController api) {
+
+		final GameState game = api.getGameState();
+
+		// Map each player number to an index with the current player first.
+		final int[] indexes = new int[PlayerHelper.MAX_PLAYERS + 1];
+		final int currentPlayer = game.getCurrentPlayer();
+		int numberOfPlayers = 1;
+
+		indexes[currentPlayer] = 1;
+		for (int offset = 1; offset < PlayerHelper.MAX_PLAYERS; offset++) {
+
+			final int player = (currentPlayer + offset - 1) % PlayerHelper.MAX_PLAYERS + 1;
+
+			if (game.isPlaying(player)) {
+				indexes[player] = ++numberOfPlayers;
+			}
+		}
+
+		// The country ids of the game state are used as the indexes of the countries.
+		final Country[] countries = new Country[game.getNumberOfCountries()];
+		final int[] offsets = new int[countries.length + 1];
+		final int[] owner = new int[countries.length];
+		final int[] strength = new int[countries.length];
+
+		for (int c = 0; c < countries.length; c++) {
+			countries[c] = api.getCountry(c);
+			owner[c] = indexes[game.getRuler(c)];
+			strength[c] = game.getStrength(c);
+			offsets[c + 1] = offsets[c] + game.getNeighbours(c).length;
+		}
+
+		final int[] adjacent = new int[offsets[countries.length]];
+		final boolean[] open = new boolean[adjacent.length];
+
+		for (int c = 0; c < countries.length; c++) {
+
+			final int[] neighbours = game.getNeighbours(c);
+
+			for (int n = 0; n < neighbours.length; n++) {
+				adjacent[offsets[c] + n] = neighbours[n];
+				open[offsets[c] + n] = game.getLinkState(c, neighbours[n]).canTransfer(null);
+			}
+		}
+
+		final int[] tiers = new int[game.getNumberOfTiers()];
+		final int[] distributable = new int[numberOfPlayers + 1];
+
+		for (int tier = 0; tier < tiers.length; tier++) {
+			tiers[tier] = game.getUnit(tier).strength;
+			distributable[1] += game.getDistributable(currentPlayer, tier);
+		}
+
+		return new SearchState(countries, offsets, adjacent, open, tiers, numberOfPlayers, owner, strength,
+				distributable);
+	}
+
+	/**
+	 * Creates a copy of this {@link SearchState} that can be modified without
+	 * affecting this one.
+	 *
+	 * @return The copied {@link SearchState}.
+	 */
+	SearchState copy() {
+		return new SearchState(this);
+	}
+
+	/**
+	 * Encodes an action.
+	 *
+	 * @param type
+	 *            The type of the action.
+	 * @param source
+	 *            The index of the source country.
+	 * @param target
+	 *            The index of the target country.
+	 * @return The encoded action.
+	 */
+	static int action(int type, int source, int target) {
+		return (type << 28) | (source << 14) | target;
+	}
+
+	/**
+	 * Retrieves the type of an encoded action.
+	 *
+	 * @param action
+	 *            The encoded action.
+	 * @return The type.
+	 */
+	static int type(int action) {
+		return action >>> 28;
+	}
+
+	/**
+	 * Retrieves the source country of an encoded action.
+	 *
+	 * @param action
+	 *            The encoded action.
+	 * @return The index of the source country.
+	 */
+	static int source(int action) {
+		return (action >>> 14) & 0x3FFF;
+	}
+
+	/**
+	 * Retrieves the target country of an encoded action.
+	 *
+	 * @param action
+	 *            The encoded action.
+	 * @return The index of the target country.
+	 */
+	static int target(int action) {
+		return action & 0x3FFF;
+	}
+
+	/**
+	 * Retrieves the player that rules the specified country.
+	 *
+	 * @param country
+	 *            The index of the country.
+	 * @return The player or {@link #NEUTRAL}.
+	 */
+	int getOwner(int country) {
+		return owner[country];
+	}
+
+	/**
+	 * Retrieves the player whose turn it is.
+	 *
+	 * @return The current player.
+	 */
+	int getCurrent() {
+		return current;
+	}
+
+	/**
+	 * Retrieves the number of units the current player has left to distribute.
+	 *
+	 * @return The number of units.
+	 */
+	int getDistributable() {
+		return distributable[current];
+	}
+
+	/**
+	 * Retrieves the maximum number of actions that can be generated by
+	 * {@link #getActions(int, int[])} in any phase.
+	 *
+	 * @return The size of the buffer required by
+	 *         {@link #getActions(int, int[])}.
+	 */
+	int getMaxActions() {
+		return Math.max(adjacent.length, owner.length * owner.length) + 1;
+	}
+
+	/**
+	 * Retrieves whether the specified country borders an enemy country.
+	 *
+	 * @param country
+	 *            The index of the country.
+	 * @return Whether the country is on the front line.
+	 */
+	boolean isFrontline(int country) {
+		for (int link = offsets[country]; link < offsets[country + 1]; link++) {
+			if (owner[adjacent[link]] != owner[country]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Retrieves whether the specified country can attack the specified neighbour.
+	 *
+	 * @param country
+	 *            The index of the attacking country.
+	 * @param link
+	 *            The index of the link to the neighbour.
+	 * @return Whether the attack is valid.
+	 */
+	private boolean canAttack(int country, int link) {
+		return open[link] && owner[adjacent[link]] != owner[country] && strength[country] > tiers[0];
+	}
+
+	/**
+	 * Adds all the legal actions of the current phase for the current player to
+	 * the specified buffer. The countries that must not act are specified by the
+	 * caller so that the real rules of the game can be applied at the root of the
+	 * search.
+	 *
+	 * @param phase
+	 *            The phase of the turn.
+	 * @param buffer
+	 *            The buffer that the actions are added to.
+	 * @return The number of actions.
+	 */
+	int getActions(int phase, int[] buffer) {
+
+		int size = 0;
+
+		switch (phase) {
+		case REINFORCE:
+
+			for (int c = 0; c < owner.length; c++) {
+				if (owner[c] == current && isFrontline(c) && size < buffer.length) {
+					buffer[size++] = action(REINFORCE, c, c);
+				}
+			}
+
+			// If there is no front line reinforce any friendly country.
+			for (int c = 0; c < owner.length && size == 0; c++) {
+				if (owner[c] == current) {
+					buffer[size++] = action(REINFORCE, c, c);
+				}
+			}
+
+			break;
+
+		case ATTACK:
+
+			buffer[size++] = action(PASS, 0, 0);
+
+			for (int c = 0; c < owner.length; c++) {
+				if (owner[c] == current) {
+					for (int link = offsets[c]; link < offsets[c + 1] && size < buffer.length; link++) {
+						if (canAttack(c, link)) {
+							buffer[size++] = action(ATTACK, c, adjacent[link]);
+						}
+					}
+				}
+			}
+
+			break;
+
+		case FORTIFY:
+
+			buffer[size++] = action(PASS, 0, 0);
+
+			for (int source = 0; source < owner.length; source++) {
+
+				// Only internal countries with spare units move their units.
+				if (owner[source] == current && strength[source] > tiers[0] && !isFrontline(source)) {
+
+					final boolean[] reachable = getReachable(source);
+
+					for (int target = 0; target < owner.length && size < buffer.length; target++) {
+						if (reachable[target] && target != source && isFrontline(target)) {
+							buffer[size++] = action(FORTIFY, source, target);
+						}
+					}
+				}
+			}
+
+			break;
+		default:
+			throw new IllegalArgumentException(phase + " is not a valid phase.");
+		}
+
+		return size;
+	}
+
+	/**
+	 * Retrieves all the countries that can be reached from the specified country
+	 * along open links through friendly countries.
+	 *
+	 * @param source
+	 *            The index of the source country.
+	 * @return Whether each country is reachable.
+	 */
+	private boolean[] getReachable(int source) {
+
+		final boolean[] reached = new boolean[owner.length];
+		final int[] queue = new int[owner.length];
+
+		int head = 0;
+		int tail = 0;
+
+		queue[tail++] = source;
+		reached[source] = true;
+
+		while (head < tail) {
+
+			final int country = queue[head++];
+
+			for (int link = offsets[country]; link < offsets[country + 1]; link++) {
+
+				final int neighbour = adjacent[link];
+
+				if (!reached[neighbour] && open[link] && owner[neighbour] == owner[source]) {
+					reached[neighbour] = true;
+					queue[tail++] = neighbour;
+				}
+			}
+		}
+
+		return reached;
+	}
+
+	/**
+	 * Applies an action to this {@link SearchState}.
+	 *
+	 * @param action
+	 *            The encoded action.
+	 * @param random
+	 *            The {@link SplittableRandom} that rolls the dice.
+	 */
+	void apply(int action, SplittableRandom random) {
+
+		final int source = source(action);
+		final int target = target(action);
+
+		switch (type(action)) {
+		case REINFORCE:
+			strength[source] += tiers[0];
+			distributable[current]--;
+			break;
+		case ATTACK:
+			battle(source, target, random);
+			break;
+		case FORTIFY:
+			final int moved = strength[source] - tiers[0];
+			strength[source] -= moved;
+			strength[target] += moved;
+			break;
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * Fights a battle between two countries until the defender is conquered or
+	 * the attacker can no longer attack.
+	 *
+	 * @param attacker
+	 *            The index of the attacking country.
+	 * @param defender
+	 *            The index of the defending country.
+	 * @param random
+	 *            The {@link SplittableRandom} that rolls the dice.
+	 */
+	private void battle(int attacker, int defender, SplittableRandom random) {
+
+		final int[] attackRolls = new int[ATTACK_DICE];
+		final int[] defendRolls = new int[DEFEND_DICE];
+
+		while (strength[attacker] > tiers[0] && owner[attacker] != owner[defender]) {
+
+			// The attacker must leave one weakest unit behind.
+			final int available = strength[attacker] - tiers[0];
+
+			final int attackUnit = getUnit(available);
+			final int defendUnit = getUnit(strength[defender]);
+
+			final int attackDice = Math.min(ATTACK_DICE, Math.max(1, available / attackUnit));
+			final int defendDice = Math.min(DEFEND_DICE, Math.max(1, strength[defender] / defendUnit));
+
+			roll(attackRolls, attackDice, random);
+			roll(defendRolls, defendDice, random);
+
+			final int fights = Math.min(attackDice, defendDice);
+
+			for (int fight = 0; fight < fights; fight++) {
+				if (attackRolls[fight] > defendRolls[fight]) {
+					strength[defender] -= attackUnit;
+				} else {
+					strength[attacker] = Math.max(tiers[0], strength[attacker] - defendUnit);
+				}
+			}
+
+			// If the defender has been defeated it becomes the attackers country.
+			if (strength[defender] <= 0) {
+				strength[defender] = tiers[0];
+				owner[defender] = owner[attacker];
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the strength of the strongest unit tier that fits inside the
+	 * specified strength.
+	 *
+	 * @param strength
+	 *            The strength of the army.
+	 * @return The strength of the unit.
+	 */
+	private int getUnit(int strength) {
+
+		int unit = tiers[0];
+
+		for (int tier = 1; tier < tiers.length && tiers[tier] <= strength; tier++) {
+			unit = tiers[tier];
+		}
+
+		return unit;
+	}
+
+	/**
+	 * Rolls the specified number of dice into the specified array in descending
+	 * order.
+	 *
+	 * @param rolls
+	 *            The array the rolls are written into.
+	 * @param dice
+	 *            The number of dice to roll.
+	 * @param random
+	 *            The {@link SplittableRandom} that rolls the dice.
+	 */
+	private static void roll(int[] rolls, int dice, SplittableRandom random) {
+
+		for (int die = 0; die < dice; die++) {
+			rolls[die] = random.nextInt(6) + 1;
+		}
+
+		Arrays.sort(rolls, 0, dice);
+
+		// Reverse into descending order.
+		for (int low = 0, high = dice - 1; low < high; low++, high--) {
+			final int temp = rolls[low];
+			rolls[low] = rolls[high];
+			rolls[high] = temp;
+		}
+	}
+
+	/**
+	 * Ends the current player's turn, moving on to the next player that still
+	 * rules a country and giving them their reinforcements.
+	 */
+	void endTurn() {
+
+		for (int step = 0; step < numberOfPlayers; step++) {
+
+			current = current % numberOfPlayers + 1;
+
+			final int ruled = getCountriesRuled(current);
+
+			if (ruled > 0) {
+				distributable[current] += Math.max(9, ruled) / 3;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the number of countries the specified player rules.
+	 *
+	 * @param player
+	 *            The player.
+	 * @return The number of countries.
+	 */
+	int getCountriesRuled(int player) {
+
+		int ruled = 0;
+
+		for (int c = 0; c < owner.length; c++) {
+			if (owner[c] == player) {
+				ruled++;
+			}
+		}
+
+		return ruled;
+	}
+
+	/**
+	 * Retrieves whether one player rules every country.
+	 *
+	 * @return Whether the game has been won.
+	 */
+	boolean isOver() {
+
+		for (int c = 1; c < owner.length; c++) {
+			if (owner[c] != owner[0]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Plays out the current player's turn using a cheap randomised policy.
+	 *
+	 * @param phase
+	 *            The phase that the current player is in.
+	 * @param random
+	 *            The {@link SplittableRandom} that drives the policy.
+	 */
+	void playTurn(int phase, SplittableRandom random) {
+
+		final int[] buffer = new int[owner.length];
+
+		// Place the remaining reinforcements on random front line countries.
+		if (phase == REINFORCE) {
+			while (distributable[current] > 0) {
+				final int size = getActions(REINFORCE, buffer);
+				apply(buffer[random.nextInt(size)], random);
+			}
+		}
+
+		// Attack from countries that out number their target.
+		if (phase <= ATTACK) {
+			for (int c = 0; c < owner.length; c++) {
+				if (owner[c] == current) {
+					for (int link = offsets[c]; link < offsets[c + 1]; link++) {
+
+						final int target = adjacent[link];
+
+						if (canAttack(c, link) && strength[c] > strength[target] + tiers[0]
+								&& random.nextInt(4) != 0) {
+							battle(c, target, random);
+						}
+					}
+				}
+			}
+		}
+
+		// Move one internal army to the front line.
+		final int size = getActions(FORTIFY, buffer);
+		if (size > 1) {
+			apply(buffer[1 + random.nextInt(size - 1)], random);
+		}
+
+		endTurn();
+	}
+
+	/**
+	 * Evaluates this {@link SearchState} from the point of view of the specified
+	 * player. The value is between 0 and 1 and is based on the share of the
+	 * countries and the share of the army strength that the player holds.
+	 *
+	 * @param player
+	 *            The player.
+	 * @return The value of this {@link SearchState} to the player.
+	 */
+	double evaluate(int player) {
+
+		int ruled = 0;
+		long friendly = 0;
+		long total = 0;
+
+		for (int c = 0; c < owner.length; c++) {
+
+			total += strength[c];
+
+			if (owner[c] == player) {
+				ruled++;
+				friendly += strength[c];
+			}
+		}
+
+		if (ruled == owner.length) {
+			return 1.0;
+		} else if (ruled == 0) {
+			return 0.0;
+		}
+
+		return 0.5 * ((double) ruled / owner.length) + 0.5 * ((double) friendly / Math.max(1, total));
+	}
+}
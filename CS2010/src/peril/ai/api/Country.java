@@ -7,7 +7,7 @@ import java.util.Set;
  * 
  * @author Joshua_Eddy
  * 
- * @version 1.01.02
+ * @version 1.01.03
  * @since 2018-02-11
  *
  */
@@ -34,4 +34,13 @@ public interface Country {
 	 * @return {@link Set} of {@link Country}s.
 	 */
 	Set<? extends Country> getNeighbours();
+
+	/**
+	 * Retrieves the id of this {@link Country}. The ids of the {@link Country}s on
+	 * a {@link Board} range from 0 to {@link Board#getNumberOfCountries()} - 1 and
+	 * do not change while the {@link Board} is loaded.
+	 * 
+	 * @return The id of this {@link Country}.
+	 */
+	int getId();
 }
@@ -5,7 +5,7 @@ package peril.ai.api;
  * 
  * @author Joshua_Eddy
  * 
- * @version 1.01.03
+ * @version 1.01.04
  * @since 2018-02-20
  *
  */
@@ -72,4 +72,11 @@ public interface Player {
 	 */
 	int getPoints();
 
+	/**
+	 * Retrieves the number of this {@link Player}. This is unique to the
+	 * {@link Player} and is always greater than zero.
+	 * 
+	 * @return The number of this {@link Player}.
+	 */
+	int getNumber();
 }
@@ -0,0 +1,61 @@
+package peril.concurrent;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Passes the latest value from one producer thread to one consumer thread
+ * without locking. The producer {@link #publish(Object) publishes} as often as
+ * it likes and never waits, while the consumer {@link #take() takes} only the
+ * newest value that has been published since it last took one. Values that are
+ * replaced before they are taken are dropped, so the published values must be
+ * immutable and a slow consumer never slows the producer.
+ * 
+ * @author Joshua_Eddy
+ *
+ * @param <T>
+ *            The type of the values passed between the threads.
+ * @version 1.01.01
+ * @since 2018-03-27
+ * 
+ * @see AtomicReference
+ */
+public final class Handoff<T> {
+
+	/**
+	 * The newest value that has not been taken or <code>null</code> if there is
+	 * none.
+	 */
+	private final AtomicReference<T> latest;
+
+	/**
+	 * Constructs a new empty {@link Handoff}.
+	 */
+	public Handoff() {
+		this.latest = new AtomicReference<>();
+	}
+
+	/**
+	 * Publishes a value, replacing the value that has not been taken yet.
+	 * 
+	 * @param value
+	 *            The immutable value.
+	 */
+	public void publish(T value) {
+
+		if (value == null) {
+			throw new NullPointerException("Value cannot be null.");
+		}
+
+		latest.set(value);
+	}
+
+	/**
+	 * Takes the newest value published since the last time this was called.
+	 * 
+	 * @return The value or <code>null</code> if nothing has been published.
+	 */
+	public T take() {
+		return latest.getAndSet(null);
+	}
+
+}
@@ -5,11 +5,11 @@ import java.util.concurrent.LinkedTransferQueue;
 
 /**
  * A thread safe queue that allows {@link Action}s to be passed from
- * thread to thread. This object uses the singleton pattern and is accessible
- * via {@link ProcessTransfer#getInstane()}.
+ * thread to thread. Each game has its own {@link ProcessTransfer} and there is
+ * a default instance accessible via {@link ProcessTransfer#getInstane()}.
  * 
  * @author Joshua_Eddy
- * @version 1.01.01
+ * @version 1.01.02
  * @since 2018-02-06
  * @see LinkedTransferQueue
  *
@@ -17,7 +17,7 @@ import java.util.concurrent.LinkedTransferQueue;
 public final class ProcessTransfer {
 
 	/**
-	 * The singleton instance of {@link ProcessTransfer}.
+	 * The default instance of {@link ProcessTransfer}.
 	 */
 	private final static ProcessTransfer INSTANCE = new ProcessTransfer();
 
@@ -32,9 +32,9 @@ public final class ProcessTransfer {
 	private final Queue<Action<?>> buffer;
 
 	/**
-	 * Constructs the single {@link ProcessTransfer}.
+	 * Constructs a new empty {@link ProcessTransfer}.
 	 */
-	private ProcessTransfer() {
+	public ProcessTransfer() {
 		this.buffer = new LinkedTransferQueue<>();
 	}
 
@@ -79,7 +79,7 @@ public final class ProcessTransfer {
 	}
 
 	/**
-	 * Retrieve the singleton instance of {@link ProcessTransfer}.
+	 * Retrieve the default instance of {@link ProcessTransfer}.
 	 * 
 	 * @return {@link ProcessTransfer}
 	 */
@@ -0,0 +1,189 @@
+package peril.concurrent;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Runs the model of a game on its own thread. The thread that renders the game
+ * {@link #submit(Action) submits} {@link Action}s as commands, which the
+ * simulation thread performs in order. After a command the simulation
+ * {@link #publish(Object) publishes} an immutable frame that the render thread
+ * {@link #take() takes} through a {@link Handoff}. The simulation thread is only
+ * started when the first command is submitted, so a game that never submits one
+ * never has a thread.
+ *
+ * @author Joshua_Eddy
+ *
+ * @param <F>
+ *            The type of the frames published by the simulation thread.
+ * @version 1.01.01
+ * @since 2018-03-27
+ *
+ * @see Action
+ * @see Handoff
+ */
+public final class Simulation<F> {
+
+	/**
+	 * The name of the simulation thread.
+	 */
+	private final String name;
+
+	/**
+	 * The commands that have been submitted but not yet performed.
+	 */
+	private final BlockingQueue<Action<?>> commands;
+
+	/**
+	 * The {@link Handoff} that passes frames to the render thread.
+	 */
+	private final Handoff<F> frames;
+
+	/**
+	 * The number of commands that have been submitted and not yet finished. This is
+	 * guarded by <code>this</code>.
+	 */
+	private int pending;
+
+	/**
+	 * The simulation thread or <code>null</code> if no command has been submitted
+	 * yet.
+	 */
+	private volatile Thread thread;
+
+	/**
+	 * Constructs a new {@link Simulation}.
+	 *
+	 * @param name
+	 *            The name of the simulation thread.
+	 */
+	public Simulation(String name) {
+
+		if (name == null) {
+			throw new NullPointerException("Name cannot be null.");
+		}
+
+		this.name = name;
+		this.commands = new LinkedBlockingQueue<>();
+		this.frames = new Handoff<>();
+		this.pending = 0;
+		this.thread = null;
+	}
+
+	/**
+	 * Submits a command to be performed on the simulation thread after all the
+	 * commands submitted before it.
+	 *
+	 * @param command
+	 *            The {@link Action} to perform.
+	 */
+	public void submit(Action<?> command) {
+
+		if (command == null) {
+			throw new NullPointerException("Command cannot be null.");
+		}
+
+		synchronized (this) {
+
+			pending++;
+
+			if (thread == null) {
+				thread = new Thread(this::run, name);
+				thread.setDaemon(true);
+				thread.start();
+			}
+		}
+
+		commands.add(command);
+	}
+
+	/**
+	 * Waits until every command that has been submitted is finished. The changes
+	 * that those commands made are visible to the thread once this returns. This
+	 * returns immediately on the simulation thread, as it would otherwise wait for
+	 * itself.
+	 *
+	 * @throws IllegalStateException
+	 *             Thrown if the thread is interrupted while waiting.
+	 */
+	public synchronized void await() {
+
+		if (isSimulationThread()) {
+			return;
+		}
+
+		while (pending > 0) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for the simulation.");
+			}
+		}
+	}
+
+	/**
+	 * Publishes a frame to the render thread, replacing the frame that it has not
+	 * taken yet.
+	 *
+	 * @param frame
+	 *            The immutable frame.
+	 */
+	public void publish(F frame) {
+		frames.publish(frame);
+	}
+
+	/**
+	 * Takes the newest frame published since the last time this was called.
+	 *
+	 * @return The frame or <code>null</code> if nothing has been published.
+	 */
+	public F take() {
+		return frames.take();
+	}
+
+	/**
+	 * Retrieves whether the current thread is the simulation thread.
+	 *
+	 * @return <code>boolean</code>
+	 */
+	public boolean isSimulationThread() {
+		return Thread.currentThread() == thread;
+	}
+
+	/**
+	 * Performs the submitted commands until the simulation thread is interrupted.
+	 * An exception thrown by a command is printed so that the commands after it
+	 * are still performed.
+	 */
+	private void run() {
+
+		while (!Thread.currentThread().isInterrupted()) {
+
+			final Action<?> command;
+
+			try {
+				command = commands.take();
+			} catch (InterruptedException e) {
+				return;
+			}
+
+			try {
+				command.execute();
+			} catch (RuntimeException e) {
+				e.printStackTrace();
+			} finally {
+				finish();
+			}
+		}
+	}
+
+	/**
+	 * Marks a command as finished and wakes the threads that are waiting for it.
+	 */
+	private synchronized void finish() {
+		pending--;
+		notifyAll();
+	}
+
+}
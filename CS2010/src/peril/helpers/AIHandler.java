@@ -11,6 +11,7 @@ import peril.ai.api.Country;
 import peril.ai.api.Player;
 import peril.ai.api.Points;
 import peril.ai.api.Unit;
+import peril.model.GameState;
 import peril.model.ModelPlayer;
 import peril.model.board.ModelCountry;
 import peril.model.board.ModelUnit;
@@ -22,7 +23,7 @@ import peril.model.states.ModelState;
  * 
  * @author Joshua_Eddy, Joseph_Rolli
  * 
- * @version 1.01.10
+ * @version 1.01.19
  * @since 2018-03-16
  * 
  * @see AIController
@@ -104,7 +105,8 @@ public final class AIHandler implements AIController {
 			throw new IllegalStateException("There is NOT two countries selected. Select two valid countries.");
 		}
 
-		game.view.attack();
+		// The AIs attack through the model so that they never use the war menu.
+		game.states.attack.combat.fight(game.states.attack.getPrimary(), game.states.attack.getSecondary());
 
 	}
 
@@ -261,7 +263,7 @@ public final class AIHandler implements AIController {
 	 */
 	@Override
 	public Points getPoints() {
-		return PointHelper.getInstance();
+		return game.points;
 	}
 
 	/**
@@ -299,7 +301,6 @@ public final class AIHandler implements AIController {
 		final boolean hasTraded = checkedSource.getArmy().tradeUp(checkedUnit);
 
 		if (hasTraded) {
-
 			player.spendPoints(PointHelper.TRADE_UNIT_COST);
 		}
 
@@ -382,7 +383,104 @@ public final class AIHandler implements AIController {
 
 		final ModelUnit checkedUnit = (ModelUnit) unit;
 
-		return UnitHelper.getInstance().getUnitAbove(checkedUnit);
+		return game.units.getUnitAbove(checkedUnit);
+	}
+
+	/**
+	 * Retrieves the {@link Country} with the specified id.
+	 */
+	@Override
+	public Country getCountry(int id) {
+		return game.board.getCountry(id);
+	}
+
+	/**
+	 * Retrieves the army strengths of every {@link Country} by id.
+	 */
+	@Override
+	public int[] getArmyStrengths() {
+
+		final int[] strengths = new int[game.board.getNumberOfCountries()];
+
+		for (int id = 0; id < strengths.length; id++) {
+			strengths[id] = game.board.getCountry(id).getArmy().getStrength();
+		}
+
+		return strengths;
+	}
+
+	/**
+	 * Retrieves the owner of every {@link Country} by id.
+	 */
+	@Override
+	public int[] getOwners() {
+
+		final int[] owners = new int[game.board.getNumberOfCountries()];
+
+		for (int id = 0; id < owners.length; id++) {
+
+			final ModelPlayer ruler = game.board.getCountry(id).getRuler();
+
+			owners[id] = ruler == null ? 0 : ruler.number;
+		}
+
+		return owners;
+	}
+
+	/**
+	 * Retrieves the enemy neighbour strength of every {@link Country} by id.
+	 */
+	@Override
+	public int[] getEnemyNeighbourStrengths() {
+
+		final int[] strengths = getArmyStrengths();
+		final int[] owners = getOwners();
+		final int[] offsets = game.board.getNeighbourOffsets();
+		final int[] neighbours = game.board.getNeighbourIds();
+
+		final int[] enemyStrengths = new int[strengths.length];
+
+		for (int id = 0; id < strengths.length; id++) {
+
+			int sum = 0;
+
+			for (int index = offsets[id]; index < offsets[id + 1]; index++) {
+
+				final int neighbour = neighbours[index];
+
+				if (owners[neighbour] != owners[id]) {
+					sum += strengths[neighbour];
+				}
+			}
+
+			enemyStrengths[id] = sum;
+		}
+
+		return enemyStrengths;
+	}
+
+	/**
+	 * Retrieves the neighbour offsets of every {@link Country} by id.
+	 */
+	@Override
+	public int[] getNeighbourOffsets() {
+		return game.board.getNeighbourOffsets();
+	}
+
+	/**
+	 * Retrieves the neighbour ids of every {@link Country} by id.
+	 */
+	@Override
+	public int[] getNeighbourIds() {
+		return game.board.getNeighbourIds();
+	}
+
+	/**
+	 * Captures the {@link GameState} of the {@link Game}.
+	 */
+	@Override
+	public GameState getGameState() {
+		return GameState.capture(game.getGameController());
 	}
 
 }
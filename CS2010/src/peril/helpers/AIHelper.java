@@ -17,13 +17,25 @@ import peril.ai.*;
  * 
  * @since 2018-03-17
  * 
- * @version 1.01.06
+ * @version 1.01.13
  * 
  * @see Iterable
  * @see AI
  */
 public final class AIHelper implements Iterable<AI> {
 
+	/**
+	 * The number of {@link AI} steps per frame when the game is not in turbo.
+	 */
+	public static final int NORMAL_STEPS = 1;
+
+	/**
+	 * The maximum number of milliseconds that the {@link AI} steps of one frame
+	 * may take in turbo, so that the frame rate is not limited by the
+	 * {@link AI}s.
+	 */
+	public static final int TURBO_BUDGET = 8;
+
 	/**
 	 * The {@link Map} that contains all the {@link AI} in the game. {@link AI}s
 	 * that are available for the user to select have a true value.
@@ -36,6 +48,11 @@ public final class AIHelper implements Iterable<AI> {
 	 */
 	private final GameController game;
 
+	/**
+	 * The maximum number of {@link AI} steps performed each frame.
+	 */
+	private int steps;
+
 	/**
 	 * Constructs a new {@link AIHelper} object.
 	 * 
@@ -47,6 +64,7 @@ public final class AIHelper implements Iterable<AI> {
 	public AIHelper(GameController game) {
 		this.ai = new IdentityHashMap<>();
 		this.game = game;
+		this.steps = NORMAL_STEPS;
 		addAll();
 	}
 
@@ -68,6 +86,7 @@ public final class AIHelper implements Iterable<AI> {
 		final Knight knight = new Knight(api);
 		final Ernie ernie = new Ernie(api);
 		final Noob noob = new Noob(api);
+		final Oracle oracle = new Oracle(api);
 
 		// Add AIs to ai map
 		ai.put(user, true);
@@ -79,6 +98,7 @@ public final class AIHelper implements Iterable<AI> {
 		ai.put(knight, true);
 		ai.put(ernie, true);
 		ai.put(noob, false);
+		ai.put(oracle, true);
 
 	}
 
@@ -118,6 +138,81 @@ public final class AIHelper implements Iterable<AI> {
 
 	}
 
+	/**
+	 * Sets the speed of every {@link AI} in this {@link AIHelper}, including the
+	 * {@link AI}s that are not normally available.
+	 * 
+	 * @param speed
+	 *            The new speed of the {@link AI}s.
+	 * @see AI#setSpeed(int)
+	 */
+	public void setSpeed(int speed) {
+		ai.keySet().forEach(tempAI -> tempAI.setSpeed(speed));
+	}
+
+	/**
+	 * Sets the number of workers that each search of the {@link Oracle} uses.
+	 * 
+	 * @param parallelism
+	 *            The number of workers, at least one.
+	 * @see Oracle#setParallelism(int)
+	 */
+	public void setSearchParallelism(int parallelism) {
+		ai.keySet().stream().filter(tempAI -> tempAI instanceof Oracle)
+				.forEach(tempAI -> ((Oracle) tempAI).setParallelism(parallelism));
+	}
+
+	/**
+	 * Sets the maximum number of {@link AI} steps performed each frame. Any more
+	 * than {@link #NORMAL_STEPS} puts the game in turbo, where the steps of a frame
+	 * stop early once they have taken {@link #TURBO_BUDGET} milliseconds. Turbo is
+	 * only useful when the {@link AI}s are at {@link AI#SIMULATION_SPEED}, as
+	 * otherwise they wait between operations.
+	 * 
+	 * @param steps
+	 *            The number of steps, at least {@link #NORMAL_STEPS}.
+	 */
+	public void setSteps(int steps) {
+
+		if (steps < NORMAL_STEPS) {
+			throw new IllegalArgumentException(steps + " is not a valid number of steps per frame.");
+		}
+
+		this.steps = steps;
+	}
+
+	/**
+	 * Takes the {@link AI}s out of turbo by performing {@link #NORMAL_STEPS} each
+	 * frame and, if they are at {@link AI#SIMULATION_SPEED}, returning them to
+	 * {@link AI#MAX_SPEED} which is the speed every {@link AI} starts at.
+	 */
+	public void stopTurbo() {
+
+		steps = NORMAL_STEPS;
+
+		ai.keySet().stream().filter(tempAI -> tempAI.getSpeed() == AI.SIMULATION_SPEED)
+				.forEach(tempAI -> tempAI.setSpeed(AI.MAX_SPEED));
+	}
+
+	/**
+	 * Retrieves the maximum number of {@link AI} steps performed each frame.
+	 * 
+	 * @return <code>int</code>
+	 * @see #setSteps(int)
+	 */
+	public int getSteps() {
+		return steps;
+	}
+
+	/**
+	 * Stops the threads of every {@link AI} in this {@link AIHelper}.
+	 * 
+	 * @see AI#shutdown()
+	 */
+	public void shutdown() {
+		ai.keySet().forEach(AI::shutdown);
+	}
+
 	/**
 	 * Retrieves the {@link Iterator} that iterates through all the AI's available
 	 * in this {@link AIHelper}.
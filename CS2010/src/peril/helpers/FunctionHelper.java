@@ -13,7 +13,7 @@ import peril.views.slick.util.Button;
  * 
  * @author Mohammad_ali_Sayed_Ackbar, Joshua_Eddy, Joseph_Rolli, Adrian_Wong
  * 
- * @version 1.01.06
+ * @version 1.01.07
  * @since 2018-03-12
  *
  */
@@ -111,6 +111,12 @@ public final class FunctionHelper {
 			return enterCredits();
 		case 33:
 			return enterHelp();
+		case 34:
+			return enterReplay();
+		case 35:
+			return stepReplay(-1);
+		case 36:
+			return stepReplay(1);
 
 		}
 
@@ -249,6 +255,26 @@ public final class FunctionHelper {
 		return new Action<GameController>(game, game -> game.getView().enterHelp());
 	}
 
+	/**
+	 * Retrieves the {@link Action} that moves to the replay of the last game.
+	 * 
+	 * @return {@link Action} The action returned.
+	 */
+	private Action<?> enterReplay() {
+		return new Action<GameController>(game, game -> game.getView().enterReplay());
+	}
+
+	/**
+	 * Retrieves the {@link Action} that moves the replay a number of rounds.
+	 * 
+	 * @param rounds
+	 *            The number of rounds, which is negative to move backwards.
+	 * @return {@link Action} The action returned.
+	 */
+	private Action<?> stepReplay(int rounds) {
+		return new Action<GameController>(game, game -> game.getView().stepReplay(rounds));
+	}
+
 	/**
 	 * Retrieves a function that show the {@link WarMenu} between visible and
 	 * invisible.
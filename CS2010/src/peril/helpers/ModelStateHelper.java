@@ -14,7 +14,7 @@ import peril.model.states.*;
  * @author Joshua_Eddy
  * 
  * @since 2018-02-06
- * @version 1.01.01
+ * @version 1.01.02
  *
  */
 public class ModelStateHelper {
@@ -77,4 +77,27 @@ public class ModelStateHelper {
 		fortify.deselectAll();
 	}
 
+	/**
+	 * Retrieves the number of the phase a {@link ModelState} is, which is zero if
+	 * it is not one of the {@link ModelState}s of this {@link ModelStateHelper}.
+	 * 
+	 * @param state
+	 *            {@link ModelState} or <code>null</code>.
+	 * @return <code>int</code>
+	 */
+	public int getPhase(ModelState state) {
+
+		if (state == setup) {
+			return 1;
+		} else if (state == reinforce) {
+			return 2;
+		} else if (state == attack) {
+			return 3;
+		} else if (state == fortify) {
+			return 4;
+		}
+
+		return 0;
+	}
+
 }
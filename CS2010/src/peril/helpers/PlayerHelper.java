@@ -19,7 +19,7 @@ import peril.model.board.ModelUnit;
  * 
  * @author Joshua_Eddy
  * 
- * @version 1.01.04
+ * @version 1.01.06
  * @since 2018-03-06
  *
  */
@@ -57,6 +57,12 @@ public final class PlayerHelper {
 	 */
 	private final Game game;
 
+	/**
+	 * The {@link Random} that chooses random {@link ModelPlayer}s, which is the
+	 * {@link Random} of the {@link Game} if there is one.
+	 */
+	private final Random random;
+
 	/**
 	 * The {@link ModelPlayer} who's turn it is.
 	 */
@@ -75,6 +81,7 @@ public final class PlayerHelper {
 	 */
 	public PlayerHelper(Game game) {
 		this.game = game;
+		this.random = game == null ? new Random() : game.random;
 
 		this.playing = new LinkedHashMap<>();
 		this.challenges = new LinkedList<>();
@@ -277,7 +284,7 @@ public final class PlayerHelper {
 	public ModelPlayer getRandomPlayer() {
 
 		// A random position in the set of players.
-		int pos = new Random().nextInt(playing.size());
+		int pos = random.nextInt(playing.size());
 
 		// Iterate over each player.
 		int index = 0;
@@ -310,7 +317,7 @@ public final class PlayerHelper {
 		final int factor = (player.getCountriesRuled() < 12 ? 9 : player.getCountriesRuled()) / 3;
 
 		// The weakest unit.
-		final ModelUnit weakest = UnitHelper.getInstance().getWeakest();
+		final ModelUnit weakest = game.units.getWeakest();
 
 		for (int index = 0; index < factor * roundScale; index++) {
 			player.distributableArmy.add(weakest);
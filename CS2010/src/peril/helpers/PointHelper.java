@@ -9,7 +9,7 @@ import peril.ai.api.Points;
  * @author Joseph_Rolli, Joshua_Eddy
  * 
  * @since 2018-03-09
- * @version 1.01.05
+ * @version 1.01.06
  * 
  * @see Points
  *
@@ -34,19 +34,20 @@ public final class PointHelper implements Points {
 	public static final int TRADE_UNIT_COST = 4;
 
 	/**
-	 * The singleton instance of the {@link PointHelper}.
+	 * The default instance of the {@link PointHelper}.
 	 */
 	private static final PointHelper INSTANCE = new PointHelper();
 
 	/**
 	 * Constructs a new {@link PointHelper}.
 	 */
-	private PointHelper() {
+	public PointHelper() {
 		// Do nothing
 	}
 
 	/**
-	 * Retrieves the singleton instance of {@link PointHelper}.
+	 * Retrieves the default instance of {@link PointHelper}. Each game has its own
+	 * {@link PointHelper} which is available from the game.
 	 * 
 	 * @return The {@link PointHelper}.
 	 */
@@ -6,12 +6,14 @@ import java.util.function.Consumer;
 import peril.model.board.ModelUnit;
 
 /**
- * Stores the {@link ModelUnit}s that are currently in use. Singleton
+ * Stores the {@link ModelUnit}s that are currently in use. Each game has its own
+ * {@link UnitHelper} so that games can be played at the same time, objects that
+ * are not part of a game use {@link #getInstance()}.
  * 
  * @author Joshua_Eddy
  * 
  * @since 2018-02-18
- * @version 1.01.01
+ * @version 1.01.03
  * 
  * @see ModelUnit
  * @see LinkedList
@@ -20,7 +22,7 @@ import peril.model.board.ModelUnit;
 public final class UnitHelper {
 
 	/**
-	 * The singleton instance of this {@link UnitHelper}.
+	 * The default instance of this {@link UnitHelper}.
 	 */
 	private final static UnitHelper INSTANCE = new UnitHelper();
 
@@ -30,14 +32,15 @@ public final class UnitHelper {
 	private final OrderedList<ModelUnit> units;
 
 	/**
-	 * Constructs a new {@link UnitHelper}.
+	 * Constructs a new empty {@link UnitHelper}.
 	 */
-	private UnitHelper() {
+	public UnitHelper() {
 		units = new OrderedList<>();
 	}
 
 	/**
-	 * Retrieves the singleton instance of this {@link UnitHelper}.
+	 * Retrieves the default instance of this {@link UnitHelper} which is used by
+	 * objects that are not given the {@link UnitHelper} of their game.
 	 * 
 	 * @return {@link UnitHelper}
 	 */
@@ -132,6 +135,40 @@ public final class UnitHelper {
 		}
 	}
 
+	/**
+	 * Retrieves the number of {@link ModelUnit} tiers, where the weakest
+	 * {@link ModelUnit} is tier zero.
+	 * 
+	 * @return <code>int</code>
+	 */
+	public int getNumberOfTiers() {
+		return units.size();
+	}
+
+	/**
+	 * Retrieves the tier of a {@link ModelUnit}, where the weakest
+	 * {@link ModelUnit} is tier zero.
+	 * 
+	 * @param unit
+	 *            {@link ModelUnit}
+	 * @return The tier or -1 if this {@link UnitHelper} does not contain the
+	 *         {@link ModelUnit}.
+	 */
+	public int getTier(ModelUnit unit) {
+		return units.indexOf(unit);
+	}
+
+	/**
+	 * Retrieves the {@link ModelUnit} of a tier.
+	 * 
+	 * @param tier
+	 *            The tier where zero is the weakest {@link ModelUnit}.
+	 * @return {@link ModelUnit}
+	 */
+	public ModelUnit getUnit(int tier) {
+		return units.get(tier);
+	}
+
 	/**
 	 * Retrieves the {@link ModelUnit} with the specified name.
 	 * 
@@ -0,0 +1,1186 @@
+package peril.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+import peril.Directory;
+import peril.GameController;
+import peril.helpers.PlayerHelper;
+import peril.model.ModelPlayer;
+import peril.model.board.ModelArmy;
+import peril.model.board.ModelBoard;
+import peril.model.board.ModelCountry;
+import peril.model.board.ModelUnit;
+import peril.model.board.links.ModelLink;
+import peril.model.board.links.ModelLinkState;
+import peril.model.states.ModelState;
+
+/**
+ * Saves the game at the end of every turn into a ring of files in a directory
+ * of its own so that any of the recent turns can be recovered after a crash.
+ * Each game starts a new directory, so the autosaves of a game that crashed
+ * are still there when the next game is played, and only the directories of
+ * the {@link #KEPT_GAMES} most recent games are kept.<br>
+ * <br>
+ * Every {@link #getCheckpointInterval()} turns a checkpoint of the whole game
+ * is written as a {@link BinarySave}. Every other turn only a delta is written,
+ * which holds the state of the game, the order of the players and the
+ * {@link ModelCountry}s, {@link ModelPlayer}s and {@link ModelLink}s that have
+ * changed since the previous turn was saved, so an autosave costs little more than the changes of
+ * the turn. Once a turn is older than the {@link #getRetention()} the files
+ * that no remaining turn depends on are deleted. Each turn is added to the
+ * {@link SaveIndex} of its game's directory once it has been written, so the
+ * turns of a game can be described without reading them.<br>
+ * <br>
+ * {@link #restore(String, int)} rebuilds a turn from its checkpoint and deltas
+ * into the details of the lines of a text save, which {@link #recover(String,
+ * int, String)} writes to a save file that can be loaded like any other. The
+ * game is started with {@link #ARGUMENT} to recover the latest game of a map
+ * into a free save slot.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-27
+ * @version 1.01.04
+ *
+ * @see BinarySave
+ * @see SaveQueue
+ *
+ */
+public final class Autosave {
+
+	/**
+	 * The name of the directory within a map's directory that its autosaves are
+	 * written to.
+	 */
+	public static final String DIRECTORY = "autosave";
+
+	/**
+	 * The argument that recovers the latest autosaved game of a map instead of
+	 * starting the game.
+	 *
+	 * @see #recoverFromArguments(String[], Directory)
+	 */
+	public static final String ARGUMENT = "-recover";
+
+	/**
+	 * The number of the most recent games whose autosaves are kept.
+	 */
+	public static final int KEPT_GAMES = 5;
+
+	/**
+	 * The number of turns between each checkpoint if it is not specified.
+	 */
+	public static final int DEFAULT_CHECKPOINT_INTERVAL = 10;
+
+	/**
+	 * The number of the most recent turns that can be recovered if it is not
+	 * specified.
+	 */
+	public static final int DEFAULT_RETENTION = 50;
+
+	/**
+	 * The bytes at the start of every delta.
+	 */
+	public static final int MAGIC = 0x50534444;
+
+	/**
+	 * The version of the format the deltas are written in.
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * The extension of a checkpoint file.
+	 */
+	private static final String CHECKPOINT = ".sav";
+
+	/**
+	 * The extension of a delta file.
+	 */
+	private static final String DELTA = ".delta";
+
+	/**
+	 * The start of the name of the directory of each game, which is followed by
+	 * the number of the game.
+	 */
+	private static final String GAME = "game";
+
+	/**
+	 * The path to the directory that holds the directory of each game, ending with
+	 * a separator.
+	 */
+	private final String directory;
+
+	/**
+	 * The path to the directory the current game is autosaved to, ending with a
+	 * separator, or <code>null</code> if no turn has been saved yet.
+	 */
+	private String gameDirectory;
+
+	/**
+	 * The number of turns between each checkpoint.
+	 */
+	private final int checkpointInterval;
+
+	/**
+	 * The number of the most recent turns that can be recovered.
+	 */
+	private final int retention;
+
+	/**
+	 * The {@link SaveQueue} that writes the autosaves or <code>null</code> if
+	 * they are written on the thread the game is played on.
+	 */
+	private final SaveQueue queue;
+
+	/**
+	 * The number of the turn that will be saved next, from zero at the start of
+	 * each game.
+	 */
+	private int turn;
+
+	/**
+	 * The oldest turn whose file has not been deleted.
+	 */
+	private int oldest;
+
+	/**
+	 * The {@link ModelUnit}s of the game in the order they are saved.
+	 */
+	private ModelUnit[] units;
+
+	/**
+	 * The ruler followed by the number of each {@link ModelUnit} of each
+	 * {@link ModelCountry} as it was last saved, by {@link ModelCountry#getId()}.
+	 */
+	private int[][] countries;
+
+	/**
+	 * The offsets of each {@link ModelCountry}'s links in {@link #neighbours},
+	 * {@link #linkStates} and {@link #linkDurations}.
+	 *
+	 * @see ModelBoard#getNeighbourOffsets()
+	 */
+	private int[] offsets;
+
+	/**
+	 * The ids of the neighbour each link leads to.
+	 *
+	 * @see ModelBoard#getNeighbourIds()
+	 */
+	private int[] neighbours;
+
+	/**
+	 * The {@link ModelLinkState} of each link as it was last saved.
+	 */
+	private ModelLinkState[] linkStates;
+
+	/**
+	 * The duration of each link as it was last saved.
+	 */
+	private int[] linkDurations;
+
+	/**
+	 * The details of each {@link ModelPlayer} as they were last saved, by player
+	 * number.
+	 */
+	private int[][] players;
+
+	/**
+	 * Constructs a new {@link Autosave} with the default checkpoint interval and
+	 * retention.
+	 *
+	 * @param directory
+	 *            The path to the directory that holds the directory of each
+	 *            game.
+	 * @param queue
+	 *            The {@link SaveQueue} that writes the autosaves or
+	 *            <code>null</code> to write them on the thread the game is played
+	 *            on.
+	 */
+	public Autosave(String directory, SaveQueue queue) {
+		this(directory, DEFAULT_CHECKPOINT_INTERVAL, DEFAULT_RETENTION, queue);
+	}
+
+	/**
+	 * Constructs a new {@link Autosave}.
+	 *
+	 * @param directory
+	 *            The path to the directory that holds the directory of each
+	 *            game.
+	 * @param checkpointInterval
+	 *            The number of turns between each checkpoint.
+	 * @param retention
+	 *            The number of the most recent turns that can be recovered.
+	 * @param queue
+	 *            The {@link SaveQueue} that writes the autosaves or
+	 *            <code>null</code> to write them on the thread the game is played
+	 *            on.
+	 */
+	public Autosave(String directory, int checkpointInterval, int retention, SaveQueue queue) {
+
+		if (directory == null) {
+			throw new NullPointerException("Directory cannot be null.");
+		} else if (checkpointInterval < 1) {
+			throw new IllegalArgumentException(checkpointInterval + " is not a valid checkpoint interval.");
+		} else if (retention < 1) {
+			throw new IllegalArgumentException(retention + " is not a valid retention.");
+		}
+
+		this.directory = directory.endsWith(File.separator) ? directory : directory + File.separator;
+		this.checkpointInterval = checkpointInterval;
+		this.retention = retention;
+		this.queue = queue;
+		this.gameDirectory = null;
+		this.turn = 0;
+		this.oldest = 0;
+	}
+
+	/**
+	 * Saves the turn that has just ended. The first turn of each game is a
+	 * checkpoint in a new directory. This must be called on the thread the game
+	 * is played on.
+	 *
+	 * @param game
+	 *            The {@link GameController} of the game.
+	 */
+	public void turnEnded(GameController game) {
+
+		if (turn == 0) {
+			start();
+		}
+
+		if (turn % checkpointInterval == 0) {
+			writeCheckpoint(game);
+		} else {
+			writeDelta(game);
+		}
+
+		prune();
+		turn++;
+	}
+
+	/**
+	 * Starts a new game, so the next turn that is saved will be the first.
+	 */
+	public void reset() {
+		turn = 0;
+	}
+
+	/**
+	 * Retrieves the path to the directory that holds the directory of each game.
+	 *
+	 * @return <code>String</code>
+	 */
+	public String getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Retrieves the path to the directory the current game is autosaved to.
+	 *
+	 * @return <code>String</code> or <code>null</code> if no turn has been saved
+	 *         yet.
+	 */
+	public String getGameDirectory() {
+		return gameDirectory;
+	}
+
+	/**
+	 * Retrieves the number of turns between each checkpoint.
+	 *
+	 * @return <code>int</code>
+	 */
+	public int getCheckpointInterval() {
+		return checkpointInterval;
+	}
+
+	/**
+	 * Retrieves the number of the most recent turns that can be recovered.
+	 *
+	 * @return <code>int</code>
+	 */
+	public int getRetention() {
+		return retention;
+	}
+
+	/**
+	 * Retrieves the number of turns that have been saved in the current game.
+	 *
+	 * @return <code>int</code>
+	 */
+	public int getTurns() {
+		return turn;
+	}
+
+	/**
+	 * Retrieves the directory of the most recent game that has been autosaved
+	 * into a directory.
+	 *
+	 * @param directory
+	 *            The path to the directory that holds the directory of each game.
+	 * @return The path to the directory of the game or <code>null</code> if
+	 *         there are none.
+	 */
+	public static String getLatestGame(String directory) {
+
+		final int latest = getLatestGameNumber(new File(directory));
+
+		return latest < 0 ? null : new File(directory, GAME + latest).getPath();
+	}
+
+	/**
+	 * Recovers the latest autosaved game of a map into the first save slot of
+	 * the map that is not in use, so it can be loaded from the menu like any
+	 * other save.
+	 *
+	 * @param args
+	 *            <code>-recover map [turn]</code>, where the turn is the latest
+	 *            turn of the game if it is not specified.
+	 * @param assets
+	 *            The {@link Directory} of the game's assets.
+	 * @return The {@link SaveFile} the game was recovered into.
+	 * @throws IOException
+	 *             Thrown if the turn cannot be rebuilt or written.
+	 */
+	public static SaveFile recoverFromArguments(String[] args, Directory assets) throws IOException {
+
+		if (args.length < 2 || args.length > 3 || !ARGUMENT.equals(args[0])) {
+			throw new IllegalArgumentException("Usage: " + ARGUMENT + " <map> [<turn>]");
+		}
+
+		final String mapPath = assets.asMapPath(args[1]);
+		final String game = getLatestGame(mapPath + DIRECTORY);
+
+		if (game == null) {
+			throw new IllegalStateException(args[1] + " has not been autosaved.");
+		}
+
+		final int turn = args.length == 3 ? Integer.parseInt(args[2]) : getLatestTurn(game);
+
+		for (SaveFile file : SaveFile.values()) {
+			if (file != SaveFile.DEFAULT && !file.existsIn(mapPath)) {
+				recover(game, turn, mapPath + file.textFilename);
+				return file;
+			}
+		}
+
+		throw new IllegalStateException("Every save slot of " + args[1] + " is in use.");
+	}
+
+	/**
+	 * Retrieves the most recent turn that has been saved in a directory of
+	 * autosaves.
+	 *
+	 * @param directory
+	 *            The path to the directory.
+	 * @return The number of the turn or <code>-1</code> if there are none.
+	 */
+	public static int getLatestTurn(String directory) {
+
+		final String[] files = new File(directory).list();
+
+		int latest = -1;
+
+		if (files != null) {
+			for (String file : files) {
+				latest = Math.max(latest, turnOf(file));
+			}
+		}
+
+		return latest;
+	}
+
+	/**
+	 * Rebuilds a turn from a directory of autosaves into a save file that can be
+	 * loaded like any other.
+	 *
+	 * @param directory
+	 *            The path to the directory of autosaves.
+	 * @param turn
+	 *            The number of the turn.
+	 * @param path
+	 *            The path to the save file that is written.
+	 * @throws IOException
+	 *             Thrown if the turn cannot be rebuilt or written.
+	 */
+	public static void recover(String directory, int turn, String path) throws IOException {
+
+		final String[][] lines = restore(directory, turn);
+
+		SaveQueue.writeAtomically(path, out -> {
+
+			final StringBuilder text = new StringBuilder();
+
+			for (String[] details : lines) {
+				text.append(String.join(",", details));
+				text.append(System.lineSeparator());
+			}
+
+			out.write(text.toString().getBytes());
+		});
+	}
+
+	/**
+	 * Rebuilds a turn from its checkpoint and the deltas that follow it into the
+	 * details of the lines of the equivalent text save.
+	 *
+	 * @param directory
+	 *            The path to the directory of autosaves.
+	 * @param turn
+	 *            The number of the turn.
+	 * @return The details of every line.
+	 * @throws IOException
+	 *             Thrown if the checkpoint or a delta of the turn cannot be read.
+	 */
+	public static String[][] restore(String directory, int turn) throws IOException {
+
+		final File checkpoint = new File(directory, turn + CHECKPOINT);
+
+		if (checkpoint.isFile()) {
+			try (InputStream in = new FileInputStream(checkpoint)) {
+				return BinarySave.read(in).getLines();
+			}
+		}
+
+		final int start;
+
+		try (DataInputStream in = openDelta(directory, turn)) {
+			start = BinarySave.readVarint(in);
+		}
+
+		if (start >= turn) {
+			throw new IOException("Turn " + turn + " does not follow a checkpoint.");
+		}
+
+		final String[][] lines = restore(directory, start);
+		final Restorer restorer = new Restorer(lines);
+
+		for (int delta = start + 1; delta <= turn; delta++) {
+			try (DataInputStream in = openDelta(directory, delta)) {
+
+				if (BinarySave.readVarint(in) != start) {
+					throw new IOException("Turn " + delta + " does not follow the checkpoint of turn " + start + ".");
+				}
+
+				restorer.apply(in);
+			}
+		}
+
+		return lines;
+	}
+
+	/**
+	 * Writes a checkpoint of the whole game and remembers the game as it was
+	 * saved.
+	 *
+	 * @param game
+	 *            {@link GameController}
+	 */
+	private void writeCheckpoint(GameController game) {
+
+		final ModelBoard board = game.getModelBoard();
+
+		final List<ModelUnit> unitList = new ArrayList<>();
+		game.getUnitHelper().forEach(unitList::add);
+		units = unitList.toArray(new ModelUnit[unitList.size()]);
+
+		countries = new int[board.getNumberOfCountries()][units.length + 1];
+		offsets = board.getNeighbourOffsets();
+		neighbours = board.getNeighbourIds();
+		linkStates = new ModelLinkState[neighbours.length];
+		linkDurations = new int[neighbours.length];
+		players = new int[PlayerHelper.MAX_PLAYERS + 1][];
+
+		// Remember the game as it is in the checkpoint.
+		board.forEachCountry(country -> {
+			hasCountryChanged(country);
+			forEachLink(board, country, (link, index) -> hasLinkChanged(link, index));
+		});
+
+		game.forEachModelPlayer(player -> hasPlayerChanged(player, true));
+		game.forEachLoser(player -> hasPlayerChanged(player, false));
+
+		write(turn + CHECKPOINT, new MapWriter(game, gameDirectory + turn + CHECKPOINT, SaveFormat.BINARY).capture(),
+				game);
+	}
+
+	/**
+	 * Writes a delta of the elements of the game that have changed since the
+	 * previous turn was saved.
+	 *
+	 * @param game
+	 *            {@link GameController}
+	 */
+	private void writeDelta(GameController game) {
+
+		final ModelState state = game.getCurrentState();
+
+		// If the state is null then the current state is not a model state.
+		if (state == null) {
+			throw new IllegalStateException("The current state cannot be saved.");
+		}
+
+		final ModelBoard board = game.getModelBoard();
+		final Records playerOrder = new Records();
+		final Records changedPlayers = new Records();
+		final Records changedCountries = new Records();
+		final Records changedLinks = new Records();
+
+		// The players that are playing come before the losers.
+		game.forEachModelPlayer(player -> playerOrder.add(player.number, new int[0]));
+		game.forEachLoser(player -> playerOrder.add(player.number, new int[0]));
+
+		game.forEachModelPlayer(player -> {
+			if (hasPlayerChanged(player, true)) {
+				changedPlayers.add(player.number, players[player.number]);
+			}
+		});
+
+		game.forEachLoser(player -> {
+			if (hasPlayerChanged(player, false)) {
+				changedPlayers.add(player.number, players[player.number]);
+			}
+		});
+
+		board.forEachCountry(country -> {
+
+			if (hasCountryChanged(country)) {
+				changedCountries.add(country.getId(), countries[country.getId()]);
+			}
+
+			forEachLink(board, country, (link, index) -> {
+				if (hasLinkChanged(link, index)) {
+					changedLinks.add(country.getId(), new int[] { neighbours[index], link.getState().ordinal(),
+							link.getDuration() });
+				}
+			});
+		});
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try {
+
+			final DataOutputStream out = new DataOutputStream(bytes);
+
+			out.writeInt(MAGIC);
+			BinarySave.writeVarint(out, VERSION);
+
+			// The checkpoint this delta follows.
+			BinarySave.writeVarint(out, turn - turn % checkpointInterval);
+
+			out.writeUTF(state.getName());
+			BinarySave.writeVarint(out, game.getCurrentModelPlayer().number);
+			BinarySave.writeVarint(out, game.getRoundNumber());
+
+			playerOrder.writeTo(out);
+			changedPlayers.writeTo(out);
+			changedCountries.writeTo(out);
+			changedLinks.writeTo(out);
+
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+
+		write(turn + DELTA, out -> bytes.writeTo(out), game);
+	}
+
+	/**
+	 * Writes a file of the current game and then adds it to the {@link SaveIndex}
+	 * of the {@link #gameDirectory}.
+	 *
+	 * @param name
+	 *            The name of the file in the {@link #gameDirectory}.
+	 * @param snapshot
+	 *            {@link SaveSnapshot}
+	 * @param game
+	 *            The {@link GameController} of the game.
+	 */
+	private void write(String name, SaveSnapshot snapshot, GameController game) {
+
+		final Runnable index = SaveIndex.capture(game, gameDirectory + name);
+
+		if (queue != null) {
+			queue.submit(gameDirectory + name, snapshot, saved -> {
+				if (saved) {
+					index.run();
+				}
+			});
+			return;
+		}
+
+		try {
+			SaveQueue.writeAtomically(gameDirectory + name, snapshot);
+			index.run();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Deletes the files of the turns that are older than the {@link #retention}
+	 * and that no remaining turn depends on.
+	 */
+	private void prune() {
+
+		final int keep = turn - retention + 1;
+
+		if (keep <= 0) {
+			return;
+		}
+
+		// The oldest turn that is kept needs the checkpoint before it.
+		final int first = keep - keep % checkpointInterval;
+
+		for (; oldest < first; oldest++) {
+			delete(gameDirectory + oldest + (oldest % checkpointInterval == 0 ? CHECKPOINT : DELTA));
+		}
+	}
+
+	/**
+	 * Creates the directory of a new game after the directory of the latest game
+	 * and deletes the directories of the games that are no longer kept.
+	 */
+	private void start() {
+
+		final File folder = new File(directory);
+
+		if (!folder.isDirectory() && !folder.mkdirs()) {
+			throw new IllegalStateException("Cannot create " + directory + ".");
+		}
+
+		final int number = getLatestGameNumber(folder) + 1;
+		final File game = new File(folder, GAME + number);
+
+		if (!game.mkdir()) {
+			throw new IllegalStateException("Cannot create " + game.getPath() + ".");
+		}
+
+		for (File file : folder.listFiles()) {
+
+			final int previous = gameOf(file.getName());
+
+			if (previous >= 0 && previous <= number - KEPT_GAMES) {
+				delete(file.getPath());
+			}
+		}
+
+		gameDirectory = game.getPath() + File.separator;
+		oldest = 0;
+	}
+
+	/**
+	 * Deletes a file, or a directory and everything in it, after the autosaves
+	 * that are waiting to be written.
+	 *
+	 * @param path
+	 *            The path to the file or directory.
+	 */
+	private void delete(String path) {
+
+		if (queue != null) {
+			queue.delete(path);
+			return;
+		}
+
+		try {
+			SaveQueue.deleteAll(path);
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Compares a {@link ModelCountry} to how it was last saved and remembers it
+	 * as it is now.
+	 *
+	 * @param country
+	 *            {@link ModelCountry}
+	 * @return Whether the {@link ModelCountry} has changed.
+	 */
+	private boolean hasCountryChanged(ModelCountry country) {
+
+		final int[] saved = countries[country.getId()];
+		final ModelArmy army = country.getArmy();
+
+		boolean changed = false;
+
+		final int ruler = country.getRuler() == null ? 0 : country.getRuler().number;
+
+		if (saved[0] != ruler) {
+			saved[0] = ruler;
+			changed = true;
+		}
+
+		for (int index = 0; index < units.length; index++) {
+
+			final int number = army.getNumberOf(units[index]);
+
+			if (saved[index + 1] != number) {
+				saved[index + 1] = number;
+				changed = true;
+			}
+		}
+
+		return changed;
+	}
+
+	/**
+	 * Compares a {@link ModelLink} to how it was last saved and remembers it as it
+	 * is now.
+	 *
+	 * @param link
+	 *            {@link ModelLink}
+	 * @param index
+	 *            The index of the {@link ModelLink} in {@link #neighbours}.
+	 * @return Whether the {@link ModelLink} has changed.
+	 */
+	private boolean hasLinkChanged(ModelLink link, int index) {
+
+		if (linkStates[index] == link.getState() && linkDurations[index] == link.getDuration()) {
+			return false;
+		}
+
+		linkStates[index] = link.getState();
+		linkDurations[index] = link.getDuration();
+
+		return true;
+	}
+
+	/**
+	 * Compares a {@link ModelPlayer} to how it was last saved and remembers it as
+	 * it is now.
+	 *
+	 * @param player
+	 *            {@link ModelPlayer}
+	 * @param isActive
+	 *            Whether the {@link ModelPlayer} is playing or has lost.
+	 * @return Whether the {@link ModelPlayer} has changed.
+	 */
+	private boolean hasPlayerChanged(ModelPlayer player, boolean isActive) {
+
+		final int[] details = { player.distributableArmy.getStrength(), player.getCountriesTaken(),
+				player.getUnitsKilled(), player.getPointsSpent(), isActive ? 1 : 0, player.getPoints() };
+
+		if (Arrays.equals(players[player.number], details)) {
+			return false;
+		}
+
+		players[player.number] = details;
+
+		return true;
+	}
+
+	/**
+	 * Performs a task on each {@link ModelLink} from a {@link ModelCountry} with
+	 * the index of the link in {@link #neighbours}.
+	 *
+	 * @param board
+	 *            {@link ModelBoard}
+	 * @param country
+	 *            {@link ModelCountry}
+	 * @param task
+	 *            Performed on each {@link ModelLink} and its index.
+	 */
+	private void forEachLink(ModelBoard board, ModelCountry country, ObjIntConsumer<ModelLink> task) {
+		for (int index = offsets[country.getId()]; index < offsets[country.getId() + 1]; index++) {
+			task.accept(country.getLinkTo(board.getCountry(neighbours[index])), index);
+		}
+	}
+
+	/**
+	 * Opens the delta of a turn and checks its header.
+	 *
+	 * @param directory
+	 *            The path to the directory of autosaves.
+	 * @param turn
+	 *            The number of the turn.
+	 * @return The {@link DataInputStream} of the delta after its version.
+	 * @throws IOException
+	 *             Thrown if the delta does not exist or is not supported.
+	 */
+	private static DataInputStream openDelta(String directory, int turn) throws IOException {
+
+		final File file = new File(directory, turn + DELTA);
+
+		if (!file.isFile()) {
+			throw new IOException("There is no autosave of turn " + turn + ".");
+		}
+
+		final DataInputStream in = new DataInputStream(new FileInputStream(file));
+
+		try {
+
+			if (in.readInt() != MAGIC) {
+				throw new IOException(file.getName() + " is not an autosave.");
+			}
+
+			final int version = BinarySave.readVarint(in);
+
+			if (version != VERSION) {
+				throw new IOException("Version " + version + " autosaves are not supported.");
+			}
+
+		} catch (IOException e) {
+			in.close();
+			throw e;
+		}
+
+		return in;
+	}
+
+	/**
+	 * Retrieves the number of the most recent game in a directory that holds the
+	 * directory of each game.
+	 *
+	 * @param directory
+	 *            The directory.
+	 * @return The number of the game or <code>-1</code> if there are none.
+	 */
+	private static int getLatestGameNumber(File directory) {
+
+		final String[] files = directory.list();
+
+		int latest = -1;
+
+		if (files != null) {
+			for (String file : files) {
+				latest = Math.max(latest, gameOf(file));
+			}
+		}
+
+		return latest;
+	}
+
+	/**
+	 * Retrieves the number of a game from the name of its directory.
+	 *
+	 * @param name
+	 *            The name of the directory.
+	 * @return The number of the game or <code>-1</code> if the directory is not
+	 *         the directory of a game.
+	 */
+	private static int gameOf(String name) {
+
+		if (!name.startsWith(GAME)) {
+			return -1;
+		}
+
+		try {
+			return Integer.parseInt(name.substring(GAME.length()));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Retrieves the turn of an autosave from the name of its file.
+	 *
+	 * @param name
+	 *            The name of the file.
+	 * @return The number of the turn or <code>-1</code> if the file is not an
+	 *         autosave.
+	 */
+	private static int turnOf(String name) {
+
+		final String extension = name.endsWith(CHECKPOINT) ? CHECKPOINT : name.endsWith(DELTA) ? DELTA : null;
+
+		if (extension == null) {
+			return -1;
+		}
+
+		try {
+			return Integer.parseInt(name.substring(0, name.length() - extension.length()));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * The records of one kind of element of a delta, each of which starts with
+	 * the id of the element.
+	 */
+	private static final class Records {
+
+		/**
+		 * The bytes of the records.
+		 */
+		private final ByteArrayOutputStream bytes;
+
+		/**
+		 * The {@link DataOutputStream} that writes to {@link #bytes}.
+		 */
+		private final DataOutputStream out;
+
+		/**
+		 * The number of records.
+		 */
+		private int count;
+
+		/**
+		 * Constructs a new empty {@link Records}.
+		 */
+		private Records() {
+			this.bytes = new ByteArrayOutputStream();
+			this.out = new DataOutputStream(bytes);
+			this.count = 0;
+		}
+
+		/**
+		 * Adds a record.
+		 *
+		 * @param id
+		 *            The id of the element.
+		 * @param details
+		 *            The details of the element.
+		 */
+		private void add(int id, int[] details) {
+
+			try {
+
+				BinarySave.writeVarint(out, id);
+
+				for (int detail : details) {
+					BinarySave.writeVarint(out, detail);
+				}
+
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+
+			count++;
+		}
+
+		/**
+		 * Writes the number of records followed by the records.
+		 *
+		 * @param destination
+		 *            {@link DataOutputStream}
+		 * @throws IOException
+		 *             Thrown if the records cannot be written.
+		 */
+		private void writeTo(DataOutputStream destination) throws IOException {
+			BinarySave.writeVarint(destination, count);
+			bytes.writeTo(destination);
+		}
+	}
+
+	/**
+	 * Applies deltas to the details of the lines of a checkpoint.
+	 */
+	private static final class Restorer {
+
+		/**
+		 * The details of every line of the checkpoint.
+		 */
+		private final String[][] lines;
+
+		/**
+		 * The index in {@link #lines} of the first player.
+		 */
+		private int firstPlayer;
+
+		/**
+		 * The names of the units in the order they are saved.
+		 */
+		private final List<String> units;
+
+		/**
+		 * The details of each country by {@link ModelCountry#getId()}.
+		 */
+		private final String[][] countries;
+
+		/**
+		 * The details of each player by player number.
+		 */
+		private final Map<Integer, String[]> players;
+
+		/**
+		 * The details of each link by the ids of the countries it is from and to.
+		 */
+		private final Map<Long, String[]> links;
+
+		/**
+		 * The details of the state of the game.
+		 */
+		private String[] state;
+
+		/**
+		 * Constructs a new {@link Restorer}.
+		 *
+		 * @param lines
+		 *            The details of every line of the checkpoint, which are changed
+		 *            as the deltas are applied.
+		 */
+		private Restorer(String[][] lines) {
+
+			this.lines = lines;
+			this.units = new ArrayList<>();
+			this.players = new HashMap<>();
+			this.links = new HashMap<>();
+			this.firstPlayer = -1;
+
+			final List<String[]> countryLines = new ArrayList<>();
+
+			for (int index = 0; index < lines.length; index++) {
+
+				final String[] details = lines[index];
+
+				if (LineType.UNIT.text.equals(details[0])) {
+					units.add(details[1]);
+				} else if (LineType.COUNTRY.text.equals(details[0])) {
+					countryLines.add(details);
+				} else if (LineType.PLAYER.text.equals(details[0])) {
+					players.put(Integer.parseInt(details[1]), details);
+					firstPlayer = firstPlayer == -1 ? index : firstPlayer;
+				} else if (LineType.STATE.text.equals(details[0])) {
+					state = details;
+				}
+			}
+
+			// The ids of the countries are in the order of their names.
+			countryLines.sort((first, second) -> first[1].compareTo(second[1]));
+			this.countries = countryLines.toArray(new String[countryLines.size()][]);
+
+			final Map<String, Integer> ids = new HashMap<>();
+
+			for (int id = 0; id < countries.length; id++) {
+				ids.put(countries[id][1], id);
+			}
+
+			for (String[] details : lines) {
+				if (LineType.LINK.text.equals(details[0])) {
+					links.put(key(ids.get(details[1]), ids.get(details[2])), details);
+				}
+			}
+		}
+
+		/**
+		 * Applies a delta.
+		 *
+		 * @param in
+		 *            The {@link DataInputStream} of the delta after the checkpoint
+		 *            it follows.
+		 * @throws IOException
+		 *             Thrown if the delta cannot be read or does not match the
+		 *             checkpoint.
+		 */
+		private void apply(DataInputStream in) throws IOException {
+
+			if (state == null) {
+				throw new IOException("The checkpoint has no state.");
+			}
+
+			state[1] = in.readUTF();
+			state[2] = Integer.toString(BinarySave.readVarint(in));
+			state[3] = Integer.toString(BinarySave.readVarint(in));
+
+			final int numberOfPlayers = BinarySave.readVarint(in);
+
+			if (numberOfPlayers != players.size()) {
+				throw new IOException("The delta does not match its checkpoint.");
+			}
+
+			// The player lines are in a block, which is reordered as players lose.
+			for (int index = 0; index < numberOfPlayers; index++) {
+				lines[firstPlayer + index] = get(players.get(BinarySave.readVarint(in)));
+			}
+
+			for (int count = BinarySave.readVarint(in); count > 0; count--) {
+
+				final String[] player = get(players.get(BinarySave.readVarint(in)));
+
+				// Distributable army, countries taken, units killed, points spent
+				for (int detail = 3; detail < 7; detail++) {
+					player[detail] = Integer.toString(BinarySave.readVarint(in));
+				}
+
+				player[7] = Boolean.toString(BinarySave.readVarint(in) == 1);
+				player[8] = Integer.toString(BinarySave.readVarint(in));
+			}
+
+			for (int count = BinarySave.readVarint(in); count > 0; count--) {
+
+				final int id = BinarySave.readVarint(in);
+
+				if (id >= countries.length) {
+					throw new IOException(id + " is not a country of the checkpoint.");
+				}
+
+				final String[] country = countries[id];
+				final int ruler = BinarySave.readVarint(in);
+				final StringBuilder army = new StringBuilder();
+
+				for (String unit : units) {
+
+					final int number = BinarySave.readVarint(in);
+
+					if (number > 0) {
+
+						if (army.length() > 0) {
+							army.append('-');
+						}
+
+						army.append(unit);
+						army.append(':');
+						army.append(number);
+					}
+				}
+
+				country[3] = army.toString();
+				country[6] = ruler == 0 ? "-" : Integer.toString(ruler);
+			}
+
+			for (int count = BinarySave.readVarint(in); count > 0; count--) {
+
+				final String[] link = get(links.get(key(BinarySave.readVarint(in), BinarySave.readVarint(in))));
+
+				link[4] = ModelLinkState.values()[BinarySave.readVarint(in)].name;
+				link[5] = Integer.toString(BinarySave.readVarint(in));
+			}
+		}
+
+		/**
+		 * Checks that an element of a delta is in the checkpoint.
+		 *
+		 * @param details
+		 *            The details of the line of the element or <code>null</code>.
+		 * @return The details of the line.
+		 * @throws IOException
+		 *             Thrown if the element is not in the checkpoint.
+		 */
+		private static String[] get(String[] details) throws IOException {
+
+			if (details == null) {
+				throw new IOException("The delta does not match its checkpoint.");
+			}
+
+			return details;
+		}
+
+		/**
+		 * Retrieves the key of a link.
+		 *
+		 * @param from
+		 *            The id of the country the link is from.
+		 * @param to
+		 *            The id of the country the link is to.
+		 * @return <code>long</code>
+		 */
+		private static long key(int from, int to) {
+			return ((long) from << 32) | to;
+		}
+	}
+
+}
@@ -0,0 +1,937 @@
+package peril.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import peril.Challenge;
+import peril.model.ModelColor;
+import peril.model.ModelPlayer;
+import peril.model.board.ModelArmy;
+import peril.model.board.ModelContinent;
+import peril.model.board.ModelCountry;
+import peril.model.board.ModelUnit;
+import peril.model.board.links.ModelLink;
+
+/**
+ * The binary {@link SaveFormat}. A {@link BinarySave} is built by adding each
+ * element of the game in the same order as the lines of a text save and is then
+ * written in one go. Every name is written once in a table of strings and
+ * referred to by its index, every count and number is a variable length
+ * integer and each pair of linked countries is one record that holds the link
+ * in both directions, rather than the two lines of a text save.<br>
+ * <br>
+ * {@link #read(InputStream)} decodes a binary save into {@link Records} that
+ * hold each line of the equivalent text save as an array of fields. Numbers are
+ * kept as they were decoded and every other detail is an index into the table
+ * of strings, so the readers of a map parse both formats the same way without
+ * turning the numbers of a binary save into text and parsing them again.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-27
+ * @version 1.01.03
+ *
+ * @see SaveFormat
+ * @see MapWriter
+ * @see FileParser
+ *
+ */
+public final class BinarySave implements SaveSnapshot {
+
+	/**
+	 * The bytes at the start of every binary save.
+	 */
+	public static final int MAGIC = 0x50534156;
+
+	/**
+	 * The version of the format the save is written in.
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * The flag of a link record that holds the link from the first country to the
+	 * second.
+	 */
+	private static final int FORWARD = 1;
+
+	/**
+	 * The flag of a link record that holds the link from the second country to the
+	 * first.
+	 */
+	private static final int BACKWARD = 2;
+
+	/**
+	 * The table of every string in this {@link BinarySave} in the order they were
+	 * added.
+	 */
+	private final List<String> strings;
+
+	/**
+	 * The index of each string in {@link #strings}.
+	 */
+	private final Map<String, Integer> stringIndexes;
+
+	/**
+	 * The index of each unit by name.
+	 */
+	private final Map<String, Integer> units;
+
+	/**
+	 * The index of each country by name.
+	 */
+	private final Map<String, Integer> countries;
+
+	/**
+	 * The link records by the indexes of the two countries, where the lower index
+	 * is in the upper half.
+	 */
+	private final Map<Long, int[]> links;
+
+	/**
+	 * The unit records.
+	 */
+	private final Section unitSection;
+
+	/**
+	 * The player records.
+	 */
+	private final Section playerSection;
+
+	/**
+	 * The state record.
+	 */
+	private final Section stateSection;
+
+	/**
+	 * The country records.
+	 */
+	private final Section countrySection;
+
+	/**
+	 * The continent records.
+	 */
+	private final Section continentSection;
+
+	/**
+	 * The challenge records.
+	 */
+	private final Section challengeSection;
+
+	/**
+	 * Constructs a new empty {@link BinarySave}.
+	 */
+	public BinarySave() {
+		this.strings = new ArrayList<>();
+		this.stringIndexes = new HashMap<>();
+		this.units = new HashMap<>();
+		this.countries = new HashMap<>();
+		this.links = new LinkedHashMap<>();
+		this.unitSection = new Section();
+		this.playerSection = new Section();
+		this.stateSection = new Section();
+		this.countrySection = new Section();
+		this.continentSection = new Section();
+		this.challengeSection = new Section();
+	}
+
+	/**
+	 * Adds a {@link ModelUnit}.
+	 *
+	 * @param unit
+	 *            {@link ModelUnit}
+	 */
+	public void addUnit(ModelUnit unit) {
+
+		units.put(unit.name, units.size());
+
+		final DataOutputStream out = unitSection.next();
+
+		writeString(out, unit.name);
+		varint(out, unit.strength);
+		writeString(out, unit.fileName);
+	}
+
+	/**
+	 * Adds a {@link ModelPlayer}.
+	 *
+	 * @param player
+	 *            {@link ModelPlayer}
+	 * @param isActive
+	 *            Whether the player is currently playing or has lost.
+	 */
+	public void addPlayer(ModelPlayer player, boolean isActive) {
+
+		final DataOutputStream out = playerSection.next();
+
+		varint(out, player.number);
+		writeString(out, player.ai.name);
+		varint(out, player.distributableArmy.getStrength());
+		varint(out, player.getCountriesTaken());
+		varint(out, player.getUnitsKilled());
+		varint(out, player.getPointsSpent());
+		write(out, isActive ? 1 : 0);
+		varint(out, player.getPoints());
+	}
+
+	/**
+	 * Adds the state the game will start in.
+	 *
+	 * @param state
+	 *            The name of the state.
+	 * @param player
+	 *            The number of the current player.
+	 * @param round
+	 *            The round number.
+	 */
+	public void addState(String state, int player, int round) {
+
+		final DataOutputStream out = stateSection.next();
+
+		writeString(out, state);
+		varint(out, player);
+		varint(out, round);
+	}
+
+	/**
+	 * Adds a {@link ModelCountry}. The units of its army must already have been
+	 * added.
+	 *
+	 * @param country
+	 *            {@link ModelCountry}
+	 * @param offsetX
+	 *            The x offset of the army of the country.
+	 * @param offsetY
+	 *            The y offset of the army of the country.
+	 */
+	public void addCountry(ModelCountry country, int offsetX, int offsetY) {
+
+		countries.put(country.getName(), countries.size());
+
+		final DataOutputStream out = countrySection.next();
+		final ModelColor color = country.getColor();
+		final ModelArmy army = country.getArmy();
+
+		writeString(out, country.getName());
+		write(out, color.red);
+		write(out, color.green);
+		write(out, color.blue);
+
+		varint(out, army.getVarietyOfUnits());
+
+		for (ModelUnit unit : army) {
+			varint(out, indexOf(units, unit.name));
+			varint(out, army.getNumberOf(unit));
+		}
+
+		varint(out, zigZag(offsetX));
+		varint(out, zigZag(offsetY));
+		varint(out, country.getRuler() == null ? 0 : country.getRuler().number);
+	}
+
+	/**
+	 * Adds a {@link ModelContinent}. Its countries must already have been added.
+	 *
+	 * @param continent
+	 *            {@link ModelContinent}
+	 */
+	public void addContinent(ModelContinent continent) {
+
+		final DataOutputStream out = continentSection.next();
+
+		writeString(out, continent.getName());
+		writeString(out, continent.hazard.toString());
+		varint(out, continent.getCountries().size());
+
+		continent.getCountries().forEach(country -> varint(out, indexOf(countries, country.getName())));
+	}
+
+	/**
+	 * Adds the {@link ModelLink} from one {@link ModelCountry} to another. When
+	 * the link in the other direction is added it is held in the same record.
+	 * Both countries must already have been added.
+	 *
+	 * @param country
+	 *            The {@link ModelCountry} the link is from.
+	 * @param neighbour
+	 *            The {@link ModelCountry} the link is to.
+	 * @param link
+	 *            {@link ModelLink}
+	 */
+	public void addLink(ModelCountry country, ModelCountry neighbour, ModelLink link) {
+
+		final int from = indexOf(countries, country.getName());
+		final int to = indexOf(countries, neighbour.getName());
+
+		final int low = Math.min(from, to);
+		final int high = Math.max(from, to);
+		final long key = ((long) low << 32) | high;
+
+		int[] record = links.get(key);
+
+		if (record == null) {
+			// Flags, then the default state, state and duration of each direction.
+			record = new int[7];
+			links.put(key, record);
+		}
+
+		final int direction = from == low ? FORWARD : BACKWARD;
+		final int offset = direction == FORWARD ? 1 : 4;
+
+		record[0] |= direction;
+		record[offset] = stringIndex(link.getDefaultState().name);
+		record[offset + 1] = stringIndex(link.getState().name);
+		record[offset + 2] = link.getDuration();
+	}
+
+	/**
+	 * Adds a {@link Challenge}.
+	 *
+	 * @param challenge
+	 *            {@link Challenge}
+	 */
+	public void addChallenge(Challenge challenge) {
+
+		final DataOutputStream out = challengeSection.next();
+
+		writeString(out, challenge.type);
+		varint(out, challenge.goal);
+		varint(out, challenge.reward);
+	}
+
+	/**
+	 * Writes this {@link BinarySave}.
+	 *
+	 * @param stream
+	 *            The {@link OutputStream} the save is written to.
+	 * @throws IOException
+	 *             Thrown if the save cannot be written.
+	 */
+	@Override
+	public void writeTo(OutputStream stream) throws IOException {
+
+		final DataOutputStream out = new DataOutputStream(stream);
+
+		out.writeInt(MAGIC);
+		writeVarint(out, VERSION);
+
+		writeVarint(out, strings.size());
+
+		for (String string : strings) {
+			out.writeUTF(string);
+		}
+
+		unitSection.writeTo(out);
+		playerSection.writeTo(out);
+		stateSection.writeTo(out);
+		countrySection.writeTo(out);
+		continentSection.writeTo(out);
+
+		writeVarint(out, links.size());
+
+		for (Map.Entry<Long, int[]> entry : links.entrySet()) {
+
+			final int[] record = entry.getValue();
+
+			writeVarint(out, (int) (entry.getKey() >>> 32));
+			writeVarint(out, (int) (long) entry.getKey());
+			out.writeByte(record[0]);
+
+			for (int offset = 1; offset < record.length; offset++) {
+				if ((record[0] & (offset < 4 ? FORWARD : BACKWARD)) != 0) {
+					writeVarint(out, record[offset]);
+				}
+			}
+		}
+
+		challengeSection.writeTo(out);
+
+		out.flush();
+	}
+
+	/**
+	 * Retrieves whether a file is a binary save.
+	 *
+	 * @param file
+	 *            The {@link File}.
+	 * @return <code>boolean</code>
+	 */
+	public static boolean isBinary(File file) {
+
+		if (!file.isFile()) {
+			return false;
+		}
+
+		try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+			return file.length() >= 4 && in.readInt() == MAGIC;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Reads a binary save into the {@link Records} of each line of the equivalent
+	 * text save, in the same order as the lines of a text save. Each link record
+	 * is read as one line per direction.
+	 *
+	 * @param stream
+	 *            The {@link InputStream} the save is read from.
+	 * @return {@link Records}
+	 * @throws IOException
+	 *             Thrown if the save cannot be read or is not a supported binary
+	 *             save.
+	 */
+	public static Records read(InputStream stream) throws IOException {
+
+		final DataInputStream in = new DataInputStream(stream);
+
+		if (in.readInt() != MAGIC) {
+			throw new IOException("The file is not a binary save.");
+		}
+
+		final int version = readVarint(in);
+
+		if (version != VERSION) {
+			throw new IOException("Version " + version + " saves are not supported.");
+		}
+
+		final Records records = new Records();
+
+		for (int count = readVarint(in); count > 0; count--) {
+			records.add(in.readUTF());
+		}
+
+		// The details of each type of line that are strings rather than numbers.
+		final int unitStrings = Records.mask(0, 1, 3);
+		final int playerStrings = Records.mask(0, 2, 7);
+		final int stateStrings = Records.mask(0, 1);
+		final int countryStrings = Records.mask(0, 1, 2, 3);
+		final int neutralStrings = Records.mask(0, 1, 2, 3, 6);
+		final int continentStrings = Records.mask(0, 1, 2, 3);
+		final int linkStrings = Records.mask(0, 1, 2, 3, 4);
+		final int challengeStrings = Records.mask(0);
+
+		final int unit = records.add(LineType.UNIT.text);
+		final int player = records.add(LineType.PLAYER.text);
+		final int state = records.add(LineType.STATE.text);
+		final int country = records.add(LineType.COUNTRY.text);
+		final int continent = records.add(LineType.CONTINENT.text);
+		final int link = records.add(LineType.LINK.text);
+		final int active = records.add(Boolean.toString(true));
+		final int inactive = records.add(Boolean.toString(false));
+		final int neutral = records.add("-");
+
+		final int[] unitNames = new int[readVarint(in)];
+
+		for (int index = 0; index < unitNames.length; index++) {
+			unitNames[index] = readVarint(in);
+			records.add(unitStrings, unit, unitNames[index], readVarint(in), readVarint(in));
+		}
+
+		for (int count = readVarint(in); count > 0; count--) {
+			records.add(playerStrings, player, readVarint(in), readVarint(in), readVarint(in), readVarint(in),
+					readVarint(in), readVarint(in), in.readUnsignedByte() == 1 ? active : inactive, readVarint(in));
+		}
+
+		for (int count = readVarint(in); count > 0; count--) {
+			records.add(stateStrings, state, readVarint(in), readVarint(in), readVarint(in));
+		}
+
+		final int[] countryNames = new int[readVarint(in)];
+
+		for (int index = 0; index < countryNames.length; index++) {
+
+			countryNames[index] = readVarint(in);
+
+			final char[] rgb = new char[9];
+
+			for (int digit = 0; digit < rgb.length; digit += 3) {
+				final int value = in.readUnsignedByte();
+				rgb[digit] = (char) ('0' + value / 100);
+				rgb[digit + 1] = (char) ('0' + value / 10 % 10);
+				rgb[digit + 2] = (char) ('0' + value % 10);
+			}
+
+			final StringBuilder army = new StringBuilder();
+
+			for (int member = readVarint(in); member > 0; member--) {
+
+				if (army.length() > 0) {
+					army.append('-');
+				}
+
+				army.append(records.strings.get(unitNames[readVarint(in)]));
+				army.append(':');
+				army.append(readVarint(in));
+			}
+
+			final int offsetX = unZigZag(readVarint(in));
+			final int offsetY = unZigZag(readVarint(in));
+			final int ruler = readVarint(in);
+
+			records.add(ruler == 0 ? neutralStrings : countryStrings, country, countryNames[index],
+					records.add(new String(rgb)), records.add(army.toString()), offsetX, offsetY,
+					ruler == 0 ? neutral : ruler);
+		}
+
+		for (int count = readVarint(in); count > 0; count--) {
+
+			final int name = readVarint(in);
+			final int hazard = readVarint(in);
+
+			final StringBuilder members = new StringBuilder();
+
+			for (int member = readVarint(in); member > 0; member--) {
+
+				if (members.length() > 0) {
+					members.append('-');
+				}
+
+				members.append(records.strings.get(countryNames[readVarint(in)]));
+			}
+
+			records.add(continentStrings, continent, name, hazard, records.add(members.toString()));
+		}
+
+		for (int count = readVarint(in); count > 0; count--) {
+
+			final int first = countryNames[readVarint(in)];
+			final int second = countryNames[readVarint(in)];
+			final int flags = in.readUnsignedByte();
+
+			if ((flags & FORWARD) != 0) {
+				records.add(linkStrings, link, first, second, readVarint(in), readVarint(in), readVarint(in));
+			}
+
+			if ((flags & BACKWARD) != 0) {
+				records.add(linkStrings, link, second, first, readVarint(in), readVarint(in), readVarint(in));
+			}
+		}
+
+		for (int count = readVarint(in); count > 0; count--) {
+			records.add(challengeStrings, readVarint(in), readVarint(in), readVarint(in));
+		}
+
+		return records;
+	}
+
+	/**
+	 * Writes a variable length integer, where each byte holds seven bits of the
+	 * value and whether another byte follows.
+	 *
+	 * @param out
+	 *            {@link DataOutput}
+	 * @param value
+	 *            The value, which is treated as unsigned.
+	 * @throws IOException
+	 *             Thrown if the value cannot be written.
+	 */
+	public static void writeVarint(DataOutput out, int value) throws IOException {
+
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+
+		out.writeByte(value);
+	}
+
+	/**
+	 * Reads a variable length integer written by
+	 * {@link #writeVarint(DataOutput, int)}.
+	 *
+	 * @param in
+	 *            {@link DataInput}
+	 * @return <code>int</code>
+	 * @throws IOException
+	 *             Thrown if the value cannot be read or is too long.
+	 */
+	public static int readVarint(DataInput in) throws IOException {
+
+		int value = 0;
+
+		for (int shift = 0; shift < 35; shift += 7) {
+
+			final int b = in.readUnsignedByte();
+
+			value |= (b & 0x7F) << shift;
+
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+
+		throw new IOException("Malformed variable length integer.");
+	}
+
+	/**
+	 * Maps a signed integer to an unsigned one so that small negative numbers are
+	 * also written in few bytes.
+	 *
+	 * @param value
+	 *            The signed integer.
+	 * @return <code>int</code>
+	 */
+	private static int zigZag(int value) {
+		return (value << 1) ^ (value >> 31);
+	}
+
+	/**
+	 * Reverses {@link #zigZag(int)}.
+	 *
+	 * @param value
+	 *            The unsigned integer.
+	 * @return <code>int</code>
+	 */
+	private static int unZigZag(int value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Retrieves the index of an element that has already been added.
+	 *
+	 * @param indexes
+	 *            The indexes of the elements by name.
+	 * @param name
+	 *            The name of the element.
+	 * @return <code>int</code>
+	 */
+	private static int indexOf(Map<String, Integer> indexes, String name) {
+
+		final Integer index = indexes.get(name);
+
+		if (index == null) {
+			throw new IllegalStateException(name + " has not been added to the save.");
+		}
+
+		return index;
+	}
+
+	/**
+	 * Retrieves the index of a string in the table, adding it if it is not already
+	 * there.
+	 *
+	 * @param string
+	 *            The string.
+	 * @return <code>int</code>
+	 */
+	private int stringIndex(String string) {
+
+		Integer index = stringIndexes.get(string);
+
+		if (index == null) {
+			index = strings.size();
+			strings.add(string);
+			stringIndexes.put(string, index);
+		}
+
+		return index;
+	}
+
+	/**
+	 * Writes the index of a string in the table.
+	 *
+	 * @param out
+	 *            {@link DataOutput}
+	 * @param string
+	 *            The string.
+	 */
+	private void writeString(DataOutput out, String string) {
+		varint(out, stringIndex(string));
+	}
+
+	/**
+	 * Writes a variable length integer to a {@link Section}, which is held in
+	 * memory so cannot fail.
+	 *
+	 * @param out
+	 *            {@link DataOutput}
+	 * @param value
+	 *            The value.
+	 */
+	private void varint(DataOutput out, int value) {
+		try {
+			writeVarint(out, value);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Writes one byte to a {@link Section}.
+	 *
+	 * @param out
+	 *            {@link DataOutput}
+	 * @param value
+	 *            The byte.
+	 */
+	private void write(DataOutput out, int value) {
+		try {
+			out.writeByte(value);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * The records of one kind of element, held in memory until the table of
+	 * strings is complete.
+	 */
+	private static final class Section {
+
+		/**
+		 * The bytes of the records.
+		 */
+		private final ByteArrayOutputStream bytes;
+
+		/**
+		 * The {@link DataOutputStream} that writes to {@link #bytes}.
+		 */
+		private final DataOutputStream out;
+
+		/**
+		 * The number of records.
+		 */
+		private int count;
+
+		/**
+		 * Constructs a new empty {@link Section}.
+		 */
+		private Section() {
+			this.bytes = new ByteArrayOutputStream();
+			this.out = new DataOutputStream(bytes);
+			this.count = 0;
+		}
+
+		/**
+		 * Starts a new record.
+		 *
+		 * @return The {@link DataOutputStream} the record is written to.
+		 */
+		private DataOutputStream next() {
+			count++;
+			return out;
+		}
+
+		/**
+		 * Writes the number of records followed by the records.
+		 *
+		 * @param destination
+		 *            {@link DataOutput}
+		 * @throws IOException
+		 *             Thrown if the records cannot be written.
+		 */
+		private void writeTo(DataOutputStream destination) throws IOException {
+			writeVarint(destination, count);
+			bytes.writeTo(destination);
+		}
+	}
+
+	/**
+	 * The lines of the text save that is equivalent to a binary save. Each line is
+	 * an array of fields where a detail that is a number holds its value and any
+	 * other detail holds the index of its string in the table of strings.
+	 */
+	public static final class Records {
+
+		/**
+		 * The table of strings, which holds the strings of the save followed by the
+		 * strings that were built while it was read.
+		 */
+		private final List<String> strings;
+
+		/**
+		 * The fields of each line.
+		 */
+		private int[][] fields;
+
+		/**
+		 * The details of each line that are strings, one bit per detail.
+		 */
+		private int[] masks;
+
+		/**
+		 * The number of lines.
+		 */
+		private int size;
+
+		/**
+		 * Constructs new empty {@link Records}.
+		 */
+		private Records() {
+			this.strings = new ArrayList<>();
+			this.fields = new int[16][];
+			this.masks = new int[16];
+			this.size = 0;
+		}
+
+		/**
+		 * Retrieves the mask of the details of a line that are strings.
+		 *
+		 * @param details
+		 *            The indexes of the details that are strings.
+		 * @return <code>int</code>
+		 */
+		private static int mask(int... details) {
+
+			int mask = 0;
+
+			for (int detail : details) {
+				mask |= 1 << detail;
+			}
+
+			return mask;
+		}
+
+		/**
+		 * Adds a string to the end of the table of strings.
+		 *
+		 * @param string
+		 *            The string.
+		 * @return The index of the string.
+		 */
+		private int add(String string) {
+			strings.add(string);
+			return strings.size() - 1;
+		}
+
+		/**
+		 * Adds a line.
+		 *
+		 * @param mask
+		 *            The mask of the details that are strings.
+		 * @param details
+		 *            The fields of the line.
+		 */
+		private void add(int mask, int... details) {
+
+			if (size == fields.length) {
+				fields = Arrays.copyOf(fields, size * 2);
+				masks = Arrays.copyOf(masks, size * 2);
+			}
+
+			fields[size] = details;
+			masks[size] = mask;
+			size++;
+		}
+
+		/**
+		 * Retrieves the number of lines.
+		 *
+		 * @return <code>int</code>
+		 */
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * Retrieves the number of details in a line.
+		 *
+		 * @param line
+		 *            The index of the line.
+		 * @return <code>int</code>
+		 */
+		public int getNumberOfDetails(int line) {
+			return fields[line].length;
+		}
+
+		/**
+		 * Retrieves whether a detail of a line is a number.
+		 *
+		 * @param line
+		 *            The index of the line.
+		 * @param detail
+		 *            The index of the detail.
+		 * @return <code>boolean</code>
+		 */
+		public boolean isNumber(int line, int detail) {
+			return (masks[line] & (1 << detail)) == 0;
+		}
+
+		/**
+		 * Retrieves a detail of a line as an integer.
+		 *
+		 * @param line
+		 *            The index of the line.
+		 * @param detail
+		 *            The index of the detail.
+		 * @return <code>int</code>
+		 * @throws NumberFormatException
+		 *             Thrown if the detail is a string that is not a valid integer.
+		 */
+		public int getInt(int line, int detail) {
+			final int field = fields[line][detail];
+			return isNumber(line, detail) ? field : Integer.parseInt(strings.get(field));
+		}
+
+		/**
+		 * Retrieves a detail of a line as it would be written in a text save.
+		 *
+		 * @param line
+		 *            The index of the line.
+		 * @param detail
+		 *            The index of the detail.
+		 * @return <code>String</code>
+		 */
+		public String getString(int line, int detail) {
+			final int field = fields[line][detail];
+			return isNumber(line, detail) ? Integer.toString(field) : strings.get(field);
+		}
+
+		/**
+		 * Retrieves whether a detail of a line is a specified <code>String</code>.
+		 *
+		 * @param line
+		 *            The index of the line.
+		 * @param detail
+		 *            The index of the detail.
+		 * @param value
+		 *            <code>String</code>
+		 * @return <code>boolean</code>
+		 */
+		public boolean isDetail(int line, int detail, String value) {
+
+			if (isNumber(line, detail)) {
+				return value.equals(Integer.toString(fields[line][detail]));
+			}
+
+			return strings.get(fields[line][detail]).equals(value);
+		}
+
+		/**
+		 * Retrieves the details of every line as they would be written in a text
+		 * save.
+		 *
+		 * @return The details of every line.
+		 */
+		public String[][] getLines() {
+
+			final String[][] lines = new String[size][];
+
+			for (int line = 0; line < size; line++) {
+
+				lines[line] = new String[fields[line].length];
+
+				for (int detail = 0; detail < lines[line].length; detail++) {
+					lines[line][detail] = getString(line, detail);
+				}
+			}
+
+			return lines;
+		}
+	}
+
+}
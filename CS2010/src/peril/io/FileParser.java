@@ -1,5 +1,11 @@
 package peril.io;
 
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
 import peril.Directory;
 
 /**
@@ -7,10 +13,18 @@ import peril.Directory;
  * Defines the behaviour of an object that can parse a text file. The object
  * will retrieve the file commonly using {@link TextFileReader}. The lines of
  * the reader will be read sequentially using {@link FileParser#parseLine()}.
+ * If the file is a {@link BinarySave} its {@link BinarySave.Records} are read
+ * instead of its lines, each as the equivalent line of a text save, so
+ * {@link #getDetails()} is the same for both formats.<br>
+ * <br>
+ * The details of a line of a text file are read in place from its
+ * {@link TextBuffer} and the numbers of a {@link BinarySave} are read straight
+ * from its records, so {@link #getInt(int)} and {@link #isDetail(int, String)}
+ * do not create a <code>String</code> for each detail.
  * 
  * @author Joshua_Eddy
  * 
- * @version 1.01.01
+ * @version 1.01.05
  * @since 2018-02-06
  *
  */
@@ -22,9 +36,21 @@ public abstract class FileParser {
 	protected final Directory directory;
 
 	/**
-	 * Holds the lines of the file to be parsed by this {@link FileParser}.
+	 * Holds the text of the file to be parsed by this {@link FileParser} if it is
+	 * a text file, otherwise <code>null</code>.
+	 */
+	private final TextBuffer text;
+
+	/**
+	 * The {@link BinarySave.Records} of the file if it is a {@link BinarySave},
+	 * otherwise <code>null</code>.
+	 */
+	private final BinarySave.Records records;
+
+	/**
+	 * The number of bytes in the file.
 	 */
-	protected final String[] lines;
+	private final int size;
 
 	/**
 	 * The index of the next line that will be parsed by
@@ -32,6 +58,11 @@ public abstract class FileParser {
 	 */
 	protected int index;
 
+	/**
+	 * The index of the line that is selected in {@link #text}.
+	 */
+	private int selected;
+
 	/**
 	 * Constructs a new {@link FileParser}.
 	 * 
@@ -51,8 +82,27 @@ public abstract class FileParser {
 			throw new IllegalArgumentException("File name cannot be empty.");
 		}
 		this.directory = directory;
-		this.lines = TextFileReader.scanFile(sourceFilePath, filename);
 		this.index = 0;
+		this.selected = -1;
+
+		final File file = new File(sourceFilePath + filename);
+
+		if (BinarySave.isBinary(file)) {
+
+			try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+				this.records = BinarySave.read(in);
+			} catch (IOException e) {
+				throw new IllegalArgumentException("Failed to read " + filename + ": " + e.getMessage());
+			}
+
+			this.text = null;
+			this.size = (int) Math.min(file.length(), Integer.MAX_VALUE);
+
+		} else {
+			this.records = null;
+			this.text = TextFileReader.readFile(sourceFilePath, filename);
+			this.size = text.getSize();
+		}
 	}
 
 	/**
@@ -60,6 +110,152 @@ public abstract class FileParser {
 	 */
 	public abstract void parseLine();
 
+	/**
+	 * Retrieves the comma separated details of the line at the current index.
+	 * 
+	 * @return <code>String</code> array
+	 */
+	protected final String[] getDetails() {
+
+		final String[] details = new String[getNumberOfDetails()];
+
+		for (int detail = 0; detail < details.length; detail++) {
+			details[detail] = getDetail(detail);
+		}
+
+		return details;
+	}
+
+	/**
+	 * Retrieves the number of comma separated details in the line at the current
+	 * index.
+	 * 
+	 * @return <code>int</code>
+	 */
+	protected final int getNumberOfDetails() {
+		return records != null ? records.getNumberOfDetails(index) : select().getNumberOfFields();
+	}
+
+	/**
+	 * Retrieves a detail of the line at the current index.
+	 * 
+	 * @param detail
+	 *            The index of the detail.
+	 * @return <code>String</code>
+	 */
+	protected final String getDetail(int detail) {
+		return records != null ? records.getString(index, detail) : select().getString(detail);
+	}
+
+	/**
+	 * Retrieves part of a detail of the line at the current index.
+	 * 
+	 * @param detail
+	 *            The index of the detail.
+	 * @param from
+	 *            The index in the detail of the first character.
+	 * @param to
+	 *            The index in the detail after the last character.
+	 * @return <code>String</code>
+	 */
+	protected final String getDetail(int detail, int from, int to) {
+		return records != null ? records.getString(index, detail).substring(from, to)
+				: select().getString(detail, from, to);
+	}
+
+	/**
+	 * Retrieves the number of characters in a detail of the line at the current
+	 * index.
+	 * 
+	 * @param detail
+	 *            The index of the detail.
+	 * @return <code>int</code>
+	 */
+	protected final int getDetailLength(int detail) {
+		return records != null ? records.getString(index, detail).length() : select().getLength(detail);
+	}
+
+	/**
+	 * Parses a detail of the line at the current index as an integer.
+	 * 
+	 * @param detail
+	 *            The index of the detail.
+	 * @return <code>int</code>
+	 * @throws NumberFormatException
+	 *             Thrown if the detail is not a valid integer.
+	 */
+	protected final int getInt(int detail) {
+		return records != null ? records.getInt(index, detail) : select().getInt(detail);
+	}
+
+	/**
+	 * Parses part of a detail of the line at the current index as an integer.
+	 * 
+	 * @param detail
+	 *            The index of the detail.
+	 * @param from
+	 *            The index in the detail of the first character.
+	 * @param to
+	 *            The index in the detail after the last character.
+	 * @return <code>int</code>
+	 * @throws NumberFormatException
+	 *             Thrown if the part of the detail is not a valid integer.
+	 */
+	protected final int getInt(int detail, int from, int to) {
+		return records != null ? Integer.parseInt(records.getString(index, detail).substring(from, to))
+				: select().getInt(detail, from, to);
+	}
+
+	/**
+	 * Retrieves whether a detail of the line at the current index is a specified
+	 * <code>String</code>.
+	 * 
+	 * @param detail
+	 *            The index of the detail.
+	 * @param value
+	 *            <code>String</code>
+	 * @return <code>boolean</code>
+	 */
+	protected final boolean isDetail(int detail, String value) {
+		return records != null ? records.isDetail(index, detail, value) : select().isField(detail, value);
+	}
+
+	/**
+	 * Retrieves whether part of a detail of the line at the current index is a
+	 * specified <code>String</code>.
+	 * 
+	 * @param detail
+	 *            The index of the detail.
+	 * @param from
+	 *            The index in the detail of the first character.
+	 * @param to
+	 *            The index in the detail after the last character.
+	 * @param value
+	 *            <code>String</code>
+	 * @return <code>boolean</code>
+	 */
+	protected final boolean isDetail(int detail, int from, int to, String value) {
+		return records != null ? records.getString(index, detail).substring(from, to).equals(value)
+				: select().isField(detail, from, to, value);
+	}
+
+	/**
+	 * Retrieves the index in a detail of the line at the current index of the
+	 * first occurrence of a character at or after a specified index.
+	 * 
+	 * @param detail
+	 *            The index of the detail.
+	 * @param character
+	 *            The character to find.
+	 * @param from
+	 *            The index in the detail to start from.
+	 * @return The index in the detail or -1 if the character does not occur.
+	 */
+	protected final int indexOf(int detail, char character, int from) {
+		return records != null ? records.getString(index, detail).indexOf(character, from)
+				: select().indexOf(detail, character, from);
+	}
+
 	/**
 	 * Retrieves the index that this {@link FileParser} in the processing of their
 	 * file.
@@ -76,7 +272,33 @@ public abstract class FileParser {
 	 * @return <code>int</code>
 	 */
 	public final int getLength() {
-		return lines.length;
+		return records != null ? records.size() : text.getNumberOfLines();
+	}
+
+	/**
+	 * Retrieves the number of bytes in the file that this {@link FileParser} must
+	 * parse.
+	 * 
+	 * @return <code>int</code>
+	 */
+	public final int getSize() {
+		return size;
+	}
+
+	/**
+	 * Retrieves the number of bytes of the file that this {@link FileParser} has
+	 * parsed. The records of a {@link BinarySave} are treated as being the same
+	 * size.
+	 * 
+	 * @return <code>int</code>
+	 */
+	public final int getPosition() {
+
+		if (records == null) {
+			return text.getOffset(index);
+		}
+
+		return records.size() == 0 ? size : (int) ((long) size * index / records.size());
 	}
 
 	/**
@@ -89,4 +311,20 @@ public abstract class FileParser {
 		return getIndex() == getLength();
 	}
 
+	/**
+	 * Selects the line at the current index in {@link #text} if it is not
+	 * already selected.
+	 * 
+	 * @return {@link TextBuffer}
+	 */
+	private TextBuffer select() {
+
+		if (selected != index) {
+			text.select(index, ',');
+			selected = index;
+		}
+
+		return text;
+	}
+
 }
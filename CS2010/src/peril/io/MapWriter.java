@@ -1,8 +1,15 @@
 package peril.io;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
 import peril.Challenge;
 import peril.GameController;
-import peril.helpers.UnitHelper;
 import peril.model.ModelColor;
 import peril.model.ModelPlayer;
 import peril.model.board.ModelArmy;
@@ -13,27 +20,38 @@ import peril.model.board.links.ModelLink;
 import peril.model.states.ModelState;
 
 /**
- * Writes the current state of the game into a text file so that it can be
- * loaded at a later time.
+ * Writes the current state of the game into a file so that it can be loaded at
+ * a later time. The file is written in the {@link SaveFormat} of its
+ * {@link SaveFile}.<br>
+ * <br>
+ * Every save first captures the game into a {@link SaveSnapshot} on the thread
+ * that calls this {@link MapWriter}, so the snapshot can then be written by a
+ * {@link SaveQueue} while the game carries on. Once a save has been written it
+ * is added to the {@link SaveIndex} of its directory.
  * 
  * @author Joshua_Eddy
  *
- * @version 1.01.07
+ * @version 1.01.13
  * @since 2018-03-15
  */
 public final class MapWriter {
 
-	/**
-	 * The {@link TextFileWriter} that creates the save file.
-	 */
-	private final TextFileWriter writer;
-
 	/**
 	 * The {@link GameController} that this {@link MapWriter} uses to interact with
 	 * the game.
 	 */
 	private final GameController game;
 
+	/**
+	 * The {@link SaveFormat} the file is written in.
+	 */
+	private final SaveFormat format;
+
+	/**
+	 * The path to the file that will be written to.
+	 */
+	private final String path;
+
 	/**
 	 * Constructs a new {@link MapWriter}.
 	 * 
@@ -44,47 +62,162 @@ public final class MapWriter {
 	 *            The {@link SaveFile} that will be written to.
 	 */
 	public MapWriter(GameController game, SaveFile file) {
+		this(game, game.getDirectory().asMapPath(game.getModelBoard().getName()) + file.filename, file.format);
+	}
+
+	/**
+	 * Constructs a new {@link MapWriter} that writes to a file that is not one of
+	 * the {@link SaveFile}s of the map.
+	 * 
+	 * @param game
+	 *            The {@link GameController} that this {@link MapWriter} uses to
+	 *            interact with the game.
+	 * @param path
+	 *            The path to the file that will be written to.
+	 * @param format
+	 *            The {@link SaveFormat} the file is written in.
+	 */
+	MapWriter(GameController game, String path, SaveFormat format) {
 		this.game = game;
+		this.path = path;
+		this.format = format;
+	}
 
-		// The file path for the map
-		final String mapDirectoryPath = game.getDirectory().asMapPath(game.getModelBoard().getName());
+	/**
+	 * Writes the map save file on the current thread.
+	 */
+	public void write() {
 
-		this.writer = new TextFileWriter(mapDirectoryPath + file.filename, false);
+		final SaveSnapshot snapshot = capture();
+		final Runnable index = SaveIndex.capture(game, path);
+
+		try {
+			SaveQueue.writeAtomically(path, snapshot);
+			index.run();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
 	}
 
 	/**
-	 * Writes the map save file
+	 * Captures the game on the current thread and then writes the map save file on
+	 * the thread of a {@link SaveQueue}.
+	 * 
+	 * @param queue
+	 *            The {@link SaveQueue} that writes the file.
+	 * @param onComplete
+	 *            Called on the save thread with whether the file was written. May
+	 *            be <code>null</code>.
 	 */
-	public void write() {
+	public void writeLater(SaveQueue queue, Consumer<Boolean> onComplete) {
+
+		final SaveSnapshot snapshot = capture();
+		final Runnable index = SaveIndex.capture(game, path);
+
+		queue.submit(path, snapshot, saved -> {
+
+			if (saved) {
+				index.run();
+			}
+
+			if (onComplete != null) {
+				onComplete.accept(saved);
+			}
+		});
+	}
+
+	/**
+	 * Captures the game into a {@link SaveSnapshot} in the {@link SaveFormat} of
+	 * the file. This must be called on the thread the game is played
+	 * on.
+	 * 
+	 * @return {@link SaveSnapshot}
+	 */
+	public SaveSnapshot capture() {
+		return format == SaveFormat.BINARY ? captureBinary() : captureText();
+	}
+
+	/**
+	 * Captures the lines of the map save file as text.
+	 * 
+	 * @return {@link SaveSnapshot}
+	 */
+	private SaveSnapshot captureText() {
 
-		// Open the file
-		writer.open();
+		final List<String> lines = new ArrayList<>();
 
 		// Write units into map file.
-		UnitHelper.getInstance().forEach(unit -> writer.writeLine(parseUnit(unit)));
+		game.getUnitHelper().forEach(unit -> lines.add(parseUnit(unit)));
 
 		// Write player details for the active players
-		game.forEachModelPlayer(player -> writer.writeLine(parsePlayer(player, true)));
+		game.forEachModelPlayer(player -> lines.add(parsePlayer(player, true)));
 
 		// Write the player details from the losers
-		game.forEachLoser(player -> writer.writeLine(parsePlayer(player, false)));
+		game.forEachLoser(player -> lines.add(parsePlayer(player, false)));
 
 		// Write the state the game will start in
-		writer.writeLine(parseGameState());
+		lines.add(parseGameState());
 
 		// Write all the countries to the file
-		game.getModelBoard().forEachCountry(country -> writer.writeLine(parseCountry(country)));
+		game.getModelBoard().forEachCountry(country -> lines.add(parseCountry(country)));
 
 		// Write all the continents to the file
-		game.getModelBoard().getContinents().values().forEach(continent -> writer.writeLine(parseContinent(continent)));
+		game.getModelBoard().getContinents().values().forEach(continent -> lines.add(parseContinent(continent)));
 
 		// Write all the links to the file
-		game.getModelBoard().forEachCountry(country -> parseLinks(country));
+		game.getModelBoard().forEachCountry(
+				country -> country.getNeighbours().forEach(neighbour -> lines.add(parseLink(country, neighbour))));
 
-		game.getChallenges().forEach(challenge -> writer.writeLine(parseChallenge(challenge)));
+		game.getChallenges().forEach(challenge -> lines.add(parseChallenge(challenge)));
 
-		// Save the file
-		writer.save();
+		return out -> {
+
+			final Writer writer = new BufferedWriter(new OutputStreamWriter(out));
+
+			for (String line : lines) {
+				writer.write(line);
+				writer.write(System.lineSeparator());
+			}
+
+			writer.flush();
+		};
+	}
+
+	/**
+	 * Captures the map save file as a {@link BinarySave}, adding the elements of
+	 * the game in the same order as {@link #captureText()}.
+	 * 
+	 * @return {@link SaveSnapshot}
+	 */
+	private SaveSnapshot captureBinary() {
+
+		final BinarySave save = new BinarySave();
+
+		game.getUnitHelper().forEach(unit -> save.addUnit(unit));
+
+		game.forEachModelPlayer(player -> save.addPlayer(player, true));
+		game.forEachLoser(player -> save.addPlayer(player, false));
+
+		final ModelState state = game.getCurrentState();
+
+		// If the state is null then the current state is not a model state.
+		if (state == null) {
+			throw new IllegalStateException("The current state cannot be saved.");
+		}
+
+		save.addState(state.getName(), game.getCurrentModelPlayer().number, game.getRoundNumber());
+
+		game.getModelBoard().forEachCountry(country -> save.addCountry(country,
+				game.getView().getArmyOffsetX(country), game.getView().getArmyOffsetY(country)));
+
+		game.getModelBoard().getContinents().values().forEach(continent -> save.addContinent(continent));
+
+		game.getModelBoard().forEachCountry(country -> country.getNeighbours()
+				.forEach(neighbour -> save.addLink(country, neighbour, country.getLinkTo(neighbour))));
+
+		game.getChallenges().forEach(challenge -> save.addChallenge(challenge));
+
+		return save;
 	}
 
 	/**
@@ -191,25 +324,16 @@ public final class MapWriter {
 	}
 
 	/**
-	 * Processes all the links between the specified {@link ModelCountry} and all
-	 * its neighbours.
-	 * 
-	 * @param country
-	 *            {@link ModelCountry}
-	 */
-	private void parseLinks(ModelCountry country) {
-		country.getNeighbours().forEach(neighbour -> parseLink(country, neighbour));
-	}
-
-	/**
-	 * Writes a link to the file if it does not already exist in the file.
+	 * Processes the link from one {@link ModelCountry} to its neighbour into its
+	 * <code>String</code> representation.
 	 * 
 	 * @param country
 	 *            {@link ModelCountry}
 	 * @param neighbour
 	 *            {@link ModelCountry}
+	 * @return <code>String</code>
 	 */
-	private void parseLink(ModelCountry country, ModelCountry neighbour) {
+	private String parseLink(ModelCountry country, ModelCountry neighbour) {
 
 		final StringBuilder line = new StringBuilder();
 
@@ -228,7 +352,7 @@ public final class MapWriter {
 		line.append(',');
 		line.append(Integer.toString(link.getDuration()));
 
-		writer.writeLine(line.toString());
+		return line.toString();
 
 	}
 
@@ -290,9 +414,9 @@ public final class MapWriter {
 		final ModelColor color = country.getColor();
 
 		// Country RGB
-		line.append(formatRGB(color.red));
-		line.append(formatRGB(color.green));
-		line.append(formatRGB(color.blue));
+		appendRGB(line, color.red);
+		appendRGB(line, color.green);
+		appendRGB(line, color.blue);
 		line.append(',');
 
 		// Army Size
@@ -344,28 +468,17 @@ public final class MapWriter {
 	}
 
 	/**
-	 * Converts a int value into a three binary bits.
+	 * Appends an RGB value as three digits, with leading zeros.
 	 * 
+	 * @param line
+	 *            The <code>StringBuilder</code> the digits are appended to.
 	 * @param value
 	 *            0 - 255
-	 * @return The String 3 bit representation of the RGB.
 	 */
-	private String formatRGB(int value) {
-
-		String str = "" + value;
-
-		if (value == 0) {
-			return "000";
-		}
-
-		int preceedingZeros = 2 - (int) Math.log10((double) value);
-
-		for (int index = 0; index < preceedingZeros; index++) {
-			str = "0" + str;
-		}
-
-		return str;
-
+	private void appendRGB(StringBuilder line, int value) {
+		line.append((char) ('0' + value / 100));
+		line.append((char) ('0' + value / 10 % 10));
+		line.append((char) ('0' + value % 10));
 	}
 
 	/**
@@ -0,0 +1,130 @@
+package peril.io;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+import peril.GameController;
+import peril.model.GameState;
+import peril.model.Replay;
+
+/**
+ * The binary file in the folder of a map that holds the {@link Replay} of the
+ * last game that was finished on that map. Alongside the {@link SaveFile}s the
+ * board itself is not written, only the state of the game when it started
+ * recording and the event log after it, so the map must be loaded before the
+ * {@link Replay} is read.
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.02
+ * @since 2018-03-25
+ *
+ * @see Replay
+ */
+public final class ReplayFile {
+
+	/**
+	 * The name of the file in the folder of the map.
+	 */
+	public static final String FILENAME = "replay.dat";
+
+	/**
+	 * The bytes at the start of every replay file.
+	 */
+	private static final int MAGIC = 0x5045524C;
+
+	/**
+	 * The version of the format the replay is written in.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * The {@link GameController} that this {@link ReplayFile} uses to interact
+	 * with the game.
+	 */
+	private final GameController game;
+
+	/**
+	 * The path to the file.
+	 */
+	private final String path;
+
+	/**
+	 * Constructs a new {@link ReplayFile} for the map that is currently loaded.
+	 *
+	 * @param game
+	 *            The {@link GameController} that this {@link ReplayFile} uses to
+	 *            interact with the game.
+	 */
+	public ReplayFile(GameController game) {
+		this.game = game;
+		this.path = game.getDirectory().asMapPath(game.getModelBoard().getName()) + FILENAME;
+	}
+
+	/**
+	 * Retrieves whether there is a replay for the map.
+	 *
+	 * @return <code>boolean</code>
+	 */
+	public boolean exists() {
+		return new File(path).isFile();
+	}
+
+	/**
+	 * Writes the {@link Replay} of the current game so that the file either holds
+	 * the whole {@link Replay} or is left as it was. If the game is not being
+	 * recorded nothing is written.
+	 *
+	 * @throws IOException
+	 *             Thrown if the file could not be written.
+	 */
+	public void write() throws IOException {
+
+		final Replay replay = game.getReplay();
+
+		if (replay == null) {
+			return;
+		}
+
+		SaveQueue.writeAtomically(path, stream -> {
+
+			final DataOutputStream out = new DataOutputStream(stream);
+
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			replay.writeTo(out);
+			out.flush();
+		});
+	}
+
+	/**
+	 * Reads the {@link Replay} for the map that is currently loaded.
+	 *
+	 * @return {@link Replay}
+	 * @throws IOException
+	 *             Thrown if the file could not be read or is not a replay of the
+	 *             map.
+	 */
+	public Replay read() throws IOException {
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(path)))) {
+
+			if (in.readInt() != MAGIC) {
+				throw new IOException(path + " is not a replay.");
+			}
+
+			final int version = in.readInt();
+
+			if (version != VERSION) {
+				throw new IOException("Version " + version + " replays are not supported.");
+			}
+
+			return Replay.readFrom(in, GameState.capture(game));
+		}
+	}
+
+}
@@ -4,11 +4,13 @@ import java.io.File;
 
 /**
  * Holds the file names and text representation of the files that are used to
- * save and load the game.
+ * save and load the game. Each {@link SaveFile} is written in its own
+ * {@link SaveFormat}, and a slot that is written in the binary format can still
+ * load the text save that was written to it before.
  * 
  * @author Joshua_Eddy
  * 
- * @version 1.01.01
+ * @version 1.01.03
  * @since 2018-02-06
  *
  */
@@ -17,41 +19,76 @@ public enum SaveFile {
 	/**
 	 * The default save file.
 	 */
-	DEFAULT("default.txt", "Default"),
+	DEFAULT("default.txt", "default.txt", "Default", SaveFormat.TEXT),
 	/**
 	 * The first save file.
 	 */
-	ONE("save1.txt", "Save 1"),
+	ONE("save1.sav", "save1.txt", "Save 1", SaveFormat.BINARY),
 	/**
 	 * The second save file.
 	 */
-	TWO("save2.txt", "Save 2"),
+	TWO("save2.sav", "save2.txt", "Save 2", SaveFormat.BINARY),
 	/**
 	 * The third save file.
 	 */
-	THREE("save3.txt", "Save 3");
+	THREE("save3.sav", "save3.txt", "Save 3", SaveFormat.BINARY);
 
 	/**
 	 * Holds the file name of the {@link SaveFile}.
 	 */
 	public final String filename;
 
+	/**
+	 * The file name of the text save of this {@link SaveFile}, which is the same as
+	 * {@link #filename} if this {@link SaveFile} is written as text.
+	 */
+	public final String textFilename;
+
 	/**
 	 * The text representation of the {@link SaveFile}.
 	 */
 	public final String name;
 
+	/**
+	 * The {@link SaveFormat} this {@link SaveFile} is written in.
+	 */
+	public final SaveFormat format;
+
 	/**
 	 * Constructs a new {@link SaveFile}.
 	 * 
 	 * @param filename
 	 *            Holds the file name of the {@link SaveFile}.
+	 * @param textFilename
+	 *            The file name of the text save of the {@link SaveFile}.
 	 * @param name
 	 *            The text representation of the {@link SaveFile}.
+	 * @param format
+	 *            The {@link SaveFormat} the {@link SaveFile} is written in.
 	 */
-	private SaveFile(String filename, String name) {
+	private SaveFile(String filename, String textFilename, String name, SaveFormat format) {
 		this.filename = filename;
+		this.textFilename = textFilename;
 		this.name = name;
+		this.format = format;
+	}
+
+	/**
+	 * Retrieves the name of the file this {@link SaveFile} is read from in the
+	 * specified map directory. This is {@link #filename} unless only the text save
+	 * of this {@link SaveFile} exists.
+	 * 
+	 * @param mapDirectory
+	 *            The path to the directory that contains the save.
+	 * @return The file name.
+	 */
+	public String resolve(String mapDirectory) {
+
+		if (!new File(mapDirectory + filename).exists() && new File(mapDirectory + textFilename).exists()) {
+			return textFilename;
+		}
+
+		return filename;
 	}
 
 	/**
@@ -64,10 +101,33 @@ public enum SaveFile {
 	public boolean existsIn(String mapDirectory) {
 
 		try {
-			return new File(mapDirectory + this.filename).exists();
+			return new File(mapDirectory + this.filename).exists()
+					|| new File(mapDirectory + this.textFilename).exists();
 		} catch (Exception e) {
 			throw new IllegalArgumentException("Failed to load directory - " + mapDirectory);
 		}
 	}
 
+	/**
+	 * Describes this {@link SaveFile} in the specified map directory. If the save
+	 * is in the {@link SaveIndex} of the directory the round it was saved in is
+	 * included, without the save being read.
+	 * 
+	 * @param mapDirectory
+	 *            The path to the directory that contains the save.
+	 * @param index
+	 *            The {@link SaveIndex} of the directory.
+	 * @return The description or <code>null</code> if the save does not exist.
+	 */
+	public String describe(String mapDirectory, SaveIndex index) {
+
+		final SaveIndex.Entry entry = index.get(filename);
+
+		if (entry != null) {
+			return name + " - Round " + entry.round;
+		}
+
+		return existsIn(mapDirectory) ? name : null;
+	}
+
 }
@@ -0,0 +1,31 @@
+package peril.io;
+
+/**
+ * The formats that a {@link SaveFile} can be written in. Both formats hold the
+ * same elements of the game and both can always be read, as the format of a
+ * file is detected from its first bytes rather than from its {@link SaveFile}.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-27
+ * @version 1.01.01
+ *
+ * @see SaveFile
+ * @see BinarySave
+ *
+ */
+public enum SaveFormat {
+
+	/**
+	 * One comma separated line per element of the game, which can be edited by
+	 * hand.
+	 *
+	 * @see LineType
+	 */
+	TEXT,
+	/**
+	 * The compact binary format of {@link BinarySave}.
+	 */
+	BINARY;
+
+}
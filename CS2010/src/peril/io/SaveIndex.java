@@ -0,0 +1,297 @@
+package peril.io;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import peril.GameController;
+
+/**
+ * An index of the saves in one directory that holds a small {@link Entry} for
+ * each save, so that the menus can describe the saves without reading them.
+ * The index is kept in a file beside the saves, which is rewritten atomically
+ * each time one of the saves is written.<br>
+ * <br>
+ * An {@link Entry} is only returned while the size of its save is the size it
+ * was indexed with, so a save that has been replaced or deleted since it was
+ * indexed is treated as if it was never indexed. The {@link Entry}s of saves
+ * that have been deleted are dropped the next time the index is rewritten, so
+ * the index of a directory of autosaves, whose oldest turns are deleted as new
+ * ones are written, only holds the turns that are still there.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-27
+ * @version 1.01.02
+ *
+ * @see MapWriter
+ * @see SaveFile
+ * @see Autosave
+ *
+ */
+public final class SaveIndex implements SaveSnapshot {
+
+	/**
+	 * The name of the index file in the directory of the saves.
+	 */
+	public static final String FILE_NAME = "saves.index";
+
+	/**
+	 * The bytes at the start of every index.
+	 */
+	private static final int MAGIC = 0x50534958;
+
+	/**
+	 * The version of the format the index is written in.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * The path to the directory of the saves, ending with a separator.
+	 */
+	private final String directory;
+
+	/**
+	 * The {@link Entry}s of the saves by the names of their files.
+	 */
+	private final Map<String, Entry> entries;
+
+	/**
+	 * Constructs a new empty {@link SaveIndex}.
+	 *
+	 * @param directory
+	 *            The path to the directory of the saves.
+	 */
+	private SaveIndex(String directory) {
+		this.directory = directory.endsWith(File.separator) ? directory : directory + File.separator;
+		this.entries = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Reads the {@link SaveIndex} of a directory of saves. If the index file does
+	 * not exist or is not valid the {@link SaveIndex} is empty.
+	 *
+	 * @param directory
+	 *            The path to the directory of the saves.
+	 * @return {@link SaveIndex}
+	 */
+	public static SaveIndex read(String directory) {
+
+		if (directory == null) {
+			throw new NullPointerException("Directory cannot be null.");
+		}
+
+		final SaveIndex index = new SaveIndex(directory);
+
+		final File file = new File(index.directory + FILE_NAME);
+
+		if (!file.isFile()) {
+			return index;
+		}
+
+		try (InputStream stream = new BufferedInputStream(new FileInputStream(file))) {
+
+			final DataInputStream in = new DataInputStream(stream);
+
+			if (in.readInt() != MAGIC || BinarySave.readVarint(in) != VERSION) {
+				return index;
+			}
+
+			final int numberOfEntries = BinarySave.readVarint(in);
+
+			for (int entry = 0; entry < numberOfEntries; entry++) {
+
+				final String filename = in.readUTF();
+				final int round = BinarySave.readVarint(in);
+				final int player = BinarySave.readVarint(in);
+				final int players = BinarySave.readVarint(in);
+				final long timestamp = in.readLong();
+				final long size = in.readLong();
+
+				index.entries.put(filename, new Entry(round, player, players, timestamp, size));
+			}
+
+		} catch (IOException e) {
+			// A damaged index is rebuilt as the saves are written again.
+			index.entries.clear();
+		}
+
+		return index;
+	}
+
+	/**
+	 * Retrieves the {@link Entry} of a save if the save is the one that was
+	 * indexed.
+	 *
+	 * @param filename
+	 *            The name of the save's file.
+	 * @return The {@link Entry} or <code>null</code> if the save has not been
+	 *         indexed or has changed since.
+	 */
+	public Entry get(String filename) {
+
+		final Entry entry = entries.get(filename);
+
+		if (entry == null || new File(directory + filename).length() != entry.size) {
+			return null;
+		}
+
+		return entry;
+	}
+
+	/**
+	 * Indexes a save that has just been written by rewriting the index of its
+	 * directory. The size of the {@link Entry} is the size of the save's file.
+	 * Updates are made one at a time so that saves that are written on different
+	 * threads do not lose each other's {@link Entry}s.
+	 *
+	 * @param directory
+	 *            The path to the directory of the save.
+	 * @param filename
+	 *            The name of the save's file.
+	 * @param round
+	 *            The round the game was saved in.
+	 * @param player
+	 *            The number of the player whose turn it was.
+	 * @param players
+	 *            The number of players that were playing.
+	 * @param timestamp
+	 *            The time the game was saved in milliseconds since the epoch.
+	 */
+	public static synchronized void update(String directory, String filename, int round, int player, int players,
+			long timestamp) {
+
+		if (filename == null) {
+			throw new NullPointerException("Filename cannot be null.");
+		}
+
+		final SaveIndex index = read(directory);
+
+		// Drop the saves that have been deleted since they were indexed.
+		index.entries.keySet().removeIf(name -> !new File(index.directory + name).isFile());
+
+		final long size = new File(index.directory + filename).length();
+
+		index.entries.put(filename, new Entry(round, player, players, timestamp, size));
+
+		try {
+			SaveQueue.writeAtomically(index.directory + FILE_NAME, index);
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Captures the details of a game that are held in the {@link SaveIndex} of the
+	 * directory it is being saved to. This must be called on the thread the game
+	 * is played on.
+	 * 
+	 * @param game
+	 *            The {@link GameController} of the game.
+	 * @param path
+	 *            The path to the file the game is being saved to.
+	 * @return The task that adds the file to the {@link SaveIndex} of its
+	 *         directory once it has been written.
+	 */
+	public static Runnable capture(GameController game, String path) {
+
+		final int round = game.getRoundNumber();
+		final int player = game.getCurrentModelPlayer().number;
+		final long timestamp = System.currentTimeMillis();
+
+		final int[] players = { 0 };
+		game.forEachModelPlayer(modelPlayer -> players[0]++);
+
+		final File file = new File(path).getAbsoluteFile();
+
+		return () -> update(file.getParent(), file.getName(), round, player, players[0], timestamp);
+	}
+
+	/**
+	 * Writes every {@link Entry} of this {@link SaveIndex}.
+	 */
+	@Override
+	public void writeTo(OutputStream destination) throws IOException {
+
+		final DataOutputStream out = new DataOutputStream(destination);
+
+		out.writeInt(MAGIC);
+		BinarySave.writeVarint(out, VERSION);
+		BinarySave.writeVarint(out, entries.size());
+
+		for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+
+			final Entry details = entry.getValue();
+
+			out.writeUTF(entry.getKey());
+			BinarySave.writeVarint(out, details.round);
+			BinarySave.writeVarint(out, details.player);
+			BinarySave.writeVarint(out, details.players);
+			out.writeLong(details.timestamp);
+			out.writeLong(details.size);
+		}
+
+		out.flush();
+	}
+
+	/**
+	 * The details of one save in a {@link SaveIndex}.
+	 */
+	public static final class Entry {
+
+		/**
+		 * The round the game was saved in.
+		 */
+		public final int round;
+
+		/**
+		 * The number of the player whose turn it was.
+		 */
+		public final int player;
+
+		/**
+		 * The number of players that were playing.
+		 */
+		public final int players;
+
+		/**
+		 * The time the game was saved in milliseconds since the epoch.
+		 */
+		public final long timestamp;
+
+		/**
+		 * The size of the save's file in bytes.
+		 */
+		public final long size;
+
+		/**
+		 * Constructs a new {@link Entry}.
+		 *
+		 * @param round
+		 *            The round the game was saved in.
+		 * @param player
+		 *            The number of the player whose turn it was.
+		 * @param players
+		 *            The number of players that were playing.
+		 * @param timestamp
+		 *            The time the game was saved in milliseconds since the epoch.
+		 * @param size
+		 *            The size of the save's file in bytes.
+		 */
+		private Entry(int round, int player, int players, long timestamp, long size) {
+			this.round = round;
+			this.player = player;
+			this.players = players;
+			this.timestamp = timestamp;
+			this.size = size;
+		}
+	}
+
+}
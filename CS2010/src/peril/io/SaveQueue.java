@@ -0,0 +1,332 @@
+package peril.io;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Writes {@link SaveSnapshot}s to their files on a background thread so that
+ * saving never stalls the thread the game is played on. Each save is written
+ * to a temporary file beside the target, flushed to the disk and then renamed
+ * over the target, so a crash part way through a save leaves the previous save
+ * intact.<br>
+ * <br>
+ * Saves to the same file are coalesced: if a save is requested while an
+ * earlier save to that file is still waiting to be written, only the newest
+ * {@link SaveSnapshot} is written and every request is told when it is.<br>
+ * <br>
+ * Files are deleted on the same thread, in the order they are requested among
+ * the saves, so a file that is deleted is never written again by a save that
+ * was requested before it.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-27
+ * @version 1.01.03
+ *
+ * @see SaveSnapshot
+ * @see MapWriter
+ *
+ */
+public final class SaveQueue {
+
+	/**
+	 * The number of seconds {@link #shutdown()} waits for the waiting saves to be
+	 * written.
+	 */
+	private static final int SHUTDOWN_TIMEOUT = 10;
+
+	/**
+	 * The file name suffix of the temporary file a save is written to before it
+	 * replaces the target.
+	 */
+	private static final String TEMP_SUFFIX = ".tmp";
+
+	/**
+	 * The {@link ExecutorService} with the one thread that writes the saves.
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * The saves that are waiting to be written by the path of their files.
+	 */
+	private final Map<String, Pending> pending;
+
+	/**
+	 * The number of saves that have been written.
+	 */
+	private int written;
+
+	/**
+	 * Constructs a new {@link SaveQueue}.
+	 */
+	public SaveQueue() {
+
+		this.executor = Executors.newSingleThreadExecutor(task -> {
+			final Thread thread = new Thread(task, "Save");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		this.pending = new HashMap<>();
+		this.written = 0;
+	}
+
+	/**
+	 * Requests that a {@link SaveSnapshot} is written to a file. If a save to the
+	 * same file is already waiting it is replaced by this one.
+	 *
+	 * @param path
+	 *            The path to the file.
+	 * @param snapshot
+	 *            The {@link SaveSnapshot} to write.
+	 * @param onComplete
+	 *            Called on the save thread with whether the save was written. May
+	 *            be <code>null</code>.
+	 */
+	public void submit(String path, SaveSnapshot snapshot, Consumer<Boolean> onComplete) {
+
+		if (path == null) {
+			throw new NullPointerException("Path cannot be null.");
+		} else if (snapshot == null) {
+			throw new NullPointerException("Snapshot cannot be null.");
+		}
+
+		synchronized (pending) {
+
+			Pending save = pending.get(path);
+
+			// Only one write is queued for each file at a time.
+			if (save == null) {
+				save = new Pending();
+				pending.put(path, save);
+				final Pending queued = save;
+				executor.execute(() -> write(path, queued));
+			}
+
+			save.snapshot = snapshot;
+
+			if (onComplete != null) {
+				save.callbacks.add(onComplete);
+			}
+		}
+	}
+
+	/**
+	 * Requests that a file, or a directory and everything in it, is deleted. A
+	 * save to the file, or to a file in the directory, that is still waiting is
+	 * not written and its requests are told that it was not.
+	 *
+	 * @param path
+	 *            The path to the file or directory.
+	 */
+	public void delete(String path) {
+
+		if (path == null) {
+			throw new NullPointerException("Path cannot be null.");
+		}
+
+		final String contents = path + File.separator;
+		final List<Pending> cancelled = new LinkedList<>();
+
+		synchronized (pending) {
+
+			final Iterator<Map.Entry<String, Pending>> saves = pending.entrySet().iterator();
+
+			while (saves.hasNext()) {
+
+				final Map.Entry<String, Pending> save = saves.next();
+
+				if (save.getKey().equals(path) || save.getKey().startsWith(contents)) {
+					cancelled.add(save.getValue());
+					saves.remove();
+				}
+			}
+		}
+
+		executor.execute(() -> {
+
+			for (Pending save : cancelled) {
+				for (Consumer<Boolean> callback : save.callbacks) {
+					callback.accept(false);
+				}
+			}
+
+			try {
+				deleteAll(path);
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		});
+	}
+
+	/**
+	 * Retrieves the number of saves that have been written to their files.
+	 *
+	 * @return <code>int</code>
+	 */
+	public int getNumberWritten() {
+		synchronized (pending) {
+			return written;
+		}
+	}
+
+	/**
+	 * Stops this {@link SaveQueue} accepting saves and waits for the saves that are
+	 * waiting to be written.
+	 */
+	public void shutdown() {
+
+		executor.shutdown();
+
+		try {
+			executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Writes a {@link SaveSnapshot} to a file on the current thread so that the
+	 * file either holds the whole snapshot or is left as it was.
+	 *
+	 * @param path
+	 *            The path to the file.
+	 * @param snapshot
+	 *            {@link SaveSnapshot}
+	 * @throws IOException
+	 *             Thrown if the snapshot cannot be written.
+	 */
+	public static void writeAtomically(String path, SaveSnapshot snapshot) throws IOException {
+
+		final Path target = Paths.get(path);
+		final Path temp = Paths.get(path + TEMP_SUFFIX);
+
+		try (FileOutputStream file = new FileOutputStream(temp.toFile())) {
+
+			final OutputStream out = new BufferedOutputStream(file);
+
+			snapshot.writeTo(out);
+			out.flush();
+
+			// Ensure the save is on the disk before it replaces the old one.
+			file.getFD().sync();
+
+		} catch (IOException e) {
+			Files.deleteIfExists(temp);
+			throw e;
+		}
+
+		try {
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Deletes a file, or a directory and everything in it, on the current thread.
+	 * Nothing is deleted if the file does not exist.
+	 *
+	 * @param path
+	 *            The path to the file or directory.
+	 * @throws IOException
+	 *             Thrown if a file cannot be deleted.
+	 */
+	public static void deleteAll(String path) throws IOException {
+
+		final Path target = Paths.get(path);
+
+		if (Files.isDirectory(target, LinkOption.NOFOLLOW_LINKS)) {
+			try (DirectoryStream<Path> files = Files.newDirectoryStream(target)) {
+				for (Path file : files) {
+					deleteAll(file.toString());
+				}
+			}
+		}
+
+		Files.deleteIfExists(target);
+	}
+
+	/**
+	 * Writes the newest save that is waiting for a file.
+	 *
+	 * @param path
+	 *            The path to the file.
+	 * @param save
+	 *            The {@link Pending} save that was queued for the file.
+	 */
+	private void write(String path, Pending save) {
+
+		synchronized (pending) {
+
+			// The save is not written if its file was deleted since it was queued.
+			if (!pending.remove(path, save)) {
+				return;
+			}
+		}
+
+		boolean saved;
+
+		try {
+			writeAtomically(path, save.snapshot);
+			saved = true;
+		} catch (IOException e) {
+			e.printStackTrace();
+			saved = false;
+		}
+
+		synchronized (pending) {
+			if (saved) {
+				written++;
+			}
+		}
+
+		for (Consumer<Boolean> callback : save.callbacks) {
+			callback.accept(saved);
+		}
+	}
+
+	/**
+	 * A save that is waiting to be written.
+	 */
+	private static final class Pending {
+
+		/**
+		 * The newest {@link SaveSnapshot} requested for the file.
+		 */
+		private SaveSnapshot snapshot;
+
+		/**
+		 * The callbacks of every request for the file since it was last written.
+		 */
+		private final List<Consumer<Boolean>> callbacks;
+
+		/**
+		 * Constructs a new {@link Pending}.
+		 */
+		private Pending() {
+			this.snapshot = null;
+			this.callbacks = new LinkedList<>();
+		}
+	}
+
+}
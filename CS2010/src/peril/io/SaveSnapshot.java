@@ -0,0 +1,34 @@
+package peril.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A copy of the state of the game, taken on the thread the game is played on,
+ * that can be written to a file on any other thread. A {@link SaveSnapshot}
+ * must not refer to any part of the game that can still change.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-27
+ * @version 1.01.01
+ *
+ * @see MapWriter#capture()
+ * @see SaveQueue
+ *
+ */
+@FunctionalInterface
+public interface SaveSnapshot {
+
+	/**
+	 * Writes this {@link SaveSnapshot}.
+	 *
+	 * @param out
+	 *            The {@link OutputStream} the snapshot is written to, which is
+	 *            not closed.
+	 * @throws IOException
+	 *             Thrown if the snapshot cannot be written.
+	 */
+	void writeTo(OutputStream out) throws IOException;
+
+}
@@ -0,0 +1,512 @@
+package peril.io;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Holds the bytes of a text file and tokenises its lines in place. The whole
+ * file is read with one bulk read and the start and end of every line are
+ * found in a single pass, so no <code>String</code> is created for a line or
+ * one of its fields unless it is asked for. Fields are read directly from the
+ * bytes using {@link #getInt(int)} and compared using
+ * {@link #isField(int, String)}.<br>
+ * <br>
+ * The lines are the same as those read by a {@link java.util.Scanner}: blank
+ * lines are kept except for those at the end of the file. The fields of a line
+ * are the same as those returned by {@link String#split(String)}.
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.02
+ * @since 2018-03-27
+ *
+ * @see TextFileReader
+ * @see FileParser
+ *
+ */
+public final class TextBuffer {
+
+	/**
+	 * The {@link Charset} the text is decoded with, which is the same as a
+	 * {@link java.util.Scanner} of a file.
+	 */
+	private static final Charset CHARSET = Charset.defaultCharset();
+
+	/**
+	 * The bytes of the file.
+	 */
+	private final byte[] bytes;
+
+	/**
+	 * The index of the first byte of each line.
+	 */
+	private final int[] starts;
+
+	/**
+	 * The index after the last byte of each line, not including the line
+	 * separator.
+	 */
+	private final int[] ends;
+
+	/**
+	 * The index of the first byte of each field of the selected line.
+	 */
+	private int[] fieldStarts;
+
+	/**
+	 * The index after the last byte of each field of the selected line.
+	 */
+	private int[] fieldEnds;
+
+	/**
+	 * The number of fields in the selected line.
+	 */
+	private int fields;
+
+	/**
+	 * Constructs a new {@link TextBuffer}.
+	 *
+	 * @param bytes
+	 *            The bytes of the text.
+	 */
+	TextBuffer(byte[] bytes) {
+
+		this.bytes = bytes;
+		this.fieldStarts = new int[8];
+		this.fieldEnds = new int[8];
+		this.fields = 0;
+
+		// Lines after the last non whitespace character are ignored.
+		int last = bytes.length - 1;
+
+		while (last >= 0 && isWhitespace(bytes[last])) {
+			last--;
+		}
+
+		int[] starts = new int[16];
+		int[] ends = new int[16];
+		int lines = 0;
+		int start = 0;
+
+		while (start <= last) {
+
+			int end = start;
+
+			while (end < bytes.length && bytes[end] != '\n' && bytes[end] != '\r') {
+				end++;
+			}
+
+			if (lines == starts.length) {
+				starts = Arrays.copyOf(starts, lines * 2);
+				ends = Arrays.copyOf(ends, lines * 2);
+			}
+
+			starts[lines] = start;
+			ends[lines] = end;
+			lines++;
+
+			// A "\r\n" is one line separator.
+			if (end + 1 < bytes.length && bytes[end] == '\r' && bytes[end + 1] == '\n') {
+				end++;
+			}
+
+			start = end + 1;
+		}
+
+		this.starts = Arrays.copyOf(starts, lines);
+		this.ends = Arrays.copyOf(ends, lines);
+	}
+
+	/**
+	 * Reads the whole of a file into a new {@link TextBuffer}.
+	 *
+	 * @param file
+	 *            The {@link File} to read.
+	 * @return {@link TextBuffer}
+	 * @throws IOException
+	 *             Thrown if the file cannot be read.
+	 */
+	public static TextBuffer read(File file) throws IOException {
+
+		try (FileInputStream in = new FileInputStream(file); FileChannel channel = in.getChannel()) {
+
+			final long size = channel.size();
+
+			if (size > Integer.MAX_VALUE) {
+				throw new IOException(file.getName() + " is too large to read.");
+			}
+
+			final ByteBuffer buffer = ByteBuffer.allocate((int) size);
+
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer) < 0) {
+					throw new EOFException(file.getName() + " ended before it was read.");
+				}
+			}
+
+			return new TextBuffer(buffer.array());
+		}
+	}
+
+	/**
+	 * Retrieves the number of lines in the text.
+	 *
+	 * @return <code>int</code>
+	 */
+	public int getNumberOfLines() {
+		return starts.length;
+	}
+
+	/**
+	 * Retrieves the number of bytes in the text.
+	 *
+	 * @return <code>int</code>
+	 */
+	public int getSize() {
+		return bytes.length;
+	}
+
+	/**
+	 * Retrieves the index of the first byte of a line of the text. The index of
+	 * the line after the last line is the size of the text.
+	 *
+	 * @param line
+	 *            The index of the line.
+	 * @return <code>int</code>
+	 */
+	public int getOffset(int line) {
+		return line < starts.length ? starts[line] : bytes.length;
+	}
+
+	/**
+	 * Retrieves a line of the text.
+	 *
+	 * @param line
+	 *            The index of the line.
+	 * @return <code>String</code>
+	 */
+	public String getLine(int line) {
+		return new String(bytes, starts[line], ends[line] - starts[line], CHARSET);
+	}
+
+	/**
+	 * Tokenises a line of the text into the fields separated by a character. The
+	 * fields are then read using the methods of this {@link TextBuffer} that take
+	 * the index of a field until another line is selected.
+	 *
+	 * @param line
+	 *            The index of the line.
+	 * @param separator
+	 *            The character that separates the fields.
+	 * @return The number of fields in the line.
+	 */
+	public int select(int line, char separator) {
+
+		final int end = ends[line];
+		int start = starts[line];
+
+		fields = 0;
+
+		for (int position = start; position < end; position++) {
+			if (bytes[position] == separator) {
+				addField(start, position);
+				start = position + 1;
+			}
+		}
+
+		addField(start, end);
+
+		// Like split, trailing empty fields are removed if the line was split.
+		if (fields > 1) {
+			while (fields > 0 && fieldStarts[fields - 1] == fieldEnds[fields - 1]) {
+				fields--;
+			}
+		}
+
+		return fields;
+	}
+
+	/**
+	 * Retrieves the number of fields in the selected line.
+	 *
+	 * @return <code>int</code>
+	 */
+	public int getNumberOfFields() {
+		return fields;
+	}
+
+	/**
+	 * Retrieves the number of characters in a field of the selected line.
+	 *
+	 * @param field
+	 *            The index of the field.
+	 * @return <code>int</code>
+	 */
+	public int getLength(int field) {
+		checkField(field);
+		return fieldEnds[field] - fieldStarts[field];
+	}
+
+	/**
+	 * Retrieves a field of the selected line as a <code>String</code>.
+	 *
+	 * @param field
+	 *            The index of the field.
+	 * @return <code>String</code>
+	 */
+	public String getString(int field) {
+		return getString(field, 0, getLength(field));
+	}
+
+	/**
+	 * Retrieves part of a field of the selected line as a <code>String</code>.
+	 *
+	 * @param field
+	 *            The index of the field.
+	 * @param from
+	 *            The index in the field of the first character.
+	 * @param to
+	 *            The index in the field after the last character.
+	 * @return <code>String</code>
+	 */
+	public String getString(int field, int from, int to) {
+		checkRange(field, from, to);
+		return new String(bytes, fieldStarts[field] + from, to - from, CHARSET);
+	}
+
+	/**
+	 * Parses a field of the selected line as a decimal integer without creating
+	 * a <code>String</code>.
+	 *
+	 * @param field
+	 *            The index of the field.
+	 * @return <code>int</code>
+	 * @throws NumberFormatException
+	 *             Thrown if the field is not a valid integer.
+	 */
+	public int getInt(int field) {
+		return getInt(field, 0, getLength(field));
+	}
+
+	/**
+	 * Parses part of a field of the selected line as a decimal integer without
+	 * creating a <code>String</code>, in the same way as
+	 * {@link Integer#parseInt(String)}.
+	 *
+	 * @param field
+	 *            The index of the field.
+	 * @param from
+	 *            The index in the field of the first character.
+	 * @param to
+	 *            The index in the field after the last character.
+	 * @return <code>int</code>
+	 * @throws NumberFormatException
+	 *             Thrown if the part of the field is not a valid integer.
+	 */
+	public int getInt(int field, int from, int to) {
+
+		checkRange(field, from, to);
+
+		int position = fieldStarts[field] + from;
+		final int end = fieldStarts[field] + to;
+
+		if (position == end) {
+			throw new NumberFormatException("An empty field is not a number.");
+		}
+
+		final boolean negative = bytes[position] == '-';
+
+		if (negative || bytes[position] == '+') {
+			position++;
+
+			if (position == end) {
+				throw new NumberFormatException("A sign on its own is not a number.");
+			}
+		}
+
+		// Accumulate negatively so that Integer.MIN_VALUE can be read.
+		final long limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+		long value = 0;
+
+		while (position < end) {
+
+			final int digit = bytes[position++] - '0';
+
+			if (digit < 0 || digit > 9) {
+				throw new NumberFormatException(getString(field, from, to) + " is not a number.");
+			}
+
+			value = value * 10 - digit;
+
+			if (value < limit) {
+				throw new NumberFormatException(getString(field, from, to) + " is out of range.");
+			}
+		}
+
+		return (int) (negative ? value : -value);
+	}
+
+	/**
+	 * Retrieves whether a field of the selected line is the same as a specified
+	 * <code>String</code> without creating a <code>String</code> of the field.
+	 *
+	 * @param field
+	 *            The index of the field.
+	 * @param text
+	 *            <code>String</code>
+	 * @return <code>boolean</code>
+	 */
+	public boolean isField(int field, String text) {
+		return isField(field, 0, getLength(field), text);
+	}
+
+	/**
+	 * Retrieves whether part of a field of the selected line is the same as a
+	 * specified <code>String</code> without creating a <code>String</code> of the
+	 * field.
+	 *
+	 * @param field
+	 *            The index of the field.
+	 * @param from
+	 *            The index in the field of the first character.
+	 * @param to
+	 *            The index in the field after the last character.
+	 * @param text
+	 *            <code>String</code>
+	 * @return <code>boolean</code>
+	 */
+	public boolean isField(int field, int from, int to, String text) {
+
+		checkRange(field, from, to);
+
+		// Other characters may be encoded as more than one byte.
+		if (!isAscii(text)) {
+			return getString(field, from, to).equals(text);
+		} else if (to - from != text.length()) {
+			return false;
+		}
+
+		final int start = fieldStarts[field] + from;
+
+		for (int offset = 0; offset < text.length(); offset++) {
+			if (bytes[start + offset] != text.charAt(offset)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Retrieves the index in a field of the selected line of the first occurrence
+	 * of a character at or after a specified index.
+	 *
+	 * @param field
+	 *            The index of the field.
+	 * @param character
+	 *            The character to find.
+	 * @param from
+	 *            The index in the field to start from.
+	 * @return The index in the field or -1 if the character does not occur.
+	 */
+	public int indexOf(int field, char character, int from) {
+
+		final int length = getLength(field);
+
+		for (int offset = Math.max(from, 0); offset < length; offset++) {
+			if (bytes[fieldStarts[field] + offset] == character) {
+				return offset;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Adds a field to the selected line.
+	 *
+	 * @param start
+	 *            The index of the first byte of the field.
+	 * @param end
+	 *            The index after the last byte of the field.
+	 */
+	private void addField(int start, int end) {
+
+		if (fields == fieldStarts.length) {
+			fieldStarts = Arrays.copyOf(fieldStarts, fields * 2);
+			fieldEnds = Arrays.copyOf(fieldEnds, fields * 2);
+		}
+
+		fieldStarts[fields] = start;
+		fieldEnds[fields] = end;
+		fields++;
+	}
+
+	/**
+	 * Checks that a field is in the selected line.
+	 *
+	 * @param field
+	 *            The index of the field.
+	 */
+	private void checkField(int field) {
+		if (field < 0 || field >= fields) {
+			throw new IndexOutOfBoundsException("There is no field " + field + ", the line has " + fields + ".");
+		}
+	}
+
+	/**
+	 * Checks that a part of a field is inside that field of the selected line.
+	 *
+	 * @param field
+	 *            The index of the field.
+	 * @param from
+	 *            The index in the field of the first character.
+	 * @param to
+	 *            The index in the field after the last character.
+	 */
+	private void checkRange(int field, int from, int to) {
+
+		checkField(field);
+
+		if (from < 0 || to > fieldEnds[field] - fieldStarts[field] || from > to) {
+			throw new IndexOutOfBoundsException("Field " + field + " has no characters " + from + " to " + to + ".");
+		}
+	}
+
+	/**
+	 * Retrieves whether a <code>String</code> only contains characters that are
+	 * encoded as one byte.
+	 *
+	 * @param text
+	 *            <code>String</code>
+	 * @return <code>boolean</code>
+	 */
+	private static boolean isAscii(String text) {
+
+		for (int offset = 0; offset < text.length(); offset++) {
+			if (text.charAt(offset) > 0x7F) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Retrieves whether a byte is a whitespace character.
+	 *
+	 * @param value
+	 *            The byte.
+	 * @return <code>boolean</code>
+	 */
+	private static boolean isWhitespace(byte value) {
+		return value == ' ' || value == '\t' || value == '\n' || value == '\r' || value == '\f' || value == 0x0B;
+	}
+
+}
@@ -1,37 +1,29 @@
 package peril.io;
 
 import java.io.File;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Scanner;
+import java.io.IOException;
 
 /**
  * Reads a external text file. Use
  * {@link TextFileReader#scanFile(String, String)} to get the lines of the
- * desired text file.
+ * desired text file or {@link TextFileReader#readFile(String, String)} to
+ * tokenise its lines in place.
  * 
  * @author Joshua_Eddy
  * 
- * @version 1.01.02
+ * @version 1.01.03
  * @since 2018-03-16
  *
  * @see java.io.File
+ * @see TextBuffer
  */
 public final class TextFileReader {
 
-	/**
-	 * The directory that holds all the map {@link File}s.
-	 */
-	private File[] directory;
-
 	/**
 	 * Constructs a new {@link TextFileReader}.
-	 * 
-	 * @param directoryPath
-	 *            The path to the folder containing the text file.
 	 */
-	private TextFileReader(String directoryPath) {
-		directory = getDirectory(directoryPath);
+	private TextFileReader() {
+
 	}
 
 	/**
@@ -46,90 +38,41 @@ public final class TextFileReader {
 	 */
 	public static String[] scanFile(String directoryPath, String filename) {
 
-		// The scanner that has read the text file.
-		Scanner scanner = (new TextFileReader(directoryPath)).getScanner(filename);
+		final TextBuffer text = readFile(directoryPath, filename);
 
 		// Holds the lines of the text file.
-		List<String> lines = new LinkedList<>();
-
-		// If the file was found, otherwise return an empty array.
-		if (scanner != null) {
-
-			// Iterate through the scanner and add each line to the list.
-			while (scanner.hasNext()) {
-				lines.add(scanner.nextLine());
-			}
-
-			// Return the list of lines as an array.
-			return lines.toArray(new String[lines.size()]);
-		} else {
-			return new String[0];
-		}
-
-	}
-
-	/**
-	 * Retrieves the {@link Scanner} that contains the lines of the specified file.
-	 * 
-	 * @param fileName
-	 *            Specified file inside {@link TextFileReader#directory}.
-	 * @return {@link Scanner}
-	 */
-	private Scanner getScanner(String fileName) {
+		final String[] lines = new String[text.getNumberOfLines()];
 
-		Scanner scnr = null;
-
-		// Attempt to read the file.
-		try {
-			scnr = new Scanner(getFile(fileName));
-		} catch (Exception e) {
-			System.out.println("Failed to find " + fileName);
+		for (int line = 0; line < lines.length; line++) {
+			lines[line] = text.getLine(line);
 		}
 
-		return scnr;
+		return lines;
 
 	}
 
 	/**
-	 * Retrieves a file from a directory.
+	 * Reads the whole of a specified text file in a specified directory into a
+	 * {@link TextBuffer}. Only the file with exactly the specified name is read.
 	 * 
-	 * @param fileName
+	 * @param directoryPath
+	 *            The path of the parent directory to the file.
+	 * @param filename
 	 *            The filename of the file.
-	 * @return A raw File.
+	 * @return The {@link TextBuffer} of the file, which has no lines if the file
+	 *         could not be read.
 	 */
-	private File getFile(String fileName) {
+	public static TextBuffer readFile(String directoryPath, String filename) {
 
-		for (File level : directory) {
-			if (level.getPath().contains(fileName)) {
-
-				try {
-					return level;
-				} catch (Exception e) {
-					e.printStackTrace();
-				}
-			}
+		// Attempt to read the file.
+		try {
+			return TextBuffer.read(new File(directoryPath, filename));
+		} catch (IOException e) {
+			System.out.println("Failed to find " + filename);
 		}
-		return null;
 
-	}
+		return new TextBuffer(new byte[0]);
 
-	/**
-	 * Gets the files in a specified directory.
-	 * 
-	 * @param directoryPath
-	 *            The specified directory.
-	 * @return <code>File[]</code> that contains all the files in the specified
-	 *         directory directory.
-	 */
-	private File[] getDirectory(String directoryPath) {
-		File[] directory = null;
-		try {
-			File folder = new File(directoryPath);
-			directory = folder.listFiles();
-		} catch (Exception e) {
-			System.out.println("Failed to load directory");
-		}
-		return directory;
 	}
 
 }
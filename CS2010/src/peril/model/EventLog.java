@@ -0,0 +1,518 @@
+package peril.model;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import peril.model.board.ModelCountry;
+import peril.model.board.ModelUnit;
+
+/**
+ * A compact binary log of every action that changes the state of a game. Each
+ * event is one type byte followed by its values, where every country id, unit
+ * tier, player number, dice roll and count is written as an unsigned varint so
+ * that almost every value takes a single byte. Recording an event only writes
+ * bytes into a growing array so it does not create any objects or format any
+ * <code>String</code>s.<br>
+ * <br>
+ * The events record the outcome of each action rather than the request for it,
+ * so a log can be replayed on top of the state of the game when it was
+ * {@link #reset(long) reset} without the {@link java.util.Random} that produced
+ * it. The seed of that {@link java.util.Random} is kept with the log so a
+ * recorded game can also be played again under a new build and compared event
+ * by event to detect a regression.<br>
+ * <br>
+ * The events and their values are:
+ * <ul>
+ * <li>{@link #REINFORCE}: country, tier</li>
+ * <li>{@link #ATTACK}: attacker, defender, number of attacking dice, the
+ * attacking dice, number of defending dice, the defending dice, number of
+ * tiers, the units of each tier in the attacker, the units of each tier in the
+ * defender, 1 if the defender was conquered otherwise 0</li>
+ * <li>{@link #FORTIFY}: source country, target country, tier</li>
+ * <li>{@link #TRADE_UP}: country, tier traded</li>
+ * <li>{@link #BLOCKADE}: country the link is from, country the link is to,
+ * duration</li>
+ * <li>{@link #HAZARD}: country, number of tiers, the units of each tier that
+ * survived</li>
+ * <li>{@link #TURN}: the player whose turn it now is</li>
+ * <li>{@link #ROUND}: the round that has started</li>
+ * </ul>
+ * An {@link EventLog} is not thread safe, each game records to its own.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-25
+ * @version 1.01.01
+ *
+ * @see Reader
+ *
+ */
+public final class EventLog {
+
+	/**
+	 * A {@link ModelUnit} was added to a {@link ModelCountry} from the
+	 * distributable army of its ruler.
+	 */
+	public static final int REINFORCE = 1;
+
+	/**
+	 * A round of combat was fought between two {@link ModelCountry}s.
+	 */
+	public static final int ATTACK = 2;
+
+	/**
+	 * A {@link ModelUnit} was moved from one {@link ModelCountry} to another.
+	 */
+	public static final int FORTIFY = 3;
+
+	/**
+	 * {@link ModelUnit}s in a {@link ModelCountry} were traded for the
+	 * {@link ModelUnit} above them.
+	 */
+	public static final int TRADE_UP = 4;
+
+	/**
+	 * A link between two {@link ModelCountry}s was blockaded.
+	 */
+	public static final int BLOCKADE = 5;
+
+	/**
+	 * A hazard killed some of the army of a {@link ModelCountry}.
+	 */
+	public static final int HAZARD = 6;
+
+	/**
+	 * The turn passed to the next player.
+	 */
+	public static final int TURN = 7;
+
+	/**
+	 * A new round started.
+	 */
+	public static final int ROUND = 8;
+
+	/**
+	 * The number of bytes the log initially has room for.
+	 */
+	private static final int INITIAL_CAPACITY = 4096;
+
+	/**
+	 * The bytes of all the events recorded so far.
+	 */
+	private byte[] bytes;
+
+	/**
+	 * The number of bytes in {@link #bytes} that are in use.
+	 */
+	private int size;
+
+	/**
+	 * The number of events that have been recorded.
+	 */
+	private int events;
+
+	/**
+	 * The seed of the {@link java.util.Random} of the game that was recorded.
+	 */
+	private long seed;
+
+	/**
+	 * Constructs a new empty {@link EventLog}.
+	 */
+	public EventLog() {
+		this.bytes = new byte[INITIAL_CAPACITY];
+		this.size = 0;
+		this.events = 0;
+		this.seed = 0;
+	}
+
+	/**
+	 * Removes all the events from this {@link EventLog} so that it can record a
+	 * new game. The memory used by the previous game is reused.
+	 *
+	 * @param seed
+	 *            The seed of the {@link java.util.Random} of the new game.
+	 */
+	public void reset(long seed) {
+		this.size = 0;
+		this.events = 0;
+		this.seed = seed;
+	}
+
+	/**
+	 * Retrieves the seed of the {@link java.util.Random} of the recorded game.
+	 *
+	 * @return <code>long</code>
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Retrieves the number of events in this {@link EventLog}.
+	 *
+	 * @return <code>int</code>
+	 */
+	public int getNumberOfEvents() {
+		return events;
+	}
+
+	/**
+	 * Retrieves the number of bytes used by the events of this {@link EventLog}.
+	 * This is also the position the next event will be written at.
+	 *
+	 * @return <code>int</code>
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Records that a {@link ModelUnit} was added to a {@link ModelCountry}.
+	 *
+	 * @param country
+	 *            The id of the {@link ModelCountry}.
+	 * @param tier
+	 *            The tier of the {@link ModelUnit}.
+	 */
+	public void reinforce(int country, int tier) {
+		begin(REINFORCE);
+		write(country);
+		write(tier);
+	}
+
+	/**
+	 * Records the result of a round of combat.
+	 *
+	 * @param attacker
+	 *            The id of the attacking {@link ModelCountry}.
+	 * @param defender
+	 *            The id of the defending {@link ModelCountry}.
+	 * @param attackerDice
+	 *            The dice rolled by the attacker.
+	 * @param defenderDice
+	 *            The dice rolled by the defender.
+	 * @param attackerArmy
+	 *            The number of {@link ModelUnit}s of each tier in the attacker
+	 *            after the combat.
+	 * @param defenderArmy
+	 *            The number of {@link ModelUnit}s of each tier in the defender
+	 *            after the combat.
+	 * @param conquered
+	 *            Whether the defender was conquered by the attacker.
+	 */
+	public void attack(int attacker, int defender, Integer[] attackerDice, Integer[] defenderDice,
+			int[] attackerArmy, int[] defenderArmy, boolean conquered) {
+
+		begin(ATTACK);
+		write(attacker);
+		write(defender);
+
+		write(attackerDice.length);
+		for (int die = 0; die < attackerDice.length; die++) {
+			write(attackerDice[die]);
+		}
+
+		write(defenderDice.length);
+		for (int die = 0; die < defenderDice.length; die++) {
+			write(defenderDice[die]);
+		}
+
+		write(attackerArmy.length);
+		write(attackerArmy);
+		write(defenderArmy);
+		write(conquered ? 1 : 0);
+	}
+
+	/**
+	 * Records that a {@link ModelUnit} was moved between two {@link ModelCountry}s.
+	 *
+	 * @param source
+	 *            The id of the {@link ModelCountry} the {@link ModelUnit} left.
+	 * @param target
+	 *            The id of the {@link ModelCountry} the {@link ModelUnit} arrived
+	 *            at.
+	 * @param tier
+	 *            The tier of the {@link ModelUnit}.
+	 */
+	public void fortify(int source, int target, int tier) {
+		begin(FORTIFY);
+		write(source);
+		write(target);
+		write(tier);
+	}
+
+	/**
+	 * Records that the {@link ModelUnit}s of a tier in a {@link ModelCountry} were
+	 * traded up.
+	 *
+	 * @param country
+	 *            The id of the {@link ModelCountry}.
+	 * @param tier
+	 *            The tier of the {@link ModelUnit}s that were traded.
+	 */
+	public void tradeUp(int country, int tier) {
+		begin(TRADE_UP);
+		write(country);
+		write(tier);
+	}
+
+	/**
+	 * Records that the link from one {@link ModelCountry} to another was
+	 * blockaded.
+	 *
+	 * @param from
+	 *            The id of the {@link ModelCountry} the link is from.
+	 * @param to
+	 *            The id of the {@link ModelCountry} the link is to.
+	 * @param duration
+	 *            The number of rounds the blockade will last.
+	 */
+	public void blockade(int from, int to, int duration) {
+		begin(BLOCKADE);
+		write(from);
+		write(to);
+		write(duration);
+	}
+
+	/**
+	 * Records the army of a {@link ModelCountry} that survived a hazard.
+	 *
+	 * @param country
+	 *            The id of the {@link ModelCountry}.
+	 * @param army
+	 *            The number of {@link ModelUnit}s of each tier that survived.
+	 */
+	public void hazard(int country, int[] army) {
+		begin(HAZARD);
+		write(country);
+		write(army.length);
+		write(army);
+	}
+
+	/**
+	 * Records that the turn passed to a player.
+	 *
+	 * @param player
+	 *            The number of the player.
+	 */
+	public void turn(int player) {
+		begin(TURN);
+		write(player);
+	}
+
+	/**
+	 * Records that a new round started.
+	 *
+	 * @param round
+	 *            The number of the round.
+	 */
+	public void round(int round) {
+		begin(ROUND);
+		write(round);
+	}
+
+	/**
+	 * Retrieves a {@link Reader} of the events in this {@link EventLog} from a
+	 * specified position.
+	 *
+	 * @param position
+	 *            A value returned by {@link #size()} or {@link Reader#position()}.
+	 * @return {@link Reader}
+	 */
+	public Reader read(int position) {
+
+		if (position < 0 || position > size) {
+			throw new IndexOutOfBoundsException(position + " is not a position in the log.");
+		}
+
+		return new Reader(position);
+	}
+
+	/**
+	 * Writes the seed and the events of this {@link EventLog} to an
+	 * {@link OutputStream}.
+	 *
+	 * @param stream
+	 *            {@link OutputStream}
+	 * @throws IOException
+	 *             Thrown if the stream could not be written.
+	 */
+	public void writeTo(OutputStream stream) throws IOException {
+
+		final DataOutputStream out = new DataOutputStream(stream);
+
+		out.writeLong(seed);
+		out.writeInt(events);
+		out.writeInt(size);
+		out.write(bytes, 0, size);
+		out.flush();
+	}
+
+	/**
+	 * Reads an {@link EventLog} that was written by
+	 * {@link #writeTo(OutputStream)}.
+	 *
+	 * @param stream
+	 *            {@link InputStream}
+	 * @return {@link EventLog}
+	 * @throws IOException
+	 *             Thrown if the stream could not be read.
+	 */
+	public static EventLog readFrom(InputStream stream) throws IOException {
+
+		final DataInputStream in = new DataInputStream(stream);
+		final EventLog log = new EventLog();
+
+		log.seed = in.readLong();
+		log.events = in.readInt();
+		log.size = in.readInt();
+
+		if (log.events < 0 || log.size < 0) {
+			throw new IOException("The event log is corrupt.");
+		}
+
+		log.bytes = new byte[Math.max(log.size, INITIAL_CAPACITY)];
+		in.readFully(log.bytes, 0, log.size);
+
+		return log;
+	}
+
+	/**
+	 * Starts a new event of the specified type.
+	 *
+	 * @param type
+	 *            The type of event.
+	 */
+	private void begin(int type) {
+		events++;
+		write(type);
+	}
+
+	/**
+	 * Writes every value of an array.
+	 *
+	 * @param values
+	 *            The values to write.
+	 */
+	private void write(int[] values) {
+		for (int index = 0; index < values.length; index++) {
+			write(values[index]);
+		}
+	}
+
+	/**
+	 * Writes a value as an unsigned varint, seven bits per byte with the high bit
+	 * set on every byte but the last.
+	 *
+	 * @param value
+	 *            The value to write.
+	 */
+	private void write(int value) {
+
+		// Make sure there is room for the longest varint.
+		if (size + 5 > bytes.length) {
+			bytes = Arrays.copyOf(bytes, bytes.length * 2);
+		}
+
+		while ((value & ~0x7F) != 0) {
+			bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+
+		bytes[size++] = (byte) value;
+	}
+
+	/**
+	 * Reads the events of an {@link EventLog} one value at a time. Each event
+	 * starts with its type from {@link #next()} which is followed by the values
+	 * listed in {@link EventLog} that are read using {@link #readInt()}.
+	 *
+	 * @author Joshua_Eddy
+	 *
+	 * @since 2018-03-25
+	 * @version 1.01.01
+	 *
+	 */
+	public final class Reader {
+
+		/**
+		 * The position of the next byte to read.
+		 */
+		private int position;
+
+		/**
+		 * Constructs a new {@link Reader}.
+		 *
+		 * @param position
+		 *            The position of the first byte to read.
+		 */
+		private Reader(int position) {
+			this.position = position;
+		}
+
+		/**
+		 * Retrieves whether there is another event to read.
+		 *
+		 * @return <code>boolean</code>
+		 */
+		public boolean hasNext() {
+			return position < size;
+		}
+
+		/**
+		 * Retrieves the type of the next event.
+		 *
+		 * @return One of {@link EventLog#REINFORCE} to {@link EventLog#ROUND}.
+		 */
+		public int next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			return readInt();
+		}
+
+		/**
+		 * Reads the next value of the current event.
+		 *
+		 * @return <code>int</code>
+		 */
+		public int readInt() {
+
+			int value = 0;
+			int shift = 0;
+			byte current;
+
+			do {
+
+				if (position >= size) {
+					throw new IllegalStateException("The event at " + position + " is incomplete.");
+				}
+
+				current = bytes[position++];
+				value |= (current & 0x7F) << shift;
+				shift += 7;
+
+			} while ((current & 0x80) != 0);
+
+			return value;
+		}
+
+		/**
+		 * Retrieves the position of the next byte this {@link Reader} will read.
+		 *
+		 * @return <code>int</code>
+		 */
+		public int position() {
+			return position;
+		}
+	}
+
+}
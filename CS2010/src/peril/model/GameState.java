@@ -0,0 +1,1100 @@
+package peril.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import peril.GameController;
+import peril.helpers.PlayerHelper;
+import peril.helpers.PointHelper;
+import peril.helpers.UnitHelper;
+import peril.model.board.ModelArmy;
+import peril.model.board.ModelBoard;
+import peril.model.board.ModelCountry;
+import peril.model.board.ModelUnit;
+import peril.model.board.links.ModelLink;
+import peril.model.board.links.ModelLinkState;
+
+/**
+ * A detached copy of the state of a game that has no observers and is held in
+ * compact primitive arrays indexed by {@link ModelCountry#getId()},
+ * {@link ModelPlayer#number} and {@link ModelUnit} tier. A {@link GameState} is
+ * {@link #capture(GameController) captured} from a running game and can then
+ * be {@link #fork() forked} as many times as required, which only copies the
+ * arrays that change during a game, so that what-if previews, AI searches and
+ * rollouts can change their own copy without affecting the game or each
+ * other.<br>
+ * <br>
+ * The board topology, the {@link ModelUnit}s and the default states of the
+ * links never change during a game so they are shared by every fork. A
+ * {@link GameState} is not thread safe, but separate forks can be used by
+ * separate threads.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-24
+ * @version 1.01.03
+ *
+ * @see ModelBoard
+ *
+ */
+public final class GameState {
+
+	/**
+	 * Denotes that a {@link ModelCountry} is not ruled by any {@link ModelPlayer}.
+	 */
+	public static final int NEUTRAL = 0;
+
+	/**
+	 * The offset of the points of a player in {@link #players}.
+	 */
+	private static final int POINTS = 0;
+
+	/**
+	 * The offset of the number of countries a player rules in {@link #players}.
+	 */
+	private static final int COUNTRIES_RULED = 1;
+
+	/**
+	 * The offset of the number of continents a player rules in {@link #players}.
+	 */
+	private static final int CONTINENTS_RULED = 2;
+
+	/**
+	 * The offset of the number of units a player has killed in {@link #players}.
+	 */
+	private static final int UNITS_KILLED = 3;
+
+	/**
+	 * The offset of the number of countries a player has taken in
+	 * {@link #players}.
+	 */
+	private static final int COUNTRIES_TAKEN = 4;
+
+	/**
+	 * The offset of the number of points a player has spent in {@link #players}.
+	 */
+	private static final int POINTS_SPENT = 5;
+
+	/**
+	 * The offset of whether a player is still playing in {@link #players}.
+	 */
+	private static final int PLAYING = 6;
+
+	/**
+	 * The number of values held for each player in {@link #players}.
+	 */
+	private static final int PLAYER_VALUES = 7;
+
+	/**
+	 * The {@link ModelUnit}s of the game in ascending order of strength.
+	 */
+	private final ModelUnit[] units;
+
+	/**
+	 * The start of each country's neighbours in {@link #neighbourIds}. The
+	 * neighbours of the country with id <code>c</code> are between
+	 * <code>neighbourOffsets[c]</code> and <code>neighbourOffsets[c + 1]</code>.
+	 */
+	private final int[] neighbourOffsets;
+
+	/**
+	 * The ids of the neighbours of every country.
+	 */
+	private final int[] neighbourIds;
+
+	/**
+	 * The default {@link ModelLinkState} of each link in {@link #neighbourIds}.
+	 */
+	private final ModelLinkState[] defaultLinkStates;
+
+	/**
+	 * The current {@link ModelLinkState} of each link in {@link #neighbourIds}.
+	 */
+	private final ModelLinkState[] linkStates;
+
+	/**
+	 * The number of rounds until each link in {@link #neighbourIds} returns to
+	 * its default state.
+	 */
+	private final int[] linkDurations;
+
+	/**
+	 * The number of the player that rules each country or {@link #NEUTRAL}.
+	 */
+	private final int[] rulers;
+
+	/**
+	 * The number of each {@link ModelUnit} in the army of each country, where the
+	 * units of the country with id <code>c</code> start at
+	 * <code>c * units.length</code>.
+	 */
+	private final int[] armies;
+
+	/**
+	 * The number of each {@link ModelUnit} each player has left to distribute,
+	 * where the units of player <code>p</code> start at
+	 * <code>p * units.length</code>.
+	 */
+	private final int[] distributable;
+
+	/**
+	 * The values of each player, where the values of player <code>p</code> start
+	 * at <code>p * PLAYER_VALUES</code>.
+	 */
+	private final int[] players;
+
+	/**
+	 * The current round number.
+	 */
+	private int round;
+
+	/**
+	 * The number of the player whose turn it is.
+	 */
+	private int currentPlayer;
+
+	/**
+	 * Constructs a new {@link GameState} that shares the unchanging parts of the
+	 * specified {@link GameState} and copies the rest.
+	 *
+	 * @param other
+	 *            The {@link GameState} to copy.
+	 */
+	private GameState(GameState other) {
+		this.units = other.units;
+		this.neighbourOffsets = other.neighbourOffsets;
+		this.neighbourIds = other.neighbourIds;
+		this.defaultLinkStates = other.defaultLinkStates;
+		this.linkStates = other.linkStates.clone();
+		this.linkDurations = other.linkDurations.clone();
+		this.rulers = other.rulers.clone();
+		this.armies = other.armies.clone();
+		this.distributable = other.distributable.clone();
+		this.players = other.players.clone();
+		this.round = other.round;
+		this.currentPlayer = other.currentPlayer;
+	}
+
+	/**
+	 * Constructs a new empty {@link GameState} for a board and set of units.
+	 *
+	 * @param units
+	 *            The {@link ModelUnit}s in ascending order of strength.
+	 * @param neighbourOffsets
+	 *            The offsets of each country's neighbours.
+	 * @param neighbourIds
+	 *            The ids of the neighbours of every country.
+	 */
+	private GameState(ModelUnit[] units, int[] neighbourOffsets, int[] neighbourIds) {
+
+		final int countries = neighbourOffsets.length - 1;
+
+		this.units = units;
+		this.neighbourOffsets = neighbourOffsets;
+		this.neighbourIds = neighbourIds;
+		this.defaultLinkStates = new ModelLinkState[neighbourIds.length];
+		this.linkStates = new ModelLinkState[neighbourIds.length];
+		this.linkDurations = new int[neighbourIds.length];
+		this.rulers = new int[countries];
+		this.armies = new int[countries * units.length];
+		this.distributable = new int[(PlayerHelper.MAX_PLAYERS + 1) * units.length];
+		this.players = new int[(PlayerHelper.MAX_PLAYERS + 1) * PLAYER_VALUES];
+		this.round = 0;
+		this.currentPlayer = NEUTRAL;
+	}
+
+	/**
+	 * Captures the current state of a game. This must be called on the thread that
+	 * plays the game.
+	 *
+	 * @param game
+	 *            The {@link GameController} of the game.
+	 * @return {@link GameState}
+	 */
+	public static GameState capture(GameController game) {
+
+		final List<ModelPlayer> playing = new ArrayList<>();
+		game.forEachModelPlayer(playing::add);
+
+		return capture(game.getModelBoard(), game.getUnitHelper(), playing, game.getCurrentModelPlayer(),
+				game.getRoundNumber());
+	}
+
+	/**
+	 * Captures the state of a {@link ModelBoard} and the {@link ModelPlayer}s that
+	 * are playing on it.
+	 *
+	 * @param board
+	 *            The {@link ModelBoard}.
+	 * @param unitHelper
+	 *            The {@link UnitHelper} that holds the {@link ModelUnit}s of the
+	 *            game.
+	 * @param playing
+	 *            The {@link ModelPlayer}s that are still playing.
+	 * @param current
+	 *            The {@link ModelPlayer} whose turn it is or <code>null</code>.
+	 * @param round
+	 *            The current round number.
+	 * @return {@link GameState}
+	 */
+	public static GameState capture(ModelBoard board, UnitHelper unitHelper, Collection<ModelPlayer> playing,
+			ModelPlayer current, int round) {
+
+		// Walk up the unit tiers from the weakest.
+		final List<ModelUnit> tiers = new ArrayList<>();
+		for (ModelUnit unit = unitHelper.getWeakest(); unit != null; unit = unitHelper.getUnitAbove(unit)) {
+			tiers.add(unit);
+		}
+
+		final GameState state = new GameState(tiers.toArray(new ModelUnit[tiers.size()]),
+				board.getNeighbourOffsets(), board.getNeighbourIds());
+
+		final int tierCount = state.units.length;
+
+		for (int id = 0; id < state.rulers.length; id++) {
+
+			final ModelCountry country = board.getCountry(id);
+			final ModelPlayer ruler = country.getRuler();
+
+			state.rulers[id] = ruler == null ? NEUTRAL : ruler.number;
+			copyArmy(country.getArmy(), state.units, state.armies, id * tierCount);
+
+			for (int link = state.neighbourOffsets[id]; link < state.neighbourOffsets[id + 1]; link++) {
+
+				final ModelLink modelLink = country.getLinkTo(board.getCountry(state.neighbourIds[link]));
+
+				state.defaultLinkStates[link] = modelLink.getDefaultState();
+				state.linkStates[link] = modelLink.getState();
+				state.linkDurations[link] = modelLink.getDuration();
+			}
+		}
+
+		for (ModelPlayer player : playing) {
+
+			final int offset = player.number * PLAYER_VALUES;
+
+			state.players[offset + POINTS] = player.getPoints();
+			state.players[offset + COUNTRIES_RULED] = player.getCountriesRuled();
+			state.players[offset + CONTINENTS_RULED] = player.getContinentsRuled();
+			state.players[offset + UNITS_KILLED] = player.getUnitsKilled();
+			state.players[offset + COUNTRIES_TAKEN] = player.getCountriesTaken();
+			state.players[offset + POINTS_SPENT] = player.getPointsSpent();
+			state.players[offset + PLAYING] = 1;
+
+			copyArmy(player.distributableArmy, state.units, state.distributable, player.number * tierCount);
+		}
+
+		state.currentPlayer = current == null ? NEUTRAL : current.number;
+		state.round = round;
+
+		return state;
+	}
+
+	/**
+	 * Copies the number of each {@link ModelUnit} in a {@link ModelArmy} into an
+	 * array.
+	 *
+	 * @param army
+	 *            The {@link ModelArmy} to copy.
+	 * @param units
+	 *            The {@link ModelUnit}s in ascending order of strength.
+	 * @param destination
+	 *            The array the numbers are copied into.
+	 * @param offset
+	 *            The index of the first {@link ModelUnit} in the destination.
+	 */
+	private static void copyArmy(ModelArmy army, ModelUnit[] units, int[] destination, int offset) {
+		for (int tier = 0; tier < units.length; tier++) {
+			destination[offset + tier] = army.getNumberOf(units[tier]);
+		}
+	}
+
+	/**
+	 * Creates a copy of this {@link GameState} that can be changed without
+	 * affecting this one.
+	 *
+	 * @return The forked {@link GameState}.
+	 */
+	public GameState fork() {
+		return new GameState(this);
+	}
+
+	/**
+	 * Retrieves the number of countries on the board.
+	 *
+	 * @return <code>int</code>
+	 */
+	public int getNumberOfCountries() {
+		return rulers.length;
+	}
+
+	/**
+	 * Retrieves the number of {@link ModelUnit} tiers.
+	 *
+	 * @return <code>int</code>
+	 */
+	public int getNumberOfTiers() {
+		return units.length;
+	}
+
+	/**
+	 * Retrieves the {@link ModelUnit} of a tier.
+	 *
+	 * @param tier
+	 *            The tier where zero is the weakest {@link ModelUnit}.
+	 * @return {@link ModelUnit}
+	 */
+	public ModelUnit getUnit(int tier) {
+		return units[tier];
+	}
+
+	/**
+	 * Retrieves the ids of the neighbours of a country.
+	 *
+	 * @param country
+	 *            The id of the country.
+	 * @return A new array of the ids of the neighbours in ascending order.
+	 */
+	public int[] getNeighbours(int country) {
+
+		final int[] neighbours = new int[neighbourOffsets[country + 1] - neighbourOffsets[country]];
+		System.arraycopy(neighbourIds, neighbourOffsets[country], neighbours, 0, neighbours.length);
+
+		return neighbours;
+	}
+
+	/**
+	 * Retrieves the current {@link ModelLinkState} of the link from one country to
+	 * another.
+	 *
+	 * @param country
+	 *            The id of the country the link is from.
+	 * @param neighbour
+	 *            The id of the country the link is to.
+	 * @return {@link ModelLinkState}
+	 */
+	public ModelLinkState getLinkState(int country, int neighbour) {
+		return linkStates[getLink(country, neighbour)];
+	}
+
+	/**
+	 * Retrieves the default {@link ModelLinkState} of the link from one country to
+	 * another.
+	 *
+	 * @param country
+	 *            The id of the country the link is from.
+	 * @param neighbour
+	 *            The id of the country the link is to.
+	 * @return {@link ModelLinkState}
+	 */
+	public ModelLinkState getDefaultLinkState(int country, int neighbour) {
+		return defaultLinkStates[getLink(country, neighbour)];
+	}
+
+	/**
+	 * Retrieves the number of rounds until the link from one country to another
+	 * returns to its default state.
+	 *
+	 * @param country
+	 *            The id of the country the link is from.
+	 * @param neighbour
+	 *            The id of the country the link is to.
+	 * @return <code>int</code>
+	 */
+	public int getLinkDuration(int country, int neighbour) {
+		return linkDurations[getLink(country, neighbour)];
+	}
+
+	/**
+	 * Sets the state of the link from one country to another.
+	 *
+	 * @param country
+	 *            The id of the country the link is from.
+	 * @param neighbour
+	 *            The id of the country the link is to.
+	 * @param state
+	 *            The new {@link ModelLinkState}.
+	 * @param duration
+	 *            The number of rounds until the link returns to its default
+	 *            state.
+	 */
+	public void setLinkState(int country, int neighbour, ModelLinkState state, int duration) {
+
+		final int link = getLink(country, neighbour);
+
+		linkStates[link] = state;
+		linkDurations[link] = duration;
+	}
+
+	/**
+	 * Retrieves the number of the player that rules a country.
+	 *
+	 * @param country
+	 *            The id of the country.
+	 * @return The player number or {@link #NEUTRAL}.
+	 */
+	public int getRuler(int country) {
+		return rulers[country];
+	}
+
+	/**
+	 * Sets the player that rules a country.
+	 *
+	 * @param country
+	 *            The id of the country.
+	 * @param player
+	 *            The player number or {@link #NEUTRAL}.
+	 */
+	public void setRuler(int country, int player) {
+		rulers[country] = player;
+	}
+
+	/**
+	 * Retrieves the number of a {@link ModelUnit} in the army of a country.
+	 *
+	 * @param country
+	 *            The id of the country.
+	 * @param tier
+	 *            The tier of the {@link ModelUnit}.
+	 * @return <code>int</code>
+	 */
+	public int getNumberOf(int country, int tier) {
+		return armies[country * units.length + tier];
+	}
+
+	/**
+	 * Sets the number of a {@link ModelUnit} in the army of a country.
+	 *
+	 * @param country
+	 *            The id of the country.
+	 * @param tier
+	 *            The tier of the {@link ModelUnit}.
+	 * @param number
+	 *            The new number of that {@link ModelUnit}.
+	 */
+	public void setNumberOf(int country, int tier, int number) {
+
+		if (number < 0) {
+			throw new IllegalArgumentException(number + " is not a valid number of units.");
+		}
+
+		armies[country * units.length + tier] = number;
+	}
+
+	/**
+	 * Retrieves the strength of the army of a country.
+	 *
+	 * @param country
+	 *            The id of the country.
+	 * @return <code>int</code>
+	 */
+	public int getStrength(int country) {
+
+		int strength = 0;
+
+		for (int tier = 0; tier < units.length; tier++) {
+			strength += armies[country * units.length + tier] * units[tier].strength;
+		}
+
+		return strength;
+	}
+
+	/**
+	 * Retrieves the number of a {@link ModelUnit} a player has left to
+	 * distribute.
+	 *
+	 * @param player
+	 *            The player number.
+	 * @param tier
+	 *            The tier of the {@link ModelUnit}.
+	 * @return <code>int</code>
+	 */
+	public int getDistributable(int player, int tier) {
+		return distributable[player * units.length + tier];
+	}
+
+	/**
+	 * Sets the number of a {@link ModelUnit} a player has left to distribute.
+	 *
+	 * @param player
+	 *            The player number.
+	 * @param tier
+	 *            The tier of the {@link ModelUnit}.
+	 * @param number
+	 *            The new number of that {@link ModelUnit}.
+	 */
+	public void setDistributable(int player, int tier, int number) {
+
+		if (number < 0) {
+			throw new IllegalArgumentException(number + " is not a valid number of units.");
+		}
+
+		distributable[player * units.length + tier] = number;
+	}
+
+	/**
+	 * Retrieves whether a player is still playing.
+	 *
+	 * @param player
+	 *            The player number.
+	 * @return <code>boolean</code>
+	 */
+	public boolean isPlaying(int player) {
+		return players[player * PLAYER_VALUES + PLAYING] == 1;
+	}
+
+	/**
+	 * Sets whether a player is still playing.
+	 *
+	 * @param player
+	 *            The player number.
+	 * @param playing
+	 *            Whether the player is playing.
+	 */
+	public void setPlaying(int player, boolean playing) {
+		players[player * PLAYER_VALUES + PLAYING] = playing ? 1 : 0;
+	}
+
+	/**
+	 * Retrieves the points of a player.
+	 *
+	 * @param player
+	 *            The player number.
+	 * @return <code>int</code>
+	 */
+	public int getPoints(int player) {
+		return players[player * PLAYER_VALUES + POINTS];
+	}
+
+	/**
+	 * Sets the points of a player.
+	 *
+	 * @param player
+	 *            The player number.
+	 * @param points
+	 *            The new points.
+	 */
+	public void setPoints(int player, int points) {
+		players[player * PLAYER_VALUES + POINTS] = points;
+	}
+
+	/**
+	 * Retrieves the number of countries a player ruled when this
+	 * {@link GameState} was captured.
+	 *
+	 * @param player
+	 *            The player number.
+	 * @return <code>int</code>
+	 */
+	public int getCountriesRuled(int player) {
+		return players[player * PLAYER_VALUES + COUNTRIES_RULED];
+	}
+
+	/**
+	 * Retrieves the number of continents a player ruled when this
+	 * {@link GameState} was captured.
+	 *
+	 * @param player
+	 *            The player number.
+	 * @return <code>int</code>
+	 */
+	public int getContinentsRuled(int player) {
+		return players[player * PLAYER_VALUES + CONTINENTS_RULED];
+	}
+
+	/**
+	 * Retrieves the number of units a player has killed.
+	 *
+	 * @param player
+	 *            The player number.
+	 * @return <code>int</code>
+	 */
+	public int getUnitsKilled(int player) {
+		return players[player * PLAYER_VALUES + UNITS_KILLED];
+	}
+
+	/**
+	 * Retrieves the number of countries a player has taken.
+	 *
+	 * @param player
+	 *            The player number.
+	 * @return <code>int</code>
+	 */
+	public int getCountriesTaken(int player) {
+		return players[player * PLAYER_VALUES + COUNTRIES_TAKEN];
+	}
+
+	/**
+	 * Retrieves the number of points a player has spent.
+	 *
+	 * @param player
+	 *            The player number.
+	 * @return <code>int</code>
+	 */
+	public int getPointsSpent(int player) {
+		return players[player * PLAYER_VALUES + POINTS_SPENT];
+	}
+
+	/**
+	 * Retrieves the current round number.
+	 *
+	 * @return <code>int</code>
+	 */
+	public int getRound() {
+		return round;
+	}
+
+	/**
+	 * Sets the current round number.
+	 *
+	 * @param round
+	 *            The new round number.
+	 */
+	public void setRound(int round) {
+		this.round = round;
+	}
+
+	/**
+	 * Retrieves the number of the player whose turn it is.
+	 *
+	 * @return The player number or {@link #NEUTRAL}.
+	 */
+	public int getCurrentPlayer() {
+		return currentPlayer;
+	}
+
+	/**
+	 * Sets the player whose turn it is.
+	 *
+	 * @param player
+	 *            The player number.
+	 */
+	public void setCurrentPlayer(int player) {
+		this.currentPlayer = player;
+	}
+
+	/**
+	 * Applies one event of an {@link EventLog} to this {@link GameState}. The
+	 * armies, rulers, links, turn and round are changed exactly as they were in
+	 * the recorded game. The rewards of challenges and the units given to a
+	 * player at the start of their turn are not recorded, so the points and
+	 * distributable units of the players are only as accurate as the log
+	 * allows.
+	 *
+	 * @param type
+	 *            The type of the event returned by {@link EventLog.Reader#next()}.
+	 * @param reader
+	 *            The {@link EventLog.Reader} positioned at the values of the
+	 *            event.
+	 */
+	public void apply(int type, EventLog.Reader reader) {
+
+		switch (type) {
+
+		case EventLog.REINFORCE:
+			armies[reader.readInt() * units.length + reader.readInt()]++;
+			break;
+		case EventLog.ATTACK:
+			applyAttack(reader);
+			break;
+		case EventLog.FORTIFY:
+			applyFortify(reader.readInt(), reader.readInt(), reader.readInt());
+			break;
+		case EventLog.TRADE_UP:
+			applyTradeUp(reader.readInt(), reader.readInt());
+			break;
+		case EventLog.BLOCKADE:
+			applyBlockade(reader.readInt(), reader.readInt(), reader.readInt());
+			break;
+		case EventLog.HAZARD:
+			readArmy(reader, reader.readInt());
+			break;
+		case EventLog.TURN:
+			currentPlayer = reader.readInt();
+			break;
+		case EventLog.ROUND:
+			round = reader.readInt();
+			elapseLinks();
+			break;
+		default:
+			throw new IllegalArgumentException(type + " is not a type of event.");
+		}
+	}
+
+	/**
+	 * Writes the parts of this {@link GameState} that change during a game. The
+	 * board and the {@link ModelUnit}s are not written as they are read from the
+	 * map.
+	 *
+	 * @param out
+	 *            The {@link DataOutput} this {@link GameState} is written to.
+	 * @throws IOException
+	 *             Thrown if the state could not be written.
+	 */
+	public void writeTo(DataOutput out) throws IOException {
+
+		out.writeInt(rulers.length);
+		out.writeInt(neighbourIds.length);
+		out.writeInt(units.length);
+
+		writeInts(out, rulers);
+		writeInts(out, armies);
+
+		for (int link = 0; link < linkStates.length; link++) {
+			out.writeByte(linkStates[link].ordinal());
+			out.writeInt(linkDurations[link]);
+		}
+
+		writeInts(out, distributable);
+		writeInts(out, players);
+
+		out.writeInt(round);
+		out.writeInt(currentPlayer);
+	}
+
+	/**
+	 * Reads a {@link GameState} that was written by {@link #writeTo(DataOutput)}
+	 * for the same board as this {@link GameState}.
+	 *
+	 * @param in
+	 *            The {@link DataInput} the {@link GameState} is read from.
+	 * @return The {@link GameState} that was read, which shares the board of this
+	 *         {@link GameState}.
+	 * @throws IOException
+	 *             Thrown if the state could not be read or is for a different
+	 *             board.
+	 */
+	public GameState read(DataInput in) throws IOException {
+
+		if (in.readInt() != rulers.length || in.readInt() != neighbourIds.length || in.readInt() != units.length) {
+			throw new IOException("The state is not for this board.");
+		}
+
+		final GameState state = fork();
+
+		readInts(in, state.rulers);
+		readInts(in, state.armies);
+
+		final ModelLinkState[] linkStates = ModelLinkState.values();
+
+		for (int link = 0; link < state.linkStates.length; link++) {
+
+			final int ordinal = in.readUnsignedByte();
+
+			if (ordinal >= linkStates.length) {
+				throw new IOException(ordinal + " is not a link state.");
+			}
+
+			state.linkStates[link] = linkStates[ordinal];
+			state.linkDurations[link] = in.readInt();
+		}
+
+		readInts(in, state.distributable);
+		readInts(in, state.players);
+
+		state.round = in.readInt();
+		state.currentPlayer = in.readInt();
+
+		return state;
+	}
+
+	/**
+	 * Sets the rulers, armies and links of a {@link ModelBoard} to those of this
+	 * {@link GameState}. Only the parts that differ are changed so that the
+	 * observers of the board are only notified of real changes. Restoring is not
+	 * an action of the game, so the blockades it sets are not recorded.
+	 *
+	 * @param board
+	 *            The {@link ModelBoard} this {@link GameState} was captured from.
+	 * @param players
+	 *            The {@link ModelPlayer}s indexed by their numbers.
+	 */
+	public void restore(ModelBoard board, ModelPlayer[] players) {
+
+		final EventLog events = board.getEventLog();
+		board.setEventLog(null);
+
+		for (int id = 0; id < rulers.length; id++) {
+
+			final ModelCountry country = board.getCountry(id);
+			final ModelPlayer ruler = rulers[id] == NEUTRAL ? null : players[rulers[id]];
+
+			if (country.getRuler() != ruler) {
+				country.setRuler(ruler);
+			}
+
+			final ModelArmy army = country.getArmy();
+
+			for (int tier = 0; tier < units.length; tier++) {
+
+				final int number = armies[id * units.length + tier];
+
+				if (army.getNumberOf(units[tier]) != number) {
+					army.setNumberOf(units[tier], number);
+				}
+			}
+
+			for (int link = neighbourOffsets[id]; link < neighbourOffsets[id + 1]; link++) {
+
+				final ModelLink modelLink = country.getLinkTo(board.getCountry(neighbourIds[link]));
+
+				if (modelLink.getState() != linkStates[link] || modelLink.getDuration() != linkDurations[link]) {
+
+					if (linkDurations[link] > 0) {
+						modelLink.setState(linkStates[link], linkDurations[link]);
+					} else {
+						modelLink.returnToDefault();
+					}
+				}
+			}
+		}
+
+		board.setEventLog(events);
+	}
+
+	/**
+	 * Applies the result of a round of combat, where the dice are skipped as the
+	 * surviving armies are recorded.
+	 *
+	 * @param reader
+	 *            The {@link EventLog.Reader} positioned at the values of the
+	 *            event.
+	 */
+	private void applyAttack(EventLog.Reader reader) {
+
+		final int attacker = reader.readInt();
+		final int defender = reader.readInt();
+
+		// Skip the dice of the attacker then the defender.
+		for (int dice = reader.readInt(); dice > 0; dice--) {
+			reader.readInt();
+		}
+
+		for (int dice = reader.readInt(); dice > 0; dice--) {
+			reader.readInt();
+		}
+
+		readArmies(reader, attacker, defender);
+
+		// If the defender was conquered.
+		if (reader.readInt() == 1) {
+
+			final int winner = rulers[attacker];
+			final int loser = rulers[defender];
+
+			if (loser != NEUTRAL) {
+
+				players[loser * PLAYER_VALUES + COUNTRIES_RULED]--;
+
+				if (players[loser * PLAYER_VALUES + COUNTRIES_RULED] == 0) {
+					players[loser * PLAYER_VALUES + PLAYING] = 0;
+				}
+			}
+
+			players[winner * PLAYER_VALUES + COUNTRIES_RULED]++;
+			players[winner * PLAYER_VALUES + COUNTRIES_TAKEN]++;
+			players[winner * PLAYER_VALUES + POINTS] += PointHelper.CONQUER_REWARD;
+
+			rulers[defender] = winner;
+		}
+	}
+
+	/**
+	 * Moves a unit from one country to another.
+	 *
+	 * @param source
+	 *            The id of the country the unit leaves.
+	 * @param target
+	 *            The id of the country the unit arrives at.
+	 * @param tier
+	 *            The tier of the unit.
+	 */
+	private void applyFortify(int source, int target, int tier) {
+		armies[source * units.length + tier]--;
+		armies[target * units.length + tier]++;
+	}
+
+	/**
+	 * Trades as many units of a tier in a country as possible for the units of
+	 * the tier above in the same way as {@link ModelArmy#tradeUp(ModelUnit)}.
+	 *
+	 * @param country
+	 *            The id of the country.
+	 * @param tier
+	 *            The tier of the units that were traded.
+	 */
+	private void applyTradeUp(int country, int tier) {
+
+		final int offset = country * units.length;
+		final int strength = armies[offset + tier] * units[tier].strength;
+		final int above = units[tier + 1].strength;
+
+		final int numberOfAbove = strength / above;
+
+		armies[offset + tier] -= (numberOfAbove * above) / units[tier].strength;
+		armies[offset + tier + 1] += numberOfAbove;
+
+		spendPoints(rulers[country], PointHelper.TRADE_UNIT_COST);
+	}
+
+	/**
+	 * Blockades the link from one country to another, which is paid for by the
+	 * current player.
+	 *
+	 * @param from
+	 *            The id of the country the link is from.
+	 * @param to
+	 *            The id of the country the link is to.
+	 * @param duration
+	 *            The number of rounds the blockade lasts.
+	 */
+	private void applyBlockade(int from, int to, int duration) {
+
+		final int link = getLink(from, to);
+
+		linkStates[link] = ModelLinkState.BLOCKADE;
+		linkDurations[link] = defaultLinkStates[link] == ModelLinkState.BLOCKADE ? 0 : duration;
+
+		spendPoints(currentPlayer, PointHelper.BLOCKADE_COST);
+	}
+
+	/**
+	 * Removes points from a player and adds them to the points they have spent.
+	 *
+	 * @param player
+	 *            The number of the player.
+	 * @param points
+	 *            The number of points spent.
+	 */
+	private void spendPoints(int player, int points) {
+		players[player * PLAYER_VALUES + POINTS] -= points;
+		players[player * PLAYER_VALUES + POINTS_SPENT] += points;
+	}
+
+	/**
+	 * Counts down the duration of every link that is not in its default state
+	 * and returns those that reach zero to their default state, in the same way
+	 * as {@link ModelLink#elapse()}.
+	 */
+	private void elapseLinks() {
+		for (int link = 0; link < linkStates.length; link++) {
+			if (linkStates[link] != defaultLinkStates[link] && --linkDurations[link] <= 0) {
+				linkStates[link] = defaultLinkStates[link];
+				linkDurations[link] = 0;
+			}
+		}
+	}
+
+	/**
+	 * Reads the armies of an attacker and a defender that were recorded as the
+	 * number of tiers followed by the units of each tier in each army.
+	 *
+	 * @param reader
+	 *            {@link EventLog.Reader}
+	 * @param attacker
+	 *            The id of the attacking country.
+	 * @param defender
+	 *            The id of the defending country.
+	 */
+	private void readArmies(EventLog.Reader reader, int attacker, int defender) {
+
+		checkTiers(reader.readInt());
+
+		for (int tier = 0; tier < units.length; tier++) {
+			armies[attacker * units.length + tier] = reader.readInt();
+		}
+
+		for (int tier = 0; tier < units.length; tier++) {
+			armies[defender * units.length + tier] = reader.readInt();
+		}
+	}
+
+	/**
+	 * Reads the army of a country that was recorded as the number of tiers
+	 * followed by the units of each tier.
+	 *
+	 * @param reader
+	 *            {@link EventLog.Reader}
+	 * @param country
+	 *            The id of the country.
+	 */
+	private void readArmy(EventLog.Reader reader, int country) {
+
+		checkTiers(reader.readInt());
+
+		for (int tier = 0; tier < units.length; tier++) {
+			armies[country * units.length + tier] = reader.readInt();
+		}
+	}
+
+	/**
+	 * Checks that an event was recorded with the same number of tiers as this
+	 * {@link GameState}.
+	 *
+	 * @param tiers
+	 *            The number of tiers in the event.
+	 */
+	private void checkTiers(int tiers) {
+		if (tiers != units.length) {
+			throw new IllegalStateException("The event has " + tiers + " unit tiers not " + units.length + ".");
+		}
+	}
+
+	/**
+	 * Writes every value of an array.
+	 *
+	 * @param out
+	 *            {@link DataOutput}
+	 * @param values
+	 *            The values to write.
+	 * @throws IOException
+	 *             Thrown if the values could not be written.
+	 */
+	private static void writeInts(DataOutput out, int[] values) throws IOException {
+		for (int index = 0; index < values.length; index++) {
+			out.writeInt(values[index]);
+		}
+	}
+
+	/**
+	 * Reads every value of an array.
+	 *
+	 * @param in
+	 *            {@link DataInput}
+	 * @param values
+	 *            The array the values are read into.
+	 * @throws IOException
+	 *             Thrown if the values could not be read.
+	 */
+	private static void readInts(DataInput in, int[] values) throws IOException {
+		for (int index = 0; index < values.length; index++) {
+			values[index] = in.readInt();
+		}
+	}
+
+	/**
+	 * Retrieves the index of the link from one country to another in
+	 * {@link #neighbourIds}.
+	 *
+	 * @param country
+	 *            The id of the country the link is from.
+	 * @param neighbour
+	 *            The id of the country the link is to.
+	 * @return The index of the link.
+	 */
+	private int getLink(int country, int neighbour) {
+
+		for (int link = neighbourOffsets[country]; link < neighbourOffsets[country + 1]; link++) {
+			if (neighbourIds[link] == neighbour) {
+				return link;
+			}
+		}
+
+		throw new IllegalArgumentException(country + " is not a neighbour of " + neighbour + ".");
+	}
+
+}
@@ -0,0 +1,45 @@
+package peril.model;
+
+import peril.concurrent.Simulation;
+import peril.model.states.ModelState;
+
+/**
+ * An immutable frame that the {@link Simulation} of a game publishes to the
+ * thread that renders it after the current AI has performed its steps. The
+ * render thread uses it to decide when the AI can step again.
+ *
+ * @author Joshua_Eddy
+ *
+ * @version 1.01.01
+ * @since 2018-03-27
+ *
+ * @see Simulation
+ *
+ */
+public final class ModelFrame {
+
+	/**
+	 * The {@link ModelState} that the steps were performed in.
+	 */
+	public final ModelState state;
+
+	/**
+	 * Whether the AI left {@link #state}, in which case it cannot step again until
+	 * the view has entered the next {@link ModelState}.
+	 */
+	public final boolean left;
+
+	/**
+	 * Constructs a new {@link ModelFrame}.
+	 *
+	 * @param state
+	 *            The {@link ModelState} that the steps were performed in.
+	 * @param left
+	 *            Whether the AI left that {@link ModelState}.
+	 */
+	public ModelFrame(ModelState state, boolean left) {
+		this.state = state;
+		this.left = left;
+	}
+
+}
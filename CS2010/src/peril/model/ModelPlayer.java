@@ -6,6 +6,7 @@ import peril.Update;
 import peril.ai.AI;
 import peril.ai.api.Army;
 import peril.ai.api.Player;
+import peril.helpers.UnitHelper;
 import peril.model.board.ModelArmy;
 import peril.model.board.ModelCountry;
 import peril.model.board.ModelContinent;
@@ -17,7 +18,7 @@ import peril.model.board.ModelContinent;
  * @author Joshua_Eddy, Ezekiel_Trinidad, Joseph_Rolli
  * 
  * @since 2018-03-16
- * @version 1.01.05
+ * @version 1.01.07
  * 
  * @see Player
  * @see Observable
@@ -86,7 +87,8 @@ public final class ModelPlayer extends Observable implements Player {
 	private int pointsSpent;
 
 	/**
-	 * Constructs a new {@link ModelPlayer}.
+	 * Constructs a new {@link ModelPlayer} whose {@link ModelArmy}s use
+	 * {@link UnitHelper#getInstance()}.
 	 * 
 	 * @param number
 	 *            The number of this player
@@ -95,10 +97,26 @@ public final class ModelPlayer extends Observable implements Player {
 	 *            Assigned {@link AI#USER} for a user controlled player.
 	 */
 	public ModelPlayer(int number, AI ai) {
+		this(number, ai, UnitHelper.getInstance());
+	}
+
+	/**
+	 * Constructs a new {@link ModelPlayer}.
+	 * 
+	 * @param number
+	 *            The number of this player
+	 * @param ai
+	 *            The {@link AI} that will control this {@link ModelPlayer}.
+	 *            Assigned {@link AI#USER} for a user controlled player.
+	 * @param unitHelper
+	 *            The {@link UnitHelper} that holds the units of the game this
+	 *            {@link ModelPlayer} is in.
+	 */
+	public ModelPlayer(int number, AI ai, UnitHelper unitHelper) {
 		this.countries = 0;
 		this.continents = 0;
-		this.distributableArmy = new ModelArmy();
-		this.totalArmy = new ModelArmy();
+		this.distributableArmy = new ModelArmy(unitHelper);
+		this.totalArmy = new ModelArmy(unitHelper);
 		this.ai = ai;
 		this.number = number;
 		this.points = 0;
@@ -206,6 +224,14 @@ public final class ModelPlayer extends Observable implements Player {
 		return this.points;
 	}
 
+	/**
+	 * Retrieves the {@link ModelPlayer#number} of this {@link ModelPlayer}.
+	 */
+	@Override
+	public int getNumber() {
+		return number;
+	}
+
 	/**
 	 * Sets the amount of points this {@link ModelPlayer} has.
 	 * 
@@ -0,0 +1,222 @@
+package peril.model;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A recorded game that can be moved to any round in either direction. A
+ * {@link Replay} holds the {@link GameState} at the start of the recording and
+ * the {@link EventLog} of every action after it. As the log is read once when
+ * the {@link Replay} is constructed a full keyframe is forked every
+ * {@link #KEYFRAME_INTERVAL} rounds along with the position of the next event
+ * after it. {@link #seek(int)} then starts from the nearest keyframe at or
+ * before the requested round and only applies the events after it, so the cost
+ * of a seek does not depend on how long the game was.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-25
+ * @version 1.01.01
+ *
+ * @see GameState
+ * @see EventLog
+ *
+ */
+public final class Replay {
+
+	/**
+	 * The number of rounds between each keyframe.
+	 */
+	public static final int KEYFRAME_INTERVAL = 10;
+
+	/**
+	 * The {@link EventLog} of the recorded game.
+	 */
+	private final EventLog events;
+
+	/**
+	 * The {@link GameState}s of the game in ascending order of round, the first of
+	 * which is the start of the recording.
+	 */
+	private final List<GameState> keyframes;
+
+	/**
+	 * The position in {@link #events} of the first event after each keyframe.
+	 */
+	private final List<Integer> positions;
+
+	/**
+	 * The last round of the recorded game.
+	 */
+	private final int lastRound;
+
+	/**
+	 * Constructs a new {@link Replay}.
+	 *
+	 * @param start
+	 *            The {@link GameState} at the start of the recording, which is not
+	 *            changed.
+	 * @param events
+	 *            The {@link EventLog} of the recorded game.
+	 * @param position
+	 *            The position in the {@link EventLog} of the first event after the
+	 *            start of the recording.
+	 */
+	public Replay(GameState start, EventLog events, int position) {
+
+		if (start == null) {
+			throw new NullPointerException("The start of the replay cannot be null.");
+		} else if (events == null) {
+			throw new NullPointerException("The event log cannot be null.");
+		}
+
+		this.events = events;
+		this.keyframes = new ArrayList<>();
+		this.positions = new ArrayList<>();
+
+		keyframes.add(start.fork());
+		positions.add(position);
+
+		final GameState state = start.fork();
+		final EventLog.Reader reader = events.read(position);
+
+		while (reader.hasNext()) {
+
+			final int type = reader.next();
+			state.apply(type, reader);
+
+			if (type == EventLog.ROUND && state.getRound() % KEYFRAME_INTERVAL == 0) {
+				keyframes.add(state.fork());
+				positions.add(reader.position());
+			}
+		}
+
+		this.lastRound = state.getRound();
+	}
+
+	/**
+	 * Retrieves the first round of the recorded game.
+	 *
+	 * @return <code>int</code>
+	 */
+	public int getFirstRound() {
+		return keyframes.get(0).getRound();
+	}
+
+	/**
+	 * Retrieves the last round of the recorded game.
+	 *
+	 * @return <code>int</code>
+	 */
+	public int getLastRound() {
+		return lastRound;
+	}
+
+	/**
+	 * Retrieves the number of keyframes in this {@link Replay}.
+	 *
+	 * @return <code>int</code>
+	 */
+	public int getNumberOfKeyframes() {
+		return keyframes.size();
+	}
+
+	/**
+	 * Reconstructs the state of the recorded game at the end of a round, which is
+	 * the state it was in just before the next round started.
+	 *
+	 * @param round
+	 *            The round, which is clamped between the first and last rounds.
+	 * @return A new {@link GameState} that can be changed freely.
+	 */
+	public GameState seek(int round) {
+
+		final int target = Math.max(getFirstRound(), Math.min(lastRound, round));
+
+		// Find the last keyframe at or before the round.
+		int low = 0;
+		int high = keyframes.size() - 1;
+
+		while (low < high) {
+
+			final int middle = (low + high + 1) / 2;
+
+			if (keyframes.get(middle).getRound() <= target) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+
+		final GameState state = keyframes.get(low).fork();
+		final EventLog.Reader reader = events.read(positions.get(low));
+
+		// Apply events until the next one starts the round after the target.
+		while (reader.hasNext()) {
+
+			final int type = reader.next();
+
+			if (type == EventLog.ROUND && state.getRound() >= target) {
+				break;
+			}
+
+			state.apply(type, reader);
+		}
+
+		return state;
+	}
+
+	/**
+	 * Writes the start of this {@link Replay} and its {@link EventLog} to an
+	 * {@link OutputStream}. Only the first keyframe is written as the rest are
+	 * rebuilt from the log when the {@link Replay} is read.
+	 *
+	 * @param stream
+	 *            {@link OutputStream}
+	 * @throws IOException
+	 *             Thrown if the stream could not be written.
+	 */
+	public void writeTo(OutputStream stream) throws IOException {
+
+		final DataOutputStream out = new DataOutputStream(stream);
+
+		keyframes.get(0).writeTo(out);
+		out.writeInt(positions.get(0));
+
+		events.writeTo(out);
+	}
+
+	/**
+	 * Reads a {@link Replay} that was written by {@link #writeTo(OutputStream)}.
+	 *
+	 * @param stream
+	 *            {@link InputStream}
+	 * @param board
+	 *            A {@link GameState} of the board the {@link Replay} was recorded
+	 *            on.
+	 * @return {@link Replay}
+	 * @throws IOException
+	 *             Thrown if the stream could not be read or the {@link Replay} is
+	 *             for a different board.
+	 */
+	public static Replay readFrom(InputStream stream, GameState board) throws IOException {
+
+		final DataInputStream in = new DataInputStream(stream);
+
+		final GameState start = board.read(in);
+		final int position = in.readInt();
+		final EventLog events = EventLog.readFrom(in);
+
+		if (position < 0 || position > events.size()) {
+			throw new IOException("The replay is corrupt.");
+		}
+
+		return new Replay(start, events, position);
+	}
+
+}
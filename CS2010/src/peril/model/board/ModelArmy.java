@@ -17,6 +17,7 @@ import peril.Update;
 import peril.ai.api.Army;
 import peril.ai.api.Unit;
 import peril.helpers.UnitHelper;
+import peril.model.EventLog;
 
 /**
  * Encapsulates the behaviour of a collection of {@link ModelUnit}s. This army
@@ -26,7 +27,7 @@ import peril.helpers.UnitHelper;
  * 
  * @author Joshua_Eddy
  * 
- * @version 1.02.05
+ * @version 1.02.09
  * @since 2018-03-12
  * 
  * @see Observable
@@ -44,28 +45,86 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 	 */
 	private final Map<String, Integer> units;
 
+	/**
+	 * The {@link UnitHelper} that holds the {@link ModelUnit}s of the game this
+	 * {@link ModelArmy} is in.
+	 */
+	private final UnitHelper unitHelper;
+
 	/**
 	 * Holds the currently selected {@link ModelUnit}.
 	 */
 	private ModelUnit selected;
 
 	/**
-	 * Constructs a new empty {@link ModelArmy}.
+	 * The {@link ZobristHash} of the {@link ModelBoard} this {@link ModelArmy} is
+	 * on or <code>null</code> if it is not on a {@link ModelBoard}.
+	 */
+	private ZobristHash hash;
+
+	/**
+	 * The {@link EventLog} that the trades of this {@link ModelArmy} are recorded
+	 * in or <code>null</code> if they are not recorded.
+	 */
+	private EventLog events;
+
+	/**
+	 * The id of the {@link ModelCountry} this {@link ModelArmy} is in on the
+	 * {@link ModelBoard}.
+	 */
+	private int country;
+
+	/**
+	 * Constructs a new empty {@link ModelArmy} that uses
+	 * {@link UnitHelper#getInstance()}.
 	 */
 	public ModelArmy() {
 		this(0);
 	}
 
 	/**
-	 * Constructs an new {@link ModelArmy} with a specified strength.
+	 * Constructs a new empty {@link ModelArmy}.
+	 * 
+	 * @param unitHelper
+	 *            The {@link UnitHelper} that holds the {@link ModelUnit}s of the
+	 *            game this {@link ModelArmy} is in.
+	 */
+	public ModelArmy(UnitHelper unitHelper) {
+		this(0, unitHelper);
+	}
+
+	/**
+	 * Constructs an new {@link ModelArmy} with a specified strength that uses
+	 * {@link UnitHelper#getInstance()}.
 	 * 
 	 * @param strength
 	 *            The strength of the {@link ModelArmy}.
 	 */
 	public ModelArmy(int strength) {
+		this(strength, UnitHelper.getInstance());
+	}
+
+	/**
+	 * Constructs an new {@link ModelArmy} with a specified strength.
+	 * 
+	 * @param strength
+	 *            The strength of the {@link ModelArmy}.
+	 * @param unitHelper
+	 *            The {@link UnitHelper} that holds the {@link ModelUnit}s of the
+	 *            game this {@link ModelArmy} is in.
+	 */
+	public ModelArmy(int strength, UnitHelper unitHelper) {
+
+		if (unitHelper == null) {
+			throw new NullPointerException("Unit helper cannot be null.");
+		}
 
-		units = new HashMap<>();
-		selected = null;
+		this.units = new HashMap<>();
+		this.unitHelper = unitHelper;
+		this.selected = null;
+		this.hash = null;
+		this.events = null;
+		this.country = -1;
 
 		populateArmy(strength);
 	}
@@ -82,7 +141,7 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 
 		for (String unitName : units.keySet()) {
 
-			ModelUnit unit = UnitHelper.getInstance().get(unitName);
+			ModelUnit unit = unitHelper.get(unitName);
 
 			strength += units.get(unitName) * unit.strength;
 		}
@@ -146,7 +205,6 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 	public void remove(ModelUnit unit) {
 
 		final String unitName = unit.name;
-		final UnitHelper helper = UnitHelper.getInstance();
 
 		/*
 		 * If the unit is in the army then remove it, otherwise remove the units
@@ -154,15 +212,8 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 		 */
 		if (units.containsKey(unitName)) {
 
-			/*
-			 * If there is only one of the specified unit type then remove the entry in the
-			 * units map.
-			 */
-			if (units.get(unitName) == 1) {
-				units.remove(unitName);
-			} else {
-				units.replace(unitName, units.get(unitName) - 1);
-			}
+			// The entry in the units map is removed if it was the last of that unit.
+			setCount(unit, units.get(unitName) - 1);
 
 		} else {
 
@@ -186,9 +237,9 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 				else {
 
 					// Find the next unit above the current unit in this army.
-					ModelUnit current = helper.getUnitAbove(unit);
+					ModelUnit current = unitHelper.getUnitAbove(unit);
 					while (!hasUnit(current)) {
-						current = helper.getUnitAbove(current);
+						current = unitHelper.getUnitAbove(current);
 					}
 
 					// Break one of the unit above into the units below.
@@ -238,24 +289,83 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 	 * Removes a random {@link ModelUnit} from this {@link ModelArmy}.
 	 */
 	public void removeRandomUnit() {
+		removeRandomUnit(new Random());
+	}
+
+	/**
+	 * Removes a random {@link ModelUnit} from this {@link ModelArmy} using the
+	 * specified {@link Random}. The types of {@link ModelUnit} are considered in
+	 * order of strength so the same {@link Random} always removes the same
+	 * {@link ModelUnit}.
+	 * 
+	 * @param random
+	 *            The {@link Random} that chooses the {@link ModelUnit}.
+	 */
+	public void removeRandomUnit(Random random) {
 
 		final int size = units.size();
-		final int item = new Random().nextInt(size);
+		final int item = random.nextInt(size);
 
 		int i = 0;
 		ModelUnit toRemove = null;
 
-		for (ModelUnit unit : this) {
-			if (i == item) {
-				toRemove = unit;
+		for (int tier = 0; tier < unitHelper.getNumberOfTiers() && toRemove == null; tier++) {
+
+			final ModelUnit unit = unitHelper.getUnit(tier);
+
+			if (units.containsKey(unit.name)) {
+				if (i == item) {
+					toRemove = unit;
+				}
+				i++;
 			}
-			i++;
 		}
 
 		remove(toRemove);
 
 	}
 
+	/**
+	 * Sets the number of a specific {@link ModelUnit} in this {@link ModelArmy}.
+	 * 
+	 * @param unit
+	 *            {@link ModelUnit}
+	 * @param number
+	 *            The new number of the {@link ModelUnit}.
+	 */
+	public void setNumberOf(ModelUnit unit, int number) {
+
+		if (number < 0) {
+			throw new IllegalArgumentException(number + " is not a valid number of " + unit.name + ".");
+		}
+
+		setCount(unit, number);
+
+		setChanged();
+		notifyObservers();
+	}
+
+	/**
+	 * Retrieves the number of {@link ModelUnit}s of each tier in this
+	 * {@link ModelArmy}, where the weakest {@link ModelUnit} is tier zero.
+	 * 
+	 * @param counts
+	 *            The array the numbers are written to, which is replaced if it is
+	 *            <code>null</code> or not the same length as the number of tiers.
+	 * @return The array holding the number of {@link ModelUnit}s of each tier.
+	 */
+	public int[] getNumberOfEachTier(int[] counts) {
+
+		final int tiers = unitHelper.getNumberOfTiers();
+		final int[] result = counts != null && counts.length == tiers ? counts : new int[tiers];
+
+		for (int tier = 0; tier < tiers; tier++) {
+			result[tier] = getNumberOf(unitHelper.getUnit(tier));
+		}
+
+		return result;
+	}
+
 	/**
 	 * Retrieves a whether a specific type of {@link ModelUnit} is currently in this
 	 * {@link ModelArmy}.
@@ -313,7 +423,7 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 		}
 
 		// Holds the unit above the specified unit.
-		final ModelUnit above = UnitHelper.getInstance().getUnitAbove(unit);
+		final ModelUnit above = unitHelper.getUnitAbove(unit);
 
 		// If there is no unit above the specified unit.
 		if (above == null) {
@@ -352,6 +462,10 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 			add(above);
 		}
 
+		if (events != null) {
+			events.tradeUp(country, unitHelper.getTier(unit));
+		}
+
 		return true;
 
 	}
@@ -378,7 +492,7 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 		}
 
 		// Holds the unit below the specified unit.
-		final ModelUnit below = UnitHelper.getInstance().getUnitBelow(unit);
+		final ModelUnit below = unitHelper.getUnitBelow(unit);
 
 		// If there is no unit below the specified unit.
 		if (below == null) {
@@ -432,7 +546,7 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 				}
 			}
 
-			current = UnitHelper.getInstance().getUnitAbove(current);
+			current = unitHelper.getUnitAbove(current);
 
 		}
 
@@ -457,7 +571,7 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 	@Override
 	public Iterator<ModelUnit> iterator() {
 
-		Stream<ModelUnit> unitStream = units.keySet().stream().map(name -> UnitHelper.getInstance().get(name));
+		Stream<ModelUnit> unitStream = units.keySet().stream().map(name -> unitHelper.get(name));
 
 		return unitStream.collect(Collectors.toSet()).iterator();
 	}
@@ -476,7 +590,7 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 		final int currentNumber = units.get(unitName) == null ? 0 : units.get(unitName);
 
 		// Set the new number of the specified unit.
-		units.put(unitName, currentNumber + 1);
+		setCount(unit, currentNumber + 1);
 
 		setChanged();
 		notifyObservers();
@@ -551,7 +665,7 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 		clearUnits();
 
 		// Set the army to its weakest not empty value.
-		add(UnitHelper.getInstance().getWeakest());
+		add(unitHelper.getWeakest());
 
 	}
 
@@ -563,8 +677,6 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 	@Override
 	public ModelUnit getWeakestUnit() {
 
-		final UnitHelper unitHelper = UnitHelper.getInstance();
-
 		// Map all the key set unit names to their model unit counter parts then
 		// retrieve the unit with the minimum strength.
 		final Optional<ModelUnit> result = units.keySet().stream().map(unitName -> unitHelper.get(unitName))
@@ -582,8 +694,6 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 	@Override
 	public ModelUnit getStrongestUnit() {
 
-		final UnitHelper unitHelper = UnitHelper.getInstance();
-
 		// Map all the key set unit names to their model unit counter parts then
 		// retrieve the unit with the maximum strength.
 		final Optional<ModelUnit> result = units.keySet().stream().map(unitName -> unitHelper.get(unitName))
@@ -607,12 +717,29 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 	 * @return {@link List} of {@link ModelUnit}.
 	 */
 	public static List<ModelUnit> generateUnits(int strength) {
+		return generateUnits(strength, UnitHelper.getInstance());
+	}
+
+	/**
+	 * Generates a {@link List} of {@link ModelUnit}s who's combined strength is
+	 * equal to the specified strength using the {@link ModelUnit}s in the
+	 * specified {@link UnitHelper}.
+	 * 
+	 * @param strength
+	 *            The combined strength of the {@link List} of {@link ModelUnit}s.
+	 * @param unitHelper
+	 *            The {@link UnitHelper} that holds the {@link ModelUnit}s of the
+	 *            game.
+	 * @return {@link List} of {@link ModelUnit}.
+	 * @see #generateUnits(int)
+	 */
+	public static List<ModelUnit> generateUnits(int strength, UnitHelper unitHelper) {
 
 		// List that will contain the generated units.
 		final List<ModelUnit> units = new LinkedList<>();
 
 		// Holds the current strongest unit that is smaller than the army size.
-		ModelUnit unit = UnitHelper.getInstance().getStrongest();
+		ModelUnit unit = unitHelper.getStrongest();
 
 		// The strength remaining to construct units
 		int remianingStrength = strength;
@@ -634,7 +761,7 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 				remianingStrength -= unit.strength;
 			} else {
 				// Move to the unit below in strength.
-				unit = UnitHelper.getInstance().getUnitBelow(unit);
+				unit = unitHelper.getUnitBelow(unit);
 			}
 
 		}
@@ -664,7 +791,7 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 	public Set<? extends Unit> getUnits() {
 		// Copy the key set into a new map so that this army cannot be modified.
 		return new HashSet<Unit>(
-				units.keySet().stream().map(name -> UnitHelper.getInstance().get(name)).collect(Collectors.toSet()));
+				units.keySet().stream().map(name -> unitHelper.get(name)).collect(Collectors.toSet()));
 	}
 
 	@Override
@@ -684,9 +811,82 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 	public void clearUnits() {
 
 		// Clear the current map of units if there are units to clear.
-		if (!units.isEmpty())
+		if (!units.isEmpty()) {
+
+			// Remove each unit from the hash of the board.
+			if (hash != null) {
+				units.forEach((name, number) -> hash.army(country, unitHelper.getTier(unitHelper.get(name)), number, 0));
+			}
+
 			units.clear();
+		}
+
+	}
 
+	/**
+	 * Adds this {@link ModelArmy} to the {@link ZobristHash} of the
+	 * {@link ModelBoard} it is on so that the hash is updated whenever this
+	 * {@link ModelArmy} changes.
+	 * 
+	 * @param hash
+	 *            {@link ZobristHash}
+	 * @param country
+	 *            The id of the {@link ModelCountry} this {@link ModelArmy} is in.
+	 */
+	void setHash(ZobristHash hash, int country) {
+		this.hash = hash;
+		this.country = country;
+	}
+
+	/**
+	 * Sets the {@link EventLog} that the trades of this {@link ModelArmy} are
+	 * recorded in. This must be called after the {@link ZobristHash} is set so
+	 * that the id of the {@link ModelCountry} it is in is known.
+	 * 
+	 * @param events
+	 *            {@link EventLog} or <code>null</code> if they are not recorded.
+	 */
+	void setEventLog(EventLog events) {
+		this.events = events;
+	}
+
+	/**
+	 * Retrieves the combined {@link ZobristHash} keys of the number of each
+	 * {@link ModelUnit} in this {@link ModelArmy}.
+	 * 
+	 * @param country
+	 *            The id of the {@link ModelCountry} this {@link ModelArmy} is in.
+	 * @return <code>long</code>
+	 */
+	long hash(int country) {
+
+		long armyHash = 0;
+
+		for (Map.Entry<String, Integer> entry : units.entrySet()) {
+			armyHash ^= ZobristHash.army(country, unitHelper.getTier(unitHelper.get(entry.getKey())),
+					entry.getValue());
+		}
+
+		return armyHash;
+	}
+
+	/**
+	 * Sets the number of a {@link ModelUnit} in {@link #units}, removing its
+	 * entry if there are none left, and updates the {@link ZobristHash} of the
+	 * {@link ModelBoard}. This does not notify the observers.
+	 * 
+	 * @param unit
+	 *            {@link ModelUnit}
+	 * @param number
+	 *            The new number of the {@link ModelUnit}.
+	 */
+	private void setCount(ModelUnit unit, int number) {
+
+		final Integer previous = number == 0 ? units.remove(unit.name) : units.put(unit.name, number);
+
+		if (hash != null) {
+			hash.army(country, unitHelper.getTier(unit), previous == null ? 0 : previous, number);
+		}
 	}
 
 	/**
@@ -724,7 +924,7 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 			return;
 		}
 
-		final ModelUnit weakest = UnitHelper.getInstance().getWeakest();
+		final ModelUnit weakest = unitHelper.getWeakest();
 
 		final int numberOfWeakest = strength / weakest.strength;
 
@@ -776,7 +976,7 @@ public final class ModelArmy extends Observable implements Iterable<ModelUnit>,
 				removed = true;
 			}
 
-			current = UnitHelper.getInstance().getUnitBelow(current);
+			current = unitHelper.getUnitBelow(current);
 
 		}
 
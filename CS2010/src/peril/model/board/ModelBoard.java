@@ -1,17 +1,22 @@
 package peril.model.board;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Observable;
 import java.util.Observer;
+import java.util.Random;
 import java.util.Set;
 import java.util.function.Consumer;
 
 import peril.Update;
 import peril.ai.api.Board;
 import peril.ai.api.Country;
+import peril.model.EventLog;
 
 /**
  * Encapsulates the behaviour of the the game board. The board consists of many
@@ -20,7 +25,7 @@ import peril.ai.api.Country;
  * @author Joshua_Eddy
  * 
  * @since 2018-02-13
- * @version 1.01.01
+ * @version 1.01.05
  *
  * @see Board
  * @see Observable
@@ -43,6 +48,39 @@ public final class ModelBoard extends Observable implements Board, Observer {
 	 */
 	private String name;
 
+	/**
+	 * The {@link ModelCountry}s on this {@link ModelBoard} indexed by their
+	 * {@link ModelCountry#getId()}.
+	 */
+	private ModelCountry[] countries;
+
+	/**
+	 * The start of each {@link ModelCountry}'s neighbours in
+	 * {@link #neighbourIds}. The neighbours of the {@link ModelCountry} with id
+	 * <code>i</code> are between <code>neighbourOffsets[i]</code> and
+	 * <code>neighbourOffsets[i + 1]</code>.
+	 */
+	private int[] neighbourOffsets;
+
+	/**
+	 * The ids of the neighbours of every {@link ModelCountry} in order of their
+	 * ids.
+	 */
+	private int[] neighbourIds;
+
+	/**
+	 * The {@link ZobristHash} of the rulers, armies and links of this
+	 * {@link ModelBoard}.
+	 */
+	private ZobristHash hash;
+
+	/**
+	 * The {@link EventLog} that the trades and blockades made on this
+	 * {@link ModelBoard} are recorded in or <code>null</code> if they are not
+	 * recorded.
+	 */
+	private EventLog events;
+
 	/**
 	 * Constructs a {@link ModelBoard}.
 	 * 
@@ -53,6 +91,11 @@ public final class ModelBoard extends Observable implements Board, Observer {
 		this.continents = new HashMap<>();
 		this.numberOfCountries = 0;
 		this.name = name;
+		this.countries = new ModelCountry[0];
+		this.neighbourOffsets = new int[] { 0 };
+		this.neighbourIds = new int[0];
+		this.hash = new ZobristHash();
+		this.events = null;
 	}
 
 	/**
@@ -78,6 +121,8 @@ public final class ModelBoard extends Observable implements Board, Observer {
 			continent.addObserver(this);
 		}
 
+		indexCountries();
+
 		setChanged();
 		notifyObservers(new Update("continents", continents));
 
@@ -96,10 +141,15 @@ public final class ModelBoard extends Observable implements Board, Observer {
 
 	/**
 	 * Iterates through each {@link ModelContinent} in the {@link ModelBoard} and
-	 * {@link ModelContinent#endRound()}.
+	 * {@link ModelContinent#endRound(Random, EventLog)}.
+	 * 
+	 * @param random
+	 *            The {@link Random} of the game.
+	 * @param events
+	 *            The {@link EventLog} of the game.
 	 */
-	public void endRound() {
-		continents.values().forEach(continent -> continent.endRound());
+	public void endRound(Random random, EventLog events) {
+		continents.values().forEach(continent -> continent.endRound(random, events));
 	}
 
 	/**
@@ -152,6 +202,135 @@ public final class ModelBoard extends Observable implements Board, Observer {
 	public void reset() {
 		continents.clear();
 		numberOfCountries = 0;
+		countries = new ModelCountry[0];
+		neighbourOffsets = new int[] { 0 };
+		neighbourIds = new int[0];
+		hash = new ZobristHash();
+	}
+
+	/**
+	 * Retrieves the {@link ModelCountry} with the specified id.
+	 * 
+	 * @param id
+	 *            The {@link ModelCountry#getId()} of the {@link ModelCountry}.
+	 * @return {@link ModelCountry}
+	 */
+	public ModelCountry getCountry(int id) {
+
+		if (id < 0 || id >= countries.length) {
+			throw new IllegalArgumentException(id + " is not a valid country id.");
+		}
+
+		return countries[id];
+	}
+
+	/**
+	 * Retrieves the offsets of each {@link ModelCountry}'s neighbours in
+	 * {@link #getNeighbourIds()}. The neighbours of the {@link ModelCountry} with
+	 * id <code>i</code> are between <code>offsets[i]</code> and
+	 * <code>offsets[i + 1]</code>.
+	 * 
+	 * @return A copy of the neighbour offsets of length
+	 *         {@link #getNumberOfCountries()} + 1.
+	 */
+	public int[] getNeighbourOffsets() {
+		return neighbourOffsets.clone();
+	}
+
+	/**
+	 * Retrieves the ids of the neighbours of every {@link ModelCountry} in order
+	 * of their ids.
+	 * 
+	 * @return A copy of the neighbour ids.
+	 * @see #getNeighbourOffsets()
+	 */
+	public int[] getNeighbourIds() {
+		return neighbourIds.clone();
+	}
+
+	/**
+	 * Retrieves the {@link ZobristHash} of the rulers, armies and links of this
+	 * {@link ModelBoard}, which is kept up to date as they change.
+	 * 
+	 * @return <code>long</code>
+	 */
+	public long getHash() {
+		return hash.get();
+	}
+
+	/**
+	 * Sets the {@link EventLog} that the trades and blockades made on this
+	 * {@link ModelBoard} are recorded in. The {@link EventLog} is kept for the
+	 * {@link ModelCountry}s of every map that is loaded after.
+	 * 
+	 * @param events
+	 *            {@link EventLog} or <code>null</code> to stop recording them.
+	 */
+	public void setEventLog(EventLog events) {
+
+		this.events = events;
+
+		for (ModelCountry country : countries) {
+			country.setEventLog(events);
+		}
+	}
+
+	/**
+	 * Retrieves the {@link EventLog} that the trades and blockades made on this
+	 * {@link ModelBoard} are recorded in.
+	 * 
+	 * @return {@link EventLog} or <code>null</code> if they are not recorded.
+	 */
+	public EventLog getEventLog() {
+		return events;
+	}
+
+	/**
+	 * Assigns each {@link ModelCountry} on this {@link ModelBoard} an id and builds
+	 * the neighbour arrays. The {@link ModelCountry}s are ordered by name so that
+	 * the ids are the same every time a map is loaded.
+	 */
+	private void indexCountries() {
+
+		final List<ModelCountry> sorted = new ArrayList<>();
+		continents.values().forEach(continent -> sorted.addAll(continent.getCountries()));
+		sorted.sort(Comparator.comparing(ModelCountry::getName));
+
+		countries = sorted.toArray(new ModelCountry[sorted.size()]);
+
+		for (int id = 0; id < countries.length; id++) {
+			countries[id].setId(id);
+		}
+
+		neighbourOffsets = new int[countries.length + 1];
+		final List<int[]> neighbours = new ArrayList<>(countries.length);
+
+		// Sort each country's neighbours by id.
+		for (int id = 0; id < countries.length; id++) {
+
+			final int[] ids = countries[id].getNeighbours().stream().mapToInt(ModelCountry::getId).toArray();
+			Arrays.sort(ids);
+
+			neighbours.add(ids);
+			neighbourOffsets[id + 1] = neighbourOffsets[id] + ids.length;
+		}
+
+		neighbourIds = new int[neighbourOffsets[countries.length]];
+
+		for (int id = 0; id < countries.length; id++) {
+			final int[] ids = neighbours.get(id);
+			System.arraycopy(ids, 0, neighbourIds, neighbourOffsets[id], ids.length);
+		}
+
+		// A new hash so that the countries of a previous map do not change it.
+		hash = new ZobristHash();
+
+		for (ModelCountry country : countries) {
+			country.setHash(hash);
+			country.setEventLog(events);
+		}
+
+		hash.reset(ZobristHash.compute(this));
 	}
 
 	/**
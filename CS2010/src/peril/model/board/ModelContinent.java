@@ -1,13 +1,15 @@
 package peril.model.board;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Observable;
 import java.util.Observer;
+import java.util.Random;
 import java.util.Set;
 
 import peril.Update;
 import peril.ai.api.Continent;
 import peril.ai.api.Player;
+import peril.model.EventLog;
 import peril.model.ModelPlayer;
 
 /**
@@ -17,7 +19,7 @@ import peril.model.ModelPlayer;
  * @author Joshua_Eddy
  * 
  * @since 2018-03-16
- * @version 1.01.02
+ * @version 1.01.03
  * 
  * @see ModelCountry
  * @see Observable
@@ -62,7 +64,7 @@ public final class ModelContinent extends Observable implements Continent, Obser
 	 */
 	public ModelContinent(ModelHazard hazard, String name) {
 
-		this.countries = new HashSet<ModelCountry>();
+		this.countries = new LinkedHashSet<ModelCountry>();
 		this.hazard = hazard;
 		this.ruler = null;
 		this.name = name;
@@ -71,10 +73,17 @@ public final class ModelContinent extends Observable implements Continent, Obser
 
 	/**
 	 * Iterates through all the @{@link ModelCountry}s in the {@link ModelContinent}
-	 * and performs their end of round operations.
+	 * and performs their end of round operations. The {@link ModelCountry}s are
+	 * kept in the order they were added so the same seed always has the same
+	 * hazards.
+	 * 
+	 * @param random
+	 *            The {@link Random} of the game.
+	 * @param events
+	 *            The {@link EventLog} of the game.
 	 */
-	public void endRound() {
-		countries.forEach(currentCountry -> currentCountry.endRound(hazard));
+	public void endRound(Random random, EventLog events) {
+		countries.forEach(currentCountry -> currentCountry.endRound(hazard, random, events));
 	}
 
 	/**
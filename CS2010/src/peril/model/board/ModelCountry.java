@@ -5,11 +5,14 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Observable;
 import java.util.Observer;
+import java.util.Random;
 import java.util.Set;
 
 import peril.Update;
 import peril.ai.api.Country;
 import peril.ai.api.Player;
+import peril.helpers.UnitHelper;
+import peril.model.EventLog;
 import peril.model.ModelColor;
 import peril.model.ModelPlayer;
 import peril.model.board.links.ModelLink;
@@ -21,7 +24,7 @@ import peril.model.board.links.ModelLinkState;
  * @author Joshua_Eddy, James_Rowntree
  * 
  * @since 2018-03-16
- * @version 1.01.03
+ * @version 1.01.09
  * 
  * @see Observable
  * @see Observer
@@ -58,7 +61,25 @@ public final class ModelCountry extends Observable implements Country, Observer
 	private volatile ModelPlayer ruler;
 
 	/**
-	 * Constructs a new {@link ModelCountry} with a specified army offset.
+	 * The id of this {@link ModelCountry} on the {@link ModelBoard} it is on. This
+	 * is -1 until the {@link ModelCountry} is added to a {@link ModelBoard}.
+	 */
+	private int id;
+
+	/**
+	 * The {@link ZobristHash} of the {@link ModelBoard} this {@link ModelCountry}
+	 * is on or <code>null</code> if it is not on a {@link ModelBoard}.
+	 */
+	private ZobristHash hash;
+
+	/**
+	 * The number of units of each tier in the {@link ModelArmy} after a hazard.
+	 */
+	private int[] survivors;
+
+	/**
+	 * Constructs a new {@link ModelCountry} whose {@link ModelArmy} uses
+	 * {@link UnitHelper#getInstance()}.
 	 * 
 	 * @param name
 	 *            of the {@link ModelCountry}
@@ -67,12 +88,31 @@ public final class ModelCountry extends Observable implements Country, Observer
 	 *            image.
 	 */
 	public ModelCountry(String name, ModelColor color) {
+		this(name, color, UnitHelper.getInstance());
+	}
+
+	/**
+	 * Constructs a new {@link ModelCountry}.
+	 * 
+	 * @param name
+	 *            of the {@link ModelCountry}
+	 * @param color
+	 *            The colour that denotes this {@link ModelCountry} in the countries
+	 *            image.
+	 * @param unitHelper
+	 *            The {@link UnitHelper} that holds the {@link ModelUnit}s of the
+	 *            game this {@link ModelCountry} is in.
+	 */
+	public ModelCountry(String name, ModelColor color, UnitHelper unitHelper) {
 
 		this.neighbours = new HashMap<ModelCountry, ModelLink>();
 		this.ruler = null;
-		this.army = new ModelArmy();
+		this.army = new ModelArmy(unitHelper);
 		this.name = name;
 		this.color = color;
+		this.id = -1;
+		this.hash = null;
+		this.survivors = null;
 
 		// Add this country as an observer of the army so that the country knows when it
 		// is changed.
@@ -86,13 +126,23 @@ public final class ModelCountry extends Observable implements Country, Observer
 	 * @param hazard
 	 *            The {@link ModelHazard} that should act on this
 	 *            {@link ModelCountry}.
+	 * @param random
+	 *            The {@link Random} of the game.
+	 * @param events
+	 *            The {@link EventLog} the army that survives the hazard is
+	 *            recorded in.
 	 */
-	public void endRound(ModelHazard hazard) {
+	public void endRound(ModelHazard hazard, Random random, EventLog events) {
 
 		neighbours.forEach((counrty, link) -> link.elapse());
 
 		// Holds whether the hazard has occurred or not.
-		boolean occurred = hazard.act(army);
+		boolean occurred = hazard.act(army, random);
+
+		if (occurred) {
+			survivors = army.getNumberOfEachTier(survivors);
+			events.hazard(id, survivors);
+		}
 
 		// If the hazard occurred update the most recent hazard.
 		setChanged();
@@ -153,6 +203,11 @@ public final class ModelCountry extends Observable implements Country, Observer
 	 *            {@link ModelPlayer}
 	 */
 	public void setRuler(ModelPlayer ruler) {
+
+		if (hash != null) {
+			hash.ruler(id, this.ruler, ruler);
+		}
+
 		this.ruler = ruler;
 
 		setChanged();
@@ -211,6 +266,63 @@ public final class ModelCountry extends Observable implements Country, Observer
 		return new HashSet<>(neighbours.keySet());
 	}
 
+	/**
+	 * Sets the id of this {@link ModelCountry} on the {@link ModelBoard} it has
+	 * been added to.
+	 * 
+	 * @param id
+	 *            The id of this {@link ModelCountry}.
+	 */
+	void setId(int id) {
+		this.id = id;
+	}
+
+	/**
+	 * Adds this {@link ModelCountry}, its {@link ModelArmy} and the
+	 * {@link ModelLink}s to its neighbours to the {@link ZobristHash} of the
+	 * {@link ModelBoard} it is on. This must be called after the ids of every
+	 * {@link ModelCountry} on the {@link ModelBoard} are set.
+	 * 
+	 * @param hash
+	 *            {@link ZobristHash}
+	 */
+	void setHash(ZobristHash hash) {
+
+		this.hash = hash;
+
+		army.setHash(hash, id);
+
+		neighbours.forEach((neighbour, link) -> link.setHash(hash, id, neighbour.getId()));
+	}
+
+	/**
+	 * Sets the {@link EventLog} that the trades of this {@link ModelCountry}'s
+	 * {@link ModelArmy} and the blockades of its {@link ModelLink}s are recorded
+	 * in. This must be called after the ids of every {@link ModelCountry} on the
+	 * {@link ModelBoard} are set.
+	 * 
+	 * @param events
+	 *            {@link EventLog} or <code>null</code> if they are not recorded.
+	 */
+	void setEventLog(EventLog events) {
+
+		army.setEventLog(events);
+
+		neighbours.values().forEach(link -> link.setEventLog(events));
+	}
+
+	/**
+	 * Retrieves the id of this {@link ModelCountry} on the {@link ModelBoard} it
+	 * has been added to.
+	 * 
+	 * @return The id or -1 if this {@link ModelCountry} is not on a
+	 *         {@link ModelBoard}.
+	 */
+	@Override
+	public int getId() {
+		return id;
+	}
+
 	/**
 	 * Retrieves the {@link ModelColor} for this {@link ModelCountry}.
 	 * 
@@ -10,7 +10,7 @@ import java.util.Random;
  * @author Joshua_Eddy
  * 
  * @since 2018-02-22
- * @version 1.01.02
+ * @version 1.01.03
  * 
  * @see ModelArmy
  *
@@ -120,6 +120,23 @@ public enum ModelHazard {
 	 *         on this army.
 	 */
 	public boolean act(ModelArmy army) {
+		return act(army, generator);
+	}
+
+	/**
+	 * Enacts the {@link ModelHazard} on an {@link ModelArmy} using the specified
+	 * {@link Random} so that the same seed always has the same result.
+	 * 
+	 * @param army
+	 *            The {@link ModelArmy} that will be effected by the
+	 *            {@link ModelHazard}.
+	 * @param generator
+	 *            The {@link Random} that decides whether the {@link ModelHazard}
+	 *            occurs and what it kills.
+	 * @return <code>boolean</code> whether or not this {@link ModelHazard} occurred
+	 *         on this army.
+	 */
+	public boolean act(ModelArmy army, Random generator) {
 
 		// Calculate whether this hazard will occur.
 		final boolean occur = chance > generator.nextInt(100);
@@ -145,7 +162,7 @@ public enum ModelHazard {
 
 				// Remove the dead regiments.
 				for (int i = 0; i < casualties; i++) {
-					army.removeRandomUnit();
+					army.removeRandomUnit(generator);
 				}
 
 			}
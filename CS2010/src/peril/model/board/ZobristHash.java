@@ -0,0 +1,263 @@
+package peril.model.board;
+
+import peril.model.ModelPlayer;
+import peril.model.board.links.ModelLink;
+import peril.model.board.links.ModelLinkState;
+
+/**
+ * A 64-bit Zobrist hash of the rulers, the number of each tier of
+ * {@link ModelUnit} in every army and the state of every link of a
+ * {@link ModelBoard}. Every part of the board has its own random key and the
+ * hash is those keys XORed together, so when one part changes the hash is
+ * updated by XORing out the key of the old value and XORing in the key of the
+ * new one. {@link ModelCountry#setRuler(ModelPlayer)}, every change to a
+ * {@link ModelArmy} and every change to the state of a {@link ModelLink} update
+ * the hash of their board in this way, so reading it never walks the
+ * board.<br>
+ * <br>
+ * The keys are generated from a fixed seed so the same position on the same
+ * map has the same hash in every game and every process. The current player and
+ * phase are not part of the board so they are mixed in by
+ * {@link #turn(int, int)} when a hash of the whole game is needed.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-26
+ * @version 1.01.03
+ *
+ * @see ModelBoard#getHash()
+ *
+ */
+public final class ZobristHash {
+
+	/**
+	 * The seed every key is generated from.
+	 */
+	private static final long SEED = 0x2545F4914F6CDD1DL;
+
+	/**
+	 * The kind of key for the ruler of a country.
+	 */
+	private static final int RULER = 1;
+
+	/**
+	 * The kind of key for the number of a tier of unit in a country.
+	 */
+	private static final int ARMY = 2;
+
+	/**
+	 * The kind of key for the state of a link.
+	 */
+	private static final int LINK = 3;
+
+	/**
+	 * The kind of key for the current player and phase.
+	 */
+	private static final int TURN = 4;
+
+	/**
+	 * The current value of this {@link ZobristHash}.
+	 */
+	private long value;
+
+	/**
+	 * Constructs a new {@link ZobristHash} of an empty board.
+	 */
+	public ZobristHash() {
+		this.value = 0;
+	}
+
+	/**
+	 * Retrieves the current value of this {@link ZobristHash}.
+	 *
+	 * @return <code>long</code>
+	 */
+	public long get() {
+		return value;
+	}
+
+	/**
+	 * Retrieves the key of the current player and phase of a game, which is XORed
+	 * with the hash of the board to give the hash of the whole game.
+	 *
+	 * @param player
+	 *            The number of the current player or zero if there is none.
+	 * @param phase
+	 *            The number of the current phase.
+	 * @return <code>long</code>
+	 */
+	public static long turn(int player, int phase) {
+		return key(TURN, player, phase, 0);
+	}
+
+	/**
+	 * Computes the hash of a {@link ModelBoard} by walking every country, which is
+	 * only needed when the board is first indexed.
+	 *
+	 * @param board
+	 *            {@link ModelBoard}
+	 * @return <code>long</code>
+	 */
+	public static long compute(ModelBoard board) {
+
+		long hash = 0;
+
+		for (int id = 0; id < board.getNumberOfCountries(); id++) {
+
+			final ModelCountry country = board.getCountry(id);
+
+			hash ^= ruler(id, country.getRuler());
+			hash ^= country.getArmy().hash(id);
+
+			for (ModelCountry neighbour : country.getNeighbours()) {
+				hash ^= link(id, neighbour.getId(), country.getLinkTo(neighbour).getState());
+			}
+		}
+
+		return hash;
+	}
+
+	/**
+	 * Sets the value of this {@link ZobristHash}.
+	 *
+	 * @param value
+	 *            The new value.
+	 */
+	void reset(long value) {
+		this.value = value;
+	}
+
+	/**
+	 * Updates this {@link ZobristHash} when the ruler of a country changes.
+	 *
+	 * @param country
+	 *            The id of the country.
+	 * @param oldRuler
+	 *            The previous ruler or <code>null</code>.
+	 * @param newRuler
+	 *            The new ruler or <code>null</code>.
+	 */
+	void ruler(int country, ModelPlayer oldRuler, ModelPlayer newRuler) {
+		value ^= ruler(country, oldRuler) ^ ruler(country, newRuler);
+	}
+
+	/**
+	 * Updates this {@link ZobristHash} when the number of a tier of unit in a
+	 * country changes.
+	 *
+	 * @param country
+	 *            The id of the country.
+	 * @param tier
+	 *            The tier of the unit.
+	 * @param oldNumber
+	 *            The previous number of that unit.
+	 * @param newNumber
+	 *            The new number of that unit.
+	 */
+	void army(int country, int tier, int oldNumber, int newNumber) {
+		value ^= army(country, tier, oldNumber) ^ army(country, tier, newNumber);
+	}
+
+	/**
+	 * Updates this {@link ZobristHash} when the state of a link changes.
+	 *
+	 * @param country
+	 *            The id of the country the link is from.
+	 * @param neighbour
+	 *            The id of the country the link is to.
+	 * @param oldState
+	 *            The previous {@link ModelLinkState}.
+	 * @param newState
+	 *            The new {@link ModelLinkState}.
+	 */
+	public void link(int country, int neighbour, ModelLinkState oldState, ModelLinkState newState) {
+		value ^= link(country, neighbour, oldState) ^ link(country, neighbour, newState);
+	}
+
+	/**
+	 * Retrieves the key of the ruler of a country, where a neutral country has no
+	 * key.
+	 *
+	 * @param country
+	 *            The id of the country.
+	 * @param ruler
+	 *            The ruler or <code>null</code>.
+	 * @return <code>long</code>
+	 */
+	private static long ruler(int country, ModelPlayer ruler) {
+		return ruler == null ? 0 : key(RULER, country, ruler.number, 0);
+	}
+
+	/**
+	 * Retrieves the key of the number of a tier of unit in a country, where none
+	 * of a unit has no key.
+	 *
+	 * @param country
+	 *            The id of the country.
+	 * @param tier
+	 *            The tier of the unit.
+	 * @param number
+	 *            The number of the unit.
+	 * @return <code>long</code>
+	 */
+	static long army(int country, int tier, int number) {
+		return number == 0 ? 0 : key(ARMY, country, tier, number);
+	}
+
+	/**
+	 * Retrieves the key of the state of a link.
+	 *
+	 * @param country
+	 *            The id of the country the link is from.
+	 * @param neighbour
+	 *            The id of the country the link is to.
+	 * @param state
+	 *            The {@link ModelLinkState} of the link.
+	 * @return <code>long</code>
+	 */
+	private static long link(int country, int neighbour, ModelLinkState state) {
+		return key(LINK, country, neighbour, state.ordinal());
+	}
+
+	/**
+	 * Generates the key of one value of one part of the board by mixing the part
+	 * and value into the seed with the SplitMix64 finaliser.
+	 *
+	 * @param kind
+	 *            The kind of key.
+	 * @param a
+	 *            The first index of the part.
+	 * @param b
+	 *            The second index of the part.
+	 * @param c
+	 *            The value of the part.
+	 * @return <code>long</code>
+	 */
+	private static long key(int kind, int a, int b, int c) {
+
+		long key = SEED;
+
+		key = mix(key ^ kind);
+		key = mix(key ^ a);
+		key = mix(key ^ b);
+		key = mix(key ^ c);
+
+		return key;
+	}
+
+	/**
+	 * Mixes the bits of a <code>long</code> so that every input bit affects every
+	 * output bit.
+	 *
+	 * @param z
+	 *            The <code>long</code> to mix.
+	 * @return <code>long</code>
+	 */
+	private static long mix(long z) {
+		z = (z + 0x9E3779B97F4A7C15L);
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+}
@@ -2,8 +2,10 @@ package peril.model.board.links;
 
 import java.util.Observable;
 
+import peril.model.EventLog;
 import peril.model.board.ModelCountry;
 import peril.model.board.ModelUnit;
+import peril.model.board.ZobristHash;
 
 /**
  * 
@@ -12,7 +14,7 @@ import peril.model.board.ModelUnit;
  * 
  * @author Joshua_Eddy
  * 
- * @version 1.01.04
+ * @version 1.01.06
  * @since 2018-03-16
  * 
  * @see Observable
@@ -38,6 +40,28 @@ public final class ModelLink extends Observable {
 	 */
 	private int duration;
 
+	/**
+	 * The {@link ZobristHash} of the board this {@link ModelLink} is on or
+	 * <code>null</code> if it is not on a board.
+	 */
+	private ZobristHash hash;
+
+	/**
+	 * The {@link EventLog} that the blockades of this {@link ModelLink} are
+	 * recorded in or <code>null</code> if they are not recorded.
+	 */
+	private EventLog events;
+
+	/**
+	 * The id of the {@link ModelCountry} this {@link ModelLink} is from.
+	 */
+	private int from;
+
+	/**
+	 * The id of the {@link ModelCountry} this {@link ModelLink} is to.
+	 */
+	private int to;
+
 	/**
 	 * Constructs a new {@link ModelLink}.
 	 * 
@@ -49,6 +73,38 @@ public final class ModelLink extends Observable {
 		this.defaultState = defaultState;
 		this.duration = 0;
 		this.current = defaultState;
+		this.hash = null;
+		this.events = null;
+	}
+
+	/**
+	 * Adds this {@link ModelLink} to the {@link ZobristHash} of the board it is on
+	 * so that the hash is updated whenever the state of this {@link ModelLink}
+	 * changes.
+	 * 
+	 * @param hash
+	 *            {@link ZobristHash}
+	 * @param from
+	 *            The id of the {@link ModelCountry} this {@link ModelLink} is from.
+	 * @param to
+	 *            The id of the {@link ModelCountry} this {@link ModelLink} is to.
+	 */
+	public void setHash(ZobristHash hash, int from, int to) {
+		this.hash = hash;
+		this.from = from;
+		this.to = to;
+	}
+
+	/**
+	 * Sets the {@link EventLog} that the blockades of this {@link ModelLink} are
+	 * recorded in. This must be called after the {@link ZobristHash} is set so
+	 * that the ids of the {@link ModelCountry}s it links are known.
+	 * 
+	 * @param events
+	 *            {@link EventLog} or <code>null</code> if they are not recorded.
+	 */
+	public void setEventLog(EventLog events) {
+		this.events = events;
 	}
 
 	/**
@@ -72,7 +128,11 @@ public final class ModelLink extends Observable {
 		}
 
 		this.duration = (state == defaultState) ? 0 : duration;
-		this.current = state;
+		changeState(state);
+
+		if (events != null && state == ModelLinkState.BLOCKADE) {
+			events.blockade(from, to, duration);
+		}
 
 		setChanged();
 		notifyObservers();
@@ -109,7 +169,7 @@ public final class ModelLink extends Observable {
 	 * Returns this {@link ModelLink} to its default {@link ModelLinkState}.
 	 */
 	public void returnToDefault() {
-		this.current = defaultState;
+		changeState(defaultState);
 		this.duration = 0;
 
 		setChanged();
@@ -185,4 +245,20 @@ public final class ModelLink extends Observable {
 		return true;
 
 	}
+	/**
+	 * Sets the current {@link ModelLinkState} of this {@link ModelLink} and
+	 * updates the {@link ZobristHash} of the board.
+	 * 
+	 * @param state
+	 *            The new {@link ModelLinkState}.
+	 */
+	private void changeState(ModelLinkState state) {
+
+		if (hash != null && state != current) {
+			hash.link(from, to, current, state);
+		}
+
+		this.current = state;
+	}
+
 }
@@ -9,7 +9,6 @@ import java.util.stream.Collectors;
 
 import peril.GameController;
 import peril.helpers.PointHelper;
-import peril.helpers.UnitHelper;
 import peril.model.ModelPlayer;
 import peril.model.board.ModelArmy;
 import peril.model.board.ModelCountry;
@@ -23,7 +22,7 @@ import peril.model.board.ModelUnit;
  * @author Joshua_Eddy
  * 
  * @since 2018-03-11
- * @version 1.01.09
+ * @version 1.01.12
  *
  * @see Observable
  * @see CombatRound
@@ -54,6 +53,28 @@ public final class CombatHelper extends Observable {
 	 */
 	private final Random random;
 
+	/**
+	 * The number of units of each tier in the attacker after a round of combat.
+	 */
+	private int[] attackerArmy;
+
+	/**
+	 * The number of units of each tier in the defender after a round of combat.
+	 */
+	private int[] defenderArmy;
+
+	/**
+	 * The {@link ModelSquad} that attacks during
+	 * {@link #fight(ModelCountry, ModelCountry)}.
+	 */
+	private final ModelSquad attackingSquad;
+
+	/**
+	 * The {@link ModelSquad} that defends during
+	 * {@link #fight(ModelCountry, ModelCountry)}.
+	 */
+	private final ModelSquad defendingSquad;
+
 	/**
 	 * The {@link GameController} that allows this {@link CombatHelper} to query the
 	 * state of the game.
@@ -68,8 +89,12 @@ public final class CombatHelper extends Observable {
 	 *            to query the state of the game.
 	 */
 	public CombatHelper(GameController game) {
-		this.random = new Random();
+		this.random = game.getRandom();
 		this.game = game;
+		this.attackerArmy = null;
+		this.defenderArmy = null;
+		this.attackingSquad = new ModelSquad(MAX_ATTACK_SQUAD_SIZE);
+		this.defendingSquad = new ModelSquad(MAX_DEFEND_SQUAD_SIZE);
 	}
 
 	/**
@@ -111,6 +136,14 @@ public final class CombatHelper extends Observable {
 		// Process the transition of country ownership.
 		processPostFight(round, attackingPlayer, defendingPlayer);
 
+		// Record the armies that survived.
+		attackerArmy = countUnits(round.attacker.getArmy(), round.attackerSquad, attackerArmy);
+		defenderArmy = countUnits(round.defender.getArmy(), round.defenderSquad, defenderArmy);
+
+		game.getEventLog().attack(round.attacker.getId(), round.defender.getId(), attackerDiceRolls,
+				defenderDiceRolls, attackerArmy, defenderArmy, attackingPlayer != defendingPlayer
+						&& attackingPlayer.equals(round.defender.getRuler()));
+
 		// Update the view
 		this.view = new CombatView(round, attackerDiceRolls, defenderDiceRolls);
 
@@ -119,6 +152,40 @@ public final class CombatHelper extends Observable {
 
 	}
 
+	/**
+	 * Performs one round of combat between two {@link ModelCountry}s in the same
+	 * way as the war menu, where both squads are the strongest possible and the
+	 * attacker leaves at least one unit behind. The surviving members of both
+	 * squads are returned to their armies after the round. This is how the AIs
+	 * attack, as it does not involve the view.
+	 * 
+	 * @param attacker
+	 *            The attacking {@link ModelCountry}.
+	 * @param defender
+	 *            The defending {@link ModelCountry}.
+	 */
+	public void fight(ModelCountry attacker, ModelCountry defender) {
+
+		attackingSquad.autoPopulate(attacker.getArmy(), 1);
+		defendingSquad.autoPopulate(defender.getArmy(), 0);
+
+		try {
+
+			// If both squads can fight
+			if (attackingSquad.getAliveUnits() > 0 && defendingSquad.getAliveUnits() > 0) {
+				fight(new CombatRound(attacker, defender, attackingSquad, defendingSquad));
+			}
+
+		} finally {
+
+			// Return the survivors to their countries.
+			attackingSquad.returnSquadToArmy(attacker.getArmy());
+			attackingSquad.clear();
+			defendingSquad.returnSquadToArmy(defender.getArmy());
+			defendingSquad.clear();
+		}
+	}
+
 	/**
 	 * Clears this {@link CombatHelper}.
 	 */
@@ -230,7 +297,7 @@ public final class CombatHelper extends Observable {
 				// If the war ended then assign the attacker as the ruler of the defending
 				// country.
 				if (warEnded) {
-					victor.totalArmy.add(UnitHelper.getInstance().getWeakest());
+					victor.totalArmy.add(game.getUnitHelper().getWeakest());
 					round.defender.setRuler(victor);
 				}
 			}
@@ -246,7 +313,7 @@ public final class CombatHelper extends Observable {
 
 				// If the war ended add one unit to the losers army.
 				if (warEnded) {
-					loser.totalArmy.add(UnitHelper.getInstance().getWeakest());
+					loser.totalArmy.add(game.getUnitHelper().getWeakest());
 				}
 			}
 
@@ -348,6 +415,31 @@ public final class CombatHelper extends Observable {
 		}
 	}
 
+	/**
+	 * Counts the {@link ModelUnit}s of each tier in the specified {@link ModelArmy}
+	 * and the alive members of the specified {@link ModelSquad}.
+	 * 
+	 * @param army
+	 *            {@link ModelArmy}
+	 * @param squad
+	 *            {@link ModelSquad}
+	 * @param counts
+	 *            The array that is reused if it is the right size.
+	 * @return The number of {@link ModelUnit}s of each tier.
+	 */
+	private int[] countUnits(ModelArmy army, ModelSquad squad, int[] counts) {
+
+		final int[] result = army.getNumberOfEachTier(counts);
+
+		for (ModelSquadMember member : squad) {
+			if (member.state == ModelSquadMemberState.ALIVE) {
+				result[game.getUnitHelper().getTier(member.unit)]++;
+			}
+		}
+
+		return result;
+	}
+
 	/**
 	 * Retrieves a {@link Integer}[] of random six sided dice rolls.
 	 * 
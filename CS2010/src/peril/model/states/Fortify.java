@@ -22,7 +22,7 @@ import peril.model.board.links.ModelLink;
  * @author Joshua_Eddy
  * 
  * @since 2018-03-16
- * @version 1.01.08
+ * @version 1.01.09
  *
  * @see ModelState
  */
@@ -166,6 +166,8 @@ public final class Fortify extends ModelState {
 				// Transfer the unit along the path
 				transferAlongPath(path, unit);
 
+				game.getEventLog().fortify(primary.getId(), target.getId(), game.getUnitHelper().getTier(unit));
+
 				// If there is one unit left in the primary army then de-select the countries.
 				if (primaryArmy.getNumberOfUnits() == 1) {
 					deselectAll();
@@ -19,7 +19,7 @@ import peril.model.board.ModelCountry;
  * @author Joshua_Eddy
  * 
  * @since 2018-02-23
- * @version 1.01.03
+ * @version 1.01.04
  * 
  * @see Observable
  *
@@ -150,7 +150,7 @@ public abstract class ModelState extends Observable {
 		// owns by one.
 		if (newRuler != null) {
 			newRuler.setCountriesRuled(newRuler.getCountriesRuled() + 1);
-			newRuler.totalArmy.add(ModelArmy.generateUnits(country.getArmy().getStrength()));
+			newRuler.totalArmy.add(ModelArmy.generateUnits(country.getArmy().getStrength(), game.getUnitHelper()));
 		}
 
 	}
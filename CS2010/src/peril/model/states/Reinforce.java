@@ -1,7 +1,6 @@
 package peril.model.states;
 
 import peril.GameController;
-import peril.helpers.UnitHelper;
 import peril.model.ModelPlayer;
 import peril.model.board.ModelArmy;
 import peril.model.board.ModelCountry;
@@ -15,7 +14,7 @@ import peril.model.board.ModelUnit;
  * @author Joshua_Eddy
  * 
  * @since 2018-03-15
- * @version 1.01.03
+ * @version 1.01.05
  * 
  * @see ModelState
  *
@@ -98,7 +97,7 @@ public final class Reinforce extends ModelState {
 				if (player.equals(ruler)) {
 
 					// Holds the weakest unit in the game.
-					final ModelUnit weakest = UnitHelper.getInstance().getWeakest();
+					final ModelUnit weakest = game.getUnitHelper().getWeakest();
 
 					// Remove the unit from the list of units to place.
 					player.distributableArmy.remove(weakest);
@@ -107,6 +106,8 @@ public final class Reinforce extends ModelState {
 					// Get that country's army and increase its size by one.
 					selectedCountry.getArmy().add(weakest);
 
+					game.getEventLog().reinforce(selectedCountry.getId(), game.getUnitHelper().getTier(weakest));
+
 					// Check if any challenges have been completed.
 					game.checkChallenges();
 
@@ -2,7 +2,6 @@ package peril.model.states;
 
 import peril.GameController;
 import peril.helpers.PlayerHelper;
-import peril.helpers.UnitHelper;
 import peril.model.ModelPlayer;
 import peril.model.board.ModelBoard;
 import peril.model.board.ModelCountry;
@@ -16,7 +15,7 @@ import peril.model.board.ModelCountry;
  * @author Joshua_Eddy
  * 
  * @since 2018-02-23
- * @version 1.01.02
+ * @version 1.01.03
  * 
  * @see ModelState
  *
@@ -123,7 +122,7 @@ public final class Setup extends ModelState {
 				set = true;
 				country.setRuler(player);
 				player.setCountriesRuled(player.getCountriesRuled() + 1);
-				player.totalArmy.add(UnitHelper.getInstance().getWeakest());
+				player.totalArmy.add(game.getUnitHelper().getWeakest());
 			}
 
 		}
@@ -26,7 +26,7 @@ import peril.model.states.Reinforce;
  * @author Joshua_Eddy, Joseph_Rolli, Adrian_Wong
  * 
  * @since 2018-02-20
- * @version 1.01.03
+ * @version 1.01.04
  * 
  * @see ModelView
  * @see FileParser
@@ -357,4 +357,17 @@ public interface View {
 	 */
 	void enterHelp();
 
+	/**
+	 * Enters the replay of the last game on the current map.
+	 */
+	void enterReplay();
+
+	/**
+	 * Moves the replay that is being viewed a number of rounds.
+	 * 
+	 * @param rounds
+	 *            The number of rounds, which is negative to move backwards.
+	 */
+	void stepReplay(int rounds);
+
 }
@@ -0,0 +1,115 @@
+package peril.views.headless;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+import peril.ai.AI;
+
+/**
+ * The Elo rating of each {@link AI} by name, updated after every
+ * {@link GameResult}. A game with more than two players is rated as if the
+ * winner beat every other player and a draw is rated as a draw between every
+ * pair of players. All the pairs of a game use the ratings from before that
+ * game so the order of the players does not matter. This is not synchronised.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-23
+ * @version 1.01.01
+ *
+ * @see ResultSink
+ *
+ */
+public final class EloRatings {
+
+	/**
+	 * The rating of an {@link AI} that has not played a game.
+	 */
+	public static final double INITIAL_RATING = 1500;
+
+	/**
+	 * The maximum change of a rating from one pair of players in one game.
+	 */
+	private static final double K = 16;
+
+	/**
+	 * The rating of each {@link AI} by name.
+	 */
+	private final Map<String, Double> ratings;
+
+	/**
+	 * Constructs a new {@link EloRatings} where no {@link AI} has been rated.
+	 */
+	public EloRatings() {
+		this.ratings = new TreeMap<>();
+	}
+
+	/**
+	 * Updates the ratings of the {@link AI}s that played a game.
+	 *
+	 * @param result
+	 *            {@link GameResult}
+	 */
+	public void update(GameResult result) {
+
+		final int players = result.getNumberOfPlayers();
+		final double[] before = new double[players];
+		final double[] change = new double[players];
+
+		for (int player = 0; player < players; player++) {
+			before[player] = getRating(result.getAIName(player));
+		}
+
+		for (int first = 0; first < players; first++) {
+			for (int second = first + 1; second < players; second++) {
+
+				// Only the winner's pairs are decisive.
+				final double score;
+
+				if (result.winner == first) {
+					score = 1;
+				} else if (result.winner == second) {
+					score = 0;
+				} else if (result.isDraw()) {
+					score = 0.5;
+				} else {
+					continue;
+				}
+
+				final double expected = 1 / (1 + Math.pow(10, (before[second] - before[first]) / 400));
+				final double delta = K * (score - expected);
+
+				change[first] += delta;
+				change[second] -= delta;
+			}
+		}
+
+		for (int player = 0; player < players; player++) {
+			ratings.put(result.getAIName(player), getRating(result.getAIName(player)) + change[player]);
+		}
+	}
+
+	/**
+	 * Retrieves the rating of an {@link AI}.
+	 *
+	 * @param name
+	 *            The name of the {@link AI}.
+	 * @return The rating or {@link #INITIAL_RATING} if the {@link AI} has not
+	 *         played.
+	 */
+	public double getRating(String name) {
+		return ratings.getOrDefault(name, INITIAL_RATING);
+	}
+
+	/**
+	 * Performs a task on the rating of each {@link AI} in order of name.
+	 *
+	 * @param task
+	 *            {@link BiConsumer} of the {@link AI} name and its rating.
+	 */
+	public void forEach(BiConsumer<String, Double> task) {
+		ratings.forEach(task);
+	}
+
+}
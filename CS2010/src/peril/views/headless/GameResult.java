@@ -0,0 +1,172 @@
+package peril.views.headless;
+
+import peril.ai.AI;
+import peril.model.ModelPlayer;
+
+/**
+ * The result of one game played by a {@link HeadlessGame}. This holds the
+ * {@link AI} that controlled each {@link ModelPlayer} and the statistics of each
+ * {@link ModelPlayer} at the end of the game, in order of player number.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-23
+ * @version 1.01.01
+ *
+ * @see HeadlessGame
+ * @see ResultSink
+ *
+ */
+public final class GameResult {
+
+	/**
+	 * The index of the winner when the game was a draw.
+	 */
+	public static final int DRAW = -1;
+
+	/**
+	 * The name of the map the game was played on.
+	 */
+	public final String mapName;
+
+	/**
+	 * The number of rounds the game lasted.
+	 */
+	public final int rounds;
+
+	/**
+	 * The index of the {@link ModelPlayer} that won the game or {@link #DRAW}.
+	 */
+	public final int winner;
+
+	/**
+	 * The names of the {@link AI}s that controlled each {@link ModelPlayer}.
+	 */
+	private final String[] aiNames;
+
+	/**
+	 * The number of units each {@link ModelPlayer} killed.
+	 */
+	private final int[] unitsKilled;
+
+	/**
+	 * The number of countries each {@link ModelPlayer} took.
+	 */
+	private final int[] countriesTaken;
+
+	/**
+	 * The number of points each {@link ModelPlayer} spent.
+	 */
+	private final int[] pointsSpent;
+
+	/**
+	 * Constructs a new {@link GameResult}.
+	 *
+	 * @param mapName
+	 *            The name of the map the game was played on.
+	 * @param rounds
+	 *            The number of rounds the game lasted.
+	 * @param players
+	 *            The {@link ModelPlayer}s that played the game in order of
+	 *            player number.
+	 * @param winner
+	 *            The {@link ModelPlayer} that won the game or <code>null</code>
+	 *            if the game was a draw.
+	 */
+	public GameResult(String mapName, int rounds, ModelPlayer[] players, ModelPlayer winner) {
+
+		if (mapName == null) {
+			throw new NullPointerException("Map name cannot be null.");
+		} else if (players.length == 0) {
+			throw new IllegalArgumentException("A game must have players.");
+		}
+
+		this.mapName = mapName;
+		this.rounds = rounds;
+		this.aiNames = new String[players.length];
+		this.unitsKilled = new int[players.length];
+		this.countriesTaken = new int[players.length];
+		this.pointsSpent = new int[players.length];
+
+		int winnerIndex = DRAW;
+
+		for (int index = 0; index < players.length; index++) {
+
+			final ModelPlayer player = players[index];
+
+			aiNames[index] = player.ai.name;
+			unitsKilled[index] = player.getUnitsKilled();
+			countriesTaken[index] = player.getCountriesTaken();
+			pointsSpent[index] = player.getPointsSpent();
+
+			if (player == winner) {
+				winnerIndex = index;
+			}
+		}
+
+		this.winner = winnerIndex;
+	}
+
+	/**
+	 * Retrieves the number of {@link ModelPlayer}s that played the game.
+	 *
+	 * @return <code>int</code>
+	 */
+	public int getNumberOfPlayers() {
+		return aiNames.length;
+	}
+
+	/**
+	 * Retrieves whether the game ended without a winner.
+	 *
+	 * @return <code>boolean</code>
+	 */
+	public boolean isDraw() {
+		return winner == DRAW;
+	}
+
+	/**
+	 * Retrieves the name of the {@link AI} that controlled a {@link ModelPlayer}.
+	 *
+	 * @param player
+	 *            The index of the {@link ModelPlayer}.
+	 * @return The name of the {@link AI}.
+	 */
+	public String getAIName(int player) {
+		return aiNames[player];
+	}
+
+	/**
+	 * Retrieves the number of units a {@link ModelPlayer} killed.
+	 *
+	 * @param player
+	 *            The index of the {@link ModelPlayer}.
+	 * @return <code>int</code>
+	 */
+	public int getUnitsKilled(int player) {
+		return unitsKilled[player];
+	}
+
+	/**
+	 * Retrieves the number of countries a {@link ModelPlayer} took.
+	 *
+	 * @param player
+	 *            The index of the {@link ModelPlayer}.
+	 * @return <code>int</code>
+	 */
+	public int getCountriesTaken(int player) {
+		return countriesTaken[player];
+	}
+
+	/**
+	 * Retrieves the number of points a {@link ModelPlayer} spent.
+	 *
+	 * @param player
+	 *            The index of the {@link ModelPlayer}.
+	 * @return <code>int</code>
+	 */
+	public int getPointsSpent(int player) {
+		return pointsSpent[player];
+	}
+
+}
@@ -0,0 +1,596 @@
+package peril.views.headless;
+
+import java.io.File;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import peril.GameController;
+import peril.ai.AI;
+import peril.helpers.PlayerHelper;
+import peril.io.Autosave;
+import peril.io.FileParser;
+import peril.io.SaveFile;
+import peril.io.SaveQueue;
+import peril.model.ModelPlayer;
+import peril.model.board.ModelCountry;
+import peril.model.combat.CombatHelper;
+import peril.model.states.Attack;
+import peril.model.states.ModelState;
+import peril.views.ModelView;
+import peril.views.View;
+
+/**
+ * A {@link View} that plays the game without displaying it so that {@link AI}s
+ * can be played against each other as fast as the CPU allows on machines that
+ * have no display. When {@link #start()} is called this {@link HeadlessGame}
+ * plays a number of games on one map between the specified {@link AI}s, with
+ * the {@link AI}s at {@link AI#SIMULATION_SPEED}. The {@link GameResult} of
+ * each game is added to the {@link ResultAccumulator} of this
+ * {@link HeadlessGame} and passed to the {@link ResultSink}, if there is
+ * one.<br>
+ * <br>
+ * Every game follows the same setup, reinforce, attack and fortify cycle as
+ * the normal game using {@link GameController#processAI(int)}. A game that
+ * reaches the maximum number of rounds is a draw. If the games are autosaved,
+ * every turn of the current game is saved by an {@link Autosave}.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-22
+ * @version 1.01.13
+ *
+ * @see View
+ * @see HeadlessMapReader
+ *
+ */
+public final class HeadlessGame implements View {
+
+	/**
+	 * The maximum number of rounds a game will be played for if it is not
+	 * specified.
+	 */
+	public static final int DEFAULT_MAX_ROUNDS = 100;
+
+	/**
+	 * The maximum number of {@link AI} operations that are allowed in one round
+	 * before a game is considered stuck and ended as a draw. An {@link AI} that
+	 * keeps selecting an invalid operation will never end its turn.
+	 */
+	private static final int MAX_OPERATIONS_PER_ROUND = 2000;
+
+	/**
+	 * The name of the map that every game will be played on.
+	 */
+	private final String mapName;
+
+	/**
+	 * The names of the {@link AI}s that control each {@link ModelPlayer} in order
+	 * of player number.
+	 */
+	private final String[] aiNames;
+
+	/**
+	 * The number of games that will be played.
+	 */
+	private final int numberOfGames;
+
+	/**
+	 * The maximum number of rounds a game will be played for.
+	 */
+	private final int maxRounds;
+
+	/**
+	 * The {@link ModelPlayer}s that have lost the current game in the order they
+	 * lost.
+	 */
+	private final List<ModelPlayer> losers;
+
+	/**
+	 * The {@link ResultAccumulator} of all the games that have been played.
+	 */
+	private final ResultAccumulator results;
+
+	/**
+	 * The {@link ResultSink} that receives the {@link GameResult} of each game or
+	 * <code>null</code> if there is none.
+	 */
+	private final ResultSink sink;
+
+	/**
+	 * The {@link GameController} that allows the {@link HeadlessGame} to
+	 * communicate with the game model.
+	 */
+	private GameController game;
+
+	/**
+	 * The current {@link ModelState} of the game or <code>null</code> if the game
+	 * is not being played.
+	 */
+	private ModelState current;
+
+	/**
+	 * The {@link ModelPlayer}s of the current game in order of player number.
+	 */
+	private ModelPlayer[] players;
+
+	/**
+	 * The winner of the current game.
+	 */
+	private ModelPlayer winner;
+
+	/**
+	 * Whether this {@link HeadlessGame} is playing games.
+	 */
+	private boolean running;
+
+	/**
+	 * The {@link SaveQueue} that writes the autosaves of the games or
+	 * <code>null</code> if they are not autosaved.
+	 */
+	private SaveQueue autosaves;
+
+	/**
+	 * The name of the directory within the map's autosave directory that the
+	 * games are autosaved to.
+	 */
+	private String autosaveName;
+
+	/**
+	 * The number of workers that each search of an {@link AI} uses or
+	 * <code>0</code> if the {@link AI}s use their default.
+	 */
+	private int searchParallelism;
+
+	/**
+	 * Constructs a new {@link HeadlessGame}.
+	 *
+	 * @param mapName
+	 *            The name of the map that every game will be played on.
+	 * @param numberOfGames
+	 *            The number of games that will be played.
+	 * @param maxRounds
+	 *            The maximum number of rounds a game will be played for.
+	 * @param aiNames
+	 *            The names of the {@link AI}s that control each
+	 *            {@link ModelPlayer}.
+	 */
+	public HeadlessGame(String mapName, int numberOfGames, int maxRounds, String... aiNames) {
+		this(mapName, numberOfGames, maxRounds, null, aiNames);
+	}
+
+	/**
+	 * Constructs a new {@link HeadlessGame} that passes the {@link GameResult} of
+	 * each game to a {@link ResultSink}.
+	 *
+	 * @param mapName
+	 *            The name of the map that every game will be played on.
+	 * @param numberOfGames
+	 *            The number of games that will be played.
+	 * @param maxRounds
+	 *            The maximum number of rounds a game will be played for.
+	 * @param sink
+	 *            The {@link ResultSink} that receives the {@link GameResult} of
+	 *            each game or <code>null</code>.
+	 * @param aiNames
+	 *            The names of the {@link AI}s that control each
+	 *            {@link ModelPlayer}.
+	 */
+	public HeadlessGame(String mapName, int numberOfGames, int maxRounds, ResultSink sink, String... aiNames) {
+
+		if (mapName == null) {
+			throw new NullPointerException("Map name cannot be null.");
+		} else if (numberOfGames < 1) {
+			throw new IllegalArgumentException(numberOfGames + " is not a valid number of games.");
+		} else if (maxRounds < 1) {
+			throw new IllegalArgumentException(maxRounds + " is not a valid number of rounds.");
+		} else if (aiNames.length < PlayerHelper.MIN_PLAYERS || aiNames.length > PlayerHelper.MAX_PLAYERS) {
+			throw new IllegalArgumentException("There must be between " + PlayerHelper.MIN_PLAYERS + " and "
+					+ PlayerHelper.MAX_PLAYERS + " players.");
+		}
+
+		this.mapName = mapName;
+		this.numberOfGames = numberOfGames;
+		this.maxRounds = maxRounds;
+		this.aiNames = aiNames.clone();
+		this.losers = new LinkedList<>();
+		this.results = new ResultAccumulator();
+		this.sink = sink;
+		this.players = new ModelPlayer[0];
+		this.game = null;
+		this.current = null;
+		this.winner = null;
+		this.running = false;
+		this.autosaves = null;
+		this.autosaveName = null;
+		this.searchParallelism = 0;
+	}
+
+	/**
+	 * Sets whether every turn of the games is autosaved into a directory of its
+	 * own within the {@link Autosave#DIRECTORY} of the map. This must be set
+	 * before the game is initialised.
+	 *
+	 * @param autosaves
+	 *            The {@link SaveQueue} that writes the autosaves or
+	 *            <code>null</code> if the games are not autosaved.
+	 * @param name
+	 *            The name of the directory the games are autosaved to.
+	 */
+	public void setAutosave(SaveQueue autosaves, String name) {
+		this.autosaves = autosaves;
+		this.autosaveName = name;
+	}
+
+	/**
+	 * Sets the number of workers that each search of an {@link AI} uses. This must
+	 * be set before the game is initialised.
+	 *
+	 * @param parallelism
+	 *            The number of workers, at least one.
+	 * @see peril.helpers.AIHelper#setSearchParallelism(int)
+	 */
+	public void setSearchParallelism(int parallelism) {
+
+		if (parallelism < 1) {
+			throw new IllegalArgumentException(parallelism + " is not a valid number of workers.");
+		}
+
+		this.searchParallelism = parallelism;
+	}
+
+	/**
+	 * Plays all the games.
+	 */
+	@Override
+	public void start() throws Exception {
+
+		running = true;
+
+		while (running && results.getGames() < numberOfGames) {
+
+			loadGame();
+			play();
+
+			final GameResult result = new GameResult(mapName, game.getRoundNumber(), players, winner);
+
+			results.add(result);
+
+			if (sink != null) {
+				sink.record(result);
+			}
+		}
+
+		running = false;
+
+		// Stop any threads the AIs have started.
+		game.getAIs().shutdown();
+	}
+
+	/**
+	 * Retrieves the {@link ResultAccumulator} of all the games this
+	 * {@link HeadlessGame} has played. This must only be merged once
+	 * {@link #start()} has returned.
+	 *
+	 * @return {@link ResultAccumulator}
+	 */
+	public ResultAccumulator getResults() {
+		return results;
+	}
+
+	@Override
+	public void init(GameController game) throws Exception {
+		this.game = game;
+
+		if (searchParallelism > 0) {
+			game.getAIs().setSearchParallelism(searchParallelism);
+		}
+
+		if (autosaves != null) {
+			game.setAutosave(new Autosave(game.getDirectory().asMapPath(mapName) + Autosave.DIRECTORY
+					+ File.separator + autosaveName, autosaves));
+		}
+	}
+
+	/**
+	 * Resets the game and loads a new game on the map with a {@link ModelPlayer}
+	 * for each {@link AI}.
+	 */
+	@Override
+	public void loadGame() throws Exception {
+
+		// Reset the game and board
+		game.resetGame();
+		game.getModelBoard().reset();
+		losers.clear();
+		winner = null;
+		current = null;
+
+		players = new ModelPlayer[aiNames.length];
+
+		for (int index = 0; index < aiNames.length; index++) {
+			players[index] = new ModelPlayer(index + 1, game.getAIs().getAI(aiNames[index]), game.getUnitHelper());
+			game.addPlayer(players[index]);
+		}
+
+		// The AIs must not wait between operations.
+		game.getAIs().setSpeed(AI.SIMULATION_SPEED);
+
+		final FileParser reader = getMapLoader(mapName, SaveFile.DEFAULT);
+
+		while (!reader.isFinished()) {
+			reader.parseLine();
+		}
+
+		game.setBoardName(mapName);
+
+		changeState(game.getSetup());
+		game.autoDistributeCountries();
+		game.confirmSetup();
+	}
+
+	/**
+	 * Plays the current game until there is a winner or the maximum number of
+	 * rounds have been played.
+	 */
+	private void play() {
+
+		int round = game.getRoundNumber();
+		int operations = 0;
+
+		while (winner == null && game.getRoundNumber() < maxRounds && operations < MAX_OPERATIONS_PER_ROUND) {
+
+			game.processAI(0);
+			operations++;
+
+			// Count the operations of each round separately.
+			if (game.getRoundNumber() != round) {
+				round = game.getRoundNumber();
+				operations = 0;
+			}
+		}
+
+	}
+
+	/**
+	 * Moves the game into the specified {@link ModelState}, clearing the selected
+	 * {@link ModelCountry}s of the previous {@link ModelState}.
+	 *
+	 * @param state
+	 *            The new {@link ModelState} or <code>null</code> if the game is
+	 *            not being played.
+	 */
+	private void changeState(ModelState state) {
+
+		if (current != null) {
+			current.deselectAll();
+		}
+
+		current = state;
+	}
+
+	/**
+	 * Sets the winner of the current game which ends the game.
+	 */
+	@Override
+	public void setWinner(ModelPlayer winner) {
+		this.winner = winner;
+		changeState(null);
+	}
+
+	@Override
+	public void setHelpMenuPage(int pageId) {
+		// There is no help menu.
+	}
+
+	@Override
+	public void updateChallenges() {
+		// There is nothing to update.
+	}
+
+	@Override
+	public void addLoser(ModelPlayer player) {
+		losers.add(0, player);
+	}
+
+	@Override
+	public void showToolTip(String message) {
+		// There is nothing to display the message on.
+	}
+
+	@Override
+	public void toggleMusic(boolean state) {
+		// There is no music.
+	}
+
+	@Override
+	public void toggleChallengeMenu(boolean state) {
+		// There are no menus.
+	}
+
+	@Override
+	public void togglePauseMenu(boolean state) {
+		// There are no menus.
+	}
+
+	@Override
+	public void toggleWarMenu(boolean state) {
+		// The squads are returned after every attack.
+	}
+
+	@Override
+	public void toggleStatsMenu(boolean state) {
+		// There are no menus.
+	}
+
+	@Override
+	public void toggleUpgradeMenu(boolean state) {
+		// There are no menus.
+	}
+
+	@Override
+	public void toggleHelpMenu(boolean state) {
+		// There are no menus.
+	}
+
+	@Override
+	public void nextHelpPage() {
+		// There is no help menu.
+	}
+
+	@Override
+	public void previousHelpPage() {
+		// There is no help menu.
+	}
+
+	@Override
+	public void save() {
+		// Headless games are not saved.
+	}
+
+	/**
+	 * Stops this {@link HeadlessGame} after the current game.
+	 */
+	@Override
+	public void exit() {
+		running = false;
+	}
+
+	@Override
+	public void enterMainMenu() {
+		changeState(null);
+	}
+
+	@Override
+	public void enterReinforce() {
+		changeState(game.getReinforce());
+	}
+
+	@Override
+	public void enterCombat() {
+		changeState(game.getAttack());
+	}
+
+	@Override
+	public void enterFortify() {
+		changeState(game.getFortify());
+	}
+
+	/**
+	 * Performs one round of combat between the selected {@link ModelCountry}s
+	 * using {@link CombatHelper#fight(ModelCountry, ModelCountry)}.
+	 */
+	@Override
+	public void attack() {
+
+		final Attack state = game.getAttack();
+
+		state.combat.fight(state.getPrimary(), state.getSecondary());
+	}
+
+	@Override
+	public void AIattack() {
+		attack();
+	}
+
+	@Override
+	public void centerBoard() {
+		// There is no board to center.
+	}
+
+	@Override
+	public void forEachLoser(Consumer<ModelPlayer> task) {
+		losers.forEach(task);
+	}
+
+	@Override
+	public int getArmyOffsetX(ModelCountry country) {
+		return 0;
+	}
+
+	@Override
+	public int getArmyOffsetY(ModelCountry country) {
+		return 0;
+	}
+
+	@Override
+	public int getScreenWidth() {
+		return 0;
+	}
+
+	@Override
+	public int getScreenHeight() {
+		return 0;
+	}
+
+	@Override
+	public int getWindowWidth() {
+		return 0;
+	}
+
+	@Override
+	public int getWindowHeight() {
+		return 0;
+	}
+
+	@Override
+	public boolean isMusicOn() {
+		return false;
+	}
+
+	@Override
+	public boolean isPaused() {
+		return false;
+	}
+
+	@Override
+	public boolean isCurrentState(ModelState state) {
+		return current != null && current == state;
+	}
+
+	@Override
+	public boolean isFullScreen() {
+		return false;
+	}
+
+	/**
+	 * There are no visual elements so there is no {@link ModelView}.
+	 *
+	 * @return <code>null</code>
+	 */
+	@Override
+	public ModelView getModelView() {
+		return null;
+	}
+
+	@Override
+	public FileParser getMapLoader(String mapPath, SaveFile save) {
+		return new HeadlessMapReader(mapPath, game, save);
+	}
+
+	@Override
+	public void enterCredits() {
+		changeState(null);
+	}
+
+	@Override
+	public void blockLink() {
+		// Only users block links from the view.
+	}
+
+	@Override
+	public void enterHelp() {
+		changeState(null);
+	}
+
+	@Override
+	public void enterReplay() {
+		// Replays are only viewed by users.
+	}
+
+	@Override
+	public void stepReplay(int rounds) {
+		// Replays are only viewed by users.
+	}
+
+}
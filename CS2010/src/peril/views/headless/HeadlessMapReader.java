@@ -0,0 +1,450 @@
+package peril.views.headless;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import peril.GameController;
+import peril.helpers.UnitHelper;
+import peril.io.FileParser;
+import peril.io.LineType;
+import peril.io.SaveFile;
+import peril.model.ModelColor;
+import peril.model.ModelPlayer;
+import peril.model.board.*;
+import peril.model.board.links.*;
+
+/**
+ * Reads a map from a specified {@link SaveFile} and uses that to construct the
+ * {@link ModelBoard} and all its {@link ModelCountry}s, {@link ModelContinent}s
+ * and {@link ModelUnit}s without loading any images. This only reads the
+ * elements of the map that make up the {@link ModelBoard}, so the players,
+ * state and challenges of a save are ignored because the {@link HeadlessGame}
+ * always starts a new game.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-22
+ * @version 1.01.04
+ *
+ * @see FileParser
+ * @see HeadlessGame
+ *
+ */
+public final class HeadlessMapReader extends FileParser {
+
+	/**
+	 * The {@link Set} of all the {@link ModelContinent}s on the
+	 * {@link ModelBoard}.
+	 */
+	private final Set<ModelContinent> continents;
+
+	/**
+	 * The {@link ModelCountry}s that have been read so far by their names.
+	 */
+	private final Map<String, ModelCountry> countries;
+
+	/**
+	 * Holds the {@link GameController} which contains the {@link ModelBoard} this
+	 * {@link HeadlessMapReader} is loading.
+	 */
+	private final GameController game;
+
+	/**
+	 * Constructs a new {@link HeadlessMapReader}.
+	 *
+	 * @param mapName
+	 *            The name of the map.
+	 * @param game
+	 *            The {@link GameController} that allows the
+	 *            {@link HeadlessMapReader} to interact with the game.
+	 * @param file
+	 *            The {@link SaveFile} that contains the map to be loaded.
+	 */
+	public HeadlessMapReader(String mapName, GameController game, SaveFile file) {
+		super(game.getDirectory().asMapPath(mapName), game.getDirectory(),
+				file.resolve(game.getDirectory().asMapPath(mapName)));
+
+		this.continents = new HashSet<>();
+		this.countries = new HashMap<>();
+		this.game = game;
+	}
+
+	/**
+	 * Parses a line from a map details file.
+	 */
+	@Override
+	public void parseLine() {
+
+		if (!isFinished()) {
+
+			parseLineType();
+
+			if (isFinished()) {
+				// Set the boards continents
+				game.getModelBoard().setContinents(continents);
+			}
+		}
+
+	}
+
+	/**
+	 * Discerns the type of element that the current line specifies.
+	 */
+	private void parseLineType() {
+
+		// The first section of the line denotes the type of instruction. Only the
+		// lines that make up the board are parsed.
+		if (isDetail(0, LineType.COUNTRY.text)) {
+			parseCountry();
+		} else if (isDetail(0, LineType.UNIT.text)) {
+			parseUnit();
+		} else if (isDetail(0, LineType.LINK.text)) {
+			parseLink();
+		} else if (isDetail(0, LineType.CONTINENT.text)) {
+			parseContinent();
+		}
+
+		index++;
+
+	}
+
+	/**
+	 * Parses the details of the current line into a new {@link ModelUnit}.
+	 *
+	 * The details are:
+	 * <ol>
+	 * <li>The name of the {@link ModelUnit}</li>
+	 * <li>The strength of the {@link ModelUnit}</li>
+	 * <li>The file name of the image that denotes the
+	 * {@link ModelUnit}.</li>
+	 * </ol>
+	 */
+	private void parseUnit() {
+
+		// The correct number of elements on a unit line.
+		final int UNIT_LENGTH = 4;
+
+		if (getNumberOfDetails() != UNIT_LENGTH) {
+			throw new IllegalArgumentException(
+					"Line " + index + ": Incorrect number of elements, there should be " + UNIT_LENGTH + ".");
+		}
+
+		int strength;
+
+		// Parse the strength value of the unit.
+		try {
+			strength = getInt(2);
+		} catch (Exception ex) {
+			throw new IllegalArgumentException("Line " + index + ": '" + getDetail(2) + "' is not a valid strength.");
+		}
+
+		game.getUnitHelper().addUnit(new ModelUnit(getDetail(1), strength, getDetail(3)));
+
+	}
+
+	/**
+	 * Parses the details of the current line into a new {@link ModelCountry}. The
+	 * army offsets are not used as there is nothing to display.
+	 *
+	 * The details are:
+	 * <ol>
+	 * <li>The name of the {@link ModelCountry}</li>
+	 * <li>The RGB value of the country</li>
+	 * <li>The army</li>
+	 * <li>The x army offset</li>
+	 * <li>The y army offset</li>
+	 * <li>The number of the player that rules the country</li>
+	 * </ol>
+	 */
+	private void parseCountry() {
+
+		final int COUNTRY_LENGTH = 7;
+
+		if (getNumberOfDetails() != COUNTRY_LENGTH) {
+			throw new IllegalArgumentException(
+					"Line " + index + ": Incorrect number of elements, there should be " + COUNTRY_LENGTH + ".");
+		}
+
+		// The name of the country
+		final String name = getDetail(1);
+
+		// The RGB values of the country.
+		int r;
+		int g;
+		int b;
+
+		try {
+			r = getInt(2, 0, 3);
+			g = getInt(2, 3, 6);
+			b = getInt(2, 6, 9);
+		} catch (Exception ex) {
+			throw new IllegalArgumentException("Line " + index + ": " + getDetail(2) + " is not a valid rgb value.");
+		}
+
+		// Check if the rgb values are valid
+		if ((r > 255 || r < 0) || (g > 255 || g < 0) || (b > 255 || b < 0)) {
+			throw new IllegalArgumentException("Line " + index + ": " + getDetail(2) + " is not a valid rgb value.");
+		}
+
+		// Holds the strength of the army
+		final ModelArmy army = parseArmy(3);
+
+		// The player that rules the country
+		final ModelPlayer ruler = parsePlayer(6);
+
+		final ModelCountry country = new ModelCountry(name, new ModelColor(r, g, b), game.getUnitHelper());
+
+		// If there is an owner set it as the ruler.
+		if (ruler != null) {
+			country.setRuler(ruler);
+			ruler.setCountriesRuled(ruler.getCountriesRuled() + 1);
+			ruler.totalArmy.merge(army);
+		}
+
+		country.getArmy().merge(army);
+
+		countries.put(name, country);
+
+	}
+
+	/**
+	 * Processes a detail of the current line into a {@link ModelArmy}. The detail
+	 * is read in place as '-' separated 'unitName:number' pairs.
+	 *
+	 * @param detail
+	 *            The index of the detail that holds the {@link ModelArmy}.
+	 * @return The {@link ModelArmy} specified by the detail.
+	 */
+	private ModelArmy parseArmy(int detail) {
+
+		// The army all the units will be added to.
+		final ModelArmy army = new ModelArmy(game.getUnitHelper());
+
+		final int length = getDetailLength(detail);
+		int start = 0;
+
+		// Iterate over all of the unitName:number pairs and parse them into units.
+		while (start <= length) {
+
+			int end = indexOf(detail, '-', start);
+
+			if (end < 0) {
+				end = length;
+			}
+
+			final int separator = indexOf(detail, ':', start);
+			final int extra = separator < 0 ? -1 : indexOf(detail, ':', separator + 1);
+
+			// There should be exactly one ':' in the pair.
+			if (separator < 0 || separator > end || (extra >= 0 && extra < end)) {
+				throw new IllegalArgumentException("Line " + index + ": " + getDetail(detail, start, end)
+						+ " is not a valid unit pair. Unit pairs sould be 'unitName:number'.");
+			}
+
+			final int number;
+			try {
+				number = getInt(detail, separator + 1, end);
+			} catch (Exception e) {
+				throw new IllegalArgumentException("Line " + index + ": " + getDetail(detail, separator + 1, end)
+						+ " is not a valid number of " + getDetail(detail, start, separator) + ".");
+			}
+
+			final ModelUnit unit = getUnit(detail, start, separator);
+
+			for (int count = 0; count < number; count++) {
+				army.add(unit);
+			}
+
+			start = end + 1;
+		}
+
+		return army;
+	}
+
+	/**
+	 * Retrieves the {@link ModelUnit} whose name is part of a detail of the
+	 * current line.
+	 *
+	 * @param detail
+	 *            The index of the detail.
+	 * @param from
+	 *            The index in the detail of the first character of the name.
+	 * @param to
+	 *            The index in the detail after the last character of the name.
+	 * @return {@link ModelUnit}
+	 */
+	private ModelUnit getUnit(int detail, int from, int to) {
+
+		final UnitHelper units = game.getUnitHelper();
+
+		for (int tier = 0; tier < units.getNumberOfTiers(); tier++) {
+			if (isDetail(detail, from, to, units.getUnit(tier).name)) {
+				return units.getUnit(tier);
+			}
+		}
+
+		throw new IllegalArgumentException(
+				"Line " + index + ": " + getDetail(detail, from, to) + " is not a valid unit name.");
+	}
+
+	/**
+	 * Parses the details of the current line into a new {@link ModelContinent}
+	 * made up of {@link ModelCountry}s that have already been read.
+	 *
+	 * The details are:
+	 * <ol>
+	 * <li>The name of the {@link ModelContinent}</li>
+	 * <li>The hazard that plagues this {@link ModelContinent}</li>
+	 * <li>The names of all the countries in the continent separated by a
+	 * '-'</li>
+	 * </ol>
+	 */
+	private void parseContinent() {
+
+		// The correct number of elements in the details array.
+		final int CONTINENT_LENGTH = 4;
+
+		if (getNumberOfDetails() != CONTINENT_LENGTH) {
+			throw new IllegalArgumentException(
+					"Line " + index + ": Incorrect number of elements, there should be " + CONTINENT_LENGTH + ".");
+		}
+
+		final ModelContinent continent = new ModelContinent(ModelHazard.getByName(getDetail(2)), getDetail(1));
+
+		final int length = getDetailLength(3);
+		int start = 0;
+
+		// Iterate over the '-' separated names of the countries.
+		while (start <= length) {
+
+			int end = indexOf(3, '-', start);
+
+			if (end < 0) {
+				end = length;
+			}
+
+			continent.addCountry(getCountry(getDetail(3, start, end)));
+
+			start = end + 1;
+		}
+
+		continents.add(continent);
+
+	}
+
+	/**
+	 * Parses the details of the current line into link between two
+	 * {@link ModelCountry}s that have already been read.
+	 *
+	 * The details are:
+	 * <ol>
+	 * <li>The name of first country in the link.</li>
+	 * <li>The name of second country in the link.</li>
+	 * <li>The default state of the link.</li>
+	 * <li>The current state of the link.</li>
+	 * <li>The duration of the current state.</li>
+	 * </ol>
+	 */
+	private void parseLink() {
+
+		// The correct number of elements in the details array.
+		final int LINK_LENGTH = 6;
+
+		if (getNumberOfDetails() != LINK_LENGTH) {
+			throw new IllegalArgumentException(
+					"Line " + index + ": Incorrect number of elements, there should be " + LINK_LENGTH + ".");
+		}
+
+		final ModelCountry country1 = getCountry(getDetail(1));
+		final ModelCountry country2 = getCountry(getDetail(2));
+
+		final ModelLinkState defaultLinkState = parseLinkState(3);
+		final ModelLinkState currentLinkState = parseLinkState(4);
+
+		int duration;
+
+		try {
+			duration = getInt(5);
+		} catch (Exception ex) {
+			throw new IllegalArgumentException("Line " + index + ": " + getDetail(5) + " is not a duration.");
+		}
+
+		final ModelLink link = new ModelLink(defaultLinkState);
+
+		// If the duration is longer than zero rounds.
+		if (duration > 0) {
+			link.setState(currentLinkState, duration);
+		}
+
+		country1.addNeighbour(country2, link);
+
+	}
+
+	/**
+	 * Processes a detail of the current line into a {@link ModelLinkState}.
+	 *
+	 * @param detail
+	 *            The index of the detail that holds the name of the
+	 *            {@link ModelLinkState}.
+	 * @return {@link ModelLinkState}
+	 */
+	private ModelLinkState parseLinkState(int detail) {
+
+		for (ModelLinkState linkState : ModelLinkState.values()) {
+			if (isDetail(detail, linkState.name)) {
+				return linkState;
+			}
+		}
+
+		throw new IllegalArgumentException("Line " + index + ": " + getDetail(detail) + " is not a model link state.");
+	}
+
+	/**
+	 * Retrieves the {@link ModelCountry} with the specified name that has already
+	 * been read.
+	 *
+	 * @param name
+	 *            The name of the {@link ModelCountry}.
+	 * @return {@link ModelCountry}
+	 */
+	private ModelCountry getCountry(String name) {
+
+		final ModelCountry country = countries.get(name);
+
+		// Check the country is pre-defined in the file.
+		if (country == null) {
+			throw new IllegalArgumentException("Line " + index + ": " + name + " is not a defined country.");
+		}
+
+		return country;
+	}
+
+	/**
+	 * Processes a detail of the current line that holds a player number into a
+	 * {@link ModelPlayer}.
+	 *
+	 * @param detail
+	 *            The index of the detail that holds the player number.
+	 * @return {@link ModelPlayer} or <code>null</code> if there is no player.
+	 */
+	private ModelPlayer parsePlayer(int detail) {
+
+		if (isDetail(detail, "-")) {
+			return null;
+		}
+
+		int playerNumber;
+
+		try {
+			playerNumber = getInt(detail);
+		} catch (Exception e) {
+			throw new IllegalArgumentException(
+					"Line " + index + ": " + getDetail(detail) + " is not a valid player number.");
+		}
+
+		return game.getModelPlayer(playerNumber);
+	}
+
+}
@@ -0,0 +1,298 @@
+package peril.views.headless;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+import peril.ai.AI;
+
+/**
+ * Accumulates the totals of many {@link GameResult}s for each {@link AI} and
+ * each pairing of {@link AI}s. A {@link ResultAccumulator} is only used by the
+ * thread that plays its games so it is not synchronised, and the accumulators
+ * of each thread are {@link #merge(ResultAccumulator) merged} once all the
+ * games are finished. Only the totals are kept so the memory used does not grow
+ * with the number of games.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-23
+ * @version 1.01.01
+ *
+ * @see GameResult
+ *
+ */
+public final class ResultAccumulator {
+
+	/**
+	 * The totals of each {@link AI} by name.
+	 */
+	private final Map<String, Totals> ais;
+
+	/**
+	 * The totals of each pairing of {@link AI}s by name, where the pairing is
+	 * from the point of view of the first {@link AI}.
+	 */
+	private final Map<String, Totals> pairings;
+
+	/**
+	 * The number of games that have been accumulated.
+	 */
+	private int games;
+
+	/**
+	 * The number of games that ended without a winner.
+	 */
+	private int draws;
+
+	/**
+	 * Constructs a new empty {@link ResultAccumulator}.
+	 */
+	public ResultAccumulator() {
+		this.ais = new TreeMap<>();
+		this.pairings = new TreeMap<>();
+		this.games = 0;
+		this.draws = 0;
+	}
+
+	/**
+	 * Adds a {@link GameResult} to the totals of every {@link AI} that played it
+	 * and every pairing of those {@link AI}s.
+	 *
+	 * @param result
+	 *            {@link GameResult}
+	 */
+	public void add(GameResult result) {
+
+		games++;
+
+		if (result.isDraw()) {
+			draws++;
+		}
+
+		for (int player = 0; player < result.getNumberOfPlayers(); player++) {
+
+			final String name = result.getAIName(player);
+
+			ais.computeIfAbsent(name, key -> new Totals()).add(result, player);
+
+			for (int opponent = 0; opponent < result.getNumberOfPlayers(); opponent++) {
+				if (opponent != player) {
+					final String pairing = name + " v " + result.getAIName(opponent);
+					pairings.computeIfAbsent(pairing, key -> new Totals()).add(result, player);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds all the totals of another {@link ResultAccumulator} to this
+	 * {@link ResultAccumulator}.
+	 *
+	 * @param other
+	 *            {@link ResultAccumulator}
+	 */
+	public void merge(ResultAccumulator other) {
+
+		games += other.games;
+		draws += other.draws;
+
+		other.ais.forEach((name, totals) -> ais.computeIfAbsent(name, key -> new Totals()).merge(totals));
+		other.pairings.forEach((name, totals) -> pairings.computeIfAbsent(name, key -> new Totals()).merge(totals));
+	}
+
+	/**
+	 * Retrieves the number of games that have been accumulated.
+	 *
+	 * @return <code>int</code>
+	 */
+	public int getGames() {
+		return games;
+	}
+
+	/**
+	 * Retrieves the number of games that ended without a winner.
+	 *
+	 * @return <code>int</code>
+	 */
+	public int getDraws() {
+		return draws;
+	}
+
+	/**
+	 * Performs a task on the {@link Totals} of each {@link AI} in order of name.
+	 *
+	 * @param task
+	 *            {@link BiConsumer} of the {@link AI} name and its {@link Totals}.
+	 */
+	public void forEachAI(BiConsumer<String, Totals> task) {
+		ais.forEach(task);
+	}
+
+	/**
+	 * Performs a task on the {@link Totals} of each pairing of {@link AI}s in
+	 * order of name. A pairing is named <code>"first v second"</code> and its
+	 * {@link Totals} are those of the first {@link AI}.
+	 *
+	 * @param task
+	 *            {@link BiConsumer} of the pairing name and its {@link Totals}.
+	 */
+	public void forEachPairing(BiConsumer<String, Totals> task) {
+		pairings.forEach(task);
+	}
+
+	/**
+	 * The totals of the games played by one {@link AI} or pairing of {@link AI}s.
+	 *
+	 * @author Joshua_Eddy
+	 *
+	 * @since 2018-03-23
+	 * @version 1.01.01
+	 *
+	 */
+	public static final class Totals {
+
+		/**
+		 * The number of games played.
+		 */
+		private long games;
+
+		/**
+		 * The number of games won.
+		 */
+		private long wins;
+
+		/**
+		 * The number of games that ended without a winner.
+		 */
+		private long draws;
+
+		/**
+		 * The total number of rounds of all the games.
+		 */
+		private long rounds;
+
+		/**
+		 * The total number of units killed.
+		 */
+		private long unitsKilled;
+
+		/**
+		 * The total number of countries taken.
+		 */
+		private long countriesTaken;
+
+		/**
+		 * The total number of points spent.
+		 */
+		private long pointsSpent;
+
+		/**
+		 * Adds the statistics of one player of a {@link GameResult}.
+		 *
+		 * @param result
+		 *            {@link GameResult}
+		 * @param player
+		 *            The index of the player.
+		 */
+		private void add(GameResult result, int player) {
+			games++;
+			wins += result.winner == player ? 1 : 0;
+			draws += result.isDraw() ? 1 : 0;
+			rounds += result.rounds;
+			unitsKilled += result.getUnitsKilled(player);
+			countriesTaken += result.getCountriesTaken(player);
+			pointsSpent += result.getPointsSpent(player);
+		}
+
+		/**
+		 * Adds another {@link Totals} to this {@link Totals}.
+		 *
+		 * @param other
+		 *            {@link Totals}
+		 */
+		private void merge(Totals other) {
+			games += other.games;
+			wins += other.wins;
+			draws += other.draws;
+			rounds += other.rounds;
+			unitsKilled += other.unitsKilled;
+			countriesTaken += other.countriesTaken;
+			pointsSpent += other.pointsSpent;
+		}
+
+		/**
+		 * Retrieves the number of games played.
+		 *
+		 * @return <code>long</code>
+		 */
+		public long getGames() {
+			return games;
+		}
+
+		/**
+		 * Retrieves the number of games won.
+		 *
+		 * @return <code>long</code>
+		 */
+		public long getWins() {
+			return wins;
+		}
+
+		/**
+		 * Retrieves the number of games that ended without a winner.
+		 *
+		 * @return <code>long</code>
+		 */
+		public long getDraws() {
+			return draws;
+		}
+
+		/**
+		 * Retrieves the fraction of the games played that were won.
+		 *
+		 * @return <code>double</code> between zero and one.
+		 */
+		public double getWinRate() {
+			return games == 0 ? 0 : (double) wins / games;
+		}
+
+		/**
+		 * Retrieves the average number of rounds of the games played.
+		 *
+		 * @return <code>double</code>
+		 */
+		public double getAverageRounds() {
+			return games == 0 ? 0 : (double) rounds / games;
+		}
+
+		/**
+		 * Retrieves the average number of units killed per game.
+		 *
+		 * @return <code>double</code>
+		 */
+		public double getAverageUnitsKilled() {
+			return games == 0 ? 0 : (double) unitsKilled / games;
+		}
+
+		/**
+		 * Retrieves the average number of countries taken per game.
+		 *
+		 * @return <code>double</code>
+		 */
+		public double getAverageCountriesTaken() {
+			return games == 0 ? 0 : (double) countriesTaken / games;
+		}
+
+		/**
+		 * Retrieves the average number of points spent per game.
+		 *
+		 * @return <code>double</code>
+		 */
+		public double getAveragePointsSpent() {
+			return games == 0 ? 0 : (double) pointsSpent / games;
+		}
+
+	}
+
+}
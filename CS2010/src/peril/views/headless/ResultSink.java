@@ -0,0 +1,243 @@
+package peril.views.headless;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+
+/**
+ * Receives every {@link GameResult} of a tournament as soon as its game ends.
+ * The {@link EloRatings} are updated in the order the games finish and, if
+ * there is an output, one CSV row per player of each game is appended to it so
+ * that the results of a large tournament are never held in memory. A
+ * {@link ResultSink} is shared by all the threads of a tournament so
+ * {@link #record(GameResult)} is synchronised, which costs far less than
+ * playing a game.<br>
+ * <br>
+ * The games are numbered from the last game already in the output so that
+ * the rows of several tournaments appended to the same file never share a game
+ * number. Fields that contain a comma, quote or line break are quoted.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-23
+ * @version 1.01.02
+ *
+ * @see GameResult
+ * @see EloRatings
+ *
+ */
+public final class ResultSink implements AutoCloseable {
+
+	/**
+	 * The first line of the CSV output that names each column.
+	 */
+	public static final String HEADER = "game,map,rounds,player,ai,won,draw,units_killed,countries_taken,points_spent";
+
+	/**
+	 * The maximum number of bytes read from the end of an existing CSV file to
+	 * find its last row.
+	 */
+	private static final int TAIL_SIZE = 4096;
+
+	/**
+	 * The {@link EloRatings} of the {@link GameResult}s recorded so far.
+	 */
+	private final EloRatings ratings;
+
+	/**
+	 * The {@link Writer} that each row is written to or <code>null</code> if the
+	 * rows are not kept.
+	 */
+	private final Writer output;
+
+	/**
+	 * The number of {@link GameResult}s that have been recorded.
+	 */
+	private long games;
+
+	/**
+	 * The number of the last game that was in the output before this
+	 * {@link ResultSink} was constructed.
+	 */
+	private final long firstGame;
+
+	/**
+	 * Constructs a new {@link ResultSink} that writes each row to a
+	 * {@link Writer}.
+	 *
+	 * @param output
+	 *            The {@link Writer} that each row is written to or
+	 *            <code>null</code> if only the ratings are required.
+	 */
+	public ResultSink(Writer output) {
+		this(output, 0);
+	}
+
+	/**
+	 * Constructs a new {@link ResultSink} that writes each row to a
+	 * {@link Writer} and numbers the games after those already in the output.
+	 *
+	 * @param output
+	 *            The {@link Writer} that each row is written to or
+	 *            <code>null</code> if only the ratings are required.
+	 * @param firstGame
+	 *            The number of the last game already in the output.
+	 */
+	private ResultSink(Writer output, long firstGame) {
+		this.ratings = new EloRatings();
+		this.output = output;
+		this.games = 0;
+		this.firstGame = firstGame;
+	}
+
+	/**
+	 * Constructs a new {@link ResultSink} that appends each row to a CSV file. The
+	 * {@link #HEADER} is written if the file is new or empty, otherwise the games
+	 * are numbered after the last game in the file.
+	 *
+	 * @param file
+	 *            The CSV {@link File}.
+	 * @return {@link ResultSink}
+	 * @throws IOException
+	 *             Thrown if the file cannot be opened.
+	 */
+	public static ResultSink toFile(File file) throws IOException {
+
+		final boolean empty = !file.exists() || file.length() == 0;
+		final long lastGame = empty ? 0 : getLastGame(file);
+		final ResultSink sink = new ResultSink(new BufferedWriter(new FileWriter(file, true)), lastGame);
+
+		if (empty) {
+			sink.output.write(HEADER);
+			sink.output.write(System.lineSeparator());
+		}
+
+		return sink;
+	}
+
+	/**
+	 * Records the {@link GameResult} of a game that has just ended.
+	 *
+	 * @param result
+	 *            {@link GameResult}
+	 */
+	public synchronized void record(GameResult result) {
+
+		games++;
+		ratings.update(result);
+
+		if (output == null) {
+			return;
+		}
+
+		try {
+
+			for (int player = 0; player < result.getNumberOfPlayers(); player++) {
+
+				output.write((firstGame + games) + "," + quote(result.mapName) + "," + result.rounds + ","
+						+ (player + 1) + "," + quote(result.getAIName(player)) + ","
+						+ (result.winner == player ? 1 : 0) + "," + (result.isDraw() ? 1 : 0) + ","
+						+ result.getUnitsKilled(player) + "," + result.getCountriesTaken(player) + ","
+						+ result.getPointsSpent(player));
+				output.write(System.lineSeparator());
+			}
+
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to write the result of game " + (firstGame + games) + ".", e);
+		}
+	}
+
+	/**
+	 * Retrieves the {@link EloRatings} of the {@link GameResult}s recorded so
+	 * far.
+	 *
+	 * @return {@link EloRatings}
+	 */
+	public synchronized EloRatings getRatings() {
+		return ratings;
+	}
+
+	/**
+	 * Retrieves the number of {@link GameResult}s that have been recorded.
+	 *
+	 * @return <code>long</code>
+	 */
+	public synchronized long getGames() {
+		return games;
+	}
+
+	/**
+	 * Flushes and closes the output.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (output != null) {
+			output.close();
+		}
+	}
+
+	/**
+	 * Quotes a field of a row if it contains a comma, quote or line break. Any
+	 * quotes in the field are doubled.
+	 *
+	 * @param field
+	 *            The field.
+	 * @return The field as it is written to the CSV output.
+	 */
+	static String quote(String field) {
+
+		if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+			return field;
+		}
+
+		return '"' + field.replace("\"", "\"\"") + '"';
+	}
+
+	/**
+	 * Retrieves the number of the last game in an existing CSV file by reading
+	 * the game column of its last row.
+	 *
+	 * @param file
+	 *            The CSV {@link File}.
+	 * @return The number of the last game or <code>0</code> if the file has no
+	 *         rows.
+	 * @throws IOException
+	 *             Thrown if the file cannot be read.
+	 */
+	private static long getLastGame(File file) throws IOException {
+
+		try (RandomAccessFile reader = new RandomAccessFile(file, "r")) {
+
+			final int length = (int) Math.min(TAIL_SIZE, reader.length());
+			final byte[] tail = new byte[length];
+
+			reader.seek(reader.length() - length);
+			reader.readFully(tail);
+
+			// Skip the line break that ends the last row.
+			int end = length;
+			while (end > 0 && (tail[end - 1] == '\n' || tail[end - 1] == '\r')) {
+				end--;
+			}
+
+			int start = end;
+			while (start > 0 && tail[start - 1] != '\n') {
+				start--;
+			}
+
+			final String row = new String(tail, start, end - start, "UTF-8");
+			final int comma = row.indexOf(',');
+
+			try {
+				return Long.parseLong(comma < 0 ? row : row.substring(0, comma));
+			} catch (NumberFormatException e) {
+				// Only the header has been written.
+				return 0;
+			}
+		}
+	}
+
+}
@@ -9,6 +9,7 @@ import java.util.function.Consumer;
 import org.newdawn.slick.AppGameContainer;
 import org.newdawn.slick.Color;
 import org.newdawn.slick.GameContainer;
+import org.newdawn.slick.Graphics;
 import org.newdawn.slick.Image;
 import org.newdawn.slick.SlickException;
 import org.newdawn.slick.state.GameState;
@@ -47,7 +48,7 @@ import peril.views.slick.util.Point;
  * @author Joshua_Eddy, Joseph Rolli
  * 
  * @since 2018-03-07
- * @version 1.01.14
+ * @version 1.01.18
  * 
  * @see StateBasedGame
  * @see View
@@ -111,6 +112,12 @@ public final class SlickGame extends StateBasedGame implements View {
 	 */
 	private GameController game;
 
+	/**
+	 * The milliseconds that have passed since the AI was last submitted to the
+	 * simulation.
+	 */
+	private int elapsed;
+
 	/**
 	 * Constructs a new {@link SlickGame}.
 	 * 
@@ -123,6 +130,7 @@ public final class SlickGame extends StateBasedGame implements View {
 		this.playerIcons = new HashMap<>();
 		this.colors = new Color[] { Color.red, Color.blue, Color.green, Color.pink.multiply(Color.pink) };
 		this.game = null;
+		this.elapsed = 0;
 		this.modelView = new SlickModelView();
 
 		// Construct the container for the game as a Slick2D state based game.
@@ -171,6 +179,53 @@ public final class SlickGame extends StateBasedGame implements View {
 		container.setVSync(true);
 	}
 
+	/**
+	 * Waits for the simulation before the input events are handled.
+	 */
+	@Override
+	public void inputStarted() {
+		game.getSimulation().await();
+	}
+
+	/**
+	 * Waits for the simulation before the {@link InteractiveState} is updated.
+	 */
+	@Override
+	protected void preUpdateState(GameContainer container, int delta) throws SlickException {
+		game.getSimulation().await();
+	}
+
+	/**
+	 * Submits the AI to the simulation if the game will not be rendered.
+	 * Otherwise it is submitted after rendering.
+	 */
+	@Override
+	protected void postUpdateState(GameContainer container, int delta) throws SlickException {
+
+		elapsed += delta;
+
+		if (!container.hasFocus() && !container.getAlwaysRender()) {
+			simulateAI();
+		}
+	}
+
+	/**
+	 * Waits for the simulation before the {@link InteractiveState} is rendered.
+	 */
+	@Override
+	protected void preRenderState(GameContainer container, Graphics g) throws SlickException {
+		game.getSimulation().await();
+	}
+
+	/**
+	 * Submits the AI to the simulation so that it is processed while the frame is
+	 * displayed.
+	 */
+	@Override
+	protected void postRenderState(GameContainer container, Graphics g) throws SlickException {
+		simulateAI();
+	}
+
 	/**
 	 * Set the music on or off based on the specified boolean value.
 	 * 
@@ -324,6 +379,7 @@ public final class SlickGame extends StateBasedGame implements View {
 		final SlickFortify movement = new SlickFortify(game, 5, game.getFortify());
 		final Credits credits = new Credits(game, 8);
 		final Instructions help = new Instructions(game, 15);
+		final ReplayViewer replay = new ReplayViewer(game, 9);
 
 		// Subscribe the core game states to the board
 		final ModelBoard board = game.getModelBoard();
@@ -334,7 +390,7 @@ public final class SlickGame extends StateBasedGame implements View {
 
 		// Add all the states to the state helper.
 		this.states = new StateHelper(opening, mainMenu, combat, reinforcement, setup, movement, end, loadingScreen,
-				playerSelection, credits, help);
+				playerSelection, credits, help, replay);
 
 		// Set the containers that visual elements will be loaded into.
 
@@ -355,6 +411,7 @@ public final class SlickGame extends StateBasedGame implements View {
 		containers.add(upgradeMenu);
 		containers.add(credits);
 		containers.add(help);
+		containers.add(replay);
 
 		// User the containers to create the IO helper.
 		this.io = new IOHelper(game, containers);
@@ -385,6 +442,11 @@ public final class SlickGame extends StateBasedGame implements View {
 	 */
 	public void initPlayers(String playersPath) {
 
+		// Decode all the icons at once.
+		for (int index = 1; index <= PlayerHelper.MAX_PLAYERS; index++) {
+			ImageReader.prefetch(playersPath + "player" + index + "Icon.png");
+		}
+
 		for (int index = 1; index <= PlayerHelper.MAX_PLAYERS; index++) {
 
 			String path = playersPath + "player" + index + "Icon.png";
@@ -412,10 +474,12 @@ public final class SlickGame extends StateBasedGame implements View {
 	}
 
 	/**
-	 * Exits the game using {@link AppGameContainer#exit()}.
+	 * Exits the game using {@link AppGameContainer#exit()} once any saves that are
+	 * being written have finished.
 	 */
 	@Override
 	public void exit() {
+		io.saves.shutdown();
 		agc.exit();
 	}
 
@@ -432,7 +496,7 @@ public final class SlickGame extends StateBasedGame implements View {
 	 */
 	@Override
 	public void updateChallenges() {
-		menus.refreshChallenges();
+		modelView.onRenderThread(menus, MenuHelper::refreshChallenges);
 	}
 
 	/**
@@ -449,11 +513,14 @@ public final class SlickGame extends StateBasedGame implements View {
 	@Override
 	public void showToolTip(String text) {
 
-		if (getCurrentState() instanceof CoreGameState) {
-			getCurrentState().showToolTip(text, new Point(410, 100));
-		} else {
-			getCurrentState().showToolTip(text, new Point(0, 0));
-		}
+		// The font of a tool tip is created on the thread that renders the game.
+		modelView.onRenderThread(text, message -> {
+			if (getCurrentState() instanceof CoreGameState) {
+				getCurrentState().showToolTip(message, new Point(410, 100));
+			} else {
+				getCurrentState().showToolTip(message, new Point(0, 0));
+			}
+		});
 	}
 
 	/**
@@ -769,6 +836,17 @@ public final class SlickGame extends StateBasedGame implements View {
 	public void enterHelp() {
 		enterState(states.instructions);
 	}
+
+	@Override
+	public void enterReplay() {
+		states.replay.load();
+		enterState(states.replay);
+	}
+
+	@Override
+	public void stepReplay(int rounds) {
+		states.replay.step(rounds);
+	}
 	
 
 	@Override
@@ -776,6 +854,15 @@ public final class SlickGame extends StateBasedGame implements View {
 		menus.blockLink();		
 	}
 
+	/**
+	 * Submits the AI steps for the time that has passed since the last submission
+	 * to the simulation.
+	 */
+	private void simulateAI() {
+		game.simulateAI(elapsed);
+		elapsed = 0;
+	}
+
 	/**
 	 * Toggles the visibility of a {@link Menu} specified by its name.
 	 * 
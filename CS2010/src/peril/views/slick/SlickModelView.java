@@ -2,8 +2,10 @@ package peril.views.slick;
 
 import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import peril.GameController;
+import peril.concurrent.Action;
 import peril.model.ModelPlayer;
 import peril.model.board.ModelArmy;
 import peril.model.board.ModelBoard;
@@ -31,7 +33,7 @@ import peril.views.slick.states.gameStates.CoreGameState;
  * @author Joshua_Eddy, Joseph_Rolli
  * 
  * @since 2018-02-28
- * @version 1.01.01
+ * @version 1.01.02
  * 
  * @see ModelView
  * @see View
@@ -90,6 +92,12 @@ public final class SlickModelView implements ModelView {
 	 */
 	private boolean isInitialised;
 
+	/**
+	 * The {@link GameController} this {@link SlickModelView} was initialised with
+	 * or <code>null</code> if it has not been initialised.
+	 */
+	private GameController game;
+
 	/**
 	 * Constructs a new {@link SlickModelView}.
 	 */
@@ -104,6 +112,7 @@ public final class SlickModelView implements ModelView {
 		units = new IdentityHashMap<>();
 		links = new IdentityHashMap<>();
 		isInitialised = false;
+		game = null;
 	}
 
 	/**
@@ -163,6 +172,7 @@ public final class SlickModelView implements ModelView {
 
 		if (!isInitialised) {
 			isInitialised = true;
+			game = gc;
 
 			// When this is initialised add the board.
 			addBoard(new SlickBoard(gc.getModelBoard(), this));
@@ -178,6 +188,26 @@ public final class SlickModelView implements ModelView {
 		}
 	}
 
+	/**
+	 * Performs a task that uses OpenGL, such as creating an image or a font, on the
+	 * thread that renders the game. Only that thread can use OpenGL, so a task
+	 * from the simulation thread is transferred to it and performed before its
+	 * next update. A task from any other thread is performed immediately.
+	 * 
+	 * @param object
+	 *            The object the task is performed on.
+	 * @param task
+	 *            The task.
+	 */
+	public <T> void onRenderThread(T object, Consumer<T> task) {
+
+		if (game != null && game.getSimulation().isSimulationThread()) {
+			game.getProcessTransfer().transfer(new Action<T>(object, task));
+		} else {
+			task.accept(object);
+		}
+	}
+
 	@Override
 	public void addUnit(Object unit) {
 		checkInitialised();
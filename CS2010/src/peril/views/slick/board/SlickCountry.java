@@ -23,7 +23,7 @@ import peril.views.slick.util.Region;
  * @author Joshua_Eddy, James_Rowntree
  * 
  * @since 2018-02-19
- * @version 1.01.02
+ * @version 1.01.03
  * 
  * @see Clickable
  * @see Observer
@@ -107,13 +107,14 @@ public final class SlickCountry extends Clickable implements Observer {
 	}
 
 	/**
-	 * Changes the {@link Color} of this {@link SlickCountry}.
+	 * Changes the {@link Color} of this {@link SlickCountry}. The new image is
+	 * created on the thread that renders the game.
 	 * 
 	 * @param newColor
 	 *            The new {@link Color}.
 	 */
 	public void changeColour(Color newColor) {
-		this.swapImage(getRegion().convert(newColor));
+		view.onRenderThread(newColor, colour -> swapImage(getRegion().convert(colour)));
 	}
 
 	/**
@@ -135,7 +136,8 @@ public final class SlickCountry extends Clickable implements Observer {
 				updateRuler(update);
 				break;
 			case "hazard":
-				updateHazard(update);
+				// The hazard icon is read from an image.
+				view.onRenderThread(update, this::updateHazard);
 				break;
 			case "neighbours":
 				break;
@@ -11,7 +11,7 @@ import peril.views.slick.io.ImageReader;
  * @author Joshua_Eddy
  * 
  * @since 2018-02-19
- * @version 1.01.02
+ * @version 1.01.03
  * 
  * @see ModelHazard
  *
@@ -21,7 +21,7 @@ public enum SlickHazard {
 	/**
 	 * The visual representation of {@link ModelHazard#VOLCANIC_ERUPTION}.
 	 */
-	VOLCANIC_ERUPTION(ModelHazard.VOLCANIC_ERUPTION) {
+	VOLCANIC_ERUPTION(ModelHazard.VOLCANIC_ERUPTION, "volcanoIcon.png") {
 
 		/**
 		 * The {@link Image} icon of an {@link SlickHazard#VOLCANIC_ERUPTION}.
@@ -46,14 +46,14 @@ public enum SlickHazard {
 		 */
 		@Override
 		protected void initIcon(String uiPath) {
-			icon = ImageReader.getImage(uiPath + "volcanoIcon.png").getScaledCopy(WIDTH, HEIGHT);
+			icon = readIcon(uiPath);
 		}
 
 	},
 	/**
 	 * The visual representation of {@link ModelHazard#TORNADO}.
 	 */
-	TORNADO(ModelHazard.TORNADO) {
+	TORNADO(ModelHazard.TORNADO, "tornadoIcon.png") {
 
 		/**
 		 * The {@link Image} icon of an {@link SlickHazard#TORNADO}.
@@ -78,13 +78,13 @@ public enum SlickHazard {
 		 */
 		@Override
 		protected void initIcon(String uiPath) {
-			icon = ImageReader.getImage(uiPath + "tornadoIcon.png").getScaledCopy(WIDTH, HEIGHT);
+			icon = readIcon(uiPath);
 		}
 	},
 	/**
 	 * The visual representation of {@link ModelHazard#HURRICANE}.
 	 */
-	HURRICANE(ModelHazard.HURRICANE) {
+	HURRICANE(ModelHazard.HURRICANE, "hurricaneIcon.png") {
 		/**
 		 * The {@link Image} icon of an {@link SlickHazard#HURRICANE}.
 		 */
@@ -108,13 +108,13 @@ public enum SlickHazard {
 		 */
 		@Override
 		protected void initIcon(String uiPath) {
-			icon = ImageReader.getImage(uiPath + "hurricaneIcon.png").getScaledCopy(WIDTH, HEIGHT);
+			icon = readIcon(uiPath);
 		}
 	},
 	/**
 	 * The visual representation of {@link ModelHazard#TSUNAMI}.
 	 */
-	TSUNAMI(ModelHazard.TSUNAMI) {
+	TSUNAMI(ModelHazard.TSUNAMI, "tsunamiIcon.png") {
 
 		/**
 		 * The {@link Image} icon of an {@link SlickHazard#TSUNAMI}.
@@ -139,7 +139,7 @@ public enum SlickHazard {
 		 */
 		@Override
 		protected void initIcon(String uiPath) {
-			icon = ImageReader.getImage(uiPath + "tsunamiIcon.png").getScaledCopy(WIDTH, HEIGHT);
+			icon = readIcon(uiPath);
 		}
 	};
 
@@ -158,15 +158,23 @@ public enum SlickHazard {
 	 */
 	public final ModelHazard model;
 
+	/**
+	 * The file name of the {@link Image} icon of this {@link SlickHazard}.
+	 */
+	private final String iconName;
+
 	/**
 	 * Constructs an {@link SlickHazard}.
 	 * 
 	 * @param model
 	 *            The {@link ModelHazard} this {@link SlickHazard} displays to the
 	 *            user.
+	 * @param iconName
+	 *            The file name of the {@link Image} icon.
 	 */
-	private SlickHazard(ModelHazard model) {
+	private SlickHazard(ModelHazard model, String iconName) {
 		this.model = model;
+		this.iconName = iconName;
 	}
 
 	/**
@@ -177,6 +185,11 @@ public enum SlickHazard {
 	 */
 	public static void initIcons(String harazrdsPath) {
 
+		// Decode all the icons at once.
+		for (SlickHazard hazard : SlickHazard.values()) {
+			ImageReader.prefetch(harazrdsPath + hazard.iconName);
+		}
+
 		for (SlickHazard hazard : SlickHazard.values()) {
 			hazard.initIcon(harazrdsPath);
 		}
@@ -197,4 +210,16 @@ public enum SlickHazard {
 	 *            The path to the folder with the icon {@link Image} files in.
 	 */
 	protected abstract void initIcon(String uiPath);
+
+	/**
+	 * Reads the {@link Image} icon of this {@link SlickHazard} scaled to the size
+	 * of an icon.
+	 * 
+	 * @param uiPath
+	 *            The path to the folder with the icon {@link Image} files in.
+	 * @return {@link Image}
+	 */
+	protected final Image readIcon(String uiPath) {
+		return ImageReader.getImage(uiPath + iconName).getScaledCopy(WIDTH, HEIGHT);
+	}
 }
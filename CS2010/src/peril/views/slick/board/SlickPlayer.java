@@ -3,6 +3,7 @@ package peril.views.slick.board;
 import org.newdawn.slick.Color;
 
 import peril.ai.AI;
+import peril.helpers.UnitHelper;
 import peril.model.ModelPlayer;
 import peril.views.slick.util.Clickable;
 import peril.views.slick.util.Point;
@@ -13,7 +14,7 @@ import peril.views.slick.util.Point;
  * @author Joshua_Eddy, Ezekiel_Trinidad, Joseph_Rolli
  * 
  * @since 2018-02-19
- * @version 1.01.02
+ * @version 1.01.03
  * 
  * @see Clickable
  *
@@ -41,11 +42,13 @@ public final class SlickPlayer extends Clickable {
 	 *            {@link SlickCountry}s.
 	 * @param ai
 	 *            The {@link AI} that controls this {@link SlickPlayer}.
+	 * @param unitHelper
+	 *            The {@link UnitHelper} that holds the units of the game.
 	 */
-	public SlickPlayer(int number, Color color, AI ai) {
+	public SlickPlayer(int number, Color color, AI ai, UnitHelper unitHelper) {
 		super();
 		setPosition(new Point(20, 80));
-		this.model = new ModelPlayer(number, ai);
+		this.model = new ModelPlayer(number, ai, unitHelper);
 		this.color = color;
 	}
 
@@ -10,7 +10,7 @@ import peril.views.slick.util.Point;
  * @author Joshua_Eddy
  * 
  * @since 2018-02-23
- * @version 1.01.01
+ * @version 1.01.02
  * 
  * @see Component
  *
@@ -123,6 +123,22 @@ public final class ProgressBar implements Component {
 		progress++;
 	}
 
+	/**
+	 * Sets the progress of the {@link ProgressBar}, which cannot be more than the
+	 * total.
+	 * 
+	 * @param progress
+	 *            The new progress.
+	 */
+	public void setProgress(int progress) {
+
+		if (progress < 0) {
+			throw new IllegalArgumentException("Progress cannot be negative.");
+		}
+
+		this.progress = Math.min(progress, total);
+	}
+
 	/**
 	 * Retrieves the height of the {@link ProgressBar}.
 	 * 
@@ -148,8 +164,9 @@ public final class ProgressBar implements Component {
 	@Override
 	public void draw(Frame frame) {
 
-		// Calculate the current progress on screen
-		int currentProgress = (progress * width) / total;
+		// Calculate the current progress on screen, the total may be a large number
+		// of bytes.
+		int currentProgress = total == 0 ? 0 : (int) (((long) progress * width) / total);
 
 		// Draw the empty bar
 		frame.drawRect(position.x, position.y, width, height);
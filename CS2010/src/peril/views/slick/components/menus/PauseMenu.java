@@ -5,8 +5,10 @@ import org.newdawn.slick.Input;
 
 import peril.GameController;
 import peril.ai.AI;
-import peril.io.MapWriter;
+import peril.helpers.AIHelper;
+import peril.concurrent.Action;
 import peril.io.SaveFile;
+import peril.io.SaveIndex;
 import peril.views.slick.EventListener;
 import peril.views.slick.Frame;
 import peril.views.slick.components.Component;
@@ -23,7 +25,7 @@ import peril.views.slick.util.Region;
  * @author Ezekiel_Trinidad, Joshua_Eddy
  * 
  * @since 2018-03-15
- * @version 1.01.05
+ * @version 1.01.09
  * 
  * @see Menu
  *
@@ -56,7 +58,7 @@ public final class PauseMenu extends Menu {
 	 * The {@link VisualList} containing the different {@link AI} speeds available
 	 * for the user to select.
 	 */
-	private final VisualList<Integer> aiSpeeds;
+	private final VisualList<AISpeed> aiSpeeds;
 
 	/**
 	 * Holds the id of the save {@link Button}.
@@ -252,7 +254,7 @@ public final class PauseMenu extends Menu {
 				aiSpeeds.click(mouse);
 
 				// If the user has selected the max AI speed warn them.
-				if (aiSpeeds.getSelected() == AI.MAX_SPEED) {
+				if (aiSpeeds.getSelected().speed <= AI.MAX_SPEED) {
 					showAISpeedWarning();
 				}
 
@@ -273,7 +275,7 @@ public final class PauseMenu extends Menu {
 						aiSpeeds.up();
 
 						// If the user has selected the max AI speed warn them.
-						if (aiSpeeds.getSelected() == AI.MAX_SPEED) {
+						if (aiSpeeds.getSelected().speed <= AI.MAX_SPEED) {
 							showAISpeedWarning();
 						}
 
@@ -282,7 +284,7 @@ public final class PauseMenu extends Menu {
 						aiSpeeds.down();
 
 						// If the user has selected the max AI speed warn them.
-						if (aiSpeeds.getSelected() == AI.MAX_SPEED) {
+						if (aiSpeeds.getSelected().speed <= AI.MAX_SPEED) {
 							showAISpeedWarning();
 						}
 
@@ -359,25 +361,45 @@ public final class PauseMenu extends Menu {
 	 */
 	public void refreshSaveFiles() {
 
+		final String mapPath = game.getDirectory().asMapPath(game.getModelBoard().getName());
+		final SaveIndex index = SaveIndex.read(mapPath);
+
 		saveFiles.clear();
 
-		addSaveFile(SaveFile.ONE);
-		addSaveFile(SaveFile.TWO);
-		addSaveFile(SaveFile.THREE);
+		addSaveFile(SaveFile.ONE, mapPath, index);
+		addSaveFile(SaveFile.TWO, mapPath, index);
+		addSaveFile(SaveFile.THREE, mapPath, index);
 
 		saveFiles.init();
 
 	}
 
 	/**
-	 * Saves the current state of the game.
+	 * Saves the current state of the game. The game is captured now and written in
+	 * the background, then the user is told on the game thread once the file has
+	 * been written.
 	 */
 	public void save() {
 
+		final SaveFile file = saveFiles.getSelected();
+
 		// Save the current state of the game
-		new MapWriter(game, saveFiles.getSelected()).write();
+		slick.io.saveBoard(game, file, saved -> game.getProcessTransfer()
+				.transfer(new Action<>(this, menu -> menu.saved(file, saved))));
 
-		slick.showToolTip("Game Saved [" + saveFiles.getSelected().name + "]");
+	}
+
+	/**
+	 * Tells the user whether a save was written and refreshes the save files.
+	 * 
+	 * @param file
+	 *            The {@link SaveFile} that was saved to.
+	 * @param saved
+	 *            Whether the file was written.
+	 */
+	private void saved(SaveFile file, boolean saved) {
+
+		slick.showToolTip((saved ? "Game Saved [" : "Failed to save [") + file.name + "]");
 
 		refreshSaveFiles();
 
@@ -416,7 +438,9 @@ public final class PauseMenu extends Menu {
 
 		final int currentSpeed = game.getAIs().iterator().next().getSpeed();
 
-		aiSpeeds.setSelected((Integer) currentSpeed);
+		// Only the turbo speeds perform more than one step each frame.
+		aiSpeeds.setSelected(new AISpeed(currentSpeed,
+				currentSpeed == AI.SIMULATION_SPEED ? game.getAIs().getSteps() : AIHelper.NORMAL_STEPS));
 
 	}
 
@@ -426,6 +450,11 @@ public final class PauseMenu extends Menu {
 	 */
 	private void populateAISpeeds() {
 
+		// The turbo speeds, as multiples of the slowest speed at 60 frames per second.
+		aiSpeeds.add("Max", new AISpeed(AI.SIMULATION_SPEED, Integer.MAX_VALUE));
+		aiSpeeds.add("400x", new AISpeed(AI.SIMULATION_SPEED, 8));
+		aiSpeeds.add("40x", new AISpeed(AI.SIMULATION_SPEED, AIHelper.NORMAL_STEPS));
+
 		final int multipler = 4;
 
 		for (int index = 0; index < 4; index++) {
@@ -433,7 +462,7 @@ public final class PauseMenu extends Menu {
 			final int speed = (int) (AI.MAX_SPEED * Math.pow(2, index));
 			final String text = Integer.toString(multipler - index) + "x";
 
-			aiSpeeds.add(text, speed);
+			aiSpeeds.add(text, new AISpeed(speed, AIHelper.NORMAL_STEPS));
 
 		}
 
@@ -459,8 +488,10 @@ public final class PauseMenu extends Menu {
 	 */
 	private void changeAISpeed() {
 
-		final int newSpeed = aiSpeeds.getSelected();
-		game.getAIs().forEach(ai -> ai.setSpeed(newSpeed));
+		final AISpeed newSpeed = aiSpeeds.getSelected();
+
+		game.getAIs().setSpeed(newSpeed.speed);
+		game.getAIs().setSteps(newSpeed.steps);
 
 	}
 
@@ -551,16 +582,18 @@ public final class PauseMenu extends Menu {
 	 * 
 	 * @param file
 	 *            The {@link SaveFile}
+	 * @param mapPath
+	 *            The path to the directory of the current map.
+	 * @param index
+	 *            The {@link SaveIndex} of the directory of the current map.
 	 */
-	private void addSaveFile(SaveFile file) {
+	private void addSaveFile(SaveFile file, String mapPath, SaveIndex index) {
 
-		final String mapPath = game.getDirectory().asMapPath(game.getModelBoard().getName());
+		final String text = file.describe(mapPath, index);
 
 		// If the save file does not currently exist display to the user that it is
 		// empty
-		final String text = file.name + (file.existsIn(mapPath) ? "" : " - Empty");
-
-		saveFiles.add(text, file);
+		saveFiles.add(text != null ? text : file.name + " - Empty", file);
 	}
 
 	/**
@@ -599,4 +632,62 @@ public final class PauseMenu extends Menu {
 			this.name = name;
 		}
 	}
+
+	/**
+	 * A speed that the user can select for the {@link AI}s. The turbo speeds run
+	 * the {@link AI}s at {@link AI#SIMULATION_SPEED} and perform several steps
+	 * each frame.
+	 * 
+	 * @author Joshua_Eddy
+	 * 
+	 * @since 2018-03-27
+	 * @version 1.01.01
+	 *
+	 */
+	private static final class AISpeed {
+
+		/**
+		 * The speed of the {@link AI}s.
+		 * 
+		 * @see AI#setSpeed(int)
+		 */
+		public final int speed;
+
+		/**
+		 * The maximum number of {@link AI} steps performed each frame.
+		 * 
+		 * @see AIHelper#setSteps(int)
+		 */
+		public final int steps;
+
+		/**
+		 * Constructs a new {@link AISpeed}.
+		 * 
+		 * @param speed
+		 *            The speed of the {@link AI}s.
+		 * @param steps
+		 *            The maximum number of {@link AI} steps performed each frame.
+		 */
+		public AISpeed(int speed, int steps) {
+			this.speed = speed;
+			this.steps = steps;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (!(o instanceof AISpeed)) {
+				return false;
+			}
+
+			final AISpeed other = (AISpeed) o;
+
+			return speed == other.speed && steps == other.steps;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * speed + steps;
+		}
+	}
 }
@@ -39,7 +39,7 @@ import peril.views.slick.util.Region;
  * @author Joseph_Rolli, Joshua_Eddy
  * 
  * @since 2018-03-15
- * @version 1.01.04
+ * @version 1.01.07
  *
  * @see Menu
  * @see UnitTrader
@@ -312,7 +312,9 @@ public final class UpgradeMenu extends Menu {
 
 			ruler.spendPoints(PointHelper.BLOCKADE_COST);
 
-			neighbour.getLinkTo(selected).setState(ModelLinkState.BLOCKADE, 3);
+			final int duration = 3;
+
+			neighbour.getLinkTo(selected).setState(ModelLinkState.BLOCKADE, duration);
 
 			populatesUpgrades();
 
@@ -336,7 +338,7 @@ public final class UpgradeMenu extends Menu {
 		}
 
 		final ModelArmy army = selected.getArmy();
-		final UnitHelper helper = UnitHelper.getInstance();
+		final UnitHelper helper = game.getUnitHelper();
 		final Point armyPos = getArmyPosition();
 		final int interval = SlickUnit.WIDTH - 5;
 
@@ -425,7 +427,7 @@ public final class UpgradeMenu extends Menu {
 
 		final Point armyPos = getArmyPosition();
 		final ModelArmy army = selected.getArmy();
-		final UnitHelper helper = UnitHelper.getInstance();
+		final UnitHelper helper = game.getUnitHelper();
 		final int interval = SlickUnit.WIDTH - 5;
 		final int y = armyPos.y;
 
@@ -624,7 +626,7 @@ public final class UpgradeMenu extends Menu {
 						} else {
 
 							// Display the ratio of units.
-							final ModelUnit above = UnitHelper.getInstance().getUnitAbove(unit);
+							final ModelUnit above = game.getUnitHelper().getUnitAbove(unit);
 							final int aboveStrength = above.strength;
 							final int unitStrength = unit.strength;
 							final int ratio = aboveStrength / unitStrength;
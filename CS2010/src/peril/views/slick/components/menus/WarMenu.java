@@ -41,7 +41,7 @@ import peril.views.slick.util.Region;
  * @author Joshua_Eddy, Ezekiel_Trinidad
  * 
  * @since 2018-03-15
- * @version 1.01.06
+ * @version 1.01.07
  * 
  * @see Menu
  * @see Attack
@@ -611,7 +611,7 @@ public final class WarMenu extends Menu {
 	 * @author Joshua_Eddy
 	 *
 	 * @since 2018-02-23
-	 * @version 1.01.01
+	 * @version 1.01.02
 	 *
 	 * @see Image
 	 *
@@ -724,6 +724,11 @@ public final class WarMenu extends Menu {
 			this.redBox = box.convert(Color.red, 255);
 			this.greenBox = box.convert(Color.green, 255);
 
+			// Decode the images of all the values of a dice at once.
+			for (int index = 1; index <= 6; index++) {
+				ImageReader.prefetch(game.getDirectory().getDicePath() + "dice" + index + ".png");
+			}
+
 			// Iterate over all the values of a dice and import the dice's image.
 			for (int index = 1; index <= 6; index++) {
 
@@ -1,11 +1,13 @@
 package peril.views.slick.helpers;
 
 import java.util.Set;
+import java.util.function.Consumer;
 
 import peril.io.SaveFile;
 import peril.model.board.ModelBoard;
 import peril.GameController;
 import peril.io.MapWriter;
+import peril.io.SaveQueue;
 import peril.views.slick.Container;
 import peril.views.slick.SlickGame;
 import peril.views.slick.io.AssetReader;
@@ -18,7 +20,7 @@ import peril.views.slick.states.InteractiveState;
  * @author Joshua_Eddy
  * 
  * @since 2018-02-17
- * @version 1.01.01
+ * @version 1.01.03
  *
  * @see AssetReader
  * @see SlickGame
@@ -36,6 +38,11 @@ public final class IOHelper {
 	 */
 	public final AssetReader mainMenuLoader;
 
+	/**
+	 * The {@link SaveQueue} that writes the saves of the game in the background.
+	 */
+	public final SaveQueue saves;
+
 	/**
 	 * Constructs a new {@link IOHelper}.
 	 * 
@@ -49,20 +56,25 @@ public final class IOHelper {
 	public IOHelper(GameController game, Set<Container> containers) {
 		this.mainMenuLoader = new AssetReader(containers, "menu.txt", game);
 		this.gameLoader = new AssetReader(containers, "game.txt", game);
+		this.saves = new SaveQueue();
 	}
 
 	/**
 	 * Saves the {@link ModelBoard} from the {@link GameController} to a specified
-	 * {@link SaveFile}.
+	 * {@link SaveFile}. The game is captured immediately and the file is written
+	 * by {@link #saves}.
 	 * 
 	 * @param game
 	 *            The {@link GameController} that allows the {@link IOHelper} to
 	 *            interact with the game.
 	 * @param file
 	 *            The {@link SaveFile} that the game will be saved to.
+	 * @param onComplete
+	 *            Called on the save thread with whether the file was written. May
+	 *            be <code>null</code>.
 	 */
-	public void saveBoard(GameController game, SaveFile file) {
-		new MapWriter(game, file).write();
+	public void saveBoard(GameController game, SaveFile file, Consumer<Boolean> onComplete) {
+		new MapWriter(game, file).writeLater(saves, onComplete);
 	}
 
 }
@@ -17,6 +17,7 @@ import peril.views.slick.states.LoadingScreen;
 import peril.views.slick.states.MainMenu;
 import peril.views.slick.states.Opening;
 import peril.views.slick.states.PlayerSelection;
+import peril.views.slick.states.ReplayViewer;
 import peril.views.slick.states.gameStates.SlickAttack;
 import peril.views.slick.states.gameStates.CoreGameState;
 import peril.views.slick.states.gameStates.SlickFortify;
@@ -30,7 +31,7 @@ import peril.views.slick.states.gameStates.SlickSetup;
  * @author Joshua_Eddy
  * 
  * @since 2018-03-16
- * @version 1.01.04
+ * @version 1.01.05
  * 
  * @see InteractiveState
  * @see SlickGame
@@ -96,6 +97,11 @@ public final class StateHelper {
 	 */
 	public final Instructions instructions;
 
+	/**
+	 * The {@link ReplayViewer} that plays back the last game on the current map.
+	 */
+	public final ReplayViewer replay;
+
 	/**
 	 * Constructs a new {@link StateHelper}.
 	 * 
@@ -124,10 +130,12 @@ public final class StateHelper {
 	 *            The {@link Credits} page for this game.
 	 * @param instructions
 	 *            The {@link Instructions} for the game.
+	 * @param replay
+	 *            The {@link ReplayViewer} that plays back the last game.
 	 */
 	public StateHelper(Opening opening, MainMenu mainMenu, SlickAttack attack, SlickReinforce reinforce,
 			SlickSetup setup, SlickFortify fortify, EndState end, LoadingScreen loadingScreen,
-			PlayerSelection playerSelection, Credits credits, Instructions instructions) {
+			PlayerSelection playerSelection, Credits credits, Instructions instructions, ReplayViewer replay) {
 		this.opening = opening;
 		this.mainMenu = mainMenu;
 		this.end = end;
@@ -139,6 +147,7 @@ public final class StateHelper {
 		this.playerSelection = playerSelection;
 		this.credits = credits;
 		this.instructions = instructions;
+		this.replay = replay;
 	}
 
 	/**
@@ -167,6 +176,7 @@ public final class StateHelper {
 		game.addState(fortify);
 		game.addState(credits);
 		game.addState(instructions);
+		game.addState(replay);
 
 	}
 
@@ -23,7 +23,7 @@ import peril.views.slick.util.Viewable;
  * @author Joshua_Eddy
  * 
  * @since 2018-02-17
- * @version 1.01.02
+ * @version 1.01.04
  * 
  * @see Container
  * @see Image
@@ -104,11 +104,16 @@ public final class AssetReader extends FileParser {
 	@Override
 	public void parseLine() {
 
+		// Decode all the images of the file at once before the first line.
+		if (index == 0) {
+			prefetchImages();
+		}
+
 		// If there is another line to parse
 		if (!isFinished()) {
 
 			// The current line details.
-			final String[] details = lines[index].split(",");
+			final String[] details = getDetails();
 
 			// Distinguish which type of line the current line is.
 			switch (details[0]) {
@@ -127,6 +132,23 @@ public final class AssetReader extends FileParser {
 
 	}
 
+	/**
+	 * Starts decoding the image of every valid image and button line of the file
+	 * on the {@link ImageReader}'s worker threads.
+	 */
+	private void prefetchImages() {
+
+		for (index = 0; index < getLength(); index++) {
+			if (isDetail(0, IMAGE) && getNumberOfDetails() == 7) {
+				ImageReader.prefetch(directory.getUIPath() + getDetail(2));
+			} else if (isDetail(0, BUTTON) && getNumberOfDetails() == 9) {
+				ImageReader.prefetch(directory.getButtonsPath() + getDetail(3));
+			}
+		}
+
+		index = 0;
+	}
+
 	/**
 	 * Parses an {@link Viewable} and adds it to the necessary {@link Container}.
 	 * 
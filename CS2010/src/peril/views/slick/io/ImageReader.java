@@ -1,17 +1,38 @@
 package peril.views.slick.io;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.newdawn.slick.Color;
 import org.newdawn.slick.Image;
+import org.newdawn.slick.opengl.ImageData;
+import org.newdawn.slick.opengl.ImageDataFactory;
+import org.newdawn.slick.opengl.LoadableImageData;
+import org.newdawn.slick.util.ResourceLoader;
+
 import peril.views.slick.util.Region;
 
 /**
  * A function object that can reads an {@link Image} using a specified file
- * path. This object is used as a factory for {@link Image}s.
+ * path. This object is used as a factory for {@link Image}s.<br>
+ * <br>
+ * Image files that will be read soon can be {@link #prefetch(String...)
+ * prefetched}, which decodes them into pixel buffers on a pool of worker
+ * threads. When a prefetched {@link Image} is read only the upload of its
+ * pixels to a texture is performed on the calling thread, which must be the
+ * thread with the graphics context.
  * 
  * @author Joshua_Eddy
  * 
  * @since 2018-02-17
- * @version 1.01.01
+ * @version 1.01.04
  * 
  * @see Image
  * @see Region
@@ -20,6 +41,22 @@ import peril.views.slick.util.Region;
  */
 public class ImageReader {
 
+	/**
+	 * The pool of threads that decode the prefetched image files.
+	 */
+	private static final ExecutorService DECODERS = Executors
+			.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), task -> {
+				final Thread thread = new Thread(task, "Image decode");
+				thread.setDaemon(true);
+				return thread;
+			});
+
+	/**
+	 * The decoded pixels of the prefetched image files that have not been read yet
+	 * by their paths.
+	 */
+	private static final Map<String, Future<ImageData>> PREFETCHED = new ConcurrentHashMap<>();
+
 	/**
 	 * The path that denotes the image this {@link ImageReader} will read.
 	 */
@@ -45,9 +82,75 @@ public class ImageReader {
 
 		// Attempt to read the specified file and if there is an exception thrown return
 		// null.
+		final Future<ImageData> decoded = PREFETCHED.remove(path);
+
 		try {
-			return new Image(path);
 
+			// Only the upload of a prefetched image needs the graphics context.
+			return decoded != null ? new DecodedImage(decoded.get(), path) : new Image(path);
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (Exception e) {
+			System.out.println("Error: Image NOT Found.");
+			System.out.println(path);
+			return null;
+		}
+	}
+
+	/**
+	 * Decodes the image file specified by the path into its pixels without using
+	 * the graphics context, in the same way as the {@link Image} constructor.
+	 * 
+	 * @return The decoded {@link ImageData}
+	 * @throws IOException
+	 *             Thrown if the file cannot be read.
+	 */
+	private ImageData decodeImage() throws IOException {
+
+		final LoadableImageData data = ImageDataFactory.getImageDataFor(path);
+
+		// The ImageIO fallback only returns its pixels, it does not store them.
+		try (InputStream in = new BufferedInputStream(ResourceLoader.getResourceAsStream(path))) {
+			return new DecodedData(data, data.loadImage(in, false, null));
+		}
+	}
+
+	/**
+	 * Starts decoding image files on the worker threads so that they are ready
+	 * when they are read with {@link #getImage(String)}. An image file that is
+	 * prefetched should be read, as its pixels are held until it is.
+	 * 
+	 * @param paths
+	 *            The file paths of the images.
+	 */
+	public static void prefetch(String... paths) {
+		for (String path : paths) {
+			PREFETCHED.computeIfAbsent(path, key -> DECODERS.submit(() -> new ImageReader(key).decodeImage()));
+		}
+	}
+
+	/**
+	 * Retrieves the decoded pixels of an image without creating a texture for it,
+	 * which does not need the graphics context. If the image has been
+	 * {@link #prefetch(String...) prefetched} the decoded pixels are taken from the
+	 * worker thread, otherwise the image is decoded on the current thread.
+	 * 
+	 * @param path
+	 *            The file path of an image.
+	 * @return {@link ImageData} or <code>null</code> if the image could not be
+	 *         read.
+	 */
+	public static ImageData getImageData(String path) {
+
+		final Future<ImageData> decoded = PREFETCHED.remove(path);
+
+		try {
+			return decoded != null ? decoded.get() : new ImageReader(path).decodeImage();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
 		} catch (Exception e) {
 			System.out.println("Error: Image NOT Found.");
 			System.out.println(path);
@@ -80,4 +183,97 @@ public class ImageReader {
 		return new ImageReader(path).readImage();
 
 	}
-}
\ No newline at end of file
+
+	/**
+	 * An {@link Image} that is created from pixels that were decoded on a worker
+	 * thread, which keeps the file path as its resource reference like an
+	 * {@link Image} that is read directly from the file.
+	 * 
+	 * @author Joshua_Eddy
+	 * 
+	 * @since 2018-03-27
+	 * @version 1.01.01
+	 *
+	 */
+	private static final class DecodedImage extends Image {
+
+		/**
+		 * Constructs a new {@link DecodedImage}.
+		 * 
+		 * @param data
+		 *            The decoded {@link ImageData}.
+		 * @param path
+		 *            The path of the image file.
+		 */
+		private DecodedImage(ImageData data, String path) {
+			super(data);
+			this.ref = path;
+		}
+	}
+
+	/**
+	 * The {@link ImageData} of a decoded image, which holds the pixels that were
+	 * returned when the image was decoded.
+	 * 
+	 * @author Joshua_Eddy
+	 * 
+	 * @since 2018-03-27
+	 * @version 1.01.01
+	 *
+	 */
+	private static final class DecodedData implements ImageData {
+
+		/**
+		 * The {@link ImageData} that decoded the image.
+		 */
+		private final ImageData data;
+
+		/**
+		 * The decoded pixels of the image.
+		 */
+		private final ByteBuffer pixels;
+
+		/**
+		 * Constructs a new {@link DecodedData}.
+		 * 
+		 * @param data
+		 *            The {@link ImageData} that decoded the image.
+		 * @param pixels
+		 *            The decoded pixels of the image.
+		 */
+		private DecodedData(ImageData data, ByteBuffer pixels) {
+			this.data = data;
+			this.pixels = pixels;
+		}
+
+		@Override
+		public int getDepth() {
+			return data.getDepth();
+		}
+
+		@Override
+		public int getWidth() {
+			return data.getWidth();
+		}
+
+		@Override
+		public int getHeight() {
+			return data.getHeight();
+		}
+
+		@Override
+		public int getTexWidth() {
+			return data.getTexWidth();
+		}
+
+		@Override
+		public int getTexHeight() {
+			return data.getTexHeight();
+		}
+
+		@Override
+		public ByteBuffer getImageBufferData() {
+			return pixels;
+		}
+	}
+}
\ No newline at end of file
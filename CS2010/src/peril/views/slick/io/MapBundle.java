@@ -0,0 +1,500 @@
+package peril.views.slick.io;
+
+import java.io.BufferedInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import peril.io.BinarySave;
+import peril.io.SaveQueue;
+import peril.io.SaveSnapshot;
+import peril.views.slick.board.SlickContinent;
+import peril.views.slick.board.SlickCountry;
+import peril.views.slick.util.Point;
+import peril.views.slick.util.Region;
+
+/**
+ * The compiled {@link Region}s of the {@link SlickCountry}s and
+ * {@link SlickContinent}s of a map. Building these {@link Region}s requires
+ * every pixel of the map's countries image to be processed, so once they have
+ * been built their bits are stored with their bounding boxes in a bundle
+ * file in the map's folder. The bundle is keyed by a hash of the contents of
+ * the map's files, so it is only used while the map is unchanged and later
+ * loads of the map skip all of the pixel processing.<br>
+ * <br>
+ * Each {@link Region} is also keyed by what it was built from, the colour of a
+ * country or the names of the countries in a continent, so a save that
+ * differs from the map's default file builds the {@link Region}s that differ.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-27
+ * @version 1.01.02
+ *
+ * @see MapReader
+ * @see Region
+ *
+ */
+public final class MapBundle implements SaveSnapshot {
+
+	/**
+	 * The name of the bundle file in the map's folder.
+	 */
+	public static final String FILE_NAME = "map.bundle";
+
+	/**
+	 * The bytes at the start of every bundle.
+	 */
+	private static final int MAGIC = 0x5042444C;
+
+	/**
+	 * The version of the format the bundle is written in.
+	 */
+	private static final int VERSION = 2;
+
+	/**
+	 * The names of the files in the map's folder that the {@link Region}s are
+	 * built from.
+	 */
+	private static final String[] SOURCES = { "default.txt", "countries.png", "normal.png" };
+
+	/**
+	 * The path to the bundle file.
+	 */
+	private final String path;
+
+	/**
+	 * The hash of the contents of the map's files or <code>null</code> if they
+	 * could not be read, in which case the bundle is never read or written.
+	 */
+	private final byte[] hash;
+
+	/**
+	 * The {@link Mask}s of the countries by their names.
+	 */
+	private final Map<String, Mask> countries;
+
+	/**
+	 * The {@link Mask}s of the continents by their names.
+	 */
+	private final Map<String, Mask> continents;
+
+	/**
+	 * Whether a {@link Region} has been added since the bundle was read.
+	 */
+	private boolean changed;
+
+	/**
+	 * Constructs a new empty {@link MapBundle}.
+	 *
+	 * @param path
+	 *            The path to the bundle file.
+	 * @param hash
+	 *            The hash of the contents of the map's files.
+	 */
+	private MapBundle(String path, byte[] hash) {
+		this.path = path;
+		this.hash = hash;
+		this.countries = new LinkedHashMap<>();
+		this.continents = new LinkedHashMap<>();
+		this.changed = false;
+	}
+
+	/**
+	 * Reads the {@link MapBundle} of a map. If the bundle file does not exist, is
+	 * not valid or was compiled from different map files the {@link MapBundle}
+	 * is empty.
+	 *
+	 * @param mapPath
+	 *            The path to the map's folder.
+	 * @return {@link MapBundle}
+	 */
+	public static MapBundle read(String mapPath) {
+
+		final MapBundle bundle = new MapBundle(mapPath + FILE_NAME, hash(mapPath));
+
+		final File file = new File(bundle.path);
+
+		if (bundle.hash == null || !file.exists()) {
+			return bundle;
+		}
+
+		try (InputStream stream = new BufferedInputStream(new FileInputStream(file))) {
+
+			final DataInputStream in = new DataInputStream(stream);
+
+			if (in.readInt() != MAGIC || BinarySave.readVarint(in) != VERSION) {
+				return bundle;
+			}
+
+			final int length = BinarySave.readVarint(in);
+
+			if (length != bundle.hash.length) {
+				return bundle;
+			}
+
+			final byte[] compiledFrom = new byte[length];
+			in.readFully(compiledFrom);
+
+			// The map has changed since the bundle was compiled.
+			if (!Arrays.equals(compiledFrom, bundle.hash)) {
+				return bundle;
+			}
+
+			readMasks(in, bundle.countries);
+			readMasks(in, bundle.continents);
+
+		} catch (IOException e) {
+			bundle.countries.clear();
+			bundle.continents.clear();
+		}
+
+		return bundle;
+	}
+
+	/**
+	 * Retrieves whether this {@link MapBundle} holds no {@link Region}s.
+	 *
+	 * @return <code>boolean</code>
+	 */
+	public boolean isEmpty() {
+		return countries.isEmpty() && continents.isEmpty();
+	}
+
+	/**
+	 * Retrieves whether a {@link Region} has been added to this {@link MapBundle}
+	 * since it was read, in which case it should be written.
+	 *
+	 * @return <code>boolean</code>
+	 */
+	public boolean isChanged() {
+		return changed;
+	}
+
+	/**
+	 * Retrieves the compiled {@link Region} of a country.
+	 *
+	 * @param name
+	 *            The name of the country.
+	 * @param rgb
+	 *            The RGB value of the country in the countries image.
+	 * @return The {@link Region} or <code>null</code> if it has not been compiled.
+	 */
+	public Region getCountry(String name, int rgb) {
+		return get(countries, name, Integer.toString(rgb));
+	}
+
+	/**
+	 * Adds the {@link Region} of a country to this {@link MapBundle}.
+	 *
+	 * @param name
+	 *            The name of the country.
+	 * @param rgb
+	 *            The RGB value of the country in the countries image.
+	 * @param region
+	 *            The {@link Region} of the country.
+	 */
+	public void putCountry(String name, int rgb, Region region) {
+		put(countries, name, Integer.toString(rgb), region);
+	}
+
+	/**
+	 * Retrieves the compiled {@link Region} of a continent.
+	 *
+	 * @param name
+	 *            The name of the continent.
+	 * @param members
+	 *            The '-' separated names of the countries in the continent.
+	 * @return The {@link Region} or <code>null</code> if it has not been compiled.
+	 */
+	public Region getContinent(String name, String members) {
+		return get(continents, name, members);
+	}
+
+	/**
+	 * Adds the {@link Region} of a continent to this {@link MapBundle}.
+	 *
+	 * @param name
+	 *            The name of the continent.
+	 * @param members
+	 *            The '-' separated names of the countries in the continent.
+	 * @param region
+	 *            The {@link Region} of the continent.
+	 */
+	public void putContinent(String name, String members, Region region) {
+		put(continents, name, members, region);
+	}
+
+	/**
+	 * Writes this {@link MapBundle} to its file in the background if it has
+	 * changed.
+	 *
+	 * @param saves
+	 *            The {@link SaveQueue} that writes the file.
+	 */
+	public void writeLater(SaveQueue saves) {
+		if (changed && hash != null) {
+			saves.submit(path, this, null);
+			changed = false;
+		}
+	}
+
+	/**
+	 * Writes this {@link MapBundle}.
+	 */
+	@Override
+	public void writeTo(OutputStream stream) throws IOException {
+
+		final DataOutputStream out = new DataOutputStream(stream);
+
+		out.writeInt(MAGIC);
+		BinarySave.writeVarint(out, VERSION);
+		BinarySave.writeVarint(out, hash.length);
+		out.write(hash);
+
+		synchronized (this) {
+			writeMasks(out, countries);
+			writeMasks(out, continents);
+		}
+
+		out.flush();
+	}
+
+	/**
+	 * Retrieves a {@link Region} from a map of {@link Mask}s if it was compiled
+	 * from the same key.
+	 *
+	 * @param masks
+	 *            The {@link Mask}s by name.
+	 * @param name
+	 *            The name of the {@link Region}.
+	 * @param key
+	 *            What the {@link Region} is built from.
+	 * @return The {@link Region} or <code>null</code>.
+	 */
+	private synchronized Region get(Map<String, Mask> masks, String name, String key) {
+
+		final Mask mask = masks.get(name);
+
+		return mask != null && mask.key.equals(key) ? mask.toRegion() : null;
+	}
+
+	/**
+	 * Adds a {@link Region} to a map of {@link Mask}s.
+	 *
+	 * @param masks
+	 *            The {@link Mask}s by name.
+	 * @param name
+	 *            The name of the {@link Region}.
+	 * @param key
+	 *            What the {@link Region} is built from.
+	 * @param region
+	 *            {@link Region}
+	 */
+	private synchronized void put(Map<String, Mask> masks, String name, String key, Region region) {
+		masks.put(name, new Mask(key, region));
+		changed = true;
+	}
+
+	/**
+	 * Hashes the contents of the files in a map's folder that the {@link Region}s
+	 * are built from.
+	 *
+	 * @param mapPath
+	 *            The path to the map's folder.
+	 * @return The hash or <code>null</code> if a file could not be read.
+	 */
+	private static byte[] hash(String mapPath) {
+
+		final MessageDigest digest;
+
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e.getMessage());
+		}
+
+		for (String source : SOURCES) {
+
+			final File file = new File(mapPath + source);
+
+			digest.update(source.getBytes());
+
+			if (file.exists()) {
+				try {
+					digest.update(Files.readAllBytes(file.toPath()));
+				} catch (IOException e) {
+					return null;
+				}
+			}
+		}
+
+		return digest.digest();
+	}
+
+	/**
+	 * Reads a map of {@link Mask}s.
+	 *
+	 * @param in
+	 *            {@link DataInput}
+	 * @param masks
+	 *            The map the {@link Mask}s are added to by name.
+	 * @throws IOException
+	 *             Thrown if the {@link Mask}s cannot be read.
+	 */
+	private static void readMasks(DataInput in, Map<String, Mask> masks) throws IOException {
+
+		final int size = BinarySave.readVarint(in);
+
+		for (int index = 0; index < size; index++) {
+			masks.put(in.readUTF(), new Mask(in));
+		}
+	}
+
+	/**
+	 * Writes a map of {@link Mask}s.
+	 *
+	 * @param out
+	 *            {@link DataOutput}
+	 * @param masks
+	 *            The {@link Mask}s by name.
+	 * @throws IOException
+	 *             Thrown if the {@link Mask}s cannot be written.
+	 */
+	private static void writeMasks(DataOutput out, Map<String, Mask> masks) throws IOException {
+
+		BinarySave.writeVarint(out, masks.size());
+
+		for (Map.Entry<String, Mask> entry : masks.entrySet()) {
+			out.writeUTF(entry.getKey());
+			entry.getValue().write(out);
+		}
+	}
+
+	/**
+	 * The bit packed pixels of a {@link Region} inside its bounding box.
+	 */
+	private static final class Mask {
+
+		/**
+		 * What the {@link Region} was built from.
+		 */
+		private final String key;
+
+		/**
+		 * The position of the bounding box.
+		 */
+		private final int x;
+
+		/**
+		 * The position of the bounding box.
+		 */
+		private final int y;
+
+		/**
+		 * The width of the bounding box.
+		 */
+		private final int width;
+
+		/**
+		 * The height of the bounding box.
+		 */
+		private final int height;
+
+		/**
+		 * The bits of the pixels of the {@link Region} in the order of
+		 * {@link Region#getBits()}.
+		 */
+		private final long[] bits;
+
+		/**
+		 * Constructs a new {@link Mask} of a {@link Region}.
+		 *
+		 * @param key
+		 *            What the {@link Region} was built from.
+		 * @param region
+		 *            {@link Region}
+		 */
+		private Mask(String key, Region region) {
+
+			this.key = key;
+			this.x = region.getPosition().x;
+			this.y = region.getPosition().y;
+			this.width = region.getWidth();
+			this.height = region.getHeight();
+			this.bits = region.getBits();
+		}
+
+		/**
+		 * Reads a {@link Mask}.
+		 *
+		 * @param in
+		 *            {@link DataInput}
+		 * @throws IOException
+		 *             Thrown if the {@link Mask} cannot be read.
+		 */
+		private Mask(DataInput in) throws IOException {
+
+			this.key = in.readUTF();
+			this.x = BinarySave.readVarint(in);
+			this.y = BinarySave.readVarint(in);
+			this.width = BinarySave.readVarint(in);
+			this.height = BinarySave.readVarint(in);
+
+			final long words = (long) height * Region.getWordsPerRow(width);
+
+			if (width < 0 || height < 0 || words * Long.BYTES > Integer.MAX_VALUE) {
+				throw new IOException("A mask of " + width + " by " + height + " is not valid.");
+			}
+
+			final byte[] bytes = new byte[(int) words * Long.BYTES];
+			in.readFully(bytes);
+
+			this.bits = new long[(int) words];
+			ByteBuffer.wrap(bytes).asLongBuffer().get(bits);
+		}
+
+		/**
+		 * Writes this {@link Mask}.
+		 *
+		 * @param out
+		 *            {@link DataOutput}
+		 * @throws IOException
+		 *             Thrown if the {@link Mask} cannot be written.
+		 */
+		private void write(DataOutput out) throws IOException {
+			out.writeUTF(key);
+			BinarySave.writeVarint(out, x);
+			BinarySave.writeVarint(out, y);
+			BinarySave.writeVarint(out, width);
+			BinarySave.writeVarint(out, height);
+
+			final ByteBuffer bytes = ByteBuffer.allocate(bits.length * Long.BYTES);
+			bytes.asLongBuffer().put(bits);
+			out.write(bytes.array());
+		}
+
+		/**
+		 * Converts this {@link Mask} into a new {@link Region}.
+		 *
+		 * @return {@link Region}
+		 */
+		private Region toRegion() {
+			return new Region(bits.clone(), width, height, new Point(x, y));
+		}
+	}
+
+}
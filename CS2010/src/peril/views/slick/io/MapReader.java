@@ -8,6 +8,7 @@ import java.util.Map;
 import java.util.Set;
 import org.newdawn.slick.Color;
 import org.newdawn.slick.Image;
+import org.newdawn.slick.opengl.ImageData;
 import peril.Challenge;
 import peril.GameController;
 import peril.ai.AI;
@@ -38,7 +39,7 @@ import peril.views.slick.util.Region;
  * @author Joshua_Eddy, Joseph_Rolli
  * 
  * @since 2018-03-15
- * @version 1.01.05
+ * @version 1.01.11
  * 
  * @see FileParser
  * @see SaveFile
@@ -94,10 +95,30 @@ public final class MapReader extends FileParser {
 	private Image normalMap;
 
 	/**
-	 * Holds the {@link Image} which denotes the shapes of the
-	 * {@link SlickCountry}s.
+	 * The packed RGB values of the colours of every {@link SlickCountry} in the
+	 * file, which are collected before the file is parsed.
 	 */
-	private Image countryMap;
+	private final Set<Integer> countryColours;
+
+	/**
+	 * The {@link Region}s of the {@link SlickCountry}s by the packed RGB values of
+	 * their colours, which are built from the countries image the first time a
+	 * region is not in the {@link #bundle}.
+	 */
+	private Map<Integer, Region> countryRegions;
+
+	/**
+	 * The {@link MapBundle} that holds the compiled {@link Region}s of the map,
+	 * which is read with the map {@link Image}.
+	 */
+	private MapBundle bundle;
+
+	/**
+	 * Whether the region of a {@link SlickCountry} had to be built because it was
+	 * not in the {@link #bundle}, in which case the continent regions are built as
+	 * well.
+	 */
+	private boolean builtRegion;
 
 	/**
 	 * Constructs a new {@link MapReader}.
@@ -111,15 +132,18 @@ public final class MapReader extends FileParser {
 	 *            The {@link SaveFile} that contains the map to be loaded.
 	 */
 	public MapReader(String mapName, GameController game, SaveFile file) {
-		super(game.getDirectory().asMapPath(mapName), game.getDirectory(), file.filename);
+		super(game.getDirectory().asMapPath(mapName), game.getDirectory(),
+				file.resolve(game.getDirectory().asMapPath(mapName)));
 
 		this.continents = new HashSet<>();
 		this.countries = new HashMap<>();
+		this.countryColours = new HashSet<>();
 		this.game = game;
 		this.mapName = mapName;
 		this.slickGame = (SlickGame) game.getView();
 		this.view = (SlickModelView) game.getView().getModelView();
 		this.loadedMap = false;
+		this.builtRegion = false;
 
 	}
 
@@ -139,6 +163,9 @@ public final class MapReader extends FileParser {
 			if (isFinished()) {
 				// Set the boards continents
 				game.getModelBoard().setContinents(continents);
+
+				// Store any regions that had to be built for the next load.
+				bundle.writeLater(slickGame.io.saves);
 			}
 		}
 
@@ -149,31 +176,26 @@ public final class MapReader extends FileParser {
 	 */
 	private void parseLineType() {
 
-		// Split the line by ','
-		final String[] details = lines[index].split(",");
-
-		// The first section of the line denotes the type of instruction.
-		final String type = details[0];
-
-		// Parse the line differently based on the type of instruction.
-		if (LineType.COUNTRY.text.equals(type)) {
-			parseCountry(details);
-		} else if (LineType.UNIT.text.equals(type)) {
-			parseUnit(details);
-		} else if (LineType.LINK.text.equals(type)) {
-			parseLink(details);
-		} else if (LineType.CONTINENT.text.equals(type)) {
-			parseContinent(details);
-		} else if (LineType.STATE.text.equals(type)) {
-			parseState(details);
-		} else if (LineType.PLAYER.text.equals(type)) {
-			parsePlayer(details);
-		} else if (LineType.ARMY_SIZE.text.equals(type)) {
-			parseArmyStrength(details);
-		} else if (LineType.COUNTRIES_OWNED.text.equals(type)) {
-			parseCountriesOwned(details);
-		} else if (LineType.UNITS_KILLED.text.equals(type)) {
-			parseUnitsKilled(details);
+		// The first section of the line denotes the type of instruction. The board
+		// lines are read in place as they make up most of the file.
+		if (isDetail(0, LineType.COUNTRY.text)) {
+			parseCountry();
+		} else if (isDetail(0, LineType.UNIT.text)) {
+			parseUnit(getDetails());
+		} else if (isDetail(0, LineType.LINK.text)) {
+			parseLink();
+		} else if (isDetail(0, LineType.CONTINENT.text)) {
+			parseContinent();
+		} else if (isDetail(0, LineType.STATE.text)) {
+			parseState();
+		} else if (isDetail(0, LineType.PLAYER.text)) {
+			parsePlayer(getDetails());
+		} else if (isDetail(0, LineType.ARMY_SIZE.text)) {
+			parseArmyStrength(getDetails());
+		} else if (isDetail(0, LineType.COUNTRIES_OWNED.text)) {
+			parseCountriesOwned(getDetails());
+		} else if (isDetail(0, LineType.UNITS_KILLED.text)) {
+			parseUnitsKilled(getDetails());
 		}
 
 		index++;
@@ -185,8 +207,11 @@ public final class MapReader extends FileParser {
 	 */
 	private void loadMapImage() {
 
+		bundle = MapBundle.read(directory.asMapPath(mapName));
+
+		prefetchImages();
+
 		final Image tempNormalMap = ImageReader.getImage(directory.asMapPath(mapName) + "normal.png");
-		final Image tempCountryMap = ImageReader.getImage(directory.asMapPath(mapName) + "countries.png");
 
 		// float scaleFactor = 1;
 		//
@@ -205,7 +230,6 @@ public final class MapReader extends FileParser {
 		// newHeight);
 
 		this.normalMap = tempNormalMap;
-		this.countryMap = tempCountryMap;
 
 		final SlickBoard board = this.view.getVisual(game.getModelBoard());
 
@@ -221,6 +245,62 @@ public final class MapReader extends FileParser {
 
 	}
 
+	/**
+	 * Retrieves the {@link Region} of a {@link SlickCountry} from the countries
+	 * image. The first time this is called the regions of every colour in
+	 * {@link #countryColours} are built in one pass over the image, which is
+	 * decoded without being uploaded as a texture.
+	 * 
+	 * @param rgb
+	 *            The packed RGB value of the colour of the {@link SlickCountry}.
+	 * @return The {@link Region} or <code>null</code> if the colour is not in the
+	 *         countries image.
+	 */
+	private Region getCountryRegion(int rgb) {
+
+		if (countryRegions == null) {
+
+			final String path = directory.asMapPath(mapName) + "countries.png";
+			final ImageData countryMap = ImageReader.getImageData(path);
+
+			if (countryMap == null) {
+				throw new IllegalStateException("Failed to read " + path + ".");
+			}
+
+			countryRegions = Region.segment(countryMap, countryColours);
+		}
+
+		return countryRegions.get(rgb);
+	}
+
+	/**
+	 * Starts decoding the map {@link Image}s and the {@link Image} of every unit
+	 * line of the file on the {@link ImageReader}'s worker threads, and collects
+	 * the colours of the countries in the file.
+	 */
+	private void prefetchImages() {
+
+		ImageReader.prefetch(directory.asMapPath(mapName) + "normal.png");
+
+		if (bundle.isEmpty()) {
+			ImageReader.prefetch(directory.asMapPath(mapName) + "countries.png");
+		}
+
+		for (index = 0; index < getLength(); index++) {
+			if (isDetail(0, LineType.UNIT.text) && getNumberOfDetails() == 4) {
+				ImageReader.prefetch(directory.getUnitsPath() + getDetail(3));
+			} else if (isDetail(0, LineType.COUNTRY.text) && getNumberOfDetails() > 2) {
+				try {
+					countryColours.add((getInt(2, 0, 3) << 16) | (getInt(2, 3, 6) << 8) | getInt(2, 6, 9));
+				} catch (Exception e) {
+					// An invalid colour is reported when the country is parsed.
+				}
+			}
+		}
+
+		index = 0;
+	}
+
 	/**
 	 * Parsed a <code>String</code> array into the details into a new
 	 * {@link SlickUnit}.
@@ -271,38 +351,36 @@ public final class MapReader extends FileParser {
 
 		// Add the unit to the model view and unit helper.
 		view.addUnit(slickUnit);
-		UnitHelper.getInstance().addUnit(model);
+		game.getUnitHelper().addUnit(model);
 
 	}
 
 	/**
-	 * Parses a <code>String</code> array of details into a new
-	 * {@link SlickCountry}.
+	 * Parses the details of the current line into a new {@link SlickCountry}.
 	 * 
-	 * @param details
-	 *            A <code>String</code> array where:
-	 *            <ol>
-	 *            <li>The name of the {@link ModelCountry}</li>
-	 *            <li>The RGB value of the country {@link Color} on the countries
-	 *            {@link Image}</li>
-	 *            <li>The army strength</li>
-	 *            <li>The x army offset</li>
-	 *            <li>The y army offset</li>
-	 *            <li>The number of the player that rules the country</li>
-	 *            </ol>
+	 * The details are:
+	 * <ol>
+	 * <li>The name of the {@link ModelCountry}</li>
+	 * <li>The RGB value of the country {@link Color} on the countries
+	 * {@link Image}</li>
+	 * <li>The army strength</li>
+	 * <li>The x army offset</li>
+	 * <li>The y army offset</li>
+	 * <li>The number of the player that rules the country</li>
+	 * </ol>
 	 * 
 	 */
-	private void parseCountry(String[] details) {
+	private void parseCountry() {
 
 		final int COUNTRY_LENGTH = 7;
 
-		if (details.length != COUNTRY_LENGTH) {
+		if (getNumberOfDetails() != COUNTRY_LENGTH) {
 			throw new IllegalArgumentException(
 					"Line " + index + ": Incorrect number of elements, there should be " + COUNTRY_LENGTH + ".");
 		}
 
 		// The name of the country
-		final String name = details[1];
+		final String name = getDetail(1);
 
 		// Convert the RGB values stored in the RGB string and store them in their own
 		// variable.
@@ -312,54 +390,54 @@ public final class MapReader extends FileParser {
 
 		// Parse the red RGB value of the counrty's region.
 		try {
-			r = Integer.parseInt(details[2].substring(0, 3));
+			r = getInt(2, 0, 3);
 		} catch (Exception ex) {
-			throw new IllegalArgumentException("Line " + index + ": " + details[2] + " is not a valid rgb value.");
+			throw new IllegalArgumentException("Line " + index + ": " + getDetail(2) + " is not a valid rgb value.");
 		}
 
 		// Parse the green RGB value of the counrty's region.
 		try {
-			g = Integer.parseInt(details[2].substring(3, 6));
+			g = getInt(2, 3, 6);
 		} catch (Exception ex) {
-			throw new IllegalArgumentException("Line " + index + ": " + details[2] + " is not a valid rgb value.");
+			throw new IllegalArgumentException("Line " + index + ": " + getDetail(2) + " is not a valid rgb value.");
 		}
 
 		// Parse the blue RGB value of the counrty's region.
 		try {
-			b = Integer.parseInt(details[2].substring(6, 9));
+			b = getInt(2, 6, 9);
 		} catch (Exception ex) {
-			throw new IllegalArgumentException("Line " + index + ": " + details[2] + " is not a valid rgb value.");
+			throw new IllegalArgumentException("Line " + index + ": " + getDetail(2) + " is not a valid rgb value.");
 		}
 
 		// Check if the rgb values are valid
 		if ((r > 255 || r < 0) || (g > 255 || g < 0) || (b > 255 || b < 0)) {
-			throw new IllegalArgumentException("Line " + index + ": " + details[2] + " is not a valid rgb value.");
+			throw new IllegalArgumentException("Line " + index + ": " + getDetail(2) + " is not a valid rgb value.");
 		}
 
 		// Holds the strength of the army
-		final ModelArmy tempArmy = parseArmy(details[3]);
+		final ModelArmy tempArmy = parseArmy(3);
 
 		// Holds the army x and y offset.
 		int xOffset;
 		int yOffset;
 
 		try {
-			xOffset = Integer.parseInt(details[4]);
+			xOffset = getInt(4);
 		} catch (Exception e) {
-			throw new IllegalArgumentException("Line " + index + ": " + details[4] + " is not a valid x coordinate.");
+			throw new IllegalArgumentException("Line " + index + ": " + getDetail(4) + " is not a valid x coordinate.");
 		}
 
 		try {
-			yOffset = Integer.parseInt(details[5]);
+			yOffset = getInt(5);
 		} catch (Exception e) {
-			throw new IllegalArgumentException("Line " + index + ": " + details[5] + " is not a valid y coordinate.");
+			throw new IllegalArgumentException("Line " + index + ": " + getDetail(5) + " is not a valid y coordinate.");
 		}
 
 		// The player that rules the country
-		final SlickPlayer slick = parsePlayer(details[6]);
+		final SlickPlayer slick = parsePlayer(6);
 
 		// The model country
-		final ModelCountry model = new ModelCountry(name, new ModelColor(r, g, b));
+		final ModelCountry model = new ModelCountry(name, new ModelColor(r, g, b), game.getUnitHelper());
 
 		// If there is an owner add it to the players list
 		if (slick != null) {
@@ -372,8 +450,24 @@ public final class MapReader extends FileParser {
 
 		}
 
-		// Gets the region by colour.
-		final Region region = new Region(countryMap, new Color(r, g, b));
+		// The RGB value that the region is compiled from.
+		final int rgb = (r << 16) | (g << 8) | b;
+
+		// Gets the compiled region, otherwise gets the region by colour.
+		Region region = bundle.getCountry(name, rgb);
+
+		if (region == null) {
+
+			region = getCountryRegion(rgb);
+
+			if (region == null) {
+				throw new IllegalArgumentException(
+						"Line " + index + ": " + getDetail(2) + " is not a colour in the countries image.");
+			}
+
+			bundle.putCountry(name, rgb, region);
+			builtRegion = true;
+		}
 
 		// Initialise the new country.
 		final SlickCountry country = new SlickCountry(region, new Point(xOffset, yOffset), model, view);
@@ -396,89 +490,121 @@ public final class MapReader extends FileParser {
 	}
 
 	/**
-	 * Processes an a string into a {@link ModelArmy}.
+	 * Processes a detail of the current line into a {@link ModelArmy}. The detail
+	 * is read in place as '-' separated 'unitName:number' pairs.
 	 * 
-	 * @param armyStr
-	 *            The string representation of a {@link ModelArmy}.
-	 * @return The {@link ModelArmy} specified by the string.
+	 * @param detail
+	 *            The index of the detail that holds the {@link ModelArmy}.
+	 * @return The {@link ModelArmy} specified by the detail.
 	 */
-	private ModelArmy parseArmy(String armyStr) {
+	private ModelArmy parseArmy(int detail) {
 
 		// The army all the units will be added to.
-		final ModelArmy army = new ModelArmy();
+		final ModelArmy army = new ModelArmy(game.getUnitHelper());
+
+		// Holds the length of the detail.
+		final int length = getDetailLength(detail);
 
-		// Holds all the unitName:number pairs
-		final String[] unitPairs = armyStr.split("-");
+		// Holds the start of the current unit pair.
+		int start = 0;
 
 		// Iterate over all of the unit pairs and parse them into units.
-		for (String unitPair : unitPairs) {
+		while (start <= length) {
 
-			// Holds the current unit pair which should have two elements.
-			final String[] unitPairElements = unitPair.split(":");
+			// Holds the end of the current unit pair.
+			int end = indexOf(detail, '-', start);
 
-			if (unitPairElements.length != 2) {
-				throw new IllegalArgumentException("Line " + index + ": " + unitPair
-						+ " is not a valid unit pair. Unit pairs sould be 'unitName:number'.");
+			if (end < 0) {
+				end = length;
 			}
 
-			// Holds the elements of the unit pair.
-			final String unitName = unitPairElements[0];
-			final String numberStr = unitPairElements[1];
+			// Holds the ':' that separates the elements of the unit pair.
+			final int separator = indexOf(detail, ':', start);
+			final int extra = separator < 0 ? -1 : indexOf(detail, ':', separator + 1);
+
+			// There should be exactly one ':' in the pair.
+			if (separator < 0 || separator > end || (extra >= 0 && extra < end)) {
+				throw new IllegalArgumentException("Line " + index + ": " + getDetail(detail, start, end)
+						+ " is not a valid unit pair. Unit pairs sould be 'unitName:number'.");
+			}
 
 			// Parse the number of units.
 			final int number;
 			try {
-				number = Integer.parseInt(numberStr);
+				number = getInt(detail, separator + 1, end);
 			} catch (Exception e) {
-				throw new IllegalArgumentException(
-						"Line " + index + ": " + numberStr + " is not a valid number of " + unitName + ".");
+				throw new IllegalArgumentException("Line " + index + ": " + getDetail(detail, separator + 1, end)
+						+ " is not a valid number of " + getDetail(detail, start, separator) + ".");
 			}
 
 			// Retrieve the model unit with the name specifed by the pair.
-			final ModelUnit unit = UnitHelper.getInstance().get(unitName);
-
-			if (unit == null) {
-				throw new IllegalArgumentException("Line " + index + ": " + unitName + " is not a valid unit name.");
-			}
+			final ModelUnit unit = getUnit(detail, start, separator);
 
 			// Add the number amount of the unit to the army.
-			for (int index = 0; index < number; index++) {
+			for (int count = 0; count < number; count++) {
 				army.add(unit);
 			}
+
+			start = end + 1;
 		}
 
 		return army;
 	}
 
 	/**
-	 * Parses a <code>String</code> array of details into a new
-	 * {@link SlickContinent}. This method will check {@link MapReader#countries}
-	 * for {@link SlickCountry}s that are denoted in the map file.
+	 * Retrieves the {@link ModelUnit} whose name is part of a detail of the
+	 * current line.
 	 * 
-	 * @param details
-	 *            A <code>String</code> array where:
-	 *            <ol>
-	 *            <li>The name of the {@link ModelContinent}</li>
-	 *            <li>The hazard that plagues this {@link ModelContinent}</li>
-	 *            <li>The names of all the countries in the continent separated by a
-	 *            '-'</li>
-	 *            </ol>
+	 * @param detail
+	 *            The index of the detail.
+	 * @param from
+	 *            The index in the detail of the first character of the name.
+	 * @param to
+	 *            The index in the detail after the last character of the name.
+	 * @return {@link ModelUnit}
 	 */
-	private void parseContinent(String[] details) {
+	private ModelUnit getUnit(int detail, int from, int to) {
+
+		final UnitHelper units = game.getUnitHelper();
+
+		for (int tier = 0; tier < units.getNumberOfTiers(); tier++) {
+			if (isDetail(detail, from, to, units.getUnit(tier).name)) {
+				return units.getUnit(tier);
+			}
+		}
+
+		throw new IllegalArgumentException(
+				"Line " + index + ": " + getDetail(detail, from, to) + " is not a valid unit name.");
+	}
+
+	/**
+	 * Parses the details of the current line into a new {@link SlickContinent}.
+	 * This method will check {@link MapReader#countries} for {@link SlickCountry}s
+	 * that are denoted in the map file.
+	 * 
+	 * The details are:
+	 * <ol>
+	 * <li>The name of the {@link ModelContinent}</li>
+	 * <li>The hazard that plagues this {@link ModelContinent}</li>
+	 * <li>The names of all the countries in the continent separated by a
+	 * '-'</li>
+	 * </ol>
+	 */
+	private void parseContinent() {
 
 		// The correct number of elements in the details array.
 		final int CONTINENT_LENGTH = 4;
 
-		if (details.length != CONTINENT_LENGTH) {
+		if (getNumberOfDetails() != CONTINENT_LENGTH) {
 			throw new IllegalArgumentException(
 					"Line " + index + ": Incorrect number of elements, there should be " + CONTINENT_LENGTH + ".");
 		}
 
 		// Holds the name of the continent.
-		final String name = details[1];
+		final String name = getDetail(1);
 
 		// Holds the hazard the will be assigned to this continent.
-		final ModelHazard hazard = ModelHazard.getByName(details[2]);
+		final ModelHazard hazard = ModelHazard.getByName(getDetail(2));
 
 		// Holds the regions of each country that will be used to make the continent.
 		final List<Region> toCombine = new LinkedList<>();
@@ -490,26 +616,38 @@ public final class MapReader extends FileParser {
 		 * Iterate through all the countries in the countries map and if a country is
 		 * denoted by a string in the map detail add it to the new continent.
 		 */
-		for (String countryName : details[3].split("-")) {
+		final int length = getDetailLength(3);
+		int start = 0;
 
-			// Retrieve the country from the map of defined countries.
-			final SlickCountry country = countries.get(countryName);
+		while (start <= length) {
+
+			// Holds the end of the current country name.
+			int end = indexOf(3, '-', start);
 
-			// Check the country is pre-defined in the file.
-			if (country == null) {
-				throw new IllegalArgumentException("Line " + index + ": " + countryName + " is not a defined country.");
+			if (end < 0) {
+				end = length;
 			}
 
+			// Retrieve the country from the map of defined countries.
+			final SlickCountry country = getCountry(getDetail(3, start, end));
+
 			toAdd.add(country.model);
 			toCombine.add(country.getRegion());
 
+			start = end + 1;
 		}
 
 		// The model continent.
 		final ModelContinent model = new ModelContinent(hazard, name);
 
-		// The super region consisting of all the country regions combined.
-		final Region region = Region.combine(toCombine, normalMap.getWidth(), normalMap.getHeight());
+		// The super region consisting of all the country regions combined, which is
+		// compiled from the names of the countries.
+		Region region = builtRegion ? null : bundle.getContinent(name, getDetail(3));
+
+		if (region == null) {
+			region = Region.combine(toCombine, normalMap.getWidth(), normalMap.getHeight());
+			bundle.putContinent(name, getDetail(3), region);
+		}
 
 		// Create the new continent.
 		final SlickContinent newContinent = new SlickContinent(region, model, view);
@@ -526,67 +664,51 @@ public final class MapReader extends FileParser {
 	}
 
 	/**
-	 * Parses a <code>String</code> array of details into link between two
+	 * Parses the details of the current line into link between two
 	 * {@link SlickCountry}s. This method will check {@link MapReader#countries} for
 	 * {@link SlickCountry}s that are denoted in the map file.
 	 * 
-	 * @param details
-	 *            A <code>String</code> array where:
-	 *            <ol>
-	 *            <li>The name of first country in the link.</li>
-	 *            <li>The name of second country in the link.</li>
-	 *            </ol>
+	 * The details are:
+	 * <ol>
+	 * <li>The name of first country in the link.</li>
+	 * <li>The name of second country in the link.</li>
+	 * <li>The default state of the link.</li>
+	 * <li>The current state of the link.</li>
+	 * <li>The duration of the current state.</li>
+	 * </ol>
 	 */
-	private void parseLink(String[] details) {
+	private void parseLink() {
 
 		// The correct number of elements in the details array.
 		final int LINK_LENGTH = 6;
 
-		if (details.length != LINK_LENGTH) {
+		if (getNumberOfDetails() != LINK_LENGTH) {
 			throw new IllegalArgumentException(
 					"Line " + index + ": Incorrect number of elements, there should be " + LINK_LENGTH + ".");
 		}
 
-		// Check the country is defined.
-		if (countries.get(details[1]) == null) {
-			throw new IllegalArgumentException("Line " + index + ": " + details[1] + " is not a defined country.");
-		}
-
 		// Holds the first country in the link.
-		final ModelCountry country1 = countries.get(details[1]).model;
-
-		// Check the country is defined.
-		if (countries.get(details[2]) == null) {
-			throw new IllegalArgumentException("Line " + index + ": " + details[2] + " is not a defined country.");
-		}
+		final ModelCountry country1 = getCountry(getDetail(1)).model;
 
 		// Holds the second country in the link.
-		final ModelCountry country2 = countries.get(details[2]).model;
+		final ModelCountry country2 = getCountry(getDetail(2)).model;
 
 		// Holds the default model link state of the model link
-		final ModelLinkState defaultLinkState = ModelLinkState.get(details[3]);
-
-		if (defaultLinkState == null) {
-			throw new IllegalArgumentException("Line " + index + ": " + details[3] + " is not a model link state.");
-		}
+		final ModelLinkState defaultLinkState = parseLinkState(3);
 
 		// The link between the two countries.
 		final ModelLink link = new ModelLink(defaultLinkState);
 
-		// Holds the default model link state of the model link
-		final ModelLinkState currentLinkState = ModelLinkState.get(details[4]);
-
-		if (currentLinkState == null) {
-			throw new IllegalArgumentException("Line " + index + ": " + details[4] + " is not a model link state.");
-		}
+		// Holds the current model link state of the model link
+		final ModelLinkState currentLinkState = parseLinkState(4);
 
 		int duration;
 
 		// Parse the duration of the link's current state.
 		try {
-			duration = Integer.parseInt(details[5]);
+			duration = getInt(5);
 		} catch (Exception ex) {
-			throw new IllegalArgumentException("Line " + index + ": " + details[5] + " is not a duration.");
+			throw new IllegalArgumentException("Line " + index + ": " + getDetail(5) + " is not a duration.");
 		}
 
 		// If the duration is longer than zero rounds.
@@ -598,6 +720,45 @@ public final class MapReader extends FileParser {
 
 	}
 
+	/**
+	 * Processes a detail of the current line into a {@link ModelLinkState}.
+	 * 
+	 * @param detail
+	 *            The index of the detail that holds the name of the
+	 *            {@link ModelLinkState}.
+	 * @return {@link ModelLinkState}
+	 */
+	private ModelLinkState parseLinkState(int detail) {
+
+		for (ModelLinkState linkState : ModelLinkState.values()) {
+			if (isDetail(detail, linkState.name)) {
+				return linkState;
+			}
+		}
+
+		throw new IllegalArgumentException("Line " + index + ": " + getDetail(detail) + " is not a model link state.");
+	}
+
+	/**
+	 * Retrieves the {@link SlickCountry} with the specified name that has already
+	 * been read.
+	 * 
+	 * @param name
+	 *            The name of the {@link SlickCountry}.
+	 * @return {@link SlickCountry}
+	 */
+	private SlickCountry getCountry(String name) {
+
+		final SlickCountry country = countries.get(name);
+
+		// Check the country is pre-defined in the file.
+		if (country == null) {
+			throw new IllegalArgumentException("Line " + index + ": " + name + " is not a defined country.");
+		}
+
+		return country;
+	}
+
 	/**
 	 * Parses a {@link SlickPlayer} from a <code>String</code> array of details.
 	 * 
@@ -695,7 +856,8 @@ public final class MapReader extends FileParser {
 		}
 
 		// Holds the slick player.
-		final SlickPlayer player = new SlickPlayer(playerNumber, slickGame.getColor(playerNumber), ai);
+		final SlickPlayer player = new SlickPlayer(playerNumber, slickGame.getColor(playerNumber), ai,
+				game.getUnitHelper());
 
 		// Set the state of the player
 		player.model.distributableArmy.setStrength(armyStrength);
@@ -718,38 +880,36 @@ public final class MapReader extends FileParser {
 	}
 
 	/**
-	 * Parses a {@link InteractiveState} from a <code>String</code> array of
-	 * details.
+	 * Parses a {@link InteractiveState} from the details of the current line.
 	 * 
-	 * @param details
-	 *            A <code>String</code> array where:
-	 *            <ol>
-	 *            <li>The name of the games state.</li>
-	 *            <li>The number of the current player.</li>
-	 *            <li>The round number.</li>
-	 *            </ol>
+	 * The details are:
+	 * <ol>
+	 * <li>The name of the games state.</li>
+	 * <li>The number of the current player.</li>
+	 * <li>The round number.</li>
+	 * </ol>
 	 * 
 	 */
-	private void parseState(String[] details) {
+	private void parseState() {
 
 		int STATE_LENGTH = 4;
 
 		// Check there is the correct number of details
-		if (details.length != STATE_LENGTH) {
+		if (getNumberOfDetails() != STATE_LENGTH) {
 			throw new IllegalArgumentException(
 					"Line " + index + ": Incorrect number of elements, there should be " + STATE_LENGTH + ".");
 		}
 
 		// Set the first state as the state read from the game.
-		slickGame.states.loadingScreen.setFirstState(slickGame.states.getSaveState(details[1]));
+		slickGame.states.loadingScreen.setFirstState(slickGame.states.getSaveState(getDetail(1)));
 
 		// Set the current player of the as the player specified by the name.
-		game.setCurrentPlayer(parsePlayer(details[2]).model);
+		game.setCurrentPlayer(parsePlayer(2).model);
 
 		try {
-			game.setRoundNumber(Integer.parseInt(details[3]));
+			game.setRoundNumber(getInt(3));
 		} catch (Exception e) {
-			throw new IllegalArgumentException("Line " + index + ": " + details[3] + " is not a valid round number.");
+			throw new IllegalArgumentException("Line " + index + ": " + getDetail(3) + " is not a valid round number.");
 		}
 
 	}
@@ -932,24 +1092,26 @@ public final class MapReader extends FileParser {
 	}
 
 	/**
-	 * Processes a string player number into a {@link SlickPlayer}.
+	 * Processes a detail of the current line that holds a player number into a
+	 * {@link SlickPlayer}.
 	 * 
-	 * @param player
-	 *            String player number
+	 * @param detail
+	 *            The index of the detail that holds the player number.
 	 * @return {@link SlickPlayer}
 	 */
-	private SlickPlayer parsePlayer(String player) {
+	private SlickPlayer parsePlayer(int detail) {
 
-		if (player.equals("-")) {
+		if (isDetail(detail, "-")) {
 			return null;
 		}
 
 		int playerNumber;
 
 		try {
-			playerNumber = Integer.parseInt(player);
+			playerNumber = getInt(detail);
 		} catch (Exception e) {
-			throw new IllegalArgumentException("Line " + index + ": " + player + " is not a valid player number.");
+			throw new IllegalArgumentException(
+					"Line " + index + ": " + getDetail(detail) + " is not a valid player number.");
 		}
 
 		return view.getVisual(game.getModelPlayer(playerNumber));
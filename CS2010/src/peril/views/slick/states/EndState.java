@@ -1,5 +1,6 @@
 package peril.views.slick.states;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -12,6 +13,7 @@ import org.newdawn.slick.SlickException;
 import org.newdawn.slick.state.StateBasedGame;
 
 import peril.GameController;
+import peril.io.ReplayFile;
 import peril.model.ModelPlayer;
 import peril.views.slick.Frame;
 import peril.views.slick.board.SlickPlayer;
@@ -26,7 +28,7 @@ import peril.views.slick.util.Point;
  * @author Joshua_Eddy
  * 
  * @since 2018-02-26
- * @version 1.01.01
+ * @version 1.01.02
  * 
  * @see InteractiveState
  *
@@ -55,6 +57,12 @@ public final class EndState extends InteractiveState {
 	 */
 	private final String exitButton;
 
+	/**
+	 * The {@link Button} that will cause the {@link EndState} to show the replay
+	 * of the game.
+	 */
+	private final String replayButton;
+
 	/**
 	 * Holds the {@link Point} position of the players in the {@link EndState}.
 	 */
@@ -79,6 +87,7 @@ public final class EndState extends InteractiveState {
 		podium = new LinkedList<>();
 		exitButton = "exit";
 		menuButton = "menu";
+		replayButton = "replay";
 		podiumPositions = new HashMap<>();
 	}
 
@@ -145,6 +154,20 @@ public final class EndState extends InteractiveState {
 		int exitY = gc.getHeight() - getButton(exitButton).getHeight() - padding;
 		getButton(exitButton).setPosition(new Point(exitX, exitY));
 
+		// Place the replay button between the exit and menu buttons.
+		if (getButton(replayButton) != null) {
+			int replayX = (gc.getWidth() - getButton(replayButton).getWidth()) / 2;
+			int replayY = gc.getHeight() - getButton(replayButton).getHeight() - padding;
+			getButton(replayButton).setPosition(new Point(replayX, replayY));
+		}
+
+		// Keep the finished game so it can be replayed.
+		try {
+			new ReplayFile(game).write();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+
 		// Sets the positions of the podium icons based on the size of the screen.
 		setPodiumPositions(gc);
 	}
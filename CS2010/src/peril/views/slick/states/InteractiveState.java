@@ -32,7 +32,7 @@ import peril.views.slick.util.Viewable;
  * @author Joshua_Eddy, Gurdeep_Pol
  * 
  * @since 2018-03-07
- * @version 1.01.04
+ * @version 1.01.05
  * 
  * @see Container
  * @see BasicGameState
@@ -268,6 +268,12 @@ public abstract class InteractiveState extends BasicGameState implements Contain
 	 */
 	@Override
 	public final void update(GameContainer gc, StateBasedGame sbg, int delta) throws SlickException {
+
+		// Perform the actions passed from other threads, such as finished saves.
+		while (!game.getProcessTransfer().isEmpty()) {
+			game.getProcessTransfer().poll();
+		}
+
 		frame.updateFrame(delta);
 		update(gc, delta, frame);
 	}
@@ -2,6 +2,7 @@ package peril.views.slick.states;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.newdawn.slick.Color;
 import org.newdawn.slick.GameContainer;
@@ -31,7 +32,7 @@ import peril.views.slick.util.Viewable;
  * @author Joshua_Eddy
  * 
  * @since 2018-03-18
- * @version 1.01.03
+ * @version 1.01.05
  * 
  * @see InteractiveState
  *
@@ -43,6 +44,12 @@ public final class LoadingScreen extends InteractiveState {
 	 */
 	private final static String NAME = "loading screen";
 
+	/**
+	 * The number of nanoseconds each frame may spend parsing lines, which leaves
+	 * most of a frame at 60 frames per second for rendering.
+	 */
+	private final static long FRAME_BUDGET = TimeUnit.MILLISECONDS.toNanos(8);
+
 	/**
 	 * Holds the {@link List} of {@link FileParser}s this {@link LoadingScreen} will
 	 * load.
@@ -70,6 +77,11 @@ public final class LoadingScreen extends InteractiveState {
 	 */
 	private int index;
 
+	/**
+	 * The number of bytes in the {@link FileParser}s that have finished.
+	 */
+	private int parsed;
+
 	/**
 	 * The background {@link Viewable} of the {@link LoadingScreen}.
 	 */
@@ -105,6 +117,7 @@ public final class LoadingScreen extends InteractiveState {
 		super(game, NAME, id, HelpMenu.NULL_PAGE);
 
 		this.index = 0;
+		this.parsed = 0;
 		this.readers = new ArrayList<>();
 		this.progressBar = new ProgressBar(new Point(0, 0), 100, 20);
 		this.textFont = new Font("Arial", Color.red, 25);
@@ -185,9 +198,11 @@ public final class LoadingScreen extends InteractiveState {
 	}
 
 	/**
-	 * Parses the line from the current {@link FileParser}. When all the
-	 * {@link FileParser}s are finished this {@link LoadingScreen} enters
-	 * {@link SlickSetup} unless the map file specifies otherwise.
+	 * Parses as many lines from the {@link FileParser}s as fit in the
+	 * {@link #FRAME_BUDGET}, and at least one. The lines are parsed on this thread
+	 * as they create the images of the game, which needs the graphics context.
+	 * When all the {@link FileParser}s are finished this {@link LoadingScreen}
+	 * enters {@link SlickSetup} unless the map file specifies otherwise.
 	 */
 	@Override
 	public void update(GameContainer gc, int delta, Frame frame) {
@@ -204,26 +219,36 @@ public final class LoadingScreen extends InteractiveState {
 			// Enter set up state
 			slick.enterState(firstState != null ? firstState : slick.states.setup);
 		}
-		// Otherwise reader the current readers line.
+		// Otherwise parse the current readers lines until the frame budget is spent.
 		else {
 
-			final FileParser reader = readers.get(index);
+			final long deadline = System.nanoTime() + FRAME_BUDGET;
+
+			do {
+
+				final FileParser reader = readers.get(index);
 
-			// If the reader is not finished parse its current line.
-			if (!reader.isFinished()) {
+				// If the reader is not finished parse its current line.
+				if (!reader.isFinished()) {
 
-				try {
-					reader.parseLine();
-					progressBar.increment();
-				} catch (Exception e) {
-					errorMessage = e.getMessage();
-					terminated = true;
+					try {
+						reader.parseLine();
+					} catch (Exception e) {
+						errorMessage = e.getMessage();
+						terminated = true;
+						return;
+					}
 				}
-			}
-			// Otherwise move to the next reader.
-			else {
-				index++;
-			}
+				// Otherwise move to the next reader.
+				else {
+					parsed += reader.getSize();
+					index++;
+				}
+
+			} while (index < readers.size() && System.nanoTime() < deadline);
+
+			// The progress is the number of bytes that have been parsed.
+			progressBar.setProgress(parsed + (index < readers.size() ? readers.get(index).getPosition() : 0));
 		}
 
 	}
@@ -247,8 +272,8 @@ public final class LoadingScreen extends InteractiveState {
 			throw new IllegalStateException("You cant add a file reader when the game is already loading.");
 		}
 
-		// Add the length of the reader to the total.
-		progressBar.increaseTotal(reader.getLength());
+		// Add the size of the reader's file to the total.
+		progressBar.increaseTotal(reader.getSize());
 		readers.add(reader);
 	}
 
@@ -264,19 +289,25 @@ public final class LoadingScreen extends InteractiveState {
 		progressBar.reset();
 
 		index = 0;
+		parsed = 0;
 
 		// Turn off the loading music.
 		container.setMusicOn(false);
 
-		firstState = null;
-
 		slick.menus.refreshSaveFiles();
 
 		if (!terminated) {
 			slick.centerBoard();
 			slick.menus.hideVisible();
+
+			// A loaded save is recorded from the state it was saved in.
+			if (firstState != null) {
+				this.game.startRecording();
+			}
 		}
 
+		firstState = null;
+
 		terminated = false;
 		errorMessage = "";
 
@@ -8,7 +8,9 @@ import org.newdawn.slick.SlickException;
 import org.newdawn.slick.state.StateBasedGame;
 
 import peril.GameController;
+import peril.io.Autosave;
 import peril.io.SaveFile;
+import peril.io.SaveIndex;
 import peril.io.TextFileReader;
 import peril.views.slick.EventListener;
 import peril.views.slick.Frame;
@@ -23,7 +25,7 @@ import peril.views.slick.util.Point;
  * @author Joshua_Eddy
  * 
  * @since 2018-03-15
- * @version 1.01.04
+ * @version 1.01.06
  * 
  * @see InteractiveState
  *
@@ -301,6 +303,9 @@ public final class MainMenu extends InteractiveState {
 		game.resetGame();
 		game.setBoardName(map.name);
 
+		// Autosave every turn of the game into the directory of the map.
+		game.setAutosave(new Autosave(game.getDirectory().asMapPath(map.name) + Autosave.DIRECTORY, slick.io.saves));
+
 		// Only load the ui elements for the game on the first load
 		if (!uiLoaded) {
 			slick.states.loadingScreen.addReader(slick.io.gameLoader);
@@ -365,15 +370,19 @@ public final class MainMenu extends InteractiveState {
 	 */
 	private void checkSaves() {
 
-		final String mapName = maps.getSelected().name;
+		final String mapPath = game.getDirectory().asMapPath(maps.getSelected().name);
+		final SaveIndex index = SaveIndex.read(mapPath);
 
 		saves.clear();
 
 		// Iterate through each save and check if it exists in the current maps
 		// directory, If it does then add it to the saves list.
 		for (SaveFile file : SaveFile.values()) {
-			if (file.existsIn(game.getDirectory().asMapPath(mapName))) {
-				saves.add(file.name, file);
+
+			final String text = file.describe(mapPath, index);
+
+			if (text != null) {
+				saves.add(text, file);
 			}
 		}
 		saves.init();
@@ -35,7 +35,7 @@ import peril.views.slick.util.Point;
  * @author Joshua_Eddy, Gurdeep_Pol, Ezekiel_Trinidad
  * 
  * @since 2018-03-16
- * @version 1.01.11
+ * @version 1.01.12
  * 
  * @see InteractiveState
  * @see AI
@@ -309,7 +309,7 @@ public final class PlayerSelection extends InteractiveState {
 			final Color color = slick.getColor(player.number);
 
 			// Set the player with the AI that the user selected.
-			final SlickPlayer slickPlayer = new SlickPlayer(player.number, color, player.ai);
+			final SlickPlayer slickPlayer = new SlickPlayer(player.number, color, player.ai, game.getUnitHelper());
 
 			// Set the player Icon for that player.
 			slickPlayer.replaceImage(slick.getPlayerIcon(player.number));
@@ -0,0 +1,274 @@
+package peril.views.slick.states;
+
+import java.io.IOException;
+
+import org.newdawn.slick.Color;
+import org.newdawn.slick.GameContainer;
+import org.newdawn.slick.Input;
+import org.newdawn.slick.Music;
+import org.newdawn.slick.SlickException;
+import org.newdawn.slick.state.StateBasedGame;
+
+import peril.GameController;
+import peril.helpers.PlayerHelper;
+import peril.io.ReplayFile;
+import peril.model.GameState;
+import peril.model.ModelPlayer;
+import peril.model.Replay;
+import peril.views.slick.Frame;
+import peril.views.slick.board.SlickArmy;
+import peril.views.slick.board.SlickCountry;
+import peril.views.slick.board.SlickPlayer;
+import peril.views.slick.components.menus.HelpMenu;
+import peril.views.slick.util.Button;
+import peril.views.slick.util.Font;
+import peril.views.slick.util.Point;
+
+/**
+ * The {@link InteractiveState} that plays back the {@link Replay} of the last
+ * game on the current map. The board is moved between rounds by reconstructing
+ * the {@link GameState} of the requested round from the nearest keyframe of the
+ * {@link Replay} and then restoring it onto the board, so scrubbing in either
+ * direction takes the same time however long the game was.<br>
+ * <br>
+ * The left and right arrow keys move one round, the up and down arrow keys
+ * move {@link Replay#KEYFRAME_INTERVAL} rounds and the home and end keys move
+ * to the first and last rounds.
+ *
+ * @author Joshua_Eddy
+ *
+ * @since 2018-03-25
+ * @version 1.01.01
+ *
+ * @see Replay
+ * @see ReplayFile
+ *
+ */
+public final class ReplayViewer extends InteractiveState {
+
+	/**
+	 * The name of a specific {@link ReplayViewer}.
+	 */
+	private static final String STATE_NAME = "Replay";
+
+	/**
+	 * The {@link Button} that moves the replay forward one round.
+	 */
+	private final String nextButton;
+
+	/**
+	 * The {@link Font} the current round is displayed in.
+	 */
+	private final Font roundFont;
+
+	/**
+	 * The {@link ModelPlayer}s of the game indexed by their numbers.
+	 */
+	private final ModelPlayer[] players;
+
+	/**
+	 * The {@link Replay} that is being viewed or <code>null</code> if there is no
+	 * replay.
+	 */
+	private Replay replay;
+
+	/**
+	 * The round that is currently displayed.
+	 */
+	private int round;
+
+	/**
+	 * Constructs a new {@link ReplayViewer}.
+	 *
+	 * @param game
+	 *            The {@link GameController} which allows this {@link ReplayViewer}
+	 *            to query the state of the game.
+	 * @param id
+	 *            The id of this {@link ReplayViewer}.
+	 */
+	public ReplayViewer(GameController game, int id) {
+		super(game, STATE_NAME, id, HelpMenu.NULL_PAGE);
+		this.nextButton = "next";
+		this.roundFont = new Font("Arial", Color.white, 30);
+		this.players = new ModelPlayer[PlayerHelper.MAX_PLAYERS + 1];
+		this.replay = null;
+		this.round = 0;
+	}
+
+	/**
+	 * Loads the {@link Replay} of the current map. This must be called before
+	 * the game leaves the {@link EndState} as the players that have lost are only
+	 * held there.
+	 */
+	public void load() {
+
+		game.forEachModelPlayer(player -> players[player.number] = player);
+		game.forEachLoser(player -> players[player.number] = player);
+
+		try {
+			replay = new ReplayFile(game).read();
+		} catch (IOException e) {
+			replay = null;
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Moves the {@link ReplayViewer} a number of rounds forwards or backwards.
+	 *
+	 * @param rounds
+	 *            The number of rounds, which is negative to move backwards.
+	 */
+	public void step(int rounds) {
+		seek(round + rounds);
+	}
+
+	/**
+	 * Initialise the visual elements of the {@link ReplayViewer}.
+	 */
+	@Override
+	public void init(GameContainer gc, StateBasedGame sbg) throws SlickException {
+		super.init(gc, sbg);
+
+		roundFont.init();
+	}
+
+	/**
+	 * Enters the {@link ReplayViewer} at the first round of the {@link Replay}.
+	 */
+	@Override
+	public void enter(GameContainer gc, StateBasedGame sbg) {
+		super.enter(gc, sbg);
+
+		// Move the next button to the right of the screen.
+		if (getButton(nextButton) != null) {
+			final int padding = 20;
+			final int nextX = gc.getWidth() - getButton(nextButton).getWidth() - padding;
+			getButton(nextButton).setPosition(new Point(nextX, getButton(nextButton).getPosition().y));
+		}
+
+		if (replay != null) {
+			seek(replay.getFirstRound());
+		}
+	}
+
+	/**
+	 * Renders the board as it was at the current round.
+	 */
+	@Override
+	public void render(GameContainer gc, Frame frame) {
+
+		slick.modelView.getVisual(game.getModelBoard()).draw(frame);
+
+		drawArmies(frame);
+		drawImages();
+		drawButtons();
+
+		final String text = replay == null ? "No replay"
+				: "Round " + round + " of " + replay.getLastRound();
+
+		frame.draw(roundFont, text, (gc.getWidth() - roundFont.getWidth(text)) / 2, 20);
+	}
+
+	/**
+	 * Updates this {@link ReplayViewer}.
+	 */
+	@Override
+	public void update(GameContainer gc, int delta, Frame frame) {
+		// Do nothing
+	}
+
+	/**
+	 * Moves between the rounds of the {@link Replay} using the arrow, home and end
+	 * keys.
+	 */
+	@Override
+	public void parseButton(int key, Point mousePosition) {
+		super.parseButton(key, mousePosition);
+
+		if (replay == null) {
+			return;
+		}
+
+		switch (key) {
+		case Input.KEY_LEFT:
+			step(-1);
+			break;
+		case Input.KEY_RIGHT:
+			step(1);
+			break;
+		case Input.KEY_DOWN:
+			step(-Replay.KEYFRAME_INTERVAL);
+			break;
+		case Input.KEY_UP:
+			step(Replay.KEYFRAME_INTERVAL);
+			break;
+		case Input.KEY_HOME:
+			seek(replay.getFirstRound());
+			break;
+		case Input.KEY_END:
+			seek(replay.getLastRound());
+			break;
+		}
+	}
+
+	/**
+	 * Performs the exit state operations specific to the {@link ReplayViewer}.
+	 */
+	@Override
+	public void leave(GameContainer container, StateBasedGame game) throws SlickException {
+		super.leave(container, game);
+
+		replay = null;
+	}
+
+	/**
+	 * Retrieves the {@link Music} of this {@link ReplayViewer}.
+	 */
+	@Override
+	public Music getMusic() {
+		return null;
+	}
+
+	/**
+	 * Displays a round of the {@link Replay} by restoring its {@link GameState}
+	 * onto the board.
+	 *
+	 * @param round
+	 *            The round, which is clamped to the rounds of the {@link Replay}.
+	 */
+	private void seek(int round) {
+
+		if (replay == null) {
+			return;
+		}
+
+		final GameState state = replay.seek(round);
+
+		state.restore(game.getModelBoard(), players);
+
+		this.round = state.getRound();
+	}
+
+	/**
+	 * Draws the army of every country over the country it is located in.
+	 *
+	 * @param frame
+	 *            The {@link Frame} that displays this {@link ReplayViewer} to the
+	 *            user.
+	 */
+	private void drawArmies(Frame frame) {
+
+		game.forEachModelCountry(model -> {
+
+			final SlickCountry country = slick.modelView.getVisual(model);
+
+			final SlickArmy army = slick.modelView.getVisual(model.getArmy());
+
+			final SlickPlayer ruler = slick.modelView.getVisual(model.getRuler());
+
+			army.draw(frame, country.getArmyPosition(), ruler, slick.modelView);
+		});
+	}
+
+}
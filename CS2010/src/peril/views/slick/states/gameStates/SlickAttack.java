@@ -23,7 +23,7 @@ import peril.views.slick.util.Region;
  * @author Joseph_Rolli, Joshua_Eddy
  * 
  * @since 2018-02-27
- * @version 1.01.02
+ * @version 1.01.03
  * 
  * @see CoreGameState
  * @see Attack
@@ -96,16 +96,6 @@ public final class SlickAttack extends CoreGameState {
 
 	}
 
-	/**
-	 * Updates this {@link SlickAttack}.
-	 */
-	@Override
-	public final void update(GameContainer gc, int delta, Frame frame) {
-		super.update(gc, delta, frame);
-		game.processAI(delta);
-
-	}
-
 	/**
 	 * Enters this {@link SlickAttack}.
 	 */
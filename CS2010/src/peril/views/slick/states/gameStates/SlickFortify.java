@@ -23,7 +23,7 @@ import peril.views.slick.util.Point;
  * @author Joshua_Eddy, Joseph_Rolli
  * 
  * @since 2018-02-27
- * @version 1.01.02
+ * @version 1.01.03
  * 
  * @see Fortify
  * @see CoreGameState
@@ -108,15 +108,6 @@ public final class SlickFortify extends CoreGameState {
 
 	}
 
-	/**
-	 * Updates this {@link SlickFortify}.
-	 */
-	@Override
-	public void update(GameContainer gc, int delta, Frame frame) {
-		super.update(gc, delta, frame);
-		game.processAI(delta);
-	}
-
 	/**
 	 * Performs the exit state operations specific to this {@link SlickFortify}
 	 */
@@ -22,7 +22,7 @@ import peril.views.slick.util.Point;
  * @author Joseph_Rolli, Joshua_Eddy, Gurdeep_Pol
  * 
  * @since 2018-02-27
- * @version 1.01.02
+ * @version 1.01.03
  * 
  * @see CoreGameState
  * @see Reinforce
@@ -133,15 +133,6 @@ public final class SlickReinforce extends CoreGameState {
 
 	}
 
-	/**
-	 * Updates the {@link SlickReinforce}.
-	 */
-	@Override
-	public void update(GameContainer gc, int delta, Frame frame) {
-		super.update(gc, delta, frame);
-		game.processAI(delta);
-	}
-
 	/**
 	 * Updates this {@link SlickReinforce} when one of its {@link Observable}
 	 * objects changes.
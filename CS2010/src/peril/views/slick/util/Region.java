@@ -1,13 +1,18 @@
 package peril.views.slick.util;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.newdawn.slick.Color;
 import org.newdawn.slick.Image;
 import org.newdawn.slick.ImageBuffer;
 import org.newdawn.slick.SlickException;
+import org.newdawn.slick.opengl.ImageData;
 
 /**
  * This denotes the region of pixels given on screen where each pixel is given a
@@ -20,12 +25,14 @@ import org.newdawn.slick.SlickException;
  * <br>
  * The {@link Reducer} takes the {@link Region} defined by the {@link Image} and
  * reduces the size of the {@link Region} so that there is the minimum memory
- * over head.
+ * over head. The pixels of the reduced {@link Region} are stored one bit each,
+ * row by row, so that {@link Region}s can be combined and compared a word at a
+ * time.
  * 
  * @author Joshua_Eddy
  * 
  * @since 2018-02-18
- * @version 1.01.02
+ * @version 1.01.05
  * 
  * @see Image
  * @see Reducer
@@ -40,11 +47,20 @@ public final class Region {
 	private static final int DEFAULT_TRANSPARENCY = 180;
 
 	/**
-	 * The <code>boolean[]</code> where if a pixel from the specified {@link Image}
-	 * is valid then it is assigned true, otherwise it is false. The valid value for
-	 * a pixel is determined by how the {@link Region} is constructed.
+	 * The number of rows of pixels in each stripe of an image that
+	 * {@link #segment(ImageData, Set)} processes as one task.
 	 */
-	private final boolean[] object;
+	private static final int STRIPE_HEIGHT = 64;
+
+	/**
+	 * The pixels of this {@link Region}, row by row over its bounding box, where
+	 * the bit of a pixel is set if the pixel is valid. The valid value for a pixel
+	 * is determined by how the {@link Region} is constructed. Each row starts at a
+	 * new <code>long</code> and the bits past the width of a row are never set.
+	 * 
+	 * @see #getWordsPerRow(int)
+	 */
+	private final long[] bits;
 
 	private final Map<Color, Image> versions;
 
@@ -104,7 +120,46 @@ public final class Region {
 	 * 
 	 */
 	public Region(boolean[] object, int width, int height) {
-		this.object = new Reducer(object, width, height).reduce();
+		this.bits = new Reducer(object, width, height).reduce();
+		this.versions = new HashMap<>();
+	}
+
+	/**
+	 * Constructs a {@link Region} from the bits of its pixels over its bounding
+	 * box, such as the {@link #getBits()} of another {@link Region}. Any bits past
+	 * the width of a row are cleared.
+	 * 
+	 * @param bits
+	 *            The bits of the pixels, in the order of {@link #getBits()}.
+	 * @param width
+	 *            The <code>int</code> width of the {@link Region}.
+	 * @param height
+	 *            The <code>int</code> height of the {@link Region}.
+	 * @param position
+	 *            The {@link Point} position of the {@link Region}.
+	 */
+	public Region(long[] bits, int width, int height, Point position) {
+
+		if (bits == null) {
+			throw new NullPointerException("Bits cannot be null.");
+		} else if (width < 0 || height < 0 || bits.length != (long) height * getWordsPerRow(width)) {
+			throw new IllegalArgumentException(
+					"There are " + bits.length + " words but the region is " + width + " by " + height + ".");
+		}
+
+		final int wordsPerRow = getWordsPerRow(width);
+
+		// Clear the bits past the width of each row.
+		if (width % Long.SIZE != 0) {
+			for (int row = 1; row <= height; row++) {
+				bits[row * wordsPerRow - 1] &= getMask(width % Long.SIZE);
+			}
+		}
+
+		this.bits = bits;
+		this.width = width;
+		this.height = height;
+		this.position = position;
 		this.versions = new HashMap<>();
 	}
 
@@ -123,13 +178,15 @@ public final class Region {
 
 		// Initialise the fields
 		this.position = position;
-		this.object = new boolean[width * height];
+		this.bits = new long[height * getWordsPerRow(width)];
 		this.width = width;
 		this.height = height;
 
-		// Assign all the points in the array as true;
-		for (int index = 0; index < object.length; index++) {
-			object[index] = true;
+		// Assign all the points in each row as true.
+		for (int row = 0; row < height; row++) {
+			for (int x = 0; x < width; x += Long.SIZE) {
+				bits[row * getWordsPerRow(width) + x / Long.SIZE] = getMask(width - x);
+			}
 		}
 
 		this.versions = new HashMap<>();
@@ -162,35 +219,160 @@ public final class Region {
 			throw new IllegalArgumentException("Height cannot be negative.");
 		}
 
+		// The bounding box of all the regions, which is all that is allocated.
+		int minX = Integer.MAX_VALUE;
+		int minY = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE;
+		int maxY = Integer.MIN_VALUE;
+
+		for (Region region : list) {
+
+			if (region.position.x < 0 || region.position.y < 0 || region.position.x + region.width > width
+					|| region.position.y + region.height > height) {
+				throw new IllegalArgumentException(
+						"Region is out of bounds of the space. width: " + width + " height: " + height);
+			}
+
+			minX = Math.min(minX, region.position.x);
+			minY = Math.min(minY, region.position.y);
+			maxX = Math.max(maxX, region.position.x + region.width);
+			maxY = Math.max(maxY, region.position.y + region.height);
+		}
+
+		final int combinedWidth = maxX - minX;
+		final int combinedHeight = maxY - minY;
+		final int wordsPerRow = getWordsPerRow(combinedWidth);
+
 		// Holds the region that will be the result.
-		final boolean[] base = new boolean[width * height];
+		final long[] combined = new long[combinedHeight * wordsPerRow];
 
 		// Iterate through all the regions in the list.
 		for (Region region : list) {
 
-			// Iterate through every element in the region.
+			final int regionWords = getWordsPerRow(region.width);
+
+			// Where the rows of the region start in the words of the combined rows.
+			final int wordOffset = (region.position.x - minX) / Long.SIZE;
+			final int shift = (region.position.x - minX) % Long.SIZE;
+
+			// OR each word of the region into the one or two words it overlaps.
 			for (int y = 0; y < region.height; y++) {
-				for (int x = 0; x < region.width; x++) {
 
-					// If the current region object element is true set the corresponding base
-					// element to true.
-					if (region.object[getIndex(x, y, region.height)]) {
+				final int from = y * regionWords;
+				final int to = (region.position.y - minY + y) * wordsPerRow + wordOffset;
+
+				for (int word = 0; word < regionWords; word++) {
 
-						// The index of the current region element
-						final int index = getIndex(region.position.x + x, region.position.y + y, height);
+					final long value = region.bits[from + word];
 
-						if (index > base.length) {
-							throw new IllegalArgumentException(
-									index + " is out of bounds of Region. width: " + width + " height: " + height);
-						}
+					if (value == 0) {
+						continue;
+					}
+
+					combined[to + word] |= value << shift;
 
-						base[index] = true;
+					if (shift != 0 && wordOffset + word + 1 < wordsPerRow) {
+						combined[to + word + 1] |= value >>> (Long.SIZE - shift);
 					}
 				}
 			}
 		}
 
-		return new Region(base, width, height);
+		return new Region(combined, combinedWidth, combinedHeight, new Point(minX, minY));
+	}
+
+	/**
+	 * Builds the {@link Region} of every one of the specified colours in an image
+	 * in one pass over its pixels, rather than one pass for each colour. The rows
+	 * of the image are processed in stripes in parallel and each pixel is
+	 * assigned to the {@link Region} of its colour by looking up its packed RGB
+	 * value. A pixel is only part of a {@link Region} if it is opaque, as with
+	 * {@link #Region(Image, Color)}.
+	 * 
+	 * @param image
+	 *            The decoded {@link ImageData} of the image.
+	 * @param colours
+	 *            The packed RGB values, <code>0xRRGGBB</code>, of the colours.
+	 * @return The {@link Region}s by the packed RGB values of their colours. A
+	 *         colour that is not in the image has no {@link Region}.
+	 */
+	public static Map<Integer, Region> segment(ImageData image, Set<Integer> colours) {
+
+		// Check parameters
+		if (image == null) {
+			throw new NullPointerException("Image cannot be null.");
+		} else if (colours == null) {
+			throw new NullPointerException("Colours cannot be null.");
+		} else if (colours.size() >= Short.MAX_VALUE) {
+			throw new IllegalArgumentException("There cannot be more than " + Short.MAX_VALUE + " colours.");
+		}
+
+		final int imageWidth = image.getWidth();
+		final int imageHeight = image.getHeight();
+
+		// The colours in order, so that each can be found by a binary search.
+		final int[] keys = colours.stream().mapToInt(Integer::intValue).sorted().toArray();
+
+		// The index in the keys plus one of the colour of each pixel, row by row.
+		final short[] labels = new short[imageWidth * imageHeight];
+
+		final int numberOfStripes = (imageHeight + STRIPE_HEIGHT - 1) / STRIPE_HEIGHT;
+
+		// The bounds of each colour in each stripe, as min x, min y, max x, max y.
+		final int[][][] stripeBounds = new int[numberOfStripes][][];
+
+		IntStream.range(0, numberOfStripes).parallel().forEach(stripe -> stripeBounds[stripe] = label(image, keys,
+				labels, stripe * STRIPE_HEIGHT, Math.min(imageHeight, (stripe + 1) * STRIPE_HEIGHT)));
+
+		final Region[] regions = new Region[keys.length];
+
+		// Cut each region out of the labels using the bounds from every stripe.
+		IntStream.range(0, keys.length).parallel().forEach(key -> {
+
+			final int[] bounds = { Integer.MAX_VALUE, Integer.MAX_VALUE, -1, -1 };
+
+			for (int[][] stripe : stripeBounds) {
+				bounds[0] = Math.min(bounds[0], stripe[key][0]);
+				bounds[1] = Math.min(bounds[1], stripe[key][1]);
+				bounds[2] = Math.max(bounds[2], stripe[key][2]);
+				bounds[3] = Math.max(bounds[3], stripe[key][3]);
+			}
+
+			// The colour is not in the image.
+			if (bounds[2] < 0) {
+				return;
+			}
+
+			final int width = bounds[2] - bounds[0] + 1;
+			final int height = bounds[3] - bounds[1] + 1;
+			final short label = (short) (key + 1);
+
+			final int wordsPerRow = getWordsPerRow(width);
+			final long[] bits = new long[height * wordsPerRow];
+
+			for (int y = 0; y < height; y++) {
+
+				final int row = (bounds[1] + y) * imageWidth + bounds[0];
+
+				for (int x = 0; x < width; x++) {
+					if (labels[row + x] == label) {
+						bits[y * wordsPerRow + x / Long.SIZE] |= 1L << (x % Long.SIZE);
+					}
+				}
+			}
+
+			regions[key] = new Region(bits, width, height, new Point(bounds[0], bounds[1]));
+		});
+
+		final Map<Integer, Region> segmented = new HashMap<>();
+
+		for (int key = 0; key < keys.length; key++) {
+			if (regions[key] != null) {
+				segmented.put(keys[key], regions[key]);
+			}
+		}
+
+		return segmented;
 	}
 
 	/**
@@ -206,47 +388,26 @@ public final class Region {
 	 */
 	public static boolean overlap(Region a, Region b) {
 
-		boolean overlap = false;
-
-		final boolean xLeft = a.position.x < b.position.x + b.width;
-		final boolean xRight = a.position.x + a.width > b.position.x;
-
-		final boolean yTop = a.position.y < b.position.y + b.height;
-		final boolean yBottom = a.position.y + a.height > b.position.y;
-
-		final boolean borderOverlapX = xLeft || xRight;
-		final boolean borderOverlapY = yTop || yBottom;
-
-		// If the regions' borders overlap then they may over lap at pixel level.
-		if (borderOverlapX && borderOverlapY) {
+		// The area where the bounding boxes of the regions overlap.
+		final int minX = Math.max(a.position.x, b.position.x);
+		final int maxX = Math.min(a.position.x + a.width, b.position.x + b.width);
+		final int minY = Math.max(a.position.y, b.position.y);
+		final int maxY = Math.min(a.position.y + a.height, b.position.y + b.height);
 
-			// Determine the x and y boundaries based on where a and b overlap
-			final int minX = xLeft ? a.position.x : b.position.x;
-			final int maxX = xRight ? a.position.x + a.width : b.position.x + b.width;
-			final int minY = yTop ? a.position.y : b.position.y;
-			final int maxY = yBottom ? a.position.y + a.height : b.position.y + b.height;
+		// Compare the rows of the overlapping area a word at a time.
+		for (int y = minY; y < maxY; y++) {
+			for (int x = minX; x < maxX; x += Long.SIZE) {
 
-			// Iterate over the overlapping region and check if any of the pixels in that
-			// region overlap.
-			for (int x = minX; x < maxX; x++) {
+				final long pixelsOfA = a.getWord(x - a.position.x, y - a.position.y);
+				final long pixelsOfB = b.getWord(x - b.position.x, y - b.position.y);
 
-				for (int y = minY; y < maxY; y++) {
-
-					if (a.isValid(new Point(x, y)) && b.isValid(new Point(x, y))) {
-						overlap = true;
-						break;
-					}
-
-				}
-
-				if (overlap) {
-					break;
+				if ((pixelsOfA & pixelsOfB & getMask(maxX - x)) != 0) {
+					return true;
 				}
 			}
-
 		}
 
-		return overlap;
+		return false;
 	}
 
 	/**
@@ -315,21 +476,54 @@ public final class Region {
 		}
 
 		// Return the value of the pixel.
-		return object[getIndex(point.x - position.x, point.y - position.y, height)];
+		return isSet(point.x - position.x, point.y - position.y);
 	}
 
 	/**
 	 * Retrieves the <code>boolean[]</code> where if a pixel from the specified
 	 * {@link Image} is valid then it is assigned true, otherwise it is false. The
 	 * valid value for a pixel is determined by how the {@link Region} is
-	 * constructed.
+	 * constructed. The array covers the bounding box of this {@link Region} in the
+	 * same order as {@link #Region(boolean[], int, int)} and is unpacked from the
+	 * bits of this {@link Region} each time.
 	 * 
 	 * @return <code>boolean[]</code>
 	 */
 	public boolean[] getObject() {
+
+		final boolean[] object = new boolean[width * height];
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				object[getIndex(x, y, height)] = isSet(x, y);
+			}
+		}
+
 		return object;
 	}
 
+	/**
+	 * Retrieves the bits of the pixels of this {@link Region}, row by row over its
+	 * bounding box. The pixel at x of row y is bit <code>x % 64</code> of the word
+	 * <code>y * getWordsPerRow(width) + x / 64</code>.
+	 * 
+	 * @return <code>long[]</code>
+	 */
+	public long[] getBits() {
+		return bits;
+	}
+
+	/**
+	 * Retrieves the number of words in each row of the bits of a {@link Region}.
+	 * 
+	 * @param width
+	 *            The <code>int</code> width of the {@link Region}.
+	 * @return <code>int</code>
+	 */
+	public static int getWordsPerRow(int width) {
+		return (width + Long.SIZE - 1) / Long.SIZE;
+	}
+
 	/**
 	 * Converts this {@link Region} into a {@link Image} where all the valid pixels
 	 * in the {@link Region} are set to the specified {@link Color} at the
@@ -374,12 +568,12 @@ public final class Region {
 		int g = color.getGreen();
 		int b = color.getBlue();
 
-		// Iterate through every pixel in the object[] and if it is true set the
+		// Iterate through every pixel in this region and if it is valid set the
 		// colour of the visual to the specified value.
 		for (int y = 0; y < height; y++) {
 			for (int x = 0; x < width; x++) {
 
-				if (object[getIndex(x, y, height)]) {
+				if (isSet(x, y)) {
 					imagebuffer.setRGBA(x, y, r, g, b, transparency);
 				}
 			}
@@ -427,6 +621,59 @@ public final class Region {
 		return (x * height) + y;
 	}
 
+	/**
+	 * Retrieves whether the pixel at a specified position in the bounding box of
+	 * this {@link Region} is valid.
+	 * 
+	 * @param x
+	 *            The x coordinate of the pixel in the bounding box.
+	 * @param y
+	 *            The y coordinate of the pixel in the bounding box.
+	 * @return <code>boolean</code>
+	 */
+	private boolean isSet(int x, int y) {
+		return (bits[y * getWordsPerRow(width) + x / Long.SIZE] & (1L << (x % Long.SIZE))) != 0;
+	}
+
+	/**
+	 * Retrieves the 64 pixels of a row of this {@link Region} that start at a
+	 * specified x coordinate, which need not be the start of a word. The pixels
+	 * past the width of the row are not set.
+	 * 
+	 * @param x
+	 *            The x coordinate of the first pixel in the bounding box.
+	 * @param y
+	 *            The row of the pixels in the bounding box.
+	 * @return The pixels, with the first pixel in the lowest bit.
+	 */
+	private long getWord(int x, int y) {
+
+		final int wordsPerRow = getWordsPerRow(width);
+		final int word = x / Long.SIZE;
+		final int shift = x % Long.SIZE;
+		final int row = y * wordsPerRow;
+
+		long pixels = word < wordsPerRow ? bits[row + word] >>> shift : 0;
+
+		if (shift != 0 && word + 1 < wordsPerRow) {
+			pixels |= bits[row + word + 1] << (Long.SIZE - shift);
+		}
+
+		return pixels;
+	}
+
+	/**
+	 * Retrieves a word where the specified number of lowest bits are set.
+	 * 
+	 * @param numberOfBits
+	 *            The number of bits, all of the bits are set if this is 64 or
+	 *            more.
+	 * @return <code>long</code>
+	 */
+	private static long getMask(int numberOfBits) {
+		return numberOfBits >= Long.SIZE ? -1L : (1L << numberOfBits) - 1;
+	}
+
 	/**
 	 * Retrieves a <code>boolean[]</code> where if a pixel from the specified
 	 * {@link Image} is not {@link Color#transparent} it is assigned true, otherwise
@@ -491,6 +738,81 @@ public final class Region {
 		return object;
 	}
 
+	/**
+	 * Labels each pixel of a stripe of rows of an image with the index plus one of
+	 * its colour in the specified keys, or zero if its colour is not one of the
+	 * keys.
+	 * 
+	 * @param image
+	 *            The {@link ImageData} of the image.
+	 * @param keys
+	 *            The sorted packed RGB values of the colours.
+	 * @param labels
+	 *            The labels of every pixel in the image, row by row.
+	 * @param fromY
+	 *            The first row of the stripe.
+	 * @param toY
+	 *            The row after the last row of the stripe.
+	 * @return The bounds of each colour in the stripe, as min x, min y, max x, max
+	 *         y, where max x is -1 if the colour is not in the stripe.
+	 */
+	private static int[][] label(ImageData image, int[] keys, short[] labels, int fromY, int toY) {
+
+		final int imageWidth = image.getWidth();
+		final int bytesPerPixel = image.getDepth() / 8;
+		final int stride = image.getTexWidth() * bytesPerPixel;
+		final boolean hasAlpha = bytesPerPixel == 4;
+
+		// Absolute gets do not move the position, so the buffer can be shared.
+		final ByteBuffer pixels = image.getImageBufferData();
+
+		final int[][] bounds = new int[keys.length][];
+
+		for (int key = 0; key < keys.length; key++) {
+			bounds[key] = new int[] { Integer.MAX_VALUE, Integer.MAX_VALUE, -1, -1 };
+		}
+
+		// Neighbouring pixels are usually the same colour.
+		int previousRGB = -1;
+		int previousKey = -1;
+
+		for (int y = fromY; y < toY; y++) {
+
+			int offset = y * stride;
+
+			for (int x = 0; x < imageWidth; x++, offset += bytesPerPixel) {
+
+				// Only opaque pixels are part of a region.
+				if (hasAlpha && pixels.get(offset + 3) != (byte) 0xFF) {
+					continue;
+				}
+
+				final int rgb = ((pixels.get(offset) & 0xFF) << 16) | ((pixels.get(offset + 1) & 0xFF) << 8)
+						| (pixels.get(offset + 2) & 0xFF);
+
+				if (rgb != previousRGB) {
+					previousRGB = rgb;
+					previousKey = Arrays.binarySearch(keys, rgb);
+				}
+
+				if (previousKey < 0) {
+					continue;
+				}
+
+				labels[y * imageWidth + x] = (short) (previousKey + 1);
+
+				final int[] keyBounds = bounds[previousKey];
+
+				keyBounds[0] = Math.min(keyBounds[0], x);
+				keyBounds[1] = Math.min(keyBounds[1], y);
+				keyBounds[2] = Math.max(keyBounds[2], x);
+				keyBounds[3] = Math.max(keyBounds[3], y);
+			}
+		}
+
+		return bounds;
+	}
+
 	/**
 	 * The helper is designed to reduce a <code>boolean[]</code> from a specified
 	 * width and height to the smallest possible <code>boolean[]</code> without
@@ -577,16 +899,19 @@ public final class Region {
 		 * {@link Reducer#lowerYBoundary}, {@link Reducer#upperXBoundary} and
 		 * {@link Reducer#upperYBoundary}. Assigns {@link Region#position}.
 		 * 
-		 * @return <code>boolean[]</code> smallest version of the specified array.
+		 * @return The bits of the smallest version of the specified array, in the
+		 *         order of {@link Region#getBits()}.
 		 */
-		public boolean[] reduce() {
+		public long[] reduce() {
 
 			width = upperXBoundary - lowerXBoundary + 1;
 			height = upperYBoundary - lowerYBoundary + 1;
 
-			// Create the new object array to be the size of the space between the
+			final int wordsPerRow = getWordsPerRow(width);
+
+			// Create the new bits to be the size of the space between the
 			// boundaries.
-			boolean[] tempObject = new boolean[width * height];
+			final long[] tempBits = new long[height * wordsPerRow];
 
 			// Set the position of the region to the lower boundaries.
 			position = new Point(lowerXBoundary, lowerYBoundary);
@@ -597,14 +922,15 @@ public final class Region {
 				// Iterate through each column of the object[][]
 				for (int x = lowerXBoundary; x <= upperXBoundary; x++) {
 
-					// Assign the value of the current element in the object array to its
-					// corresponding position in the new object array.
-					tempObject[getIndex(x - lowerXBoundary, y - lowerYBoundary, height)] = toReduce[getIndex(x, y,
-							initialHeight)];
+					// Set the bit of the current element in the object array if it is valid.
+					if (toReduce[getIndex(x, y, initialHeight)]) {
+						final int bit = x - lowerXBoundary;
+						tempBits[(y - lowerYBoundary) * wordsPerRow + bit / Long.SIZE] |= 1L << (bit % Long.SIZE);
+					}
 				}
 			}
 
-			return tempObject;
+			return tempBits;
 		}
 
 		/**